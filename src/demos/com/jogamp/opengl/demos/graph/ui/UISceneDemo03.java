@@ -112,6 +112,7 @@ import jogamp.graph.ui.TreeTool;
  * - Pass '-aspeed' to vary velocity
  * - Pass '-rspeed <float>' angular velocity in radians/s
  * - Pass '-no_anim_box' to not show a visible and shrunken box around the AnimGroup
+ * - Pass '-instancing' to render the animated glyphs instanced, see {@link AnimGroup#setInstancing(boolean)}
  * - Pass '-audio <uri or file-path>' to play audio (only)
  */
 public class UISceneDemo03 implements GLEventListener  {
@@ -143,6 +144,8 @@ public class UISceneDemo03 implements GLEventListener  {
                     demo.ang_velo = MiscUtils.atof(args[idx[0]], demo.ang_velo);
                 } else if(args[idx[0]].equals("-no_anim_box")) {
                     demo.showAnimBox = false;
+                } else if(args[idx[0]].equals("-instancing")) {
+                    demo.instancing = true;
                 } else if(args[idx[0]].equals("-audio")) {
                     ++idx[0];
                     try {
@@ -201,6 +204,7 @@ public class UISceneDemo03 implements GLEventListener  {
     // public static CommandlineOptions options = new CommandlineOptions(1280, 720, Region.NORM_RENDERING_BIT, Region.DEFAULT_AA_QUALITY, 0, 4);
 
     boolean showAnimBox = true;
+    boolean instancing = false;
     float frame_velocity = 5f / 1e3f; // [m]/[s]
     float velocity = 30 / 1e3f; // [m]/[s]
     float ang_velo = velocity * 60f; // [radians]/[s]
@@ -424,6 +428,7 @@ public class UISceneDemo03 implements GLEventListener  {
         final GLProfile hasGLP = glad.getChosenGLCapabilities().getGLProfile();
         animGroup.validate(hasGLP);
         animGroup.setInteractive(false);
+        animGroup.setInstancing(instancing);
         animGroup.setToggleable(true);
         animGroup.setResizable(false);
         animGroup.setToggle( false );
@@ -28,10 +28,12 @@
 package com.jogamp.graph.ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import com.jogamp.common.os.Clock;
+import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.curve.opengl.GLRegion;
 import com.jogamp.graph.curve.opengl.RegionRenderer;
 import com.jogamp.graph.font.Font;
@@ -45,6 +47,8 @@ import com.jogamp.math.Vec2f;
 import com.jogamp.math.Vec3f;
 import com.jogamp.math.Vec4f;
 import com.jogamp.math.geom.AABBox;
+import com.jogamp.math.geom.Cube;
+import com.jogamp.math.geom.Frustum;
 import com.jogamp.math.geom.plane.AffineTransform;
 import com.jogamp.math.util.PMVMatrix4f;
 import com.jogamp.opengl.GL2ES2;
@@ -86,6 +90,8 @@ public class AnimGroup extends Group {
         public final Shape shape;
         /** Optional user attachment per {@link Shape} to be used within {@link LerpFunc}. */
         public Object user;
+        /** The {@link #shape} if it is an instanced {@link GlyphShape}, otherwise {@code null}. */
+        private GlyphShape glyphInstance;
 
         /** New instance with set {@link Shape} using its scaled {@link Shape#getPosition()} for {@link #startPos} and {@link #targetPos}. */
         public ShapeData(final Shape s) {
@@ -94,6 +100,7 @@ public class AnimGroup extends Group {
             targetPos = startPos.copy();
             shape = s;
             user = null;
+            glyphInstance = null;
         }
     }
 
@@ -176,6 +183,7 @@ public class AnimGroup extends Group {
             this.sourceBounds.resize(sd.shape.getBounds());
             op.setup(this, idx, sd);
             g.addShape(sd.shape);
+            g.instancesDirty = true;
             return sd;
         }
 
@@ -189,6 +197,7 @@ public class AnimGroup extends Group {
             g.removeShape(gl, renderer, sd.shape);
             sd.active = false;
             allShapes.remove(sd);
+            g.instancesDirty = true;
         }
 
         /**
@@ -203,6 +212,7 @@ public class AnimGroup extends Group {
                 sd.active = false;
             }
             allShapes.clear();
+            g.instancesDirty = true;
         }
 
         /** Removes this {@link Set} from its {@link AnimGroup} and destroys it, including its {@link ShapeData} and their {@link Shape}. */
@@ -224,6 +234,11 @@ public class AnimGroup extends Group {
         }
     }
     private final List<Set> animSets = new ArrayList<Set>();
+    private final List<GlyphBatch> glyphBatches = new ArrayList<GlyphBatch>();
+    private volatile boolean instancing = false;
+    private boolean instancesDirty = false;
+    private final Frustum tempF00 = new Frustum();
+    private final Cube tempC00 = new Cube();
 
     /**
      * Create a group of animated {@link Shape}s including other static {@link Shape}s w/ given {@link Group.Layout}.
@@ -236,6 +251,49 @@ public class AnimGroup extends Group {
         super(l);
     }
 
+    /**
+     * Enables instanced rendering of {@link GlyphShape}s subsequently added via {@link #addGlyphSet(float, GLProfile, PMVMatrix4f, Recti, int, Font, char, CharSequence, float, float, float, float, float, LerpFunc, ShapeSetup) addGlyphSet(..)},
+     * default is disabled.
+     * <p>
+     * If enabled and supported, i.e. the {@link GLProfile} is {@link GLProfile#isGL2ES3() GL2ES3}
+     * and the render modes are {@link GlyphBatch#isSupported(int) supported}, all {@link GlyphShape}s
+     * of the same {@link Font.Glyph} share one {@link GLRegion} and are rendered with one instanced draw call per frame,
+     * see {@link GlyphBatch}.
+     * </p>
+     * <p>
+     * Instanced {@link GlyphShape}s are skipped by the regular per-shape traversal, see {@link #isDrawnInBulk(Shape)}.
+     * Instead, their {@link Shape#getMat() matrix} and color are recorded in bulk by each animation {@link #tick()}
+     * right after their {@link LerpFunc#eval(long, Set, int, ShapeData, float, float) evaluation},
+     * while drawing this group multiplies its matrix only once for all instances.
+     * Hence changes to an instanced {@link GlyphShape} outside of the {@link LerpFunc} become visible with the next {@link #tick()}.
+     * </p>
+     * <p>
+     * Instanced {@link GlyphShape}s are rendered in a single pass after all other shapes of this group
+     * and are not {@link Shape#drawToSelect(GL2ES2, RegionRenderer) selectable}.
+     * </p>
+     */
+    public final AnimGroup setInstancing(final boolean v) { instancing = v; return this; }
+
+    /** Returns whether instanced rendering of {@link GlyphShape}s is enabled, see {@link #setInstancing(boolean)}. */
+    public final boolean getInstancing() { return instancing; }
+
+    /** Returns the {@link GlyphBatch}es used for instanced rendering, see {@link #setInstancing(boolean)}. */
+    public final List<GlyphBatch> getGlyphBatches() { return Collections.unmodifiableList(glyphBatches); }
+
+    private GlyphBatch getGlyphBatch(final GLProfile glp, final int renderModes) {
+        if( !instancing || !glp.isGL2ES3() || !GlyphBatch.isSupported(renderModes) ) {
+            return null;
+        }
+        for(final GlyphBatch b : glyphBatches) {
+            if( b.getRenderModes() == ( renderModes & ~( Region.VBAA_RENDERING_BIT | Region.MSAA_RENDERING_BIT ) ) ) {
+                return b;
+            }
+        }
+        final GlyphBatch b = new GlyphBatch(renderModes);
+        glyphBatches.add(b);
+        return b;
+    }
+
     /** Return the {@link Set} at given index or {@code null} if n/a. */
     public Set getAnimSet(final int idx) {
         if( idx < animSets.size() ) {
@@ -392,14 +450,19 @@ public class AnimGroup extends Group {
         }
         animSets.add(as);
 
+        final GlyphBatch batch = getGlyphBatch(glp, renderModes);
         for (int idx = 0; idx < as.allShapes.size(); ++idx) {
             final ShapeData sd = as.allShapes.get(idx);
+            if( null != batch ) {
+                sd.glyphInstance = ((GlyphShape)sd.shape).setBatch(batch);
+            }
             op.setup(as, idx, sd);
             super.addShape(sd.shape);
         }
         if( DEBUG ) {
             System.err.println("addAnimShapes: AnimSet.sourceBounds = "+as.sourceBounds);
         }
+        instancesDirty = true;
         resetAnimation();
         return as;
     }
@@ -549,6 +612,68 @@ public class AnimGroup extends Group {
         super.draw(gl, renderer);
     }
 
+    @Override
+    protected boolean isDrawnInBulk(final Shape s) {
+        return s instanceof GlyphShape && ((GlyphShape)s).isInstanced();
+    }
+
+    @Override
+    protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) {
+        super.drawImpl0(gl, renderer, rgba); // skips instanced GlyphShapes
+        if( 0 < glyphBatches.size() && gl.isGL2ES3() ) {
+            if( instancesDirty ) {
+                updateInstances();
+            }
+            final Frustum origClipFrustum = renderer.getClipFrustum();
+            if( null != getClipMvFrustum() ) {
+                renderer.setClipFrustum( getClipMvFrustum() );
+            } else if( getClipOnBounds() ) {
+                renderer.setClipFrustum( tempC00.set( box ).transform( renderer.getMatrix().getMv() ).updateFrustumPlanes(tempF00) );
+            }
+            for(final GlyphBatch b : glyphBatches) {
+                b.draw(gl.getGL2ES3(), renderer);
+            }
+            renderer.setClipFrustum(origClipFrustum);
+        }
+    }
+
+    @Override
+    protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
+        super.clearImpl0(gl, renderer);
+        destroyGlyphBatches(gl);
+    }
+
+    @Override
+    protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
+        super.destroyImpl0(gl, renderer);
+        destroyGlyphBatches(gl);
+    }
+
+    private void destroyGlyphBatches(final GL2ES2 gl) {
+        for(final GlyphBatch b : glyphBatches) {
+            b.destroy(gl);
+        }
+        glyphBatches.clear();
+    }
+
+    /** Records all visible instanced {@link GlyphShape}s to their {@link GlyphBatch} in bulk, see {@link #setInstancing(boolean)}. */
+    private void updateInstances() {
+        for(int i=0; i<glyphBatches.size(); ++i) {
+            glyphBatches.get(i).clear();
+        }
+        for(final Set as : animSets) {
+            for (int idx = 0; idx < as.allShapes.size(); ++idx) {
+                addInstance(as.allShapes.get(idx).glyphInstance);
+            }
+        }
+        instancesDirty = false;
+    }
+    private static void addInstance(final GlyphShape gs) {
+        if( null != gs && gs.isVisible() ) {
+            gs.getBatch().add(gs.getGlyph(), gs.getMat(), gs.getColor());
+        }
+    }
+
     public final void resetAnimation() {
         tstart_us = Clock.currentNanos() / 1000; // [us]
         tlast_us = tstart_us;
@@ -618,8 +743,15 @@ public class AnimGroup extends Group {
             at_s = duration_s;
         }
         tlast_us = tnow_us;
+        final boolean instanced = 0 < glyphBatches.size();
+        if( instanced ) {
+            for(int i=0; i<glyphBatches.size(); ++i) {
+                glyphBatches.get(i).clear();
+            }
+        }
         for(final Set as : animSets) {
-            if( as.isAnimationActive() ) {
+            final boolean active = as.isAnimationActive();
+            if( active ) {
                 if( !FloatUtil.isZero( as.accel ) ) {
                     as.velocity += as.accel * dt_s; // [shapeUnit]/[s]
                     as.velocity_obj += as.accel_obj * dt_s; // [shapeUnit]/[s]
@@ -627,14 +759,20 @@ public class AnimGroup extends Group {
                 if( !FloatUtil.isZero( as.ang_accel ) ) {
                     as.ang_velo += as.ang_accel * dt_s; // [radians]/[s]
                 }
+            }
+            if( active || instanced ) {
                 for (int idx = 0; idx < as.allShapes.size(); ++idx) {
                     final ShapeData sd = as.allShapes.get(idx);
-                    if( !as.lerp.eval(frame_count, as, idx, sd, at_s, dt_s) ) {
+                    if( active && !as.lerp.eval(frame_count, as, idx, sd, at_s, dt_s) ) {
                         sd.active = false;
                     }
+                    if( instanced ) {
+                        addInstance(sd.glyphInstance);
+                    }
                 }
             }
         }
+        instancesDirty = false;
         ++frame_count;
     }
 
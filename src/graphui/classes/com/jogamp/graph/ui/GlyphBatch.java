@@ -0,0 +1,218 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.ui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.font.Font.Glyph;
+import com.jogamp.graph.ui.shapes.GlyphShape;
+import com.jogamp.math.Matrix4f;
+import com.jogamp.math.Vec4f;
+import com.jogamp.math.geom.plane.AffineTransform;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+
+/**
+ * Instanced renderer for {@link GlyphShape}s, sharing one {@link GLRegion} per {@link Glyph}.
+ * <p>
+ * The owner records the matrix and color of each {@link GlyphShape#setBatch(GlyphBatch) attached} {@link GlyphShape}
+ * in bulk via {@link #clear()} and {@link #add(Glyph, Matrix4f, Vec4f)}, e.g. {@link AnimGroup} on each animation tick,
+ * while {@link #draw(GL2ES3, RegionRenderer)} renders all recorded instances
+ * with one {@link GLRegion#drawInstanced(GL2ES3, RegionRenderer, GLRegion.InstanceBuffer) instanced draw call} per distinct {@link Glyph}.
+ * </p>
+ * <p>
+ * Recorded instances are kept until {@link #clear()}, i.e. they are rendered and uploaded once
+ * for repeated {@link #draw(GL2ES3, RegionRenderer)} calls w/o changes, e.g. while the animation is paused.
+ * </p>
+ * <p>
+ * Instanced rendering is performed in a single pass, i.e. {@link Region#VBAA_RENDERING_BIT} and {@link Region#MSAA_RENDERING_BIT}
+ * are not supported, as well as {@link Region#COLORCHANNEL_RENDERING_BIT} and {@link Region#COLORTEXTURE_RENDERING_BIT}.
+ * </p>
+ * @see AnimGroup#setInstancing(boolean)
+ */
+public final class GlyphBatch {
+    private static final class Entry {
+        final Glyph glyph;
+        final GLRegion.InstanceBuffer instances;
+        GLRegion region;
+
+        Entry(final Glyph glyph, final int initialInstanceCount) {
+            this.glyph = glyph;
+            this.instances = new GLRegion.InstanceBuffer(initialInstanceCount);
+            this.region = null;
+        }
+    }
+    private static final Vec4f cWhite = new Vec4f(1f, 1f, 1f, 1f);
+
+    private final int renderModes;
+    private final HashMap<Glyph, Entry> entryMap = new HashMap<Glyph, Entry>();
+    private final ArrayList<Entry> entries = new ArrayList<Entry>();
+    private final AffineTransform tmpT = new AffineTransform();
+    private int instanceCount = 0;
+    private int lastInstanceCount = 0;
+    private int lastDrawCalls = 0;
+
+    /**
+     * Returns true if instanced rendering of {@link GlyphShape}s is supported with the given render modes,
+     * i.e. neither {@link Region#COLORCHANNEL_RENDERING_BIT} nor {@link Region#COLORTEXTURE_RENDERING_BIT} is set.
+     */
+    public static boolean isSupported(final int renderModes) {
+        return !Region.hasColorChannel(renderModes) && !Region.hasColorTexture(renderModes);
+    }
+
+    /**
+     * @param renderModes Graph's {@link Region} render modes, {@link Region#VBAA_RENDERING_BIT} and {@link Region#MSAA_RENDERING_BIT} are dropped.
+     * @throws IllegalArgumentException if {@link #isSupported(int)} returns false
+     */
+    public GlyphBatch(final int renderModes) throws IllegalArgumentException {
+        if( !isSupported(renderModes) ) {
+            throw new IllegalArgumentException("Instancing not supported w/ renderModes "+Region.getRenderModeString(renderModes));
+        }
+        this.renderModes = renderModes & ~( Region.VBAA_RENDERING_BIT | Region.MSAA_RENDERING_BIT );
+    }
+
+    /** Returns the used single-pass render modes. */
+    public int getRenderModes() { return renderModes; }
+
+    /** Returns the number of distinct {@link Glyph}s, i.e. shared {@link GLRegion}s. */
+    public int getGlyphCount() { return entries.size(); }
+
+    /** Returns the number of instances recorded since the last {@link #clear()}. */
+    public int getInstanceCount() { return instanceCount; }
+
+    /** Returns the number of instances rendered by the last {@link #draw(GL2ES3, RegionRenderer)} call. */
+    public int getLastInstanceCount() { return lastInstanceCount; }
+
+    /** Returns the number of draw calls issued by the last {@link #draw(GL2ES3, RegionRenderer)} call. */
+    public int getLastDrawCalls() { return lastDrawCalls; }
+
+    /**
+     * Removes all recorded instances, keeping the allocated buffers.
+     * <p>
+     * Method does not require a current GL context, but shall not be called concurrently to {@link #draw(GL2ES3, RegionRenderer)}.
+     * </p>
+     */
+    public void clear() {
+        for(int i=0; i<entries.size(); ++i) {
+            entries.get(i).instances.clear();
+        }
+        instanceCount = 0;
+    }
+
+    /**
+     * Records one instance of the given {@link Glyph} to be rendered by {@link #draw(GL2ES3, RegionRenderer)} until {@link #clear()}.
+     * <p>
+     * Method does not require a current GL context, but shall not be called concurrently to {@link #draw(GL2ES3, RegionRenderer)}.
+     * </p>
+     * @param glyph the {@link Glyph} whose shared {@link GLRegion} is rendered
+     * @param mat the matrix of this instance relative to the {@link RegionRenderer}'s modelview matrix at {@link #draw(GL2ES3, RegionRenderer)},
+     *            usually the {@link GlyphShape#getMat() shape's matrix} within its owning {@link Group}
+     * @param rgba the color of this instance
+     */
+    public void add(final Glyph glyph, final Matrix4f mat, final Vec4f rgba) {
+        Entry e = entryMap.get(glyph);
+        if( null == e ) {
+            e = new Entry(glyph, 16);
+            entryMap.put(glyph, e);
+            entries.add(e);
+        }
+        e.instances.add(mat, rgba);
+        ++instanceCount;
+    }
+
+    /**
+     * Renders all instances recorded via {@link #add(Glyph, Matrix4f, Vec4f)} since the last {@link #clear()}.
+     * <p>
+     * Each recorded instance matrix is applied before the {@link RegionRenderer}'s current modelview matrix,
+     * i.e. the owning {@link Group}'s matrix is multiplied once for all instances.
+     * The {@link RegionRenderer#getClipFrustum() clip-frustum} is used as-is, i.e. shall be given in modelview space.
+     * </p>
+     * @param gl current {@link GL2ES3} object
+     * @param renderer the used {@link RegionRenderer}
+     */
+    public void draw(final GL2ES3 gl, final RegionRenderer renderer) {
+        int drawCalls = 0;
+        if( 0 < instanceCount ) {
+            renderer.setColorStatic(cWhite);
+            for(int i=0; i<entries.size(); ++i) {
+                final Entry e = entries.get(i);
+                if( 0 < e.instances.getCount() ) {
+                    if( null == e.region ) {
+                        e.region = createRegion(gl, e.glyph);
+                    }
+                    if( null != e.region ) {
+                        e.region.drawInstanced(gl, renderer, e.instances);
+                        ++drawCalls;
+                    }
+                }
+            }
+        }
+        lastInstanceCount = instanceCount;
+        lastDrawCalls = drawCalls;
+    }
+
+    private GLRegion createRegion(final GL2ES2 gl, final Glyph glyph) {
+        final OutlineShape shape = glyph.getShape();
+        if( null == shape ) {
+            return null;
+        }
+        final GLRegion region = GLRegion.create(gl.getGLProfile(), renderModes, null, shape);
+        region.addOutlineShape(shape, GlyphShape.getRegionTransform(glyph, tmpT), cWhite);
+        return region;
+    }
+
+    /**
+     * Destroys all shared {@link GLRegion}s and instance buffers.
+     * <p>
+     * This instance remains usable, resources are recreated on demand.
+     * </p>
+     */
+    public void destroy(final GL2ES2 gl) {
+        for(int i=0; i<entries.size(); ++i) {
+            final Entry e = entries.get(i);
+            if( null != e.region ) {
+                e.region.destroy(gl);
+                e.region = null;
+            }
+            e.instances.destroy(gl);
+        }
+        entries.clear();
+        entryMap.clear();
+        instanceCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GlyphBatch[glyphs "+entries.size()+", last[instances "+lastInstanceCount+", draws "+lastDrawCalls+"], "+Region.getRenderModeString(renderModes)+"]";
+    }
+}
@@ -155,7 +155,9 @@ public abstract class GraphShape extends Shape {
 
     @Override
     protected final void drawToSelectImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
-        region.drawToSelect(gl, renderer);
+        if( null != region ) { // null if rendered by an owner, e.g. instanced
+            region.drawToSelect(gl, renderer);
+        }
     }
 
     /**
@@ -222,7 +224,7 @@ public abstract class GraphShape extends Shape {
             }
             // box has been reset
             addShapeToRegion(glp, gl); // calls updateGLRegion(..)
-            if( hasBorder() ) {
+            if( hasBorder() && null != region ) {
                 // Also takes padding into account
                 addRectangle(region, oshapeSharpness, box, getPadding(), getBorderThickness(), getBorderColor());
                 setRotationPivot( box.getCenter() );
@@ -234,7 +236,7 @@ public abstract class GraphShape extends Shape {
                 box.resize(h.x() + p.right, h.y() + p.top, l.z());
                 setRotationPivot( box.getCenter() );
             }
-        } else if( isStateDirty() ) {
+        } else if( isStateDirty() && null != region ) {
             region.markStateDirty();
         }
     }
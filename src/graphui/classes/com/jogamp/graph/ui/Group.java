@@ -50,6 +50,7 @@ import com.jogamp.math.util.PMVMatrix4f;
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLProfile;
 
+import jogamp.graph.ui.ShapeIndex;
 import jogamp.graph.ui.TreeTool;
 
 /**
@@ -92,7 +93,11 @@ public class Group extends Shape implements Container {
     private Layout layouter;
     private Rectangle border = null;
 
-    private boolean relayoutOnDirtyShapes = true;
+    private volatile boolean relayoutOnDirtyShapes = true;
+    /** Direct dirty children since last validation, see {@link #markChildDirty(Shape)}. */
+    private final ArrayList<Shape> dirtyChildren = new ArrayList<Shape>();
+    /** Union of all shape bounds w/o {@link Layout}, excluding padding and fixed size */
+    private final AABBox contentBox = new AABBox();
     private Scene topLevelHolder = null;
     private boolean clipOnBounds = false;
     private Frustum clipFrustum = null;
@@ -225,9 +230,54 @@ public class Group extends Shape implements Container {
     public void addShape(final Shape s) {
         shapes.add(s);
         s.setParent(this);
+        indexAdd(s);
         markShapeDirty();
     }
 
+    /**
+     * Adds the given {@link Shape} w/o marking this group {@link #markShapeDirty() dirty}, i.e. w/o re-layout.
+     * <p>
+     * The caller is responsible to validate and position the shape,
+     * e.g. used by virtualized groups exchanging their shapes while drawing.
+     * </p>
+     * @see #removeShapeNoRelayout(Shape)
+     */
+    protected final void addShapeNoRelayout(final Shape s) {
+        shapes.add(s);
+        s.setParent(this);
+        indexAdd(s);
+    }
+
+    /**
+     * Removes the given {@link Shape} w/o marking this group {@link #markShapeDirty() dirty}, i.e. w/o re-layout.
+     * @return true if the shape was contained, otherwise false
+     * @see #addShapeNoRelayout(Shape)
+     */
+    protected final boolean removeShapeNoRelayout(final Shape s) {
+        if( shapes.remove(s) ) {
+            s.setParent(null);
+            indexRemove(s);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /** Adds given {@link Shape}'s tree to the {@link Scene}'s index, if this group is part of a {@link Scene}. */
+    private void indexAdd(final Shape s) {
+        final Scene sc = getScene();
+        if( null != sc ) {
+            sc.getShapeIndex().addTree(s);
+        }
+    }
+    /** Removes given {@link Shape}'s tree from the {@link Scene}'s index, if this group is part of a {@link Scene}. */
+    private void indexRemove(final Shape s) {
+        final Scene sc = getScene();
+        if( null != sc ) {
+            sc.getShapeIndex().removeTree(s);
+        }
+    }
+
     /**
      * Atomic replacement of the given {@link Shape} {@code remove} with {@link Shape} {@code replacement}.
      * @param remove the shape to be replaced
@@ -243,8 +293,10 @@ public class Group extends Shape implements Container {
             return false;
         }
         remove.setParent(null);
+        indexRemove(remove);
         shapes.add(idx, replacement);
         replacement.setParent(this);
+        indexAdd(replacement);
         markShapeDirty();
         return true;
     }
@@ -253,6 +305,7 @@ public class Group extends Shape implements Container {
     public Shape removeShape(final Shape s) {
         if( shapes.remove(s) ) {
             s.setParent(null);
+            indexRemove(s);
             markShapeDirty();
             return s;
         } else {
@@ -271,6 +324,7 @@ public class Group extends Shape implements Container {
     public boolean removeShape(final GL2ES2 gl, final RegionRenderer renderer, final Shape s) {
         if( shapes.remove(s) ) {
             s.setParent(null);
+            indexRemove(s);
             markShapeDirty();
             s.destroy(gl, renderer);
             return true;
@@ -309,6 +363,7 @@ public class Group extends Shape implements Container {
     protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
         disableTopLevelWidget();
         for(final Shape s : shapes) {
+            indexRemove(s);
             s.clear(gl, renderer);
         }
         shapes.clear();
@@ -324,6 +379,7 @@ public class Group extends Shape implements Container {
     protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
         disableTopLevelWidget();
         for(final Shape s : shapes) {
+            indexRemove(s);
             // s.destroyImpl0(gl, renderer);
             s.destroy(gl, renderer);
         }
@@ -399,6 +455,17 @@ public class Group extends Shape implements Container {
         }
     }
 
+    /**
+     * Returns true if the given {@link Shape} is rendered in bulk by this group itself,
+     * hence skipped by the regular per-shape traversal of {@link #draw(GL2ES2, RegionRenderer) draw(..)}
+     * and {@link #drawToSelect(GL2ES2, RegionRenderer) drawToSelect(..)}.
+     * <p>
+     * Default implementation returns {@code false}.
+     * </p>
+     * @see AnimGroup#setInstancing(boolean)
+     */
+    protected boolean isDrawnInBulk(final Shape s) { return false; }
+
     @Override
     protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) {
         final PMVMatrix4f pmv = renderer.getMatrix();
@@ -427,7 +494,7 @@ public class Group extends Shape implements Container {
                 iShapes.clear();
                 for(int i=0; i<shapeCount; i++) {
                     final Shape shape = shapeArray[i];
-                    if( shape.isVisible() ) { // && !shape.isDiscarded() ) {
+                    if( shape.isVisible() && !isDrawnInBulk(shape) ) { // && !shape.isDiscarded() ) {
                         pmv.pushMv();
                         shape.applyMatToMv(pmv);
 
@@ -453,7 +520,7 @@ public class Group extends Shape implements Container {
                 iShapes.clear();
                 for(int i=0; i<shapeCount; i++) {
                     final Shape shape = shapeArray[i];
-                    if( shape.isVisible() ) { // && !shape.isDiscarded() ) {
+                    if( shape.isVisible() && !isDrawnInBulk(shape) ) { // && !shape.isDiscarded() ) {
                         pmv.pushMv();
                         shape.applyMatToMv(pmv);
                         if( !doFrustumCulling || !pmv.getFrustum().isOutside( shape.getBounds() ) ) {
@@ -488,7 +555,7 @@ public class Group extends Shape implements Container {
         final int shapeCount = shapesS.length;
         for(int i=0; i<shapeCount; i++) {
             final Shape shape = (Shape) shapesS[i];
-            if( shape.isVisible() ) {
+            if( shape.isVisible() && !isDrawnInBulk(shape) ) {
                 pmv.pushMv();
                 shape.applyMatToMv(pmv);
 
@@ -506,9 +573,12 @@ public class Group extends Shape implements Container {
     /**
      * Set relayout on dirty shapes mode, defaults to true.
      * <p>
-     * If relayouting on dirty shape mode is enabler (default),
-     * {@link #isShapeDirty()} traverses through all shapes updating all dirty states of all its groups
-     * provoking a relayout if required.
+     * If relayouting on dirty shape mode is enabled (default),
+     * a {@link #markShapeDirty() dirty} shape notifies its parent groups up to the root,
+     * which merely validate the dirty path on their next validation.
+     * A group re-runs its {@link Layout} only if the {@link #getBounds() bounds} of one of its dirty shapes have changed,
+     * which in turn propagates upwards only if its own bounds have changed,
+     * i.e. stops at the nearest ancestor of {@link #setFixedSize(Vec2f) fixed size}.
      * </p>
      */
     public void setRelayoutOnDirtyShapes(final boolean v) { relayoutOnDirtyShapes = v; }
@@ -550,115 +620,225 @@ public class Group extends Shape implements Container {
     public final boolean isTopLevelWidget() { return null != topLevelHolder; }
 
     /**
-     * {@inheritDoc}
+     * Notification of a dirty direct child {@link Shape}, issued by {@link Shape#markShapeDirty()}.
      * <p>
      * If re-layouting on dirty shape mode is enabled (default), see {@link #setRelayoutOnDirtyShapes(boolean)},
-     * this method traverses through all shapes updating all dirty states of all its groups
-     * provoking a re-layout if required.
+     * the shape is queued for incremental validation and the first queued shape is propagated to this group's parent.
      * </p>
      */
-    @Override
-    protected boolean isShapeDirty() {
+    /* pp */ final void markChildDirty(final Shape s) {
         if( relayoutOnDirtyShapes ) {
-            // Deep dirty state update:
-            // - Ensure all group member's dirty state is updated
-            // - Allowing all group member's validate to function
-            for(final Shape s : shapes) {
-                if( s.isShapeDirty() ) {
-                    markShapeDirty();
+            final boolean first;
+            synchronized( dirtyChildren ) {
+                first = dirtyChildren.isEmpty();
+                dirtyChildren.add(s);
+            }
+            if( first ) {
+                notifyParentDirty();
+            }
+        }
+    }
+
+    /** Returns true if {@link #markChildDirty(Shape) dirty children} are queued for validation. */
+    protected final boolean hasDirtyChildren() {
+        synchronized( dirtyChildren ) {
+            return !dirtyChildren.isEmpty();
+        }
+    }
+
+    /**
+     * Validates all queued {@link #markChildDirty(Shape) dirty children} of this group.
+     * <p>
+     * W/o a {@link Layout}, a changed child only requires a re-layout
+     * if it defined or leaves the union of all children bounds.
+     * </p>
+     * @return true if the {@link #getBounds() bounds} of one of them have changed, requiring a re-layout
+     */
+    private boolean validateDirtyChildren(final GL2ES2 gl, final GLProfile glp) {
+        final Shape[] dirtyShapes;
+        synchronized( dirtyChildren ) {
+            if( dirtyChildren.isEmpty() ) {
+                return false;
+            }
+            dirtyShapes = dirtyChildren.toArray(new Shape[dirtyChildren.size()]);
+            dirtyChildren.clear();
+        }
+        final boolean noLayout = null == layouter;
+        final PMVMatrix4f pmv = noLayout ? new PMVMatrix4f() : null;
+        final AABBox oldBox = noLayout ? new AABBox() : null;
+        final AABBox newBox = noLayout ? new AABBox() : null;
+        boolean relayout = false;
+        for(final Shape s : dirtyShapes) {
+            if( this != s.getParent() ) {
+                continue; // removed meanwhile
+            }
+            if( noLayout ) {
+                getTransformedBounds(s, pmv, oldBox);
+            } else {
+                layouter.preValidate(s);
+            }
+            s.validate(gl, glp);
+            if( s.isBoundsChanged() ) {
+                if( noLayout && !relayout && isUnionUnchanged(contentBox, oldBox, getTransformedBounds(s, pmv, newBox)) ) {
+                    s.clearBoundsChanged(); // no re-layout required
+                } else {
+                    relayout = true;
                 }
             }
         }
-        return super.isShapeDirty();
+        return relayout;
+    }
+    private static AABBox getTransformedBounds(final Shape s, final PMVMatrix4f pmv, final AABBox out) {
+        pmv.pushMv();
+        s.applyMatToMv(pmv);
+        s.getBounds().transform(pmv.getMv(), out);
+        pmv.popMv();
+        return out;
+    }
+    /** Returns true if the {@code union} stays unchanged if one of its boxes changes from {@code o} to {@code n}. */
+    private static boolean isUnionUnchanged(final AABBox union, final AABBox o, final AABBox n) {
+        return union.contains(n) &&
+               isAxisUnchanged(union.getMinX(), union.getMaxX(), o.getMinX(), o.getMaxX(), n.getMinX(), n.getMaxX()) &&
+               isAxisUnchanged(union.getMinY(), union.getMaxY(), o.getMinY(), o.getMaxY(), n.getMinY(), n.getMaxY()) &&
+               isAxisUnchanged(union.getMinZ(), union.getMaxZ(), o.getMinZ(), o.getMaxZ(), n.getMinZ(), n.getMaxZ());
+    }
+    private static boolean isAxisUnchanged(final float uMin, final float uMax, final float oMin, final float oMax, final float nMin, final float nMax) {
+        // the old extent did not define the union's extent, or the new extent keeps it
+        return ( oMin > uMin || nMin == oMin ) && ( oMax < uMax || nMax == oMax );
     }
 
     @Override
     protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+        validateLayout(gl, glp);
+    }
+
+    /**
+     * Validates this group, called by {@link #validateImpl(GL2ES2, GLProfile)}.
+     * <p>
+     * If this group is {@link #markShapeDirty() dirty}, all its shapes are validated and the {@link Layout} is performed.
+     * </p>
+     * <p>
+     * Otherwise only its {@link #setRelayoutOnDirtyShapes(boolean) dirty shapes} are validated.
+     * The {@link Layout} is only performed if the {@link #getBounds() bounds} of one of them have changed,
+     * positioning all shapes w/o validating the unchanged ones again.
+     * W/o a {@link Layout}, the bounds of this group are only re-computed if the changed shape's bounds
+     * defined or exceed the union of all shapes.
+     * </p>
+     * @return true if the {@link Layout} has been performed, otherwise false
+     */
+    protected final boolean validateLayout(final GL2ES2 gl, final GLProfile glp) {
         if( isShapeDirty() ) {
-            final boolean needsRMs = hasBorder() && null == border;
-            GraphShape firstGS = null;
-
-            // box has been reset
-            final PMVMatrix4f pmv = new PMVMatrix4f();
-            if( null != layouter ) {
-                if( 0 == shapes.size() ) {
-                    box.resize(0, 0, 0);
-                } else {
-                    for(final Shape s : shapes) {
-                        if( needsRMs && null == firstGS && s instanceof GraphShape ) {
-                            firstGS = (GraphShape)s;
-                        }
-                        layouter.preValidate(s);
-                        s.validate(gl, glp);
-                    }
-                    layouter.layout(this, box, pmv);
-                }
-            } else if( 0 == shapes.size() ) {
+            synchronized( dirtyChildren ) {
+                dirtyChildren.clear(); // all shapes are validated below
+            }
+            validateAll(gl, glp, true);
+            return true;
+        } else if( validateDirtyChildren(gl, glp) ) {
+            // dirty subtree changed its bounds, re-layout this group only w/o re-validating its clean shapes
+            final AABBox pre = new AABBox(box);
+            box.reset();
+            validateAll(gl, glp, false);
+            if( !box.equals(pre) ) {
+                setBoundsChanged();
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Performs the layout of all shapes
+     * @param validateShapes if true, all shapes are validated, otherwise they are assumed to be valid
+     */
+    private void validateAll(final GL2ES2 gl, final GLProfile glp, final boolean validateShapes) {
+        final boolean needsRMs = hasBorder() && null == border;
+        GraphShape firstGS = null;
+
+        // box has been reset
+        final PMVMatrix4f pmv = new PMVMatrix4f();
+        if( null != layouter ) {
+            if( 0 == shapes.size() ) {
                 box.resize(0, 0, 0);
             } else {
-                final AABBox tsbox = new AABBox();
                 for(final Shape s : shapes) {
                     if( needsRMs && null == firstGS && s instanceof GraphShape ) {
                         firstGS = (GraphShape)s;
                     }
-                    s.validate(gl, glp);
-                    pmv.pushMv();
-                    s.applyMatToMv(pmv);
-                    s.getBounds().transform(pmv.getMv(), tsbox);
-                    pmv.popMv();
-                    box.resize(tsbox);
+                    if( validateShapes ) {
+                        layouter.preValidate(s);
+                        s.validate(gl, glp);
+                    }
                 }
+                layouter.layout(this, box, pmv);
             }
-            if( hasPadding() ) {
-                final Padding p = getPadding();
-                final Vec3f l = box.getLow();
-                final Vec3f h = box.getHigh();
-                box.resize(l.x() - p.left, l.y() - p.bottom, l.z());
-                box.resize(h.x() + p.right, h.y() + p.top, l.z());
-                setRotationPivot( box.getCenter() );
-            }
-            final boolean useFixedSize = !FloatUtil.isZero(fixedSize.x()) && !FloatUtil.isZero(fixedSize.y());
-            final boolean useClipping = null != clipFrustum || clipOnBounds;
-            if( useFixedSize || useClipping ) {
-                // final AABBox old = new AABBox(box);
-                final boolean adjustZ = useClipping || ( useFixedSize && Float.isNaN(fixedSize.z()) );
-                final Vec3f lo = box.getLow();
-                if( adjustZ ) {
-                    final float oldDepth = box.getDepth();
-                    final Vec3f hi;
-                    final float zAdjustment = 10f*Scene.DEFAULT_ACTIVE_ZOFFSET_SCALE*Scene.DEFAULT_Z16_EPSILON;
-                    lo.add(                0,             0,         -(1f*zAdjustment));
-                    if( useFixedSize ) {
-                        hi = new Vec3f(lo);
-                        hi.add(fixedSize.x(), fixedSize.y(), oldDepth+(2f*zAdjustment));
-                    } else {
-                        hi = box.getHigh();
-                        hi.add(        0,             0,     oldDepth+(1f*zAdjustment));
-                    }
-                    box.setSize(lo, hi);
-                } else if( useFixedSize ) {
-                    final Vec3f hi = useFixedSize ? new Vec3f(lo) : box.getHigh();
-
-                    hi.add(fixedSize.x(), fixedSize.y(), fixedSize.z());
-                    box.setSize(lo, hi);
+        } else if( 0 == shapes.size() ) {
+            box.resize(0, 0, 0);
+        } else {
+            final AABBox tsbox = new AABBox();
+            for(final Shape s : shapes) {
+                if( needsRMs && null == firstGS && s instanceof GraphShape ) {
+                    firstGS = (GraphShape)s;
                 }
-                // System.err.println("- was "+old);
-                // System.err.println("- has "+box);
+                if( validateShapes ) {
+                    s.validate(gl, glp);
+                }
+                box.resize(getTransformedBounds(s, pmv, tsbox));
             }
-
-            if( hasBorder() ) {
-                if( null == border ) {
-                    final int firstRMs = null != firstGS ? firstGS.getRenderModes() : 0;
-                    final int myRMs = Region.isVBAA(firstRMs) ? Region.VBAA_RENDERING_BIT : 0;
-                    border = new Rectangle(myRMs, box, getBorderThickness());
+            contentBox.set(box);
+        }
+        if( hasPadding() ) {
+            final Padding p = getPadding();
+            final Vec3f l = box.getLow();
+            final Vec3f h = box.getHigh();
+            box.resize(l.x() - p.left, l.y() - p.bottom, l.z());
+            box.resize(h.x() + p.right, h.y() + p.top, l.z());
+            setRotationPivot( box.getCenter() );
+        }
+        final boolean useFixedSize = !FloatUtil.isZero(fixedSize.x()) && !FloatUtil.isZero(fixedSize.y());
+        final boolean useClipping = null != clipFrustum || clipOnBounds;
+        if( useFixedSize || useClipping ) {
+            // final AABBox old = new AABBox(box);
+            final boolean adjustZ = useClipping || ( useFixedSize && Float.isNaN(fixedSize.z()) );
+            final Vec3f lo = box.getLow();
+            if( adjustZ ) {
+                final float oldDepth = box.getDepth();
+                final Vec3f hi;
+                final float zAdjustment = 10f*Scene.DEFAULT_ACTIVE_ZOFFSET_SCALE*Scene.DEFAULT_Z16_EPSILON;
+                lo.add(                0,             0,         -(1f*zAdjustment));
+                if( useFixedSize ) {
+                    hi = new Vec3f(lo);
+                    hi.add(fixedSize.x(), fixedSize.y(), oldDepth+(2f*zAdjustment));
                 } else {
-                    border.setVisible(true);
-                    border.setBounds(box, getBorderThickness());
+                    hi = box.getHigh();
+                    hi.add(        0,             0,     oldDepth+(1f*zAdjustment));
                 }
-                border.setColor(getBorderColor());
-            } else if( null != border ) {
-                border.setVisible(false);
+                box.setSize(lo, hi);
+            } else if( useFixedSize ) {
+                final Vec3f hi = useFixedSize ? new Vec3f(lo) : box.getHigh();
+
+                hi.add(fixedSize.x(), fixedSize.y(), fixedSize.z());
+                box.setSize(lo, hi);
+            }
+            // System.err.println("- was "+old);
+            // System.err.println("- has "+box);
+        }
+
+        if( hasBorder() ) {
+            if( null == border ) {
+                final int firstRMs = null != firstGS ? firstGS.getRenderModes() : 0;
+                final int myRMs = Region.isVBAA(firstRMs) ? Region.VBAA_RENDERING_BIT : 0;
+                border = new Rectangle(myRMs, box, getBorderThickness());
+            } else {
+                border.setVisible(true);
+                border.setBounds(box, getBorderThickness());
             }
+            border.setColor(getBorderColor());
+        } else if( null != border ) {
+            border.setVisible(false);
+        }
+        for(final Shape s : shapes) {
+            s.clearBoundsChanged();
         }
     }
 
@@ -673,14 +853,50 @@ public class Group extends Shape implements Container {
         }
         return shapes.get(id);
     }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If this group is part of a {@link Scene} and the ID is {@link ShapeIndex#isIndexedID(int) indexed},
+     * the scene's index is used, see {@link Scene#getShapeByID(int)}.
+     * </p>
+     */
     @Override
     public Shape getShapeByID(final int id) {
+        final Scene sc = ShapeIndex.isIndexedID(id) ? getScene() : null;
+        if( null != sc ) {
+            final Shape s = sc.getShapeByID(id);
+            if( null == s || isAncestorOf(s) ) {
+                return s;
+            }
+        }
         return TreeTool.getShapeByID(this, id);
     }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If this group is part of a {@link Scene} and the name is {@link ShapeIndex#isIndexedName(String) indexed},
+     * the scene's index is used, see {@link Scene#getShapeByName(String)}.
+     * </p>
+     */
     @Override
     public Shape getShapeByName(final String name) {
+        final Scene sc = ShapeIndex.isIndexedName(name) ? getScene() : null;
+        if( null != sc ) {
+            final Shape s = sc.getShapeByName(name);
+            if( null == s || isAncestorOf(s) ) {
+                return s;
+            }
+        }
         return TreeTool.getShapeByName(this, name);
     }
+    private boolean isAncestorOf(final Shape s) {
+        for(Group p = s.getParent(); null != p; p = p.getParent()) {
+            if( this == p ) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public AABBox getBounds(final PMVMatrix4f pmv, final Shape shape) {
@@ -75,6 +75,7 @@ import com.jogamp.opengl.util.GLPixelStorageModes;
 import com.jogamp.opengl.util.GLReadBufferUtil;
 import com.jogamp.opengl.util.texture.TextureSequence;
 
+import jogamp.graph.ui.ShapeIndex;
 import jogamp.graph.ui.TreeTool;
 
 /**
@@ -132,6 +133,8 @@ public final class Scene implements Container, GLEventListener {
     private static final boolean DEBUG_PICKING = DEBUG;
 
     private final List<Shape> shapes = new CopyOnWriteArrayList<Shape>();
+    private final ShapeIndex shapeIndex = new ShapeIndex(this);
+    private volatile ShapeBuilder shapeBuilder = null;
     private Shape[] displayShapeArray = new Shape[0]; // reduce memory re-alloc @ display
     private final List<Shape> renderedShapesB0 = new ArrayList<Shape>();
     private final List<Shape> renderedShapesB1 = new ArrayList<Shape>();
@@ -291,11 +294,15 @@ public final class Scene implements Container, GLEventListener {
     @Override
     public void addShape(final Shape s) {
         shapes.add(s);
+        s.setScene(this);
+        shapeIndex.addTree(s);
     }
 
     @Override
     public Shape removeShape(final Shape s) {
         if( shapes.remove(s) ) {
+            shapeIndex.removeTree(s);
+            s.setScene(null);
             return s;
         } else {
             return null;
@@ -312,6 +319,8 @@ public final class Scene implements Container, GLEventListener {
     @Override
     public boolean removeShape(final GL2ES2 gl, final RegionRenderer renderer, final Shape s) {
         if( shapes.remove(s) ) {
+            shapeIndex.removeTree(s);
+            s.setScene(null);
             s.destroy(gl, renderer);
             return true;
         } else {
@@ -362,15 +371,51 @@ public final class Scene implements Container, GLEventListener {
         }
         return shapes.get(id);
     }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation uses an index maintained while shapes are added, removed or their ID changed, i.e. O(1).
+     * </p>
+     */
     @Override
     public Shape getShapeByID(final int id) {
-        return TreeTool.getShapeByID(this, id);
+        return shapeIndex.getShapeByID(id);
     }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation uses an index maintained while shapes are added, removed or renamed, i.e. O(1).
+     * </p>
+     */
     @Override
     public Shape getShapeByName(final String name) {
-        return TreeTool.getShapeByName(this, name);
+        return shapeIndex.getShapeByName(name);
+    }
+
+    /**
+     * Applies {@link Shape.Visitor1#visit(Shape)} on all {@link Shape}s of this scene's tree in depth-first order, stop if it returns true.
+     * <p>
+     * Traverses a flattened array of the tree, only rebuilt after structural changes.
+     * </p>
+     * @return true if {@link Shape.Visitor1#visit(Shape)} returned true, otherwise false
+     */
+    public boolean forAll(final Shape.Visitor1 v) {
+        return shapeIndex.forAll(v);
     }
 
+    /* pp */ final ShapeIndex getShapeIndex() { return shapeIndex; }
+
+    /**
+     * Sets the {@link ShapeBuilder} to build new shapes off the GL thread, default is {@code null}.
+     * <p>
+     * Its built shapes are {@link ShapeBuilder#commit() committed} at the start of each {@link #display(GLAutoDrawable)}.
+     * The {@link ShapeBuilder} is not {@link ShapeBuilder#shutdown() shut down} by this scene.
+     * </p>
+     */
+    public void setShapeBuilder(final ShapeBuilder sb) { shapeBuilder = sb; }
+    /** Returns the {@link ShapeBuilder}, see {@link #setShapeBuilder(ShapeBuilder)}. */
+    public ShapeBuilder getShapeBuilder() { return shapeBuilder; }
+
     /** Returns {@link RegionRenderer#getSampleCount()}. */
     public int getSampleCount() { return renderer.getSampleCount(); }
     /**
@@ -388,7 +433,7 @@ public final class Scene implements Container, GLEventListener {
     public int setAAQuality(final int v) { return renderer.setAAQuality(v); /* markStatesDirty() -> autodetected within GLRegion.draw(..) */ }
 
     public void setSharpness(final float sharpness) {
-        TreeTool.forAll(this, (final Shape s) -> {
+        forAll((final Shape s) -> {
             if( s instanceof GraphShape ) {
                 ((GraphShape)s).setSharpness(sharpness);
             }
@@ -396,13 +441,13 @@ public final class Scene implements Container, GLEventListener {
         });
     }
     public void markShapesDirty() {
-        TreeTool.forAll(this, (final Shape s) -> {
+        forAll((final Shape s) -> {
            s.markShapeDirty();
            return false;
         });
     }
     public void markStatesDirty() {
-        TreeTool.forAll(this, (final Shape s) -> {
+        forAll((final Shape s) -> {
            s.markStateDirty();
            return false;
         });
@@ -490,6 +535,10 @@ public final class Scene implements Container, GLEventListener {
 
     @Override
     public void display(final GLAutoDrawable drawable) {
+        final ShapeBuilder sb = shapeBuilder;
+        if( null != sb ) {
+            sb.commit();
+        }
         final int shapeCount = shapes.size();
         Arrays.fill(displayShapeArray, null); // flush old refs
         final Shape[] shapeArray = shapes.toArray(displayShapeArray); // local-backup
@@ -618,7 +667,10 @@ public final class Scene implements Container, GLEventListener {
         }
         final GL2ES2 gl = drawable.getGL().getGL2ES2();
         for(int i=0; i<shapes.size(); i++) {
-            shapes.get(i).destroy(gl, renderer);
+            final Shape s = shapes.get(i);
+            shapeIndex.removeTree(s);
+            s.setScene(null);
+            s.destroy(gl, renderer);
         }
         for(int i=0; i<disposeActions.size(); i++) {
             try {
@@ -242,6 +242,8 @@ public abstract class Shape {
     private static final int DIRTY_STATE    = 1 << 1 ;
 
     private volatile Group parent = null;
+    /** {@link Scene} this shape has been added to as a top-level shape, see {@link #getScene()}. */
+    private volatile Scene scene = null;
     protected final AABBox box = new AABBox();
 
     private final Vec3f position = new Vec3f();
@@ -256,6 +258,8 @@ public abstract class Shape {
 
     private final AtomicInteger dirty = new AtomicInteger(DIRTY_SHAPE | DIRTY_STATE);
     private final Object dirtySync = new Object();
+    /** Set if {@link #box} changed by {@link #validate(GL2ES2, GLProfile)}, cleared by the parent {@link Group} after layout. */
+    private volatile boolean boundsChanged = true;
 
     /** Default base-color w/o color channel, will be modulated w/ pressed- and toggle color */
     protected final Vec4f rgbaColor             = new Vec4f(0.60f, 0.60f, 0.60f, 1.0f);
@@ -330,13 +334,53 @@ public abstract class Shape {
      */
     public Group getParent() { return parent; }
 
-    /** Set a symbolic ID for this shape for identification. Default is -1 for noname. */
-    public final Shape setID(final int id) { this.id = id; return this; }
+    /* pp */ final void setScene(final Scene s) { scene = s; }
+
+    /**
+     * Returns the {@link Scene} this shape's tree has been added to, traversing up its {@link #getParent() parents}, or {@code null}.
+     */
+    /* pp */ final Scene getScene() {
+        Shape s = this;
+        Group p;
+        while( null != ( p = s.parent ) ) {
+            s = p;
+        }
+        return s.scene;
+    }
+
+    /**
+     * Set a symbolic ID for this shape for identification. Default is -1 for noname.
+     * <p>
+     * Updates the {@link Scene}'s index for {@link Scene#getShapeByID(int)}.
+     * </p>
+     */
+    public final Shape setID(final int id) {
+        final int oldID = this.id;
+        this.id = id;
+        final Scene sc = getScene();
+        if( null != sc ) {
+            sc.getShapeIndex().updateID(this, oldID);
+        }
+        return this;
+    }
     /** Return the optional symbolic ID for this shape. */
     public final int getID() { return this.id; }
 
-    /** Set a symbolic name for this shape for identification. Default is `noname`. */
-    public Shape setName(final String name) { this.name = name; return this; }
+    /**
+     * Set a symbolic name for this shape for identification. Default is `noname`.
+     * <p>
+     * Updates the {@link Scene}'s index for {@link Scene#getShapeByName(String)}.
+     * </p>
+     */
+    public Shape setName(final String name) {
+        final String oldName = this.name;
+        this.name = name;
+        final Scene sc = getScene();
+        if( null != sc ) {
+            sc.getShapeIndex().updateName(this, oldName);
+        }
+        return this;
+    }
     /** Return the optional symbolic name for this shape, defaults to `noname`. */
     public final String getName() { return this.name; }
 
@@ -684,11 +728,31 @@ public abstract class Shape {
     /**
      * Marks the shape dirty, causing next {@link #draw(GL2ES2, RegionRenderer) draw()}
      * to recreate the Graph shape and reset the region.
+     * <p>
+     * If this shape was not yet dirty, its {@link #getParent() parent} {@link Group} is notified,
+     * allowing an incremental layout of the dirty subtree only, see {@link Group#setRelayoutOnDirtyShapes(boolean)}.
+     * </p>
      */
     public final void markShapeDirty() {
-        dirty.updateAndGet((final int pre) -> { return pre | DIRTY_SHAPE; } );
+        final int pre = dirty.getAndUpdate((final int v) -> { return v | DIRTY_SHAPE; } );
+        if( 0 == ( pre & DIRTY_SHAPE ) ) {
+            notifyParentDirty();
+        }
+    }
+
+    /** Notifies the {@link #getParent() parent} {@link Group} about a dirty shape within this subtree. */
+    /* pp */ final void notifyParentDirty() {
+        final Group p = parent;
+        if( null != p ) {
+            p.markChildDirty(this);
+        }
     }
 
+    /** Returns true if {@link #getBounds()} changed by {@link #validate(GL2ES2, GLProfile)} since last {@link #clearBoundsChanged()}. */
+    /* pp */ final boolean isBoundsChanged() { return boundsChanged; }
+    /* pp */ final void setBoundsChanged() { boundsChanged = true; }
+    /* pp */ final void clearBoundsChanged() { boundsChanged = false; }
+
     /**
      * Marks the rendering state dirty, causing next {@link #draw(GL2ES2, RegionRenderer) draw()}
      * to notify the Graph region to reselect shader and repaint potentially used FBOs.
@@ -849,11 +913,7 @@ public abstract class Shape {
      */
     public final Shape validate(final GL2ES2 gl) {
         synchronized ( dirtySync ) {
-            if( isShapeDirty() ) {
-                box.reset();
-            }
-            validateImpl(gl, gl.getGLProfile());
-            dirty.set(0);
+            validate0(gl, gl.getGLProfile());
         }
         return this;
     }
@@ -868,15 +928,25 @@ public abstract class Shape {
      */
     public final Shape validate(final GLProfile glp) {
         synchronized ( dirtySync ) {
-            if( isShapeDirty() ) {
-                box.reset();
-            }
-            validateImpl(null, glp);
-            dirty.set(0);
+            validate0(null, glp);
         }
         return this;
     }
 
+    private final void validate0(final GL2ES2 gl, final GLProfile glp) {
+        if( isShapeDirty() ) {
+            final AABBox pre = new AABBox(box);
+            box.reset();
+            validateImpl(gl, glp);
+            if( !box.equals(pre) ) {
+                boundsChanged = true;
+            }
+        } else {
+            validateImpl(gl, glp);
+        }
+        dirty.set(0);
+    }
+
     /**
      * Validate the shape via {@link #validate(GL2ES2)} if {@code gl} is not null,
      * otherwise uses {@link #validate(GLProfile)}.
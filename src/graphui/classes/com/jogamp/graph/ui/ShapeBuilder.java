@@ -0,0 +1,232 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.ui;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.ui.shapes.Button;
+import com.jogamp.graph.ui.shapes.GlyphShape;
+import com.jogamp.graph.ui.shapes.Label;
+import com.jogamp.opengl.GLProfile;
+
+import jogamp.graph.ui.TreeTool;
+import jogamp.opengl.util.WorkerThreadPool;
+
+/**
+ * Builds {@link Shape}s on a pool of worker threads before adding them to their target {@link Container},
+ * used via {@link Scene#setShapeBuilder(ShapeBuilder)} and {@link #add(Container, Shape)}.
+ * <p>
+ * A worker {@link Shape#validate(GLProfile) validates} the new {@link Shape} w/o a GL context,
+ * i.e. performs the {@link com.jogamp.graph.curve.OutlineShape} creation, triangulation and vertex and index stream generation
+ * of all {@link GraphShape}s of its tree into their {@link GLRegion}s.
+ * </p>
+ * <p>
+ * Built shapes are added to their target {@link Container} by {@link Scene#display(com.jogamp.opengl.GLAutoDrawable)} on the GL thread,
+ * limited by an {@link #setUploadBudget(int) upload budget} per frame. Their buffers are uploaded at their first draw.
+ * Hence a {@link Shape} stays invisible until ready.
+ * </p>
+ * <p>
+ * {@link Font.Glyph} {@link OutlineShape}s are shared by all users of a {@link Font}.
+ * Before building, a worker triangulates the glyph outlines used by {@link GlyphShape}s, {@link Label}s and {@link Button}s
+ * of the new {@link Shape}'s tree under the outline's lock, hence they are only read while building concurrently.
+ * The same glyphs shall not be used for the first time on the GL thread while being built.
+ * </p>
+ * <p>
+ * A {@link Shape} must not be used elsewhere until added to its target {@link Container}.
+ * </p>
+ */
+public final class ShapeBuilder {
+    /** Default {@link #setUploadBudget(int) upload budget} of vertices per frame, {@value}. */
+    public static final int DEFAULT_UPLOAD_BUDGET = 64 * 1024;
+
+    private static final class Job {
+        final Container target;
+        final Shape shape;
+        int vertexCount;
+        Job(final Container target, final Shape shape) {
+            this.target = target;
+            this.shape = shape;
+        }
+    }
+    private static final AtomicInteger instanceId = new AtomicInteger(0);
+
+    private final GLProfile glp;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<Job> ready = new ConcurrentLinkedQueue<Job>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+    private volatile int uploadBudget = DEFAULT_UPLOAD_BUDGET;
+    private volatile long committedCount = 0;
+    private final AtomicInteger failedCount = new AtomicInteger(0);
+
+    /**
+     * Creates a {@link ShapeBuilder} w/ its own pool of daemon worker threads.
+     * @param glp the {@link GLProfile} used to {@link Shape#validate(GLProfile) validate} shapes
+     * @param threadCount number of worker threads, values &lt; 1 use the number of available processors minus one, at least one
+     */
+    public ShapeBuilder(final GLProfile glp, final int threadCount) {
+        this.glp = glp;
+        executor = WorkerThreadPool.create("ShapeBuilder-"+instanceId.getAndIncrement()+"-Worker", threadCount);
+    }
+
+    /**
+     * Sets the maximum number of vertices committed per frame via {@link #commit()}, defaults to {@link #DEFAULT_UPLOAD_BUDGET}.
+     * <p>
+     * At least one built {@link Shape} is committed per frame.
+     * </p>
+     */
+    public void setUploadBudget(final int vertexCount) { uploadBudget = vertexCount; }
+    /** Returns the upload budget, see {@link #setUploadBudget(int)}. */
+    public int getUploadBudget() { return uploadBudget; }
+
+    /** Returns the number of shapes being built or waiting to be committed. */
+    public int getPendingCount() { return pending.get(); }
+
+    /** Returns the number of built shapes waiting to be committed. */
+    public int getReadyCount() { return ready.size(); }
+
+    /** Returns the total number of committed shapes. */
+    public long getCommittedCount() { return committedCount; }
+
+    /** Returns the total number of shapes whose building failed, see {@link #add(Container, Shape)}. */
+    public int getFailedCount() { return failedCount.get(); }
+
+    /**
+     * Queues the given new {@link Shape} to be built on a worker thread
+     * and to be {@link Container#addShape(Shape) added} to the given {@link Container} on the GL thread afterwards.
+     * <p>
+     * If building throws an exception, the {@link Shape} is dropped and never added,
+     * the exception is printed and counted, see {@link #getFailedCount()}.
+     * </p>
+     * @param target the target {@link Container}, e.g. a {@link Group} or the {@link Scene}
+     * @param s the new {@link Shape}
+     */
+    public void add(final Container target, final Shape s) {
+        final Job job = new Job(target, s);
+        pending.incrementAndGet();
+        executor.execute( () -> {
+            try {
+                prepareGlyphs(s);
+                s.validate(glp);
+                job.vertexCount = countVertices(s);
+            } catch(final Throwable t) {
+                System.err.println("ShapeBuilder: Caught Exception building "+s+": "+t.getMessage());
+                t.printStackTrace();
+                failedCount.incrementAndGet();
+                pending.decrementAndGet();
+                return;
+            }
+            ready.add(job);
+        } );
+    }
+
+    /** Triangulates the shared {@link Font.Glyph} outlines of the given {@link Shape}'s tree, see class documentation. */
+    private static void prepareGlyphs(final Shape s) {
+        final Font.GlyphVisitor2 gv = (final Font.Glyph glyph) -> {
+            prepareOutline(glyph.getShape());
+        };
+        final Shape.Visitor1 v = (final Shape shape) -> {
+            if( shape instanceof GlyphShape ) {
+                prepareOutline(((GlyphShape)shape).getGlyph().getShape());
+            } else if( shape instanceof Label ) {
+                final Label l = (Label)shape;
+                l.getFont().processString(gv, l.getText());
+            } else if( shape instanceof Button ) {
+                final Button b = (Button)shape;
+                b.getFont().processString(gv, b.getText());
+            }
+            return false;
+        };
+        v.visit(s);
+        if( s instanceof Container ) {
+            TreeTool.forAll((Container)s, v);
+        }
+    }
+    private static void prepareOutline(final OutlineShape outline) {
+        if( null != outline ) {
+            synchronized( outline ) {
+                outline.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+                outline.getVertices();
+            }
+        }
+    }
+
+    private static int countVertices(final Shape s) {
+        final int[] count = { 0 };
+        final Shape.Visitor1 v = (final Shape shape) -> {
+            if( shape instanceof GraphShape ) {
+                final GLRegion r = ((GraphShape)shape).getRegion();
+                if( null != r ) {
+                    count[0] += r.getVertexCount();
+                }
+            }
+            return false;
+        };
+        v.visit(s);
+        if( s instanceof Container ) {
+            TreeTool.forAll((Container)s, v);
+        }
+        return count[0];
+    }
+
+    /**
+     * Adds built shapes to their target {@link Container} within the {@link #setUploadBudget(int) upload budget},
+     * called by {@link Scene#display(com.jogamp.opengl.GLAutoDrawable)} on the GL thread.
+     * @return number of committed shapes
+     */
+    public int commit() {
+        final int budget = uploadBudget;
+        int vertices = 0;
+        int count = 0;
+        Job job;
+        while( ( 0 == count || vertices < budget ) && null != ( job = ready.poll() ) ) {
+            job.target.addShape(job.shape);
+            vertices += job.vertexCount;
+            ++count;
+            pending.decrementAndGet();
+        }
+        committedCount += count;
+        return count;
+    }
+
+    /**
+     * Shuts down the worker threads, discarding all shapes not yet built.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "ShapeBuilder[pending "+pending.get()+", ready "+ready.size()+", committed "+committedCount+", failed "+failedCount.get()+", budget "+uploadBudget+"]";
+    }
+}
@@ -32,10 +32,13 @@ import java.util.List;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
 import com.jogamp.graph.font.Font;
 import com.jogamp.graph.font.Font.Glyph;
+import com.jogamp.graph.ui.GlyphBatch;
 import com.jogamp.graph.ui.GraphShape;
 import com.jogamp.math.Vec3f;
+import com.jogamp.math.Vec4f;
 import com.jogamp.math.geom.AABBox;
 import com.jogamp.math.geom.plane.AffineTransform;
 import com.jogamp.opengl.GL2ES2;
@@ -55,6 +58,7 @@ public class GlyphShape extends GraphShape {
     private final int regionVertCount;
     private final int regionIdxCount;
     private final Vec3f origPos;
+    private GlyphBatch batch = null;
 
     /**
      * Creates a new GlyphShape
@@ -131,6 +135,46 @@ public class GlyphShape extends GraphShape {
         return glyph.getFont().getLineHeight();
     }
 
+    /**
+     * Sets the {@link GlyphBatch} rendering this GlyphShape instanced, default is {@code null}.
+     * <p>
+     * An instanced GlyphShape does not create its own {@link GLRegion}, only its bounds are computed,
+     * and {@link #draw(GL2ES2, RegionRenderer) drawing} it is a no-operation.
+     * Instead, its owner records its {@link #getMat() matrix} and color to the {@link GlyphBatch} in bulk,
+     * which renders all instances of the same {@link Font.Glyph} using one shared {@link GLRegion},
+     * see {@link GLRegion#drawInstanced(com.jogamp.opengl.GL2ES3, RegionRenderer, GLRegion.InstanceBuffer)}.
+     * </p>
+     * <p>
+     * Method issues {@link #markShapeDirty()}.
+     * </p>
+     * @param batch the {@link GlyphBatch} or {@code null} to disable instancing
+     * @see com.jogamp.graph.ui.AnimGroup#setInstancing(boolean)
+     */
+    public final GlyphShape setBatch(final GlyphBatch batch) {
+        this.batch = batch;
+        markShapeDirty();
+        return this;
+    }
+
+    /** Returns the {@link GlyphBatch} rendering this GlyphShape instanced, or {@code null}. See {@link #setBatch(GlyphBatch)}. */
+    public final GlyphBatch getBatch() { return batch; }
+
+    /** Returns true if this GlyphShape is rendered instanced, see {@link #setBatch(GlyphBatch)}. */
+    public final boolean isInstanced() { return null != batch; }
+
+    /**
+     * Returns the transform of the given {@link Font.Glyph}'s {@link OutlineShape} as used by its {@link GLRegion},
+     * enforcing a bottom-left origin @ 0/0 while keeping the underline (decline) intact.
+     * @param glyph the {@link Font.Glyph}
+     * @param out storage for the result
+     * @return given {@code out} for chaining
+     */
+    public static AffineTransform getRegionTransform(final Glyph glyph, final AffineTransform out) {
+        final AABBox sbox = glyph.getShape().getBounds();
+        out.setToTranslation(-sbox.getMinX(), -sbox.getMinY() + glyph.getBounds().getMinY());
+        return out;
+    }
+
     /**
      * Process the given text resulting in a list of {@link GlyphShape}s with stored original position {@link #getOrigX()} and {@link #getOrigY()} each at font em-size [0..1].
      * @param res storage for resulting {@link GlyphShape}s.
@@ -161,24 +205,32 @@ public class GlyphShape extends GraphShape {
         box.reset();
         if( null != shape ) {
             final AABBox sbox = shape.getBounds();
-            final AffineTransform tmp = new AffineTransform();
             // Enforce bottom-left origin @ 0/0 for good drag-zoom experience,
             // but keep the underline (decline) intact!
-            tmp.setToTranslation(-sbox.getMinX(), -sbox.getMinY() + glyph.getBounds().getMinY());
+            final AffineTransform tmp = getRegionTransform(glyph, new AffineTransform());
             shape.setSharpness(oshapeSharpness);
 
-            resetGLRegion(glp, gl, null, regionVertCount, regionIdxCount);
-            region.addOutlineShape(shape, tmp, rgbaColor);
+            if( null == batch ) {
+                resetGLRegion(glp, gl, null, regionVertCount, regionIdxCount);
+                region.addOutlineShape(shape, tmp, rgbaColor);
+            }
             box.resize(tmp.transform(sbox, new AABBox()));
             setRotationPivot( box.getCenter() );
-        } else {
+        } else if( null == batch ) {
             // needs a dummy 'region'
             resetGLRegion(glp, gl, null, regionVertCount, regionIdxCount);
         }
     }
 
+    @Override
+    protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) {
+        if( null == batch ) { // otherwise rendered in bulk by its owner
+            super.drawImpl0(gl, renderer, rgba);
+        }
+    }
+
     @Override
     public String getSubString() {
-        return super.getSubString()+", origPos " + origPos.x() + " / " + origPos.y() + ", cp 0x" + Integer.toHexString(glyph.getCodepoint());
+        return super.getSubString()+", origPos " + origPos.x() + " / " + origPos.y() + ", cp 0x" + Integer.toHexString(glyph.getCodepoint()) + ( null != batch ? ", instanced" : "" );
     }
 }
@@ -193,6 +193,9 @@ public class HUDShape extends Group {
                 System.err.println("HUD this b "+this.getBounds());
                 System.err.println("HUD pos "+clientPos+" -> "+hudPos);
             }
+        } else {
+            // incremental re-layout of dirty client subtree, HUD position and size are unchanged
+            validateLayout(gl, glp);
         }
     }
     private final Vec3f hudSizeOld = new Vec3f();
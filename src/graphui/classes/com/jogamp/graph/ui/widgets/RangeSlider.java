@@ -866,8 +866,7 @@ public final class RangeSlider extends Widget {
     }
     @Override
     protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
-        if( isShapeDirty() ) {
-            super.validateImpl(gl, glp);
+        if( validateLayout(gl, glp) ) {
             setKnobSize(pageSize, true, true);
             if( DEBUG ) { System.err.println("RangeSlider.val "+getDescription()); }
         }
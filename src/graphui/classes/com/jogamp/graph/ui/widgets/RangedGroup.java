@@ -144,11 +144,12 @@ public class RangedGroup extends Widget {
     /** Returns the used vertical {@link RangeSlider} or {@code null}. */
     public RangeSlider getVertSlider() { return vertSlider; }
 
+    private final Vec3f tmpContentPos = new Vec3f();
+
     @Override
     protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
-        if( isShapeDirty() ) {
-            final Vec3f pos = content.getPosition().copy(); // preserve content position
-            super.validateImpl(gl, glp);
+        final Vec3f pos = tmpContentPos.set( content.getPosition() ); // preserve content position
+        if( validateLayout(gl, glp) ) {
 
             final AABBox cb = content.getBounds();
             final Vec3f contentSize = clippedContent.getFixedSize();
@@ -0,0 +1,303 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.ui.widgets;
+
+import java.util.ArrayList;
+
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.ui.Group;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.math.Vec2f;
+import com.jogamp.math.Vec4f;
+import com.jogamp.math.geom.AABBox;
+import com.jogamp.math.geom.Cube;
+import com.jogamp.math.geom.Frustum;
+import com.jogamp.math.util.PMVMatrix4f;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLProfile;
+
+/**
+ * Virtualized {@link Group} {@link Widget} of uniform cells, arranged in rows of {@link #getColumnCount()} columns,
+ * i.e. a list for one column or a grid otherwise.
+ * <p>
+ * Only the cells of the visible rows are backed by a {@link Shape}, requested via {@link DataSource}
+ * and recycled through a pool of off-screen shapes including their {@link com.jogamp.graph.curve.opengl.GLRegion}s.
+ * Hence memory is O(visible) and the cost of a scroll step is independent of {@link DataSource#getItemCount()}.
+ * </p>
+ * <p>
+ * The visible rows are determined each frame via {@link #getClipMvFrustum()}, e.g. as set by {@link RangedGroup},
+ * the {@link RegionRenderer#getClipFrustum()} of the parent, e.g. via {@link Group#setClipOnBounds(boolean)},
+ * or the {@link PMVMatrix4f#getFrustum() view frustum} otherwise, using a binary search over the rows.
+ * </p>
+ * <p>
+ * Changing the visible rows neither marks this group dirty nor performs a re-layout,
+ * only the newly bound shapes are validated and positioned to their cells.
+ * </p>
+ * <p>
+ * The {@link #getBounds() bounds} span all items with origin 0/0 at the bottom-left,
+ * the first row at the top. Hence this group can be used as the content of a {@link RangedGroup} with an inverted vertical {@link RangeSlider}.
+ * </p>
+ */
+public class VirtualGroup extends Widget {
+    /** Data source of a {@link VirtualGroup}. */
+    public static interface DataSource {
+        /** Returns the number of items. */
+        int getItemCount();
+
+        /**
+         * Returns a new {@link Shape} to be {@link #bindShape(VirtualGroup, Shape, int) bound} to items,
+         * fitting into the {@link VirtualGroup#getCellSize() cell size} with bottom-left origin 0/0.
+         */
+        Shape createShape(VirtualGroup g);
+
+        /**
+         * Binds the given new or recycled {@link Shape} to the item at given index,
+         * e.g. by changing a {@link com.jogamp.graph.ui.shapes.Label}'s text.
+         * <p>
+         * The shape will be positioned to its cell by the {@link VirtualGroup}.
+         * </p>
+         */
+        void bindShape(VirtualGroup g, Shape s, int idx);
+    }
+
+    private final DataSource dataSource;
+    private final Vec2f cellSize;
+    private final int columns;
+    private int itemCount;
+    /** Visible item index range [firstIdx, firstIdx + window.size()) */
+    private int firstIdx = 0;
+    private final ArrayList<Shape> window = new ArrayList<Shape>();
+    private final ArrayList<Shape> pool = new ArrayList<Shape>();
+    private final ArrayList<Shape> tmpWindow = new ArrayList<Shape>();
+    private int createdShapeCount = 0;
+
+    /**
+     * Create a virtualized group.
+     * @param dataSource the {@link DataSource} providing the items
+     * @param cellSize the uniform cell size of each item
+     * @param columns number of columns per row, 1 for a list
+     */
+    public VirtualGroup(final DataSource dataSource, final Vec2f cellSize, final int columns) {
+        super();
+        this.dataSource = dataSource;
+        this.cellSize = new Vec2f(cellSize);
+        this.columns = Math.max(1, columns);
+        this.itemCount = dataSource.getItemCount();
+        setPMvCullingEnabled(true);
+    }
+
+    public final DataSource getDataSource() { return dataSource; }
+    public final Vec2f getCellSize() { return cellSize; }
+    public final int getColumnCount() { return columns; }
+    /** Returns the number of items as last queried from {@link DataSource#getItemCount()}. */
+    public final int getItemCount() { return itemCount; }
+    /** Returns the number of rows. */
+    public final int getRowCount() { return ( itemCount + columns - 1 ) / columns; }
+    /** Returns the index of the first visible item, see {@link #getVisibleCount()}. */
+    public final int getFirstVisibleIndex() { return firstIdx; }
+    /** Returns the number of visible items, i.e. backed by a {@link Shape}. */
+    public final int getVisibleCount() { return window.size(); }
+    /** Returns the number of pooled off-screen {@link Shape}s. */
+    public final int getPoolSize() { return pool.size(); }
+    /** Returns the number of {@link Shape}s created via {@link DataSource#createShape(VirtualGroup)} so far. */
+    public final int getCreatedShapeCount() { return createdShapeCount; }
+
+    /**
+     * Notifies this group about changed items, i.e. their count and/or content.
+     * <p>
+     * All visible shapes are recycled and re-bound at next {@link #draw(GL2ES2, RegionRenderer)}.
+     * </p>
+     */
+    public final void notifyDataChanged() {
+        runSynced( () -> {
+            for(int i=0; i<window.size(); ++i) {
+                recycle(window.get(i));
+            }
+            window.clear();
+            firstIdx = 0;
+            itemCount = dataSource.getItemCount();
+            markShapeDirty();
+        } );
+    }
+
+    /**
+     * Returns the bottom-left position of the cell for the item at given index.
+     * @param idx item index
+     * @param out storage for the result
+     * @return given {@code out} for chaining
+     */
+    public final Vec2f getCellPosition(final int idx, final Vec2f out) {
+        final int row = idx / columns;
+        final int col = idx % columns;
+        out.set(col * cellSize.x(), ( getRowCount() - row - 1 ) * cellSize.y());
+        return out;
+    }
+
+    private void recycle(final Shape s) {
+        removeShapeNoRelayout(s);
+        pool.add(s);
+    }
+
+    @Override
+    protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+        if( validateLayout(gl, glp) ) {
+            // span all items, not only the visible shapes
+            box.resize(0, 0, 0);
+            box.resize(columns * cellSize.x(), getRowCount() * cellSize.y(), 0);
+        }
+    }
+
+    @Override
+    protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) {
+        updateWindow(gl, renderer);
+        super.drawImpl0(gl, renderer, rgba);
+    }
+
+    /** Returns true if the given local box is outside of the current clipping or view frustum. */
+    private boolean isOutside(final PMVMatrix4f pmv, final Frustum clipMv, final float y0, final float y1) {
+        tempB00.setSize(0, y0, 0, columns * cellSize.x(), y1, 0);
+        if( null != clipMv ) {
+            return clipMv.isOutside( tempC00.set( tempB00 ).transform( pmv.getMv() ) );
+        } else {
+            return pmv.getFrustum().isOutside( tempB00 );
+        }
+    }
+
+    private void updateWindow(final GL2ES2 gl, final RegionRenderer renderer) {
+        final PMVMatrix4f pmv = renderer.getMatrix();
+        final Frustum clipMv = null != getClipMvFrustum() ? getClipMvFrustum() : renderer.getClipFrustum();
+        final int rows = getRowCount();
+        final float ch = cellSize.y();
+        final float h = rows * ch;
+
+        // row 0 at top, i.e. row r spans [h - (r+1)*ch, h - r*ch]
+        int newFirst = 0, newCount = 0;
+        if( 0 < rows && !isOutside(pmv, clipMv, 0, h) ) {
+            // first row: smallest r w/ rows [0..r] visible, monotonic growing box
+            int lo = 0, hi = rows - 1;
+            while( lo < hi ) {
+                final int mid = ( lo + hi ) >>> 1;
+                if( isOutside(pmv, clipMv, h - ( mid + 1 ) * ch, h) ) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            final int firstRow = lo;
+            // last row: largest r w/ rows [r..rows-1] visible, monotonic shrinking box
+            lo = firstRow; hi = rows - 1;
+            while( lo < hi ) {
+                final int mid = ( lo + hi + 1 ) >>> 1;
+                if( isOutside(pmv, clipMv, 0, h - mid * ch) ) {
+                    hi = mid - 1;
+                } else {
+                    lo = mid;
+                }
+            }
+            final int lastRow = lo;
+            newFirst = firstRow * columns;
+            newCount = Math.min(itemCount, ( lastRow + 1 ) * columns) - newFirst;
+        }
+        final int oldFirst = firstIdx;
+        final int oldCount = window.size();
+        if( newFirst == oldFirst && newCount == oldCount ) {
+            return;
+        }
+        // recycle shapes out of the new range
+        for(int i=0; i<oldCount; ++i) {
+            final int idx = oldFirst + i;
+            if( idx < newFirst || idx >= newFirst + newCount ) {
+                recycle(window.get(i));
+            }
+        }
+        // keep shapes within both ranges, bind new ones
+        tmpWindow.clear();
+        final Vec2f pos = new Vec2f();
+        final GLProfile glp = gl.getGLProfile();
+        for(int i=0; i<newCount; ++i) {
+            final int idx = newFirst + i;
+            if( oldFirst <= idx && idx < oldFirst + oldCount ) {
+                tmpWindow.add(window.get(idx - oldFirst));
+            } else {
+                final Shape s;
+                if( pool.isEmpty() ) {
+                    s = dataSource.createShape(this);
+                    ++createdShapeCount;
+                } else {
+                    s = pool.remove(pool.size() - 1);
+                }
+                dataSource.bindShape(this, s, idx);
+                getCellPosition(idx, pos);
+                s.moveTo(pos.x(), pos.y(), 0f);
+                // validate and position the new cell only, keeping this group's layout
+                s.validate(gl, glp);
+                addShapeNoRelayout(s);
+                tmpWindow.add(s);
+            }
+        }
+        window.clear();
+        window.addAll(tmpWindow);
+        tmpWindow.clear();
+        firstIdx = newFirst;
+
+        // keep the pool O(visible)
+        while( pool.size() > Math.max(columns, newCount) ) {
+            pool.remove(pool.size() - 1).destroy(gl, renderer);
+        }
+    }
+
+    @Override
+    protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
+        window.clear();
+        destroyPool(gl, renderer);
+        super.clearImpl0(gl, renderer);
+    }
+
+    @Override
+    protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) {
+        window.clear();
+        destroyPool(gl, renderer);
+        super.destroyImpl0(gl, renderer);
+    }
+
+    private void destroyPool(final GL2ES2 gl, final RegionRenderer renderer) {
+        for(int i=0; i<pool.size(); ++i) {
+            pool.get(i).destroy(gl, renderer);
+        }
+        pool.clear();
+    }
+
+    @Override
+    public String getSubString() {
+        return super.getSubString()+", virtual[items "+itemCount+", cols "+columns+", cell "+cellSize+
+               ", visible["+firstIdx+" + "+window.size()+"], pool "+pool.size()+", created "+createdShapeCount+"]";
+    }
+
+    private final AABBox tempB00 = new AABBox(); // OK, synchronized
+    private final Cube tempC00 = new Cube(); // OK, synchronized
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.ui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.jogamp.common.util.IntObjectHashMap;
+import com.jogamp.graph.ui.Container;
+import com.jogamp.graph.ui.Scene;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.Shape.Visitor1;
+
+/**
+ * Index of all {@link Shape}s of a {@link Container} tree by {@link Shape#getID()} and {@link Shape#getName()}
+ * as well as a lazily flattened depth-first array of the tree, maintained by {@link Scene}.
+ * <p>
+ * The flattened array follows the {@link Container#getShapes()} order, which only changes by adding, removing or replacing shapes,
+ * while z-order changes only affect the sorted copies used for rendering.
+ * </p>
+ * <p>
+ * Lookups are O(1). If multiple {@link Shape}s share the same ID or name,
+ * as well as for the default ID {@code -1} and name {@code noname},
+ * lookups fall back to the depth-first {@link TreeTool} traversal to preserve its first-match semantics.
+ * </p>
+ * <p>
+ * All methods are thread safe.
+ * </p>
+ */
+public final class ShapeIndex {
+    private static final String NO_NAME = "noname";
+
+    private final Container root;
+    /** ID -> Shape or ArrayList&lt;Shape&gt; if ambiguous */
+    private final IntObjectHashMap byID = new IntObjectHashMap();
+    /** name -> Shape or ArrayList&lt;Shape&gt; if ambiguous */
+    private final HashMap<String, Object> byName = new HashMap<String, Object>();
+    private int shapeCount = 0;
+    private Shape[] flat = new Shape[0];
+    private boolean flatDirty = true;
+
+    public ShapeIndex(final Container root) {
+        this.root = root;
+    }
+
+    /** Returns the number of indexed {@link Shape}s. */
+    public synchronized int getShapeCount() { return shapeCount; }
+
+    /** Adds the given {@link Shape} and its sub-tree. */
+    public synchronized void addTree(final Shape s) {
+        add(s);
+        if( s instanceof Container ) {
+            TreeTool.forAll((Container)s, (final Shape c) -> { add(c); return false; });
+        }
+        flatDirty = true;
+    }
+
+    /** Removes the given {@link Shape} and its sub-tree. */
+    public synchronized void removeTree(final Shape s) {
+        remove(s);
+        if( s instanceof Container ) {
+            TreeTool.forAll((Container)s, (final Shape c) -> { remove(c); return false; });
+        }
+        flatDirty = true;
+    }
+
+    /** Updates the index of the given {@link Shape} after its ID changed from {@code oldID}. */
+    public synchronized void updateID(final Shape s, final int oldID) {
+        if( oldID != s.getID() ) {
+            removeID(oldID, s);
+            addID(s.getID(), s);
+        }
+    }
+
+    /** Updates the index of the given {@link Shape} after its name changed from {@code oldName}. */
+    public synchronized void updateName(final Shape s, final String oldName) {
+        if( !oldName.equals(s.getName()) ) {
+            removeName(oldName, s);
+            addName(s.getName(), s);
+        }
+    }
+
+    /** Returns true if the given ID is indexed, i.e. not the default ID {@code -1}. */
+    public static boolean isIndexedID(final int id) { return -1 != id; }
+
+    /** Returns true if the given name is indexed, i.e. not the default name {@code noname}. */
+    public static boolean isIndexedName(final String name) { return !NO_NAME.equals(name); }
+
+    /** Returns the {@link Shape} with given ID or {@code null}, see {@link Container#getShapeByID(int)}. */
+    public Shape getShapeByID(final int id) {
+        if( !isIndexedID(id) ) {
+            return TreeTool.getShapeByID(root, id);
+        }
+        final Object o;
+        synchronized( this ) {
+            o = byID.get(id);
+        }
+        if( isAmbiguous(o) ) {
+            return TreeTool.getShapeByID(root, id);
+        }
+        return (Shape)o;
+    }
+
+    /** Returns the {@link Shape} with given name or {@code null}, see {@link Container#getShapeByName(String)}. */
+    public Shape getShapeByName(final String name) {
+        if( !isIndexedName(name) ) {
+            return TreeTool.getShapeByName(root, name);
+        }
+        final Object o;
+        synchronized( this ) {
+            o = byName.get(name);
+        }
+        if( isAmbiguous(o) ) {
+            return TreeTool.getShapeByName(root, name);
+        }
+        return (Shape)o;
+    }
+
+    /** Returns true if the given mapped value holds multiple {@link Shape}s. */
+    private static boolean isAmbiguous(final Object o) {
+        return null != o && !( o instanceof Shape );
+    }
+
+    /**
+     * Applies {@link Visitor1#visit(Shape)} on all {@link Shape}s of the flattened tree in depth-first order,
+     * i.e. same order as {@link TreeTool#forAll(Container, Visitor1)}, stop if it returns true.
+     * <p>
+     * Iterates over a snapshot array, rebuilt after structural changes only.
+     * </p>
+     * @return true if {@link Visitor1#visit(Shape)} returned true, otherwise false
+     */
+    public boolean forAll(final Visitor1 v) {
+        final Shape[] shapes = getFlat();
+        for(int i=0; i<shapes.length; ++i) {
+            if( v.visit(shapes[i]) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized Shape[] getFlat() {
+        if( flatDirty ) {
+            final ArrayList<Shape> l = new ArrayList<Shape>(shapeCount);
+            TreeTool.forAll(root, (final Shape s) -> { l.add(s); return false; });
+            flat = l.toArray(new Shape[l.size()]);
+            flatDirty = false;
+        }
+        return flat;
+    }
+
+    private void add(final Shape s) {
+        addID(s.getID(), s);
+        addName(s.getName(), s);
+        ++shapeCount;
+    }
+    private void remove(final Shape s) {
+        removeID(s.getID(), s);
+        removeName(s.getName(), s);
+        --shapeCount;
+    }
+
+    private void addID(final int id, final Shape s) {
+        if( isIndexedID(id) ) {
+            byID.put(id, add(byID.get(id), s));
+        }
+    }
+    private void removeID(final int id, final Shape s) {
+        if( isIndexedID(id) ) {
+            final Object o = remove(byID.get(id), s);
+            if( null == o ) {
+                byID.remove(id);
+            } else {
+                byID.put(id, o);
+            }
+        }
+    }
+    private void addName(final String name, final Shape s) {
+        if( isIndexedName(name) ) {
+            byName.put(name, add(byName.get(name), s));
+        }
+    }
+    private void removeName(final String name, final Shape s) {
+        if( isIndexedName(name) ) {
+            final Object o = remove(byName.get(name), s);
+            if( null == o ) {
+                byName.remove(name);
+            } else {
+                byName.put(name, o);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object add(final Object o, final Shape s) {
+        if( null == o || o == s ) {
+            return s;
+        }
+        final ArrayList<Shape> l;
+        if( o instanceof Shape ) {
+            l = new ArrayList<Shape>(2);
+            l.add((Shape)o);
+        } else {
+            l = (ArrayList<Shape>)o;
+            if( l.contains(s) ) {
+                return l;
+            }
+        }
+        l.add(s);
+        return l;
+    }
+    @SuppressWarnings("unchecked")
+    private static Object remove(final Object o, final Shape s) {
+        if( null == o || o == s ) {
+            return null;
+        }
+        if( o instanceof Shape ) {
+            return o; // n/a
+        }
+        final ArrayList<Shape> l = (ArrayList<Shape>)o;
+        l.remove(s);
+        return 1 == l.size() ? l.get(0) : l;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ShapeIndex[shapes "+shapeCount+", ids "+byID.size()+", names "+byName.size()+", flat "+(flatDirty?"dirty":String.valueOf(flat.length))+"]";
+    }
+}
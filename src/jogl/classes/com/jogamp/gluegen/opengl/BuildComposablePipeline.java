@@ -56,8 +56,11 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public class BuildComposablePipeline {
 
@@ -85,6 +88,10 @@ public class BuildComposablePipeline {
      * <p>Default: false</p>
      */
     public static final int GEN_GL_IDENTITY_BY_ASSIGNABLE_CLASS = 1 << 4;
+    /** <p>Default: true</p>. */
+    public static final int GEN_PROFILE = 1 << 5;
+    /** <p>Default: true</p>. */
+    public static final int GEN_STATE_FILTER = 1 << 6;
 
     private static final HashMap<String, String> addedGLHooks = new HashMap<String, String>();
     private static final String[] addedGLHookMethodNames = new String[] {
@@ -158,7 +165,7 @@ public class BuildComposablePipeline {
             outputName = null; // TBD ..
             classPrologOpt = null;
             classDownstream = classToComposeAround;
-            mode = GEN_DEBUG | GEN_TRACE ;
+            mode = GEN_DEBUG | GEN_TRACE | GEN_PROFILE | GEN_STATE_FILTER ;
         }
 
         final BuildComposablePipeline composer =
@@ -241,6 +248,12 @@ public class BuildComposablePipeline {
         if (0 != (mode & GEN_TRACE)) {
             (new TracePipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
         }
+        if (0 != (mode & GEN_PROFILE)) {
+            (new ProfilePipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
+        }
+        if (0 != (mode & GEN_STATE_FILTER)) {
+            (new StateFilterPipeline(outputDir, outputPackage, classToComposeAround, classDownstream)).emit(publicMethodsPlainSorted.iterator());
+        }
         if (0 != (mode & GEN_CUSTOM)) {
             (new CustomPipeline(mode, outputDir, outputPackage, outputName, classToComposeAround, classPrologOpt, classDownstream)).emit(publicMethodsPlainSorted.iterator());
         }
@@ -393,7 +406,7 @@ public class BuildComposablePipeline {
 
             final HashSet<Class<?>> importClazzList = new HashSet<Class<?>>();
             importClazzList.add(baseInterfaceClass);
-            final String[] ifNames = new String[] { baseInterfaceClass.getName() };
+            final String[] ifNames = getInterfaceNames();
 
             final List<Class<?>> baseInterfaces = Arrays.asList(baseInterfaceClass.getInterfaces());
             importClazzList.addAll(baseInterfaces);
@@ -457,6 +470,11 @@ public class BuildComposablePipeline {
             System.out.println("wrote to file: " + file);
         }
 
+        /** Get the names of the interfaces implemented by this pipeline class. */
+        protected String[] getInterfaceNames() {
+            return new String[] { baseInterfaceClass.getName() };
+        }
+
         /** Get the name of the object through which API calls should be routed. */
         protected String getDownstreamObjectName() {
             return "downstream" + downstreamName;
@@ -1179,6 +1197,311 @@ public class BuildComposablePipeline {
         }
     } // end class TracePipeline
 
+    //-------------------------------------------------------
+    protected class ProfilePipeline extends PipelineEmitter {
+
+        String className;
+        /** Method name to counter index, shared by overloaded methods. */
+        private final Map<String, Integer> methodIndices = new LinkedHashMap<String, Integer>();
+
+        ProfilePipeline(final String outputDir, final String outputPackage, final Class<?> baseInterfaceClass, final Class<?> downstreamClass) {
+            super(outputDir, outputPackage, baseInterfaceClass, null, downstreamClass);
+            className = "Profile" + getBaseInterfaceName();
+        }
+
+        @Override
+        protected String getOutputName() {
+            return className;
+        }
+
+        @Override
+        protected String[] getInterfaceNames() {
+            return new String[] { baseInterfaceClass.getName(), "GLCallProfiler.Source" };
+        }
+
+        @Override
+        protected int getMode() {
+            return 0;
+        }
+
+        @Override
+        protected boolean emptyMethodAllowed() {
+            return false;
+        }
+
+        @Override
+        protected boolean emptyDownstreamAllowed() {
+            return false;
+        }
+
+        @Override
+        protected void preMethodEmissionHook(final PrintWriter output) {
+            super.preMethodEmissionHook(output);
+        }
+
+        @Override
+        protected void constructorHook(final PrintWriter output) {
+            output.print("  public " + getOutputName() + "(");
+            output.println(downstreamName + " " + getDownstreamObjectName() + ")");
+            output.println("  {");
+            output.println("    if (" + getDownstreamObjectName() + " == null) {");
+            output.println("      throw new IllegalArgumentException(\"null " + getDownstreamObjectName() + "\");");
+            output.println("    }");
+            output.print("    this." + getDownstreamObjectName());
+            output.println(" = " + getDownstreamObjectName() + ";");
+            output.println("    this.profiler = new GLCallProfiler(METHOD_NAMES);");
+            output.println("  }");
+            output.println();
+        }
+
+        @Override
+        protected void postMethodEmissionHook(final PrintWriter output) {
+            super.postMethodEmissionHook(output);
+            output.println("  @Override");
+            output.println("  public final GLCallProfiler getCallProfiler() {");
+            output.println("    return profiler;");
+            output.println("  }");
+            output.println("  private final GLCallProfiler profiler;");
+            output.println("  private static final String[] METHOD_NAMES = new String[] {");
+            for (final String name : methodIndices.keySet()) {
+                output.println("    \"" + name + "\",");
+            }
+            output.println("  };");
+        }
+
+        @Override
+        protected void emitClassDocComment(final PrintWriter output) {
+            output.println("/**");
+            output.println(" * <p>");
+            output.println(" * Composable pipeline which wraps an underlying {@link GL} implementation,");
+            output.println(" * recording the number of calls, the time spent and the uploaded bytes");
+            output.println(" * of each OpenGL method within its {@link GLCallProfiler}.");
+            output.println(" * </p>");
+            output.println(" * <p>");
+            output.println(" * Sample code which installs this pipeline:");
+            output.println(" * <pre>");
+            output.println(" *   gl = drawable.setGL(new ProfileGL(drawable.getGL()));");
+            output.println(" *   ...");
+            output.println(" *   GLCallProfiler.Snapshot s = GLCallProfiler.get(gl).snapshot();");
+            output.println(" * </pre>");
+            output.println(" * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}");
+            output.println(" * </p>");
+            output.println(" */");
+        }
+
+        @Override
+        protected boolean hasPreDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic();
+        }
+
+        @Override
+        protected void preDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            output.println("    final long _t0 = System.nanoTime();");
+        }
+
+        @Override
+        protected boolean hasPostDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic();
+        }
+
+        @Override
+        protected void postDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            final Method m = pm.getWrappedMethod();
+            final String name = m.getName();
+            Integer idx = methodIndices.get(name);
+            if (null == idx) {
+                idx = Integer.valueOf(methodIndices.size());
+                methodIndices.put(name, idx);
+            }
+            final String bytes = getUploadBytesExpr(m);
+            if (null != bytes) {
+                output.println("    profiler.record(" + idx + ", _t0, " + bytes + ");");
+            } else {
+                output.println("    profiler.record(" + idx + ", _t0);");
+            }
+        }
+
+        /**
+         * Returns the expression of client bytes transferred by a buffer or texture upload method, otherwise null.
+         * Variants sourcing data from a bound buffer object via an offset are not considered.
+         */
+        private String getUploadBytesExpr(final Method m) {
+            final String name = m.getName();
+            final Class<?>[] params = m.getParameterTypes();
+            final int last = params.length - 1;
+            if (name.startsWith("glBufferData") || name.startsWith("glNamedBufferData") ||
+                name.startsWith("glBufferStorage") || name.startsWith("glNamedBufferStorage")) {
+                // (target|buffer, long size, Buffer data, ..)
+                if (3 <= params.length && params[1].equals(long.class) && params[2].equals(Buffer.class)) {
+                    return "( null != arg2 ? arg1 : 0 )";
+                }
+            } else if (name.startsWith("glBufferSubData") || name.startsWith("glNamedBufferSubData")) {
+                // (target|buffer, long offset, long size, Buffer data)
+                if (4 == params.length && params[2].equals(long.class) && params[3].equals(Buffer.class)) {
+                    return "( null != arg3 ? arg2 : 0 )";
+                }
+            } else if (texUploadPattern.matcher(name).matches() && 0 < last && params[last].equals(Buffer.class)) {
+                if (name.startsWith("glCompressed")) {
+                    // (.., int imageSize, Buffer data)
+                    if (params[last-1].equals(int.class)) {
+                        return "( null != arg" + last + " ? arg" + (last-1) + " : 0 )";
+                    }
+                } else {
+                    return "GLCallProfiler.getBufferBytes(arg" + last + ")";
+                }
+            }
+            return null;
+        }
+    } // end class ProfilePipeline
+
+    //-------------------------------------------------------
+    protected class StateFilterPipeline extends PipelineEmitter {
+
+        String className;
+        final Class<?> filterClass;
+
+        StateFilterPipeline(final String outputDir, final String outputPackage, final Class<?> baseInterfaceClass, final Class<?> downstreamClass) {
+            super(outputDir, outputPackage, baseInterfaceClass, null, downstreamClass);
+            className = "StateFilter" + getBaseInterfaceName();
+            filterClass = BuildComposablePipeline.getClass("com.jogamp.opengl.GLStateFilter");
+        }
+
+        @Override
+        protected String getOutputName() {
+            return className;
+        }
+
+        @Override
+        protected String[] getInterfaceNames() {
+            return new String[] { baseInterfaceClass.getName(), "GLStateFilter.Source" };
+        }
+
+        @Override
+        protected int getMode() {
+            return 0;
+        }
+
+        @Override
+        protected boolean emptyMethodAllowed() {
+            return false;
+        }
+
+        @Override
+        protected boolean emptyDownstreamAllowed() {
+            return false;
+        }
+
+        @Override
+        protected void preMethodEmissionHook(final PrintWriter output) {
+            super.preMethodEmissionHook(output);
+        }
+
+        @Override
+        protected void constructorHook(final PrintWriter output) {
+            output.print("  public " + getOutputName() + "(");
+            output.println(downstreamName + " " + getDownstreamObjectName() + ")");
+            output.println("  {");
+            output.println("    if (" + getDownstreamObjectName() + " == null) {");
+            output.println("      throw new IllegalArgumentException(\"null " + getDownstreamObjectName() + "\");");
+            output.println("    }");
+            output.print("    this." + getDownstreamObjectName());
+            output.println(" = " + getDownstreamObjectName() + ";");
+            output.println("    this.filter = new GLStateFilter();");
+            output.println("  }");
+            output.println();
+        }
+
+        @Override
+        protected void postMethodEmissionHook(final PrintWriter output) {
+            super.postMethodEmissionHook(output);
+            output.println("  @Override");
+            output.println("  public final GLStateFilter getStateFilter() {");
+            output.println("    return filter;");
+            output.println("  }");
+            output.println("  private final GLStateFilter filter;");
+        }
+
+        @Override
+        protected void emitClassDocComment(final PrintWriter output) {
+            output.println("/**");
+            output.println(" * <p>");
+            output.println(" * Composable pipeline which wraps an underlying {@link GL} implementation,");
+            output.println(" * eliding OpenGL method calls which would not change the current state");
+            output.println(" * as shadowed by its {@link GLStateFilter}.");
+            output.println(" * </p>");
+            output.println(" * <p>");
+            output.println(" * Sample code which installs this pipeline:");
+            output.println(" * <pre>");
+            output.println(" *   gl = drawable.setGL(new StateFilterGL(drawable.getGL()));");
+            output.println(" * </pre>");
+            output.println(" * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}");
+            output.println(" * </p>");
+            output.println(" */");
+        }
+
+        /** Returns the {@link GLStateFilter} method matching the given GL method and having the given return type, otherwise null. */
+        private Method getFilterMethod(final Method m, final Class<?> retType) {
+            final Method f = getMethod(filterClass, m);
+            if (null != f && f.getReturnType().equals(retType)) {
+                return f;
+            }
+            return null;
+        }
+
+        @Override
+        protected boolean hasPreDownstreamCallHook(final PlainMethod pm) {
+            final Method m = pm.getWrappedMethod();
+            return !pm.isSynthetic() && m.getReturnType().equals(Void.TYPE) &&
+                   null != getFilterMethod(m, Boolean.TYPE);
+        }
+
+        @Override
+        protected void preDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            final Method m = pm.getWrappedMethod();
+            output.println("    if( filter." + m.getName() + "(" + getArgListAsString(m, false, true) + ") ) {");
+            output.println("      return;");
+            output.println("    }");
+        }
+
+        @Override
+        protected boolean hasPostDownstreamCallHook(final PlainMethod pm) {
+            return !pm.isSynthetic() && null != getInvalidationStatement(pm.getWrappedMethod());
+        }
+
+        @Override
+        protected void postDownstreamCallHook(final PrintWriter output, final PlainMethod pm) {
+            output.println("    " + getInvalidationStatement(pm.getWrappedMethod()));
+        }
+
+        /**
+         * Returns the statement updating or invalidating the shadow state after the given passed method, otherwise null.
+         * Besides {@link GLStateFilter} methods matching the GL method,
+         * method families modifying shadowed state in a non tracked manner invalidate the affected state.
+         */
+        private String getInvalidationStatement(final Method m) {
+            final String name = m.getName();
+            if (null != getFilterMethod(m, Void.TYPE)) {
+                return "filter." + name + "(" + getArgListAsString(m, false, true) + ");";
+            } else if (uniformVectorPattern.matcher(name).matches()) {
+                return "filter.invalidateUniforms(arg0, arg1);";
+            } else if (name.startsWith("glProgramUniform") && 0 < m.getParameterTypes().length) {
+                return "filter.invalidateProgramUniforms(arg0);";
+            } else if (indexedBlendPattern.matcher(name).matches()) {
+                return "filter.invalidateBlend();";
+            } else if (indexedCapPattern.matcher(name).matches()) {
+                return "filter.invalidateCapability(arg0);";
+            } else if (name.equals("glPopAttrib") || name.equals("glPopClientAttrib") || name.startsWith("glCallList")) {
+                return "filter.invalidate();";
+            }
+            return null;
+        }
+    } // end class StateFilterPipeline
+
+    private static final Pattern uniformVectorPattern = Pattern.compile("glUniform[1-4](f|i|ui|d)v(EXT|ARB)?");
+    private static final Pattern indexedBlendPattern = Pattern.compile("glBlend(Func|Equation)(Separate)?i(EXT|ARB|OES)?");
+    private static final Pattern indexedCapPattern = Pattern.compile("gl(Enable|Disable)i(EXT|OES|NV)?");
+    private static final Pattern texUploadPattern = Pattern.compile("gl(Compressed)?Tex(ture)?(Sub)?Image[123]D(EXT|ARB|OES)?");
+
     public static final void printFunctionCallString(final PrintWriter output, final Method m) {
         final Class<?>[] params = m.getParameterTypes();
         output.print("    \"" + m.getName() + "(\"");
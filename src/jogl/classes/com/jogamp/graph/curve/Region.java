@@ -343,6 +343,9 @@ public abstract class Region {
      */
     public final int getRenderModes() { return renderModes; }
 
+    /** Returns the number of added vertices since last clear. */
+    public final int getVertexCount() { return numVertices; }
+
     protected final void clearImpl() {
         dirty = DIRTY_SHAPE | DIRTY_STATE;
         numVertices = 0;
@@ -29,6 +29,7 @@ package com.jogamp.graph.curve.opengl;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLArrayData;
 import com.jogamp.opengl.util.GLArrayDataClient;
 import com.jogamp.opengl.util.GLArrayDataEditable;
@@ -46,6 +47,7 @@ import com.jogamp.opengl.util.glsl.ShaderProgram;
 import com.jogamp.opengl.util.texture.TextureSequence;
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.font.Font;
+import com.jogamp.math.Matrix4f;
 import com.jogamp.math.Vec3f;
 import com.jogamp.math.Vec4f;
 
@@ -564,6 +566,173 @@ public abstract class GLRegion extends Region {
         lastRenderModes = curRenderModes;
     }
 
+    /**
+     * Per instance data for {@link GLRegion#drawInstanced(GL2ES3, RegionRenderer, InstanceBuffer)},
+     * i.e. the modelview matrix and color of each instance.
+     * <p>
+     * The instance modelview matrix is applied before the {@link RegionRenderer}'s modelview matrix,
+     * the instance color replaces the {@link Region#COLORCHANNEL_RENDERING_BIT color channel}
+     * and is modulated by {@link RegionRenderer#setColorStatic(Vec4f)}.
+     * </p>
+     * <p>
+     * Usage per frame: {@link #clear(GL2ES2)}, {@link #add(Matrix4f, Vec4f)} for each instance
+     * and {@link GLRegion#drawInstanced(GL2ES3, RegionRenderer, InstanceBuffer)} for each {@link GLRegion} using it.
+     * The data is uploaded once at the first draw call after mutation.
+     * </p>
+     */
+    public static final class InstanceBuffer {
+        /** Number of float components per instance, i.e. 16 for the modelview matrix and 4 for the color. */
+        public static final int COMPS_PER_INSTANCE = 16 + 4;
+
+        private final GLArrayDataServer ileave;
+        private final GLArrayDataWrapper[] attribs = new GLArrayDataWrapper[5];
+        private int lastProgram = 0;
+        private int count = 0;
+
+        /**
+         * @param initialInstanceCount initial number of instances, buffer grows on demand
+         */
+        public InstanceBuffer(final int initialInstanceCount) {
+            ileave = GLArrayDataServer.createGLSLInterleaved(COMPS_PER_INSTANCE, GL.GL_FLOAT, false /* normalized */,
+                                                             Math.max(1, initialInstanceCount), GL2ES2.GL_STREAM_DRAW);
+            ileave.setGrowthFactor(growthFactor);
+            attribs[0] = ileave.addGLSLSubArray(AttributeNames.INSTANCE_MV0_ATTR_NAME, 4, GL.GL_ARRAY_BUFFER);
+            attribs[1] = ileave.addGLSLSubArray(AttributeNames.INSTANCE_MV1_ATTR_NAME, 4, GL.GL_ARRAY_BUFFER);
+            attribs[2] = ileave.addGLSLSubArray(AttributeNames.INSTANCE_MV2_ATTR_NAME, 4, GL.GL_ARRAY_BUFFER);
+            attribs[3] = ileave.addGLSLSubArray(AttributeNames.INSTANCE_MV3_ATTR_NAME, 4, GL.GL_ARRAY_BUFFER);
+            attribs[4] = ileave.addGLSLSubArray(AttributeNames.INSTANCE_COLOR_ATTR_NAME, 4, GL.GL_ARRAY_BUFFER);
+        }
+
+        /** Returns the number of added instances. */
+        public int getCount() { return count; }
+
+        /** Removes all instances, keeping the allocated buffer. */
+        public void clear(final GL2ES2 gl) {
+            ileave.clear(gl);
+            count = 0;
+        }
+
+        /**
+         * Removes all instances w/o a current GL context, keeping the allocated buffer.
+         * <p>
+         * Shall not be called while rendering, i.e. only outside of {@link GLRegion#drawInstanced(GL2ES3, RegionRenderer, InstanceBuffer)},
+         * which disables this buffer after rendering.
+         * </p>
+         */
+        public void clear() {
+            ileave.clear();
+            count = 0;
+        }
+
+        /**
+         * Adds one instance.
+         * @param mv the instance modelview matrix, applied before the {@link RegionRenderer}'s modelview matrix
+         * @param rgba the instance color
+         */
+        public void add(final Matrix4f mv, final Vec4f rgba) {
+            ileave.growIfNeeded(COMPS_PER_INSTANCE);
+            final FloatBuffer fb = (FloatBuffer)ileave.getBuffer();
+            mv.get(fb);
+            put4f(fb, rgba);
+            ++count;
+        }
+
+        /** Releases all resources. */
+        public void destroy(final GL2ES2 gl) {
+            ileave.destroy(gl);
+            for(int i=0; i<attribs.length; ++i) {
+                attribs[i].destroy(gl);
+            }
+            lastProgram = 0;
+            count = 0;
+        }
+
+        private void enable(final GL2ES3 gl, final RenderState rs, final boolean enable) {
+            if( enable ) {
+                final int program = rs.getShaderProgram().program();
+                final boolean updateLoc = program != lastProgram;
+                for(int i=0; i<attribs.length; ++i) {
+                    rs.updateAttributeLoc(gl, updateLoc, attribs[i], false);
+                }
+                lastProgram = program;
+                if( !ileave.sealed() ) {
+                    ileave.seal(gl, true); // upload and enable
+                } else {
+                    ileave.enableBuffer(gl, true);
+                }
+                for(int i=0; i<attribs.length; ++i) {
+                    final int loc = attribs[i].getLocation();
+                    if( 0 <= loc ) {
+                        gl.glVertexAttribDivisor(loc, 1);
+                    }
+                }
+            } else {
+                // attribute divisor is a vertex array state shared w/ other regions
+                for(int i=0; i<attribs.length; ++i) {
+                    final int loc = attribs[i].getLocation();
+                    if( 0 <= loc ) {
+                        gl.glVertexAttribDivisor(loc, 0);
+                    }
+                }
+                ileave.enableBuffer(gl, false);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "InstanceBuffer[count "+count+", "+ileave.fillStatsToString()+"]";
+        }
+    }
+
+    /**
+     * Returns true if this region's {@link #getRenderModes() render modes} allow
+     * {@link #drawInstanced(GL2ES3, RegionRenderer, InstanceBuffer) instanced rendering},
+     * i.e. neither {@link Region#COLORCHANNEL_RENDERING_BIT}, {@link Region#COLORTEXTURE_RENDERING_BIT}
+     * nor any of the two-pass {@link Region#AA_RENDERING_MASK} is set.
+     * <p>
+     * Instanced rendering is performed in a single pass, i.e. only implemented by single-pass regions.
+     * Since the region implementation is selected by the two-pass render modes at {@link #create(GLProfile, int, TextureSequence) creation},
+     * the render modes determine whether {@link #drawInstancedImpl(GL2ES3, RegionRenderer, int, InstanceBuffer)} is implemented.
+     * </p>
+     */
+    public final boolean isInstancingSupported() {
+        final int renderModes = getRenderModes();
+        return !Region.isTwoPass(renderModes) && !Region.hasColorChannel(renderModes) && !Region.hasColorTexture(renderModes);
+    }
+
+    /**
+     * Renders this region once for each instance of the given {@link InstanceBuffer} with a single draw call,
+     * i.e. sharing this region's vertex data across all instances.
+     * @param gl current {@link GL2ES3} object
+     * @param renderer the used {@link RegionRenderer}
+     * @param instances the {@link InstanceBuffer}
+     * @throws IllegalStateException if {@link #isInstancingSupported()} returns false
+     */
+    public final void drawInstanced(final GL2ES3 gl, final RegionRenderer renderer, final InstanceBuffer instances) throws IllegalStateException {
+        if( !isInstancingSupported() ) {
+            throw new IllegalStateException("Instancing not supported w/ renderModes "+Region.getRenderModeString(getRenderModes()));
+        }
+        final int curRenderModes = getRenderModes();
+        if( lastRenderModes != curRenderModes ) {
+            markShapeDirty();
+            markStateDirty();
+        }
+        if( isShapeDirty() ) {
+            updateImpl(gl, renderer, curRenderModes);
+        }
+        drawInstancedImpl(gl, renderer, curRenderModes, instances);
+        clearDirtyBits(DIRTY_SHAPE|DIRTY_STATE);
+        lastRenderModes = curRenderModes;
+    }
+
+    /**
+     * Enables or disables the given {@link InstanceBuffer} w/ the current {@link RenderState#getShaderProgram()},
+     * to be called by {@link #drawInstancedImpl(GL2ES3, RegionRenderer, int, InstanceBuffer)} implementations.
+     */
+    protected static final void enableInstanceBuffer(final GL2ES3 gl, final RenderState rs, final InstanceBuffer instances, final boolean enable) {
+        instances.enable(gl, rs, enable);
+    }
+
     private int lastRenderModes = 0;
     private int lastPass2Quality = -1;
     private int lastPass2SampleCount = -1;
@@ -577,4 +746,12 @@ public abstract class GLRegion extends Region {
     protected abstract void updateImpl(final GL2ES2 gl, final RegionRenderer renderer, final int curRenderModes);
 
     protected abstract void drawImpl(final GL2ES2 gl, final RegionRenderer renderer, final int curRenderModes);
+
+    /**
+     * Instanced rendering implementation, see {@link #drawInstanced(GL2ES3, RegionRenderer, InstanceBuffer)}.
+     * <p>
+     * Only called if {@link #isInstancingSupported()}, implementations not supporting instancing shall throw an {@link UnsupportedOperationException}.
+     * </p>
+     */
+    protected abstract void drawInstancedImpl(final GL2ES3 gl, final RegionRenderer renderer, final int curRenderModes, final InstanceBuffer instances);
 }
@@ -437,6 +437,7 @@ public final class RegionRenderer {
     private static final String GLSL_USE_COLOR_CHANNEL = "#define USE_COLOR_CHANNEL 1\n";
     private static final String GLSL_USE_COLOR_TEXTURE = "#define USE_COLOR_TEXTURE 1\n";
     private static final String GLSL_USE_FRUSTUM_CLIPPING = "#define USE_FRUSTUM_CLIPPING 1\n";
+    private static final String GLSL_USE_INSTANCING = "#define USE_INSTANCING 1\n";
     private static final String GLSL_DEF_SAMPLE_COUNT = "#define SAMPLE_COUNT ";
     private static final String GLSL_CONST_SAMPLE_COUNT = "const float sample_count = ";
     private static final String GLSL_MAIN_BEGIN = "void main (void)\n{\n";
@@ -545,13 +546,14 @@ public final class RegionRenderer {
         final boolean hasFrustumClipping; // pass1 or pass2
         final boolean hasColorChannel; // pass1 only
         final boolean hasColorTexture; // pass1 only
+        final boolean hasInstancing; // single pass only
         final String colorTexSeqID;
 
         final int hashValue;
 
         ShaderKey(final boolean isTwoPass, final boolean pass1, final ShaderModeSelector1 sms,
                   final boolean hasFrustumClipping, final boolean hasColorChannel,
-                  final boolean hasColorTexture, final TextureSequence colorTexSeq, final int colorTexSeqHash)
+                  final boolean hasColorTexture, final boolean hasInstancing, final TextureSequence colorTexSeq, final int colorTexSeqHash)
         {
             this.isTwoPass = isTwoPass;
             this.pass1 = pass1;
@@ -559,12 +561,13 @@ public final class RegionRenderer {
             this.hasFrustumClipping = hasFrustumClipping;
             this.hasColorChannel = hasColorChannel;
             this.hasColorTexture = hasColorTexture;
+            this.hasInstancing = hasInstancing;
             if( hasColorTexture ) {
                 this.colorTexSeqID = colorTexSeq.getTextureFragmentShaderHashID();
             } else {
                 this.colorTexSeqID = "";
             }
-            hashValue = getShaderKey1(isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms, colorTexSeqHash);
+            hashValue = getShaderKey1(isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms, colorTexSeqHash);
         }
         @Override
         public final int hashCode() { return hashValue; }
@@ -583,11 +586,12 @@ public final class RegionRenderer {
                    hasFrustumClipping == o.hasFrustumClipping &&
                    hasColorChannel == o.hasColorChannel &&
                    hasColorTexture == o.hasColorTexture &&
+                   hasInstancing == o.hasInstancing &&
                    colorTexSeqID.equals(o.colorTexSeqID);
         }
         @Override
         public String toString() {
-            return shaderHashToString(hashValue, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms);
+            return shaderHashToString(hashValue, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms);
         }
     }
     private static final boolean UseShaderPrograms0 = true;
@@ -596,20 +600,20 @@ public final class RegionRenderer {
 
     private static String shaderHashToString(final int hashCode, final boolean isTwoPass, final boolean pass1,
                                    final boolean hasFrustumClipping, final boolean hasColorChannel, final boolean hasColorTexture,
-                                   final ShaderModeSelector1 sms) {
+                                   final boolean hasInstancing, final ShaderModeSelector1 sms) {
             return "ShaderHash[hash 0x"+Integer.toHexString(hashCode)+", is2Pass "+isTwoPass+", pass1 "+pass1+
-                   ", has[clip "+hasFrustumClipping+", colChan "+hasColorChannel+", colTex "+hasColorTexture+"], "+sms+"]";
+                   ", has[clip "+hasFrustumClipping+", colChan "+hasColorChannel+", colTex "+hasColorTexture+", instancing "+hasInstancing+"], "+sms+"]";
     }
     private static String shaderKeyToString(final long key, final boolean isTwoPass, final boolean pass1,
                                    final boolean hasFrustumClipping, final boolean hasColorChannel, final boolean hasColorTexture,
-                                   final ShaderModeSelector1 sms) {
+                                   final boolean hasInstancing, final ShaderModeSelector1 sms) {
             return "ShaderKey[key 0x"+Long.toHexString(key)+", is2Pass "+isTwoPass+", pass1 "+pass1+
-                   ", has[clip "+hasFrustumClipping+", colChan "+hasColorChannel+", colTex "+hasColorTexture+"], "+sms+"]";
+                   ", has[clip "+hasFrustumClipping+", colChan "+hasColorChannel+", colTex "+hasColorTexture+", instancing "+hasInstancing+"], "+sms+"]";
     }
 
     private static long getShaderKey0(final boolean isTwoPass, final boolean pass1,
                                       final boolean hasFrustumClipping, final boolean hasColorChannel, final boolean hasColorTexture,
-                                      final ShaderModeSelector1 sms, final long colorTexSeqHash) {
+                                      final boolean hasInstancing, final ShaderModeSelector1 sms, final long colorTexSeqHash) {
         //  # |  s |
         //  0 |  1 | isTwoPass
         //  1 |  1 | pass1
@@ -617,6 +621,7 @@ public final class RegionRenderer {
         //  7 |  1 | hasFrustumClipping
         //  8 |  1 | hasColorChannel
         //  9 |  1 | hasColorTexture
+        // 10 |  1 | hasInstancing
         // 32 | 32 | colorTexSeqHash
         long hash =  isTwoPass ? 1L : 0L;
         hash |= ( pass1 ? 1L : 0L )               << 1;
@@ -624,12 +629,13 @@ public final class RegionRenderer {
         hash |= ( hasFrustumClipping ? 1L : 0L )  << 7;
         hash |= ( hasColorChannel ? 1L : 0L )     << 8;
         hash |= ( hasColorTexture ? 1L : 0L )     << 9;
+        hash |= ( hasInstancing ? 1L : 0L )       << 10;
         hash |= ( colorTexSeqHash & 0xFFFFFFL )   << 32;
         return hash;
     }
     private static int getShaderKey1(final boolean isTwoPass, final boolean pass1,
                                      final boolean hasFrustumClipping, final boolean hasColorChannel, final boolean hasColorTexture,
-                                     final ShaderModeSelector1 sms, final int colorTexSeqHash) {
+                                     final boolean hasInstancing, final ShaderModeSelector1 sms, final int colorTexSeqHash) {
         // 31 * x == (x << 5) - x
         int hash = 31 * ( isTwoPass ? 1 : 0 );
         hash = ((hash << 5) - hash) + ( pass1 ? 1 : 0 ) ;
@@ -639,6 +645,7 @@ public final class RegionRenderer {
         hash = ((hash << 5) - hash) + ( hasFrustumClipping ? 1 : 0 );
         hash = ((hash << 5) - hash) + ( hasColorChannel ? 1 : 0 );
         hash = ((hash << 5) - hash) + ( hasColorTexture ? 1 : 0 );
+        hash = ((hash << 5) - hash) + ( hasInstancing ? 1 : 0 );
         hash = ((hash << 5) - hash) + colorTexSeqHash;
         return hash;
     }
@@ -660,7 +667,31 @@ public final class RegionRenderer {
      * @see RenderState#getShaderProgram()
      */
     public final boolean useShaderProgram(final GL2ES2 gl, final int renderModes, final boolean pass1, final TextureSequence colorTexSeq) {
+        return useShaderProgram(gl, renderModes, pass1, colorTexSeq, false);
+    }
+
+    /**
+     * Generate, selects and caches the desired Curve-Graph {@link ShaderProgram} according to the given parameters,
+     * optionally supporting instanced rendering.
+     * <p>
+     * Instanced rendering is only supported for single pass {@code renderModes},
+     * using the per instance modelview matrix and color attributes, see {@link GLRegion#drawInstanced(com.jogamp.opengl.GL2ES3, RegionRenderer, GLRegion.InstanceBuffer)}.
+     * </p>
+     *
+     * @param gl
+     * @param renderModes
+     * @param pass1
+     * @param colorTexSeq
+     * @param instancing pass {@code true} to select instanced rendering, only valid for single pass {@code renderModes}
+     * @return true if a new shader program is being used and hence external uniform-data and -location,
+     *         as well as the attribute-location must be updated, otherwise false.
+     * @see #useShaderProgram(GL2ES2, int, boolean, TextureSequence)
+     */
+    public final boolean useShaderProgram(final GL2ES2 gl, final int renderModes, final boolean pass1, final TextureSequence colorTexSeq, final boolean instancing) {
         final boolean isTwoPass = Region.isTwoPass( renderModes );
+        if( instancing && isTwoPass ) {
+            throw new IllegalArgumentException("Instancing not supported for two-pass renderModes "+Region.getRenderModeString(renderModes));
+        }
         final ShaderModeSelector1 sms = pass1 ? ShaderModeSelector1.selectPass1(renderModes) :
                                         ShaderModeSelector1.selectPass2(renderModes, getAAQuality(), getSampleCount());
         final boolean hasFrustumClipping = ( null != getClipFrustum() ) && ( ( !isTwoPass && pass1 ) || ( isTwoPass && !pass1 ) );
@@ -678,23 +709,23 @@ public final class RegionRenderer {
 
         if( UseShaderPrograms0 ) {
             return useShaderProgram0(gl, renderModes, isTwoPass, pass1, sms, hasFrustumClipping, hasColorChannel,
-                                     hasColorTexture, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
+                                     hasColorTexture, instancing, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
         } else {
             return useShaderProgram1(gl, renderModes, isTwoPass, pass1, sms, hasFrustumClipping, hasColorChannel,
-                                     hasColorTexture, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
+                                     hasColorTexture, instancing, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
         }
     }
     private final boolean useShaderProgram0(final GL2ES2 gl, final int renderModes,
                                             final boolean isTwoPass, final boolean pass1, final ShaderModeSelector1 sms,
                                             final boolean hasFrustumClipping, final boolean hasColorChannel,
-                                            final boolean hasColorTexture, final TextureSequence colorTexSeq,
+                                            final boolean hasColorTexture, final boolean hasInstancing, final TextureSequence colorTexSeq,
                                             final String colTexLookupFuncName, final int colorTexSeqHash)
     {
-        final long shaderKey = getShaderKey0(isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms, colorTexSeqHash);
+        final long shaderKey = getShaderKey0(isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms, colorTexSeqHash);
         /**
         if(DEBUG) {
             System.err.println("XXX "+Region.getRenderModeString(renderModes, getAAQuality(), getSampleCount(), 0)+", "+
-                shaderKeyToString(shaderHashCode, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms));
+                shaderKeyToString(shaderHashCode, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms));
         } */
 
         ShaderProgram sp = (ShaderProgram) shaderPrograms0.get( shaderKey );
@@ -704,23 +735,23 @@ public final class RegionRenderer {
                 if( spChanged ) {
                     System.err.printf("RegionRenderer.useShaderProgram0.X1: GOT renderModes %s, %s -> sp %d / %d (changed)%n",
                             Region.getRenderModeString(renderModes),
-                            shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms), sp.program(), sp.id());
+                            shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms), sp.program(), sp.id());
                 } else if( DEBUG_ALL_EVENT ) {
                     System.err.printf("RegionRenderer.useShaderProgram0.X1: GOT renderModes %s, %s -> sp %d / %d (keep)%n",
                             Region.getRenderModeString(renderModes),
-                            shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms), sp.program(), sp.id());
+                            shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms), sp.program(), sp.id());
                 }
             }
             return spChanged;
         }
         sp = createShaderProgram(gl, renderModes, isTwoPass, pass1, sms, hasFrustumClipping, hasColorChannel,
-                                 hasColorTexture, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
+                                 hasColorTexture, hasInstancing, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
         rs.setShaderProgram(gl, sp);
 
         if( DEBUG_SHADER_MAP ) {
             System.err.printf("RegionRenderer.useShaderProgram0.X2: NEW renderModes %s, %s -> sp %d / %d (new)%n",
                     Region.getRenderModeString(renderModes),
-                    shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms), sp.program(), sp.id());
+                    shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms), sp.program(), sp.id());
             // sp.dumpSource(System.err);
         }
         final ShaderProgram spOld = (ShaderProgram) shaderPrograms0.put(shaderKey, sp);
@@ -729,7 +760,7 @@ public final class RegionRenderer {
             final String msg = String.format((Locale)null,
                     "RegionRenderer.useShaderProgram0: WARNING Shader-HashCode Collision: hash 0x%s: %s, %s -> sp %d / %d (new)%n",
                     Long.toHexString(shaderKey), Region.getRenderModeString(renderModes),
-                    shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, sms), sp.program(), sp.id());
+                    shaderKeyToString(shaderKey, isTwoPass, pass1, hasFrustumClipping, hasColorChannel, hasColorTexture, hasInstancing, sms), sp.program(), sp.id());
             throw new RuntimeException(msg);
         }
         return true;
@@ -737,10 +768,10 @@ public final class RegionRenderer {
     private final boolean useShaderProgram1(final GL2ES2 gl, final int renderModes,
                                             final boolean isTwoPass, final boolean pass1, final ShaderModeSelector1 sms,
                                             final boolean hasFrustumClipping, final boolean hasColorChannel,
-                                            final boolean hasColorTexture, final TextureSequence colorTexSeq,
+                                            final boolean hasColorTexture, final boolean hasInstancing, final TextureSequence colorTexSeq,
                                             final String colTexLookupFuncName, final int colorTexSeqHash) {
         final ShaderKey shaderKey = new ShaderKey(isTwoPass, pass1, sms, hasFrustumClipping, hasColorChannel,
-                                                  hasColorTexture, colorTexSeq, colorTexSeqHash);
+                                                  hasColorTexture, hasInstancing, colorTexSeq, colorTexSeqHash);
         /**
         if(DEBUG) {
             System.err.println("XXX "+Region.getRenderModeString(renderModes, getAAQuality(), getSampleCount(), 0)+", "+shaderKey);
@@ -761,7 +792,7 @@ public final class RegionRenderer {
             return spChanged;
         }
         sp = createShaderProgram(gl, renderModes, isTwoPass, pass1, sms, hasFrustumClipping, hasColorChannel,
-                                 hasColorTexture, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
+                                 hasColorTexture, hasInstancing, colorTexSeq, colTexLookupFuncName, colorTexSeqHash);
         rs.setShaderProgram(gl, sp);
 
         if( DEBUG_SHADER_MAP ) {
@@ -777,7 +808,7 @@ public final class RegionRenderer {
     private final ShaderProgram createShaderProgram(final GL2ES2 gl, final int renderModes,
                                                     final boolean isTwoPass, final boolean pass1, final ShaderModeSelector1 sms,
                                                     final boolean hasFrustumClipping, final boolean hasColorChannel,
-                                                    final boolean hasColorTexture, final TextureSequence colorTexSeq,
+                                                    final boolean hasColorTexture, final boolean hasInstancing, final TextureSequence colorTexSeq,
                                                     final String colTexLookupFuncName, final int colorTexSeqHash)
     {
         final String versionedBaseName = getVersionedShaderName();
@@ -841,10 +872,14 @@ public final class RegionRenderer {
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_FRUSTUM_CLIPPING);
         }
 
-        if( hasColorChannel ) {
+        if( hasColorChannel || hasInstancing ) {
+            // instancing passes the per instance color via the color channel varying
             posVp = rsVp.insertShaderSource(0, posVp, GLSL_USE_COLOR_CHANNEL);
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_COLOR_CHANNEL);
         }
+        if( hasInstancing ) {
+            posVp = rsVp.insertShaderSource(0, posVp, GLSL_USE_INSTANCING);
+        }
         if( hasColorTexture ) {
                     rsVp.insertShaderSource(0, posVp, GLSL_USE_COLOR_TEXTURE);
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_COLOR_TEXTURE);
@@ -114,4 +114,29 @@ public interface FPSCounter {
      * @see #resetFPSCounter()
      */
     float getTotalFPS();
+
+    /**
+     * Sets the target frame rate used to count dropped frames, see {@link FrameIntervalStats#getDroppedFrames()}.
+     * <p>
+     * A frame interval spanning <i>n</i> rounded target periods counts <i>n-1</i> dropped frames.
+     * </p>
+     * @param fps the target frames per seconds, zero disables counting dropped frames
+     */
+    void setTargetFPS(float fps);
+
+    /**
+     * Returns the target frame rate, zero if none is set.
+     * @see #setTargetFPS(float)
+     */
+    float getTargetFPS();
+
+    /**
+     * Returns the statistics of the recently recorded frame intervals.
+     * <p>
+     * Each frame interval is recorded, independent of {@link #getUpdateFPSFrames()}.
+     * This method may be called from any thread w/o blocking the rendering thread.
+     * </p>
+     * @see #resetFPSCounter()
+     */
+    FrameIntervalStats getFrameIntervalStats();
 }
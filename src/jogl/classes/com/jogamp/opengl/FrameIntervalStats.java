@@ -0,0 +1,113 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import java.util.Arrays;
+
+/**
+ * Immutable statistics of the recently recorded frame intervals of an {@link FPSCounter},
+ * see {@link FPSCounter#getFrameIntervalStats()}.
+ * <p>
+ * A frame interval is the duration between two subsequent displayed frames in nanoseconds.
+ * </p>
+ */
+public final class FrameIntervalStats {
+    private final long[] sorted;
+    private final double mean;
+    private final double jitter;
+    private final long droppedFrames;
+    private final long targetPeriodNS;
+
+    /**
+     * @param intervals frame intervals in nanoseconds in their recorded order, will be sorted
+     * @param droppedFrames number of dropped frames against the target period
+     * @param targetPeriodNS target frame period in nanoseconds, zero if none is set
+     */
+    public FrameIntervalStats(final long[] intervals, final long droppedFrames, final long targetPeriodNS) {
+        double sum = 0, sumDelta = 0;
+        for(int i=0; i<intervals.length; i++) {
+            sum += intervals[i];
+            if( 0 < i ) {
+                sumDelta += Math.abs(intervals[i] - intervals[i-1]);
+            }
+        }
+        this.mean = 0 < intervals.length ? sum / intervals.length : 0;
+        this.jitter = 1 < intervals.length ? sumDelta / ( intervals.length - 1 ) : 0;
+        this.sorted = intervals;
+        Arrays.sort(this.sorted);
+        this.droppedFrames = droppedFrames;
+        this.targetPeriodNS = targetPeriodNS;
+    }
+
+    /** Returns the number of frame intervals within these statistics. */
+    public int getSampleCount() { return sorted.length; }
+
+    /** Returns the shortest frame interval in nanoseconds. */
+    public long getMinNanos() { return 0 < sorted.length ? sorted[0] : 0; }
+
+    /** Returns the longest frame interval in nanoseconds. */
+    public long getMaxNanos() { return 0 < sorted.length ? sorted[sorted.length-1] : 0; }
+
+    /** Returns the mean frame interval in nanoseconds. */
+    public double getMeanNanos() { return mean; }
+
+    /** Returns the frames per seconds of the {@link #getMeanNanos() mean frame interval}. */
+    public float getMeanFPS() { return 0 < mean ? (float) ( 1e9 / mean ) : 0f; }
+
+    /** Returns the jitter, i.e. the mean absolute difference of subsequent frame intervals in nanoseconds. */
+    public double getJitterNanos() { return jitter; }
+
+    /**
+     * Returns the given percentile of the frame intervals in nanoseconds using the nearest rank, or zero if empty.
+     * @param percentile within [0..100], e.g. 50, 95 or 99
+     */
+    public long getPercentileNanos(final double percentile) {
+        if( 0 == sorted.length ) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil( percentile / 100.0 * sorted.length );
+        return sorted[ Math.max(0, Math.min(sorted.length, rank) - 1) ];
+    }
+
+    /**
+     * Returns the number of dropped frames since the last {@link FPSCounter#resetFPSCounter() reset},
+     * i.e. the number of target periods missed by the recorded frame intervals.
+     * @see FPSCounter#setTargetFPS(float)
+     */
+    public long getDroppedFrames() { return droppedFrames; }
+
+    /** Returns the target frame period in nanoseconds, zero if none is set. */
+    public long getTargetPeriodNanos() { return targetPeriodNS; }
+
+    @Override
+    public String toString() {
+        return String.format("FrameIntervals[%d f, min %.3f ms, mean %.3f ms (%.1f fps), p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms, jitter %.3f ms, dropped %d]",
+                sorted.length, getMinNanos()/1e6, mean/1e6, getMeanFPS(), getPercentileNanos(50)/1e6, getPercentileNanos(95)/1e6,
+                getPercentileNanos(99)/1e6, getMaxNanos()/1e6, jitter/1e6, droppedFrames);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+/**
+ * FramePhaseCounter feature, complementing {@link FPSCounter} w/ per phase frame timings.<br>
+ * An implementation initially has the FramePhaseCounter feature disabled.<br>
+ * Use {@link #setFramePhaseStats(FramePhaseStats)} to enable and disable the FramePhaseCounter feature.
+ * <p>
+ * Usage to diagnose frame time spikes:
+ * <pre>
+ *   glWindow.setFramePhaseStats(new FramePhaseStats("main", FramePhaseStats.DEFAULT_WINDOW));
+ *   ...
+ *   // any thread, e.g. a monitoring thread
+ *   final FramePhaseStats.Snapshot s = glWindow.getFramePhaseStats().snapshot();
+ *   final long p99 = s.getPercentileNanos(FramePhaseStats.TOTAL, 99);
+ * </pre>
+ * </p>
+ */
+public interface FramePhaseCounter {
+    /**
+     * Sets the {@link FramePhaseStats} recording each following {@link GLAutoDrawable#display()}.
+     * <p>
+     * The same instance may be set to multiple {@link GLAutoDrawable}s to aggregate their timings.
+     * </p>
+     * @param stats the {@link FramePhaseStats} to record, or <code>null</code> to disable the feature
+     */
+    void setFramePhaseStats(FramePhaseStats stats);
+
+    /**
+     * Returns the set {@link FramePhaseStats}, or <code>null</code> if the feature is disabled.
+     * @see #setFramePhaseStats(FramePhaseStats)
+     */
+    FramePhaseStats getFramePhaseStats();
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jogamp.opengl.FramePhaseJFR;
+
+/**
+ * Rolling frame phase timings of {@link GLAutoDrawable#display()}, see {@link FramePhaseCounter}.
+ * <p>
+ * Each frame's {@link #MAKE_CURRENT}, {@link #RENDER}, {@link #SWAP} and {@link #RELEASE} durations
+ * are measured via {@link System#nanoTime()} and stored in a ring buffer of the last {@link #getWindow()} frames.
+ * A {@link #snapshot()} computes the percentiles, e.g. p50, p95 and p99, per phase
+ * of the recorded window, while the maximum per phase is kept since {@link #reset()}
+ * to catch frame time spikes.
+ * </p>
+ * <p>
+ * Recording and {@link #snapshot()} are lock-free, i.e. a monitoring thread never blocks the rendering thread.
+ * A snapshot taken concurrently to a recording may include a partially written frame.
+ * </p>
+ * <p>
+ * Optionally each frame is emitted as a JFR event <code>com.jogamp.opengl.FramePhases</code>,
+ * see {@link #setJFREventsEnabled(boolean)}.
+ * </p>
+ */
+public class FramePhaseStats {
+    /** Phase of making the context current, including the surface lock, value {@value}. */
+    public static final int MAKE_CURRENT = 0;
+    /** Phase of running the display action, i.e. all {@link GLEventListener}s and {@link GLRunnable}s, value {@value}. */
+    public static final int RENDER = 1;
+    /** Phase of {@link GLDrawable#swapBuffers()} if {@link GLAutoDrawable#getAutoSwapBufferMode() enabled}, value {@value}. */
+    public static final int SWAP = 2;
+    /** Phase of releasing the context, including the surface unlock, value {@value}. */
+    public static final int RELEASE = 3;
+    /** Sum of all phases, value {@value}. */
+    public static final int TOTAL = 4;
+    /** Number of phases including {@link #TOTAL}, value {@value}. */
+    public static final int PHASE_COUNT = 5;
+
+    /** Default number of recorded frames, value {@value}. */
+    public static final int DEFAULT_WINDOW = 256;
+
+    private static final String[] phaseNames = { "makeCurrent", "render", "swap", "release", "total" };
+
+    private final String name;
+    private final int window;
+    /** Ring buffer of <code>window * PHASE_COUNT</code> nanoseconds. */
+    private final AtomicLongArray samples;
+    private final AtomicLongArray maxNanos;
+    private final AtomicLong frames;
+    private volatile FramePhaseJFR jfr;
+
+    /**
+     * @param name name of this instance, e.g. the drawable, used for {@link #toString()} and JFR events
+     * @param window number of recorded frames for the percentiles, e.g. {@link #DEFAULT_WINDOW}
+     */
+    public FramePhaseStats(final String name, final int window) {
+        if( 0 >= window ) {
+            throw new IllegalArgumentException("Invalid window "+window);
+        }
+        this.name = name;
+        this.window = window;
+        this.samples = new AtomicLongArray(window * PHASE_COUNT);
+        this.maxNanos = new AtomicLongArray(PHASE_COUNT);
+        this.frames = new AtomicLong();
+        this.jfr = null;
+    }
+
+    /** Returns the name of this instance. */
+    public final String getName() { return name; }
+
+    /** Returns the number of recorded frames for the percentiles. */
+    public final int getWindow() { return window; }
+
+    /** Returns the number of frames recorded since {@link #reset()}. */
+    public final long getFrameCount() { return frames.get(); }
+
+    /** Returns the name of the given phase. */
+    public static String getPhaseName(final int phase) {
+        return phaseNames[phase];
+    }
+
+    /**
+     * Enables or disables emitting one JFR event per frame.
+     * @return true if JFR events are enabled, false if disabled or if JFR is not available on this runtime
+     */
+    public final boolean setJFREventsEnabled(final boolean enable) {
+        jfr = enable ? FramePhaseJFR.get() : null;
+        return null != jfr;
+    }
+
+    /** Returns true if JFR events are enabled, see {@link #setJFREventsEnabled(boolean)}. */
+    public final boolean isJFREventsEnabled() { return null != jfr; }
+
+    /** Clears all recorded frames. */
+    public final void reset() {
+        frames.set(0);
+        for(int i=0; i<PHASE_COUNT; i++) {
+            maxNanos.set(i, 0);
+        }
+    }
+
+    /**
+     * Records the phase durations of one frame in nanoseconds.
+     * <p>
+     * Called by the {@link GLAutoDrawable} implementation after each {@link GLAutoDrawable#display()}.
+     * </p>
+     */
+    public final void record(final long makeCurrent, final long render, final long swap, final long release) {
+        final long total = makeCurrent + render + swap + release;
+        final int base = (int) ( frames.getAndIncrement() % window ) * PHASE_COUNT;
+        samples.lazySet(base + MAKE_CURRENT, makeCurrent);
+        samples.lazySet(base + RENDER, render);
+        samples.lazySet(base + SWAP, swap);
+        samples.lazySet(base + RELEASE, release);
+        samples.lazySet(base + TOTAL, total);
+        updateMax(MAKE_CURRENT, makeCurrent);
+        updateMax(RENDER, render);
+        updateMax(SWAP, swap);
+        updateMax(RELEASE, release);
+        updateMax(TOTAL, total);
+        final FramePhaseJFR _jfr = jfr;
+        if( null != _jfr ) {
+            _jfr.emit(name, makeCurrent, render, swap, release);
+        }
+    }
+    private void updateMax(final int phase, final long v) {
+        long m;
+        while( v > ( m = maxNanos.get(phase) ) ) {
+            if( maxNanos.compareAndSet(phase, m, v) ) {
+                return;
+            }
+        }
+    }
+
+    /** Returns a sorted copy of the recorded window w/ its statistics. */
+    public final Snapshot snapshot() {
+        final long count = frames.get();
+        final int n = (int) Math.min(count, window);
+        final long[][] sorted = new long[PHASE_COUNT][n];
+        for(int i=0; i<n; i++) {
+            final int base = i * PHASE_COUNT;
+            for(int p=0; p<PHASE_COUNT; p++) {
+                sorted[p][i] = samples.get(base + p);
+            }
+        }
+        final long[] max = new long[PHASE_COUNT];
+        for(int p=0; p<PHASE_COUNT; p++) {
+            Arrays.sort(sorted[p]);
+            max[p] = maxNanos.get(p);
+        }
+        return new Snapshot(name, count, sorted, max);
+    }
+
+    /** Immutable statistics of the recorded window of a {@link FramePhaseStats}. */
+    public static class Snapshot {
+        private final String name;
+        private final long frames;
+        private final long[][] sorted;
+        private final long[] max;
+
+        Snapshot(final String name, final long frames, final long[][] sorted, final long[] max) {
+            this.name = name;
+            this.frames = frames;
+            this.sorted = sorted;
+            this.max = max;
+        }
+
+        /** Returns the number of frames recorded since {@link FramePhaseStats#reset()}. */
+        public final long getFrameCount() { return frames; }
+
+        /** Returns the number of frames within this snapshot's window. */
+        public final int getSampleCount() { return sorted[0].length; }
+
+        /**
+         * Returns the given percentile of the given phase in nanoseconds using the nearest rank, or zero if no frames were recorded.
+         * @param phase the phase, e.g. {@link FramePhaseStats#RENDER}
+         * @param percentile within [0..100], e.g. 50, 95 or 99
+         */
+        public final long getPercentileNanos(final int phase, final double percentile) {
+            final long[] s = sorted[phase];
+            if( 0 == s.length ) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil( percentile / 100.0 * s.length );
+            return s[ Math.max(0, Math.min(s.length, rank) - 1) ];
+        }
+
+        /** Returns the minimum of the given phase within the window in nanoseconds. */
+        public final long getMinNanos(final int phase) {
+            return 0 < sorted[phase].length ? sorted[phase][0] : 0;
+        }
+
+        /** Returns the mean of the given phase within the window in nanoseconds. */
+        public final double getMeanNanos(final int phase) {
+            final long[] s = sorted[phase];
+            if( 0 == s.length ) {
+                return 0;
+            }
+            double sum = 0;
+            for(int i=0; i<s.length; i++) {
+                sum += s[i];
+            }
+            return sum / s.length;
+        }
+
+        /** Returns the maximum of the given phase since {@link FramePhaseStats#reset()} in nanoseconds. */
+        public final long getMaxNanos(final int phase) { return max[phase]; }
+
+        @Override
+        public final String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append("FramePhaseStats[").append(name).append(", frames ").append(frames).append(", window ").append(getSampleCount()).append("]");
+            for(int p=0; p<PHASE_COUNT; p++) {
+                sb.append(String.format("%n  %-12s p50 %8.3f ms, p95 %8.3f ms, p99 %8.3f ms, mean %8.3f ms, max %8.3f ms",
+                        getPhaseName(p), getPercentileNanos(p, 50)/1e6, getPercentileNanos(p, 95)/1e6, getPercentileNanos(p, 99)/1e6,
+                        getMeanNanos(p)/1e6, getMaxNanos(p)/1e6));
+            }
+            return sb.toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,381 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.jogamp.common.nio.Buffers;
+
+/**
+ * Per GL entry point call statistics as collected by the generated <code>ProfileGL*</code> composable pipeline.
+ * <p>
+ * For each GL method name the number of calls, the summed and a log2 histogram of
+ * the wall-clock nanoseconds spent in the downstream call as well as
+ * the bytes passed to buffer and texture uploads from client memory are recorded.
+ * </p>
+ * <p>
+ * Sample code which installs the profile pipeline and dumps the top 20 entry points:
+ * <pre>
+ *   gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", null, gl, null) );
+ *   ...
+ *   final GLCallProfiler profiler = GLCallProfiler.get(gl);
+ *   System.err.println(profiler.snapshot().toString(null, 20));
+ * </pre>
+ * Property <code>jogl.debug.ProfileGL</code> installs the pipeline at context creation, see {@link GLContext#PROFILE_GL}.
+ * </p>
+ * <p>
+ * A {@link GL} instance is used by one thread at a time only, as mandated by its {@link GLContext} being current,
+ * hence the counters are updated by a single writer via ordered stores w/o locking or atomic read-modify-write operations.
+ * {@link #snapshot()} may be called from any thread at any time, w/o blocking the GL thread.
+ * Values of a snapshot taken concurrently to GL calls may differ by the calls in flight.
+ * </p>
+ * <p>
+ * Buffer uploads count the given size if client data has been passed,
+ * texture uploads count the remaining bytes of the client pixel buffer or the compressed image size.
+ * Uploads sourced from a bound pixel unpack buffer object are not counted, since no client memory is transferred.
+ * </p>
+ */
+public class GLCallProfiler {
+    /** Implemented by the generated <code>ProfileGL*</code> pipelines. */
+    public static interface Source {
+        /** Returns the {@link GLCallProfiler} of this pipeline. */
+        GLCallProfiler getCallProfiler();
+    }
+
+    /**
+     * Number of log2 nanosecond histogram buckets, value {@value}.
+     * <p>
+     * Bucket <code>0</code> counts durations below 2ns, bucket <code>i</code> counts durations within [2<sup>i</sup>, 2<sup>i+1</sup>) ns,
+     * the last bucket includes all longer durations.
+     * </p>
+     */
+    public static final int HISTOGRAM_BUCKETS = 32;
+
+    private static final int IDX_COUNT = 0;
+    private static final int IDX_NANOS = 1;
+    private static final int IDX_BYTES = 2;
+    private static final int IDX_HISTO = 3;
+
+    private final String[] names;
+    private final AtomicReferenceArray<AtomicLongArray> counters;
+    private volatile long startTime;
+
+    /**
+     * @param names the method names, indexed by the generated pipeline
+     */
+    public GLCallProfiler(final String[] names) {
+        this.names = names;
+        this.counters = new AtomicReferenceArray<AtomicLongArray>(names.length);
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Returns the {@link GLCallProfiler} of the first <code>ProfileGL*</code> pipeline
+     * within the given {@link GL} pipeline chain, traversed via {@link GL#getDownstreamGL()},
+     * or <code>null</code> if none is installed.
+     */
+    public static GLCallProfiler get(GL gl) {
+        while( null != gl ) {
+            if( gl instanceof Source ) {
+                return ((Source)gl).getCallProfiler();
+            }
+            gl = gl.getDownstreamGL();
+        }
+        return null;
+    }
+
+    /** Returns the number of profiled method names. */
+    public final int getMethodCount() { return names.length; }
+
+    /** Returns the method name of the given index. */
+    public final String getMethodName(final int idx) { return names[idx]; }
+
+    /**
+     * Records one call of method <code>idx</code>, which has been started at <code>t0</code> in {@link System#nanoTime()}.
+     * <p>
+     * Shall only be called by the thread the GL context is current on.
+     * </p>
+     */
+    public final void record(final int idx, final long t0) {
+        recordImpl(idx, System.nanoTime() - t0, 0);
+    }
+
+    /**
+     * Records one upload call of method <code>idx</code> transferring <code>bytes</code>,
+     * which has been started at <code>t0</code> in {@link System#nanoTime()}.
+     * <p>
+     * Shall only be called by the thread the GL context is current on.
+     * </p>
+     */
+    public final void record(final int idx, final long t0, final long bytes) {
+        recordImpl(idx, System.nanoTime() - t0, bytes);
+    }
+
+    private final void recordImpl(final int idx, final long dt, final long bytes) {
+        AtomicLongArray c = counters.get(idx);
+        if( null == c ) {
+            c = new AtomicLongArray(IDX_HISTO + HISTOGRAM_BUCKETS);
+            counters.set(idx, c);
+        }
+        // single writer: ordered plain increments, no CAS loop required
+        c.lazySet(IDX_COUNT, c.get(IDX_COUNT) + 1);
+        c.lazySet(IDX_NANOS, c.get(IDX_NANOS) + dt);
+        if( 0 < bytes ) {
+            c.lazySet(IDX_BYTES, c.get(IDX_BYTES) + bytes);
+        }
+        final int b = getBucket(dt);
+        c.lazySet(IDX_HISTO + b, c.get(IDX_HISTO + b) + 1);
+    }
+
+    /** Returns the histogram bucket index for the given duration in nanoseconds. */
+    public static int getBucket(final long nanos) {
+        if( 2 > nanos ) {
+            return 0;
+        }
+        return Math.min(HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /** Returns the exclusive upper bound of the given histogram bucket in nanoseconds. */
+    public static long getBucketUpperBound(final int bucket) {
+        return bucket >= HISTOGRAM_BUCKETS - 1 ? Long.MAX_VALUE : 1L << ( bucket + 1 );
+    }
+
+    /** Returns the remaining bytes of the given client buffer, or zero if <code>null</code>. Used by the generated pipeline. */
+    public static long getBufferBytes(final Buffer buffer) {
+        return null != buffer ? Buffers.remainingBytes(buffer) : 0;
+    }
+
+    /**
+     * Clears all counters.
+     * <p>
+     * Calls in flight on the GL thread while resetting might be lost.
+     * Use {@link Snapshot#since(Snapshot)} for interval statistics w/o resetting.
+     * </p>
+     */
+    public final void reset() {
+        for(int i=0; i<names.length; i++) {
+            counters.set(i, null);
+        }
+        startTime = System.nanoTime();
+    }
+
+    /** Returns a snapshot of all counters, see {@link Snapshot}. May be called from any thread. */
+    public final Snapshot snapshot() {
+        final ArrayList<Entry> entries = new ArrayList<Entry>();
+        for(int i=0; i<names.length; i++) {
+            final AtomicLongArray c = counters.get(i);
+            if( null != c ) {
+                final long[] histogram = new long[HISTOGRAM_BUCKETS];
+                for(int b=0; b<HISTOGRAM_BUCKETS; b++) {
+                    histogram[b] = c.get(IDX_HISTO + b);
+                }
+                entries.add(new Entry(names[i], c.get(IDX_COUNT), c.get(IDX_NANOS), c.get(IDX_BYTES), histogram));
+            }
+        }
+        return new Snapshot(System.nanoTime() - startTime, entries);
+    }
+
+    /** Call statistics of one GL method name, see {@link Snapshot}. */
+    public static class Entry {
+        private final String name;
+        private final long count;
+        private final long nanos;
+        private final long bytes;
+        private final long[] histogram;
+
+        Entry(final String name, final long count, final long nanos, final long bytes, final long[] histogram) {
+            this.name = name;
+            this.count = count;
+            this.nanos = nanos;
+            this.bytes = bytes;
+            this.histogram = histogram;
+        }
+
+        /** Returns the GL method name. */
+        public final String getName() { return name; }
+        /** Returns the number of calls. */
+        public final long getCount() { return count; }
+        /** Returns the summed duration of all calls in nanoseconds. */
+        public final long getTotalNanos() { return nanos; }
+        /** Returns the summed uploaded bytes from client memory. */
+        public final long getBytes() { return bytes; }
+        /** Returns the mean duration per call in nanoseconds. */
+        public final double getMeanNanos() { return 0 < count ? (double)nanos / count : 0; }
+        /** Returns the call count of the given histogram bucket, see {@link GLCallProfiler#HISTOGRAM_BUCKETS}. */
+        public final long getHistogram(final int bucket) { return histogram[bucket]; }
+
+        /**
+         * Returns the upper bound in nanoseconds of the histogram bucket containing the given percentile.
+         * @param p percentile within [0..1], e.g. 0.99f
+         */
+        public final long getPercentileNanos(final float p) {
+            long total = 0;
+            for(int b=0; b<HISTOGRAM_BUCKETS; b++) {
+                total += histogram[b];
+            }
+            if( 0 == total ) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long)Math.ceil(p * total));
+            long sum = 0;
+            for(int b=0; b<HISTOGRAM_BUCKETS; b++) {
+                sum += histogram[b];
+                if( sum >= rank ) {
+                    return getBucketUpperBound(b);
+                }
+            }
+            return getBucketUpperBound(HISTOGRAM_BUCKETS-1);
+        }
+
+        private Entry minus(final Entry o) {
+            final long[] h = new long[HISTOGRAM_BUCKETS];
+            for(int b=0; b<HISTOGRAM_BUCKETS; b++) {
+                h[b] = histogram[b] - o.histogram[b];
+            }
+            return new Entry(name, count - o.count, nanos - o.nanos, bytes - o.bytes, h);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-32s calls %10d, total %10.3f ms, mean %9.1f ns, p50 < %d ns, p99 < %d ns, bytes %d",
+                    name, count, nanos/1e6, getMeanNanos(), getPercentileNanos(0.50f), getPercentileNanos(0.99f), bytes);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the {@link Entry} statistics of all called GL methods,
+     * sorted by their {@link Entry#getTotalNanos() total duration} in descending order.
+     */
+    public static class Snapshot {
+        private static final Comparator<Entry> byTotalNanos = new Comparator<Entry>() {
+            @Override
+            public int compare(final Entry a, final Entry b) {
+                return Long.compare(b.nanos, a.nanos);
+            }
+        };
+        private final long durationNanos;
+        private final List<Entry> entries;
+
+        Snapshot(final long durationNanos, final List<Entry> entries) {
+            this.durationNanos = durationNanos;
+            Collections.sort(entries, byTotalNanos);
+            this.entries = Collections.unmodifiableList(entries);
+        }
+
+        /** Returns the nanoseconds elapsed since creation or last {@link GLCallProfiler#reset()} of the profiler, or between two snapshots. */
+        public final long getDurationNanos() { return durationNanos; }
+
+        /** Returns the {@link Entry} list of all called methods sorted by their total duration in descending order. */
+        public final List<Entry> getEntries() { return entries; }
+
+        /** Returns the {@link Entry} of the given method name, or <code>null</code> if not called. */
+        public final Entry getEntry(final String name) {
+            for(int i=0; i<entries.size(); i++) {
+                final Entry e = entries.get(i);
+                if( e.name.equals(name) ) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        /** Returns the number of all calls. */
+        public final long getTotalCount() {
+            long r = 0;
+            for(int i=0; i<entries.size(); i++) { r += entries.get(i).count; }
+            return r;
+        }
+
+        /** Returns the summed duration of all calls in nanoseconds. */
+        public final long getTotalNanos() {
+            long r = 0;
+            for(int i=0; i<entries.size(); i++) { r += entries.get(i).nanos; }
+            return r;
+        }
+
+        /** Returns the summed uploaded bytes of all calls. */
+        public final long getTotalBytes() {
+            long r = 0;
+            for(int i=0; i<entries.size(); i++) { r += entries.get(i).bytes; }
+            return r;
+        }
+
+        /**
+         * Returns the difference of this snapshot and the given <code>earlier</code> snapshot
+         * of the same {@link GLCallProfiler}, i.e. the statistics of the calls in between.
+         */
+        public final Snapshot since(final Snapshot earlier) {
+            final ArrayList<Entry> res = new ArrayList<Entry>();
+            for(int i=0; i<entries.size(); i++) {
+                final Entry e = entries.get(i);
+                final Entry o = earlier.getEntry(e.name);
+                final Entry d = null != o ? e.minus(o) : e;
+                if( 0 < d.count ) {
+                    res.add(d);
+                }
+            }
+            return new Snapshot(durationNanos - earlier.durationNanos, res);
+        }
+
+        /**
+         * Appends a human readable table of the top <code>maxEntries</code> to the given {@link StringBuilder}.
+         * @param sb optional {@link StringBuilder}, a new instance is used if <code>null</code>
+         * @param maxEntries maximum number of entries to print
+         */
+        public final StringBuilder toString(StringBuilder sb, final int maxEntries) {
+            if( null == sb ) {
+                sb = new StringBuilder();
+            }
+            final long total = getTotalNanos();
+            sb.append(String.format("GLCallProfiler: %d methods, %d calls, %.3f ms of %.3f ms, %d bytes uploaded%n",
+                    entries.size(), getTotalCount(), total/1e6, durationNanos/1e6, getTotalBytes()));
+            final int n = Math.min(maxEntries, entries.size());
+            for(int i=0; i<n; i++) {
+                final Entry e = entries.get(i);
+                sb.append(String.format("  %5.1f%% ", 0 < total ? 100.0 * e.nanos / total : 0.0)).append(e).append(String.format("%n"));
+            }
+            return sb;
+        }
+
+        @Override
+        public String toString() {
+            return toString(null, entries.size()).toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GLCallProfiler["+names.length+" methods]";
+    }
+}
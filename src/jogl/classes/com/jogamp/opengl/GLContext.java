@@ -107,6 +107,11 @@ public abstract class GLContext {
   public static final boolean DEBUG_GL = Debug.isPropertyDefined("jogl.debug.DebugGL", true);
   /** Reflects property jogl.debug.TraceGL. If true, the trace pipeline is enabled at context creation. */
   public static final boolean TRACE_GL = Debug.isPropertyDefined("jogl.debug.TraceGL", true);
+  /**
+   * Reflects property jogl.debug.ProfileGL. If true, the profile pipeline is enabled at context creation,
+   * see {@link GLCallProfiler}.
+   */
+  public static final boolean PROFILE_GL = Debug.isPropertyDefined("jogl.debug.ProfileGL", true);
 
   /** Indicates that the context was not made current during the last call to {@link #makeCurrent makeCurrent}, value {@value}. */
   public static final int CONTEXT_NOT_CURRENT = 0;
@@ -144,7 +144,11 @@ public interface GLFBODrawable extends GLDrawable {
     /**
      * Sets the number of buffers (FBO) being used if using {@link GLCapabilities#getDoubleBuffered() double buffering}.
      * <p>
-     * If {@link GLCapabilities#getDoubleBuffered() double buffering} is not chosen, this is a NOP.
+     * If {@link GLCapabilities#getDoubleBuffered() double buffering} is not chosen or MSAA is being used, this is a NOP.
+     * </p>
+     * <p>
+     * The number of buffers is clamped to [2..8], default is 2.
+     * Using more than two buffers enables the render-ahead mode, see {@link #getCompletedFBObject(GL)}.
      * </p>
      * <p>
      * Must be called before {@link #isInitialized() initialization}, otherwise an exception is thrown.
@@ -160,6 +164,34 @@ public interface GLFBODrawable extends GLDrawable {
      */
     int getNumBuffers();
 
+    /**
+     * Returns the {@link FBObject} holding the most recent completed frame w/o blocking.
+     * <p>
+     * In render-ahead mode, i.e. using more than two {@link #setNumBuffers(int) buffers} and {@link GL3ES3#glFenceSync(int, int) fence sync objects} being available,
+     * the buffers are rotated and each swapped frame is fenced.
+     * This method returns the most recent swapped {@link FBObject} whose fence has been signaled,
+     * i.e. whose GPU commands have completed. Hence consumers like readback, encoding or compositing
+     * may read the previous completed frame asynchronously while the next frame renders,
+     * instead of stalling on the {@link GL#GL_FRONT front} buffer.
+     * It returns <code>null</code> if no swapped frame has been completed yet.
+     * </p>
+     * <p>
+     * The returned {@link FBObject} remains valid until it becomes the back buffer again.
+     * If it is the oldest swapped frame, i.e. the newer frames have not completed yet,
+     * this already happens at the very next swap.
+     * Hence consumers shall only rely on its content until the next swap,
+     * i.e. issue their reads before the next {@link GLDrawable#swapBuffers() swap}.
+     * Consumers shall bind its {@link FBObject#getReadFramebuffer() read framebuffer} for reading
+     * and restore the {@link GLBase#getDefaultReadFramebuffer() default read framebuffer} afterwards.
+     * </p>
+     * <p>
+     * Otherwise the {@link GL#GL_FRONT front} {@link FBObject} is returned, see {@link #getFBObject(int)}.
+     * </p>
+     * @param gl GL context object bound to this drawable and being current
+     * @return the {@link FBObject} of the most recent completed frame, or <code>null</code> if not initialized or none completed
+     */
+    FBObject getCompletedFBObject(final GL gl);
+
     /**
      * @return the used {@link DoubleBufferMode}
      */
@@ -54,17 +54,23 @@ public class GLPipelineFactory {
      * and optional arguments <code>additionalArgs</code> for the constructor.
      *
      * <p>
-     * Sample code which installs a Debug and Trace pipeline
+     * Sample code which installs a Debug, Trace, Profile and StateFilter pipeline
      * automatic w/ user defined interface, here: GL2ES2:
      * <pre>
      *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Debug", GL2ES2.class, gl, null) );
      *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Trace", GL2ES2.class, gl, new Object[] { System.err } ) );
+     *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", GL2ES2.class, gl, null) );
+     *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateFilter", GL2ES2.class, gl, null) );
      * </pre>
      * or automatic w/ automatic defined class:
      * <pre>
      *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Debug",         null, gl, null) );
      *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Trace",         null, gl, new Object[] { System.err } ) );
+     *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile",       null, gl, null) );
+     *     gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateFilter",   null, gl, null) );
      * </pre>
+     * The Profile pipeline's statistics are retrieved via {@link GLCallProfiler#get(GL)},
+     * the StateFilter pipeline's shadow state via {@link GLStateFilter#get(GL)}.
      * </p>
      *
      * <p>
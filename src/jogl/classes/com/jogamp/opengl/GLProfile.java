@@ -200,6 +200,13 @@ public class GLProfile {
      * on the AWT EDT, invoke this method outside the AWT EDT - see above.
      * </p>
      *
+     * <p>
+     * Probing all available OpenGL versions and profiles per device can be skipped on subsequent runs
+     * by enabling the persistent version cache via property <code>jogl.cache.GLVersions</code>,
+     * optionally set to the cache file's path. A cached entry is validated with the first created context
+     * and dropped if the driver's vendor, renderer, version or extension strings differ.
+     * </p>
+     *
      */
     public static void initSingleton() {
         final boolean justInitialized;
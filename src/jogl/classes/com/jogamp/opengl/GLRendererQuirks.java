@@ -732,6 +732,23 @@ public class GLRendererQuirks {
         return null != quirks && quirks.exist(quirkBit);
     }
 
+    /**
+     * Returns the bitmask of all added quirks, i.e. w/o applying any {@link GLRendererQuirks.Override}.
+     * <p>
+     * Each quirk is represented by bit <code>1 &lt;&lt; quirkBit</code>.
+     * </p>
+     */
+    public final int getBitmask() {
+        return _bitmask;
+    }
+
+    /**
+     * Removes all quirks of the given bitmask as retrieved via {@link #getBitmask()}.
+     */
+    public final void removeQuirks(final int bitmask) {
+        _bitmask &= ~bitmask;
+    }
+
     public final StringBuilder toString(StringBuilder sb) {
         if(null == sb) {
             sb = new StringBuilder();
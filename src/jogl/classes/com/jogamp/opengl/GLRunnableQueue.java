@@ -0,0 +1,62 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+/**
+ * GLRunnableQueue feature, complementing {@link GLAutoDrawable#invoke(boolean, GLRunnable)}
+ * w/ a fire-and-forget submission path for high frequency producers, e.g. buffer updates from network threads.
+ * <p>
+ * Enqueued {@link GLRunnable}s are stored in a lock-free ring of pre-allocated slots,
+ * hence enqueueing neither locks nor allocates as long as the ring is not full.
+ * They are drained in bulk on the GL thread at the next {@link GLAutoDrawable#display()}
+ * before calling {@link GLEventListener#display(GLAutoDrawable)}, in their enqueued order per producer thread.
+ * Their {@link GLRunnable#run(GLAutoDrawable) return value} is ignored.
+ * </p>
+ * <p>
+ * Enqueueing does not trigger a {@link GLAutoDrawable#display()},
+ * which is expected to be issued by an {@link GLAnimatorControl animator} or the application.
+ * </p>
+ */
+public interface GLRunnableQueue {
+    /**
+     * Enqueues the given {@link GLRunnable} to be executed at the next {@link GLAutoDrawable#display()},
+     * may be called by any thread.
+     * <p>
+     * If all pre-allocated slots are occupied, the {@link GLRunnable} is still enqueued,
+     * however, requiring allocation and locking.
+     * </p>
+     * @param glRunnable the {@link GLRunnable} to execute
+     * @return <code>true</code> if enqueued into a pre-allocated slot, otherwise <code>false</code>
+     */
+    boolean enqueueGLRunnable(GLRunnable glRunnable);
+
+    /**
+     * Returns a metrics snapshot, e.g. queue depth and latency.
+     */
+    GLRunnableQueueStats getGLRunnableQueueStats();
+}
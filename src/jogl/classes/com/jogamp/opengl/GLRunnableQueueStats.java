@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+/**
+ * Immutable metrics snapshot of a {@link GLRunnableQueue}, see {@link GLRunnableQueue#getGLRunnableQueueStats()}.
+ * <p>
+ * Latency is the duration between enqueueing a {@link GLRunnable} and draining it on the GL thread in nanoseconds,
+ * measured for {@link GLRunnable}s passing the pre-allocated slots only.
+ * </p>
+ */
+public final class GLRunnableQueueStats {
+    private final int capacity;
+    private final long enqueued;
+    private final long executed;
+    private final long discarded;
+    private final long overflowed;
+    private final int depth;
+    private final long maxDepth;
+    private final long meanLatencyNS;
+    private final long maxLatencyNS;
+
+    /**
+     * @param capacity number of pre-allocated slots
+     * @param enqueued number of enqueued {@link GLRunnable}s
+     * @param executed number of executed {@link GLRunnable}s
+     * @param discarded number of discarded {@link GLRunnable}s, e.g. by {@link GLAutoDrawable#flushGLRunnables()}
+     * @param overflowed number of {@link GLRunnable}s not fitting into the pre-allocated slots
+     * @param depth number of currently pending {@link GLRunnable}s
+     * @param maxDepth maximum number of pending {@link GLRunnable}s observed when draining the slots
+     * @param meanLatencyNS mean latency in nanoseconds
+     * @param maxLatencyNS maximum latency in nanoseconds
+     */
+    public GLRunnableQueueStats(final int capacity, final long enqueued, final long executed, final long discarded, final long overflowed,
+                                final int depth, final long maxDepth, final long meanLatencyNS, final long maxLatencyNS) {
+        this.capacity = capacity;
+        this.enqueued = enqueued;
+        this.executed = executed;
+        this.discarded = discarded;
+        this.overflowed = overflowed;
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+        this.meanLatencyNS = meanLatencyNS;
+        this.maxLatencyNS = maxLatencyNS;
+    }
+
+    /** Returns the number of pre-allocated slots. */
+    public int getCapacity() { return capacity; }
+
+    /** Returns the number of enqueued {@link GLRunnable}s. */
+    public long getEnqueuedCount() { return enqueued; }
+
+    /** Returns the number of executed {@link GLRunnable}s. */
+    public long getExecutedCount() { return executed; }
+
+    /** Returns the number of discarded {@link GLRunnable}s, e.g. by {@link GLAutoDrawable#flushGLRunnables()}. */
+    public long getDiscardedCount() { return discarded; }
+
+    /** Returns the number of {@link GLRunnable}s not fitting into the pre-allocated slots, hence requiring allocation. */
+    public long getOverflowCount() { return overflowed; }
+
+    /** Returns the number of currently pending {@link GLRunnable}s. */
+    public int getDepth() { return depth; }
+
+    /** Returns the maximum number of pending {@link GLRunnable}s observed when draining the slots. */
+    public long getMaxDepth() { return maxDepth; }
+
+    /** Returns the mean latency in nanoseconds. */
+    public long getMeanLatencyNanos() { return meanLatencyNS; }
+
+    /** Returns the maximum latency in nanoseconds. */
+    public long getMaxLatencyNanos() { return maxLatencyNS; }
+
+    @Override
+    public String toString() {
+        return "GLRunnableQueueStats[capacity "+capacity+", enqueued "+enqueued+", executed "+executed+", discarded "+discarded+
+               ", overflowed "+overflowed+", depth "+depth+", max-depth "+maxDepth+
+               ", latency[mean "+meanLatencyNS/1000+" us, max "+maxLatencyNS/1000+" us]]";
+    }
+}
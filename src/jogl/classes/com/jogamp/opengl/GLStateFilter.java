@@ -0,0 +1,473 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl;
+
+import java.nio.IntBuffer;
+
+import com.jogamp.common.util.IntIntHashMap;
+import com.jogamp.common.util.IntObjectHashMap;
+
+/**
+ * Shadow GL state of the generated <code>StateFilterGL*</code> composable pipeline,
+ * allowing the pipeline to elide calls not changing the current state.
+ * <p>
+ * The following state is shadowed per pipeline, i.e. per {@link GLContext}:
+ * <ul>
+ *   <li>current program, <code>glUseProgram</code></li>
+ *   <li>buffer bindings per target, <code>glBindBuffer</code>, and the vertex array binding, <code>glBindVertexArray</code></li>
+ *   <li>active texture unit and texture bindings per unit and target, <code>glActiveTexture</code>, <code>glBindTexture</code></li>
+ *   <li>capabilities, <code>glEnable</code>, <code>glDisable</code>, texture unit capabilities of the fixed function pipeline per unit</li>
+ *   <li>blend function and equation, <code>glBlendFunc[Separate]</code>, <code>glBlendEquation[Separate]</code></li>
+ *   <li>scalar uniform values per program and location, <code>glUniform[1-4][if]</code></li>
+ * </ul>
+ * Each shadowed value starts as unknown, hence the first call always passes.
+ * </p>
+ * <p>
+ * Methods named after a GL method and returning <code>boolean</code> are called by the pipeline before the downstream call,
+ * which is elided if <code>true</code> is returned. Methods named after a GL method and returning <code>void</code>
+ * are called after the downstream call to update or invalidate the shadow state.
+ * The pipeline generator determines these methods via reflection at build time.
+ * </p>
+ * <p>
+ * GL state changes not passing through the pipeline, e.g. by native code, by another {@link GL} instance
+ * or by deleting and re-creating objects within a shared context, must be announced
+ * via {@link #invalidate()} or one of the specific invalidation methods.
+ * The filter assumes that all passed calls succeed.
+ * </p>
+ * <p>
+ * Sample code which installs the state filter pipeline:
+ * <pre>
+ *   gl = drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateFilter", null, gl, null) );
+ *   ...
+ *   GLStateFilter.get(gl).invalidate(); // after external GL code
+ *   System.err.println("Elided "+GLStateFilter.get(gl).getElidedCount()+" calls");
+ * </pre>
+ * </p>
+ * <p>
+ * Instances are not thread safe and shall only be used by the thread the GL context is current on.
+ * </p>
+ */
+public class GLStateFilter {
+    /** Implemented by the generated <code>StateFilterGL*</code> pipelines. */
+    public static interface Source {
+        /** Returns the {@link GLStateFilter} of this pipeline. */
+        GLStateFilter getStateFilter();
+    }
+
+    private static final int UNKNOWN = -1;
+    private static final int CAP_DISABLED = 0;
+    private static final int CAP_ENABLED = 1;
+
+    private final IntIntHashMap bufferBindings;
+    private final IntIntHashMap textureBindings;
+    private final IntIntHashMap capabilities;
+    /** program -> IntObjectHashMap of location -> int[5] { type, v0, v1, v2, v3 } */
+    private final IntObjectHashMap programUniforms;
+    private int program;
+    private int vertexArray;
+    private int activeTexture;
+    private final int[] blendFunc = new int[4];
+    private final int[] blendEquation = new int[2];
+    private boolean blendFuncValid;
+    private boolean blendEquationValid;
+    private boolean enabled;
+    private boolean compilingList;
+    private long elidedCount;
+    private long passedCount;
+
+    public GLStateFilter() {
+        bufferBindings = new IntIntHashMap();
+        bufferBindings.setKeyNotFoundValue(UNKNOWN);
+        textureBindings = new IntIntHashMap();
+        textureBindings.setKeyNotFoundValue(UNKNOWN);
+        capabilities = new IntIntHashMap();
+        capabilities.setKeyNotFoundValue(UNKNOWN);
+        programUniforms = new IntObjectHashMap();
+        enabled = true;
+        compilingList = false;
+        invalidate();
+    }
+
+    /**
+     * Returns the {@link GLStateFilter} of the first <code>StateFilterGL*</code> pipeline
+     * within the given {@link GL} pipeline chain, traversed via {@link GL#getDownstreamGL()},
+     * or <code>null</code> if none is installed.
+     */
+    public static GLStateFilter get(GL gl) {
+        while( null != gl ) {
+            if( gl instanceof Source ) {
+                return ((Source)gl).getStateFilter();
+            }
+            gl = gl.getDownstreamGL();
+        }
+        return null;
+    }
+
+    /**
+     * Enables or disables filtering. Disabling also invalidates all shadow state,
+     * i.e. state is tracked again from scratch once re-enabled.
+     */
+    public final void setEnabled(final boolean v) {
+        enabled = v;
+        invalidate();
+    }
+    public final boolean isEnabled() { return enabled; }
+
+    /** Returns the number of elided calls. */
+    public final long getElidedCount() { return elidedCount; }
+    /** Returns the number of filtered calls passed downstream. */
+    public final long getPassedCount() { return passedCount; }
+    /** Clears the elided and passed call counter. */
+    public final void resetCounter() {
+        elidedCount = 0;
+        passedCount = 0;
+    }
+
+    //
+    // Invalidation hooks
+    //
+
+    /** Invalidates all shadow state. */
+    public final void invalidate() {
+        invalidateProgram();
+        invalidateBufferBindings();
+        invalidateTextureBindings();
+        invalidateCapabilities();
+        invalidateBlend();
+        invalidateUniforms();
+    }
+    /** Invalidates the current program. */
+    public final void invalidateProgram() {
+        program = UNKNOWN;
+    }
+    /** Invalidates all buffer bindings and the vertex array binding. */
+    public final void invalidateBufferBindings() {
+        bufferBindings.clear();
+        vertexArray = UNKNOWN;
+    }
+    /** Invalidates the active texture unit and all texture bindings. */
+    public final void invalidateTextureBindings() {
+        textureBindings.clear();
+        activeTexture = UNKNOWN;
+    }
+    /** Invalidates all capabilities. */
+    public final void invalidateCapabilities() {
+        capabilities.clear();
+    }
+    /** Invalidates the given capability, for all texture units if applicable. */
+    public final void invalidateCapability(final int cap) {
+        if( isTextureUnitCapability(cap) ) {
+            capabilities.clear();
+        } else {
+            capabilities.remove(cap);
+        }
+    }
+    /** Invalidates the blend function and equation. */
+    public final void invalidateBlend() {
+        blendFuncValid = false;
+        blendEquationValid = false;
+    }
+    /** Invalidates the uniform values of all programs. */
+    public final void invalidateUniforms() {
+        programUniforms.clear();
+    }
+    /** Invalidates the uniform values of the given program. */
+    public final void invalidateProgramUniforms(final int program) {
+        programUniforms.remove(program);
+    }
+    /** Invalidates <code>count</code> uniform values starting at <code>location</code> of the current program. */
+    public final void invalidateUniforms(final int location, final int count) {
+        if( UNKNOWN == program ) {
+            programUniforms.clear();
+        } else {
+            final IntObjectHashMap uniforms = (IntObjectHashMap) programUniforms.get(program);
+            if( null != uniforms ) {
+                for(int i=0; i<count; i++) {
+                    uniforms.remove(location + i);
+                }
+            }
+        }
+    }
+
+    //
+    // Filtered GL methods, returning true if redundant
+    //
+
+    private final boolean passed() {
+        passedCount++;
+        return false;
+    }
+    private final boolean elided() {
+        elidedCount++;
+        return true;
+    }
+    private final boolean isFiltering() {
+        return enabled && !compilingList;
+    }
+
+    public final boolean glUseProgram(final int program) {
+        if( isFiltering() ) {
+            if( program == this.program ) {
+                return elided();
+            }
+            this.program = program;
+        }
+        return passed();
+    }
+
+    public final boolean glBindBuffer(final int target, final int buffer) {
+        if( isFiltering() && buffer == bufferBindings.put(target, buffer) ) {
+            return elided();
+        }
+        return passed();
+    }
+
+    public final boolean glBindVertexArray(final int array) {
+        if( isFiltering() ) {
+            if( array == vertexArray ) {
+                return elided();
+            }
+            vertexArray = array;
+            // element array buffer binding is vertex array state
+            bufferBindings.remove(GL.GL_ELEMENT_ARRAY_BUFFER);
+        }
+        return passed();
+    }
+
+    public final boolean glActiveTexture(final int texture) {
+        if( isFiltering() ) {
+            final int unit = texture - GL.GL_TEXTURE0;
+            if( unit == activeTexture ) {
+                return elided();
+            }
+            activeTexture = unit;
+        }
+        return passed();
+    }
+
+    public final boolean glBindTexture(final int target, final int texture) {
+        if( isFiltering() && UNKNOWN != activeTexture &&
+            texture == textureBindings.put(unitKey(activeTexture, target), texture) ) {
+            return elided();
+        }
+        return passed();
+    }
+
+    public final boolean glEnable(final int cap) {
+        return setCapability(cap, CAP_ENABLED);
+    }
+
+    public final boolean glDisable(final int cap) {
+        return setCapability(cap, CAP_DISABLED);
+    }
+
+    private final boolean setCapability(final int cap, final int state) {
+        if( isFiltering() ) {
+            final int key;
+            if( isTextureUnitCapability(cap) ) {
+                if( UNKNOWN == activeTexture ) {
+                    return passed();
+                }
+                key = unitKey(activeTexture, cap);
+            } else {
+                key = cap;
+            }
+            if( state == capabilities.put(key, state) ) {
+                return elided();
+            }
+        }
+        return passed();
+    }
+
+    public final boolean glBlendFunc(final int sfactor, final int dfactor) {
+        return glBlendFuncSeparate(sfactor, dfactor, sfactor, dfactor);
+    }
+
+    public final boolean glBlendFuncSeparate(final int srcRGB, final int dstRGB, final int srcAlpha, final int dstAlpha) {
+        if( isFiltering() ) {
+            if( blendFuncValid && srcRGB == blendFunc[0] && dstRGB == blendFunc[1] &&
+                srcAlpha == blendFunc[2] && dstAlpha == blendFunc[3] ) {
+                return elided();
+            }
+            blendFunc[0] = srcRGB;
+            blendFunc[1] = dstRGB;
+            blendFunc[2] = srcAlpha;
+            blendFunc[3] = dstAlpha;
+            blendFuncValid = true;
+        }
+        return passed();
+    }
+
+    public final boolean glBlendEquation(final int mode) {
+        return glBlendEquationSeparate(mode, mode);
+    }
+
+    public final boolean glBlendEquationSeparate(final int modeRGB, final int modeAlpha) {
+        if( isFiltering() ) {
+            if( blendEquationValid && modeRGB == blendEquation[0] && modeAlpha == blendEquation[1] ) {
+                return elided();
+            }
+            blendEquation[0] = modeRGB;
+            blendEquation[1] = modeAlpha;
+            blendEquationValid = true;
+        }
+        return passed();
+    }
+
+    public final boolean glUniform1i(final int location, final int v0) {
+        return setUniform(location, 0x11, v0, 0, 0, 0);
+    }
+    public final boolean glUniform2i(final int location, final int v0, final int v1) {
+        return setUniform(location, 0x12, v0, v1, 0, 0);
+    }
+    public final boolean glUniform3i(final int location, final int v0, final int v1, final int v2) {
+        return setUniform(location, 0x13, v0, v1, v2, 0);
+    }
+    public final boolean glUniform4i(final int location, final int v0, final int v1, final int v2, final int v3) {
+        return setUniform(location, 0x14, v0, v1, v2, v3);
+    }
+    public final boolean glUniform1f(final int location, final float v0) {
+        return setUniform(location, 0x21, Float.floatToRawIntBits(v0), 0, 0, 0);
+    }
+    public final boolean glUniform2f(final int location, final float v0, final float v1) {
+        return setUniform(location, 0x22, Float.floatToRawIntBits(v0), Float.floatToRawIntBits(v1), 0, 0);
+    }
+    public final boolean glUniform3f(final int location, final float v0, final float v1, final float v2) {
+        return setUniform(location, 0x23, Float.floatToRawIntBits(v0), Float.floatToRawIntBits(v1), Float.floatToRawIntBits(v2), 0);
+    }
+    public final boolean glUniform4f(final int location, final float v0, final float v1, final float v2, final float v3) {
+        return setUniform(location, 0x24, Float.floatToRawIntBits(v0), Float.floatToRawIntBits(v1), Float.floatToRawIntBits(v2), Float.floatToRawIntBits(v3));
+    }
+
+    private final boolean setUniform(final int location, final int type, final int v0, final int v1, final int v2, final int v3) {
+        if( isFiltering() && UNKNOWN != program && 0 <= location ) {
+            IntObjectHashMap uniforms = (IntObjectHashMap) programUniforms.get(program);
+            if( null == uniforms ) {
+                uniforms = new IntObjectHashMap();
+                programUniforms.put(program, uniforms);
+            }
+            int[] v = (int[]) uniforms.get(location);
+            if( null == v ) {
+                v = new int[5];
+                uniforms.put(location, v);
+            } else if( type == v[0] && v0 == v[1] && v1 == v[2] && v2 == v[3] && v3 == v[4] ) {
+                return elided();
+            }
+            v[0] = type;
+            v[1] = v0;
+            v[2] = v1;
+            v[3] = v2;
+            v[4] = v3;
+        }
+        return passed();
+    }
+
+    //
+    // Shadow state updates after passed GL methods
+    //
+
+    public final void glBindBufferBase(final int target, final int index, final int buffer) {
+        bufferBindings.put(target, buffer); // also binds the generic binding point
+    }
+    public final void glBindBufferRange(final int target, final int index, final int buffer, final long offset, final long size) {
+        bufferBindings.put(target, buffer); // also binds the generic binding point
+    }
+    public final void glDeleteBuffers(final int n, final int[] buffers, final int buffers_offset) {
+        invalidateBufferBindings();
+    }
+    public final void glDeleteBuffers(final int n, final IntBuffer buffers) {
+        invalidateBufferBindings();
+    }
+    public final void glDeleteVertexArrays(final int n, final int[] arrays, final int arrays_offset) {
+        invalidateBufferBindings();
+    }
+    public final void glDeleteVertexArrays(final int n, final IntBuffer arrays) {
+        invalidateBufferBindings();
+    }
+    public final void glDeleteTextures(final int n, final int[] textures, final int textures_offset) {
+        invalidateTextureBindings();
+    }
+    public final void glDeleteTextures(final int n, final IntBuffer textures) {
+        invalidateTextureBindings();
+    }
+    public final void glBindTextureUnit(final int unit, final int texture) {
+        invalidateTextureBindings();
+    }
+    public final void glBindTextures(final int first, final int count, final int[] textures, final int textures_offset) {
+        invalidateTextureBindings();
+    }
+    public final void glBindTextures(final int first, final int count, final IntBuffer textures) {
+        invalidateTextureBindings();
+    }
+    public final void glLinkProgram(final int program) {
+        invalidateProgramUniforms(program);
+    }
+    public final void glDeleteProgram(final int program) {
+        invalidateProgramUniforms(program);
+    }
+    public final void glUseProgramObjectARB(final long programObj) {
+        invalidateProgram();
+    }
+    public final void glNewList(final int list, final int mode) {
+        // state calls are recorded, may or may not be executed
+        compilingList = true;
+        invalidate();
+    }
+    public final void glEndList() {
+        compilingList = false;
+        invalidate();
+    }
+
+    private static int unitKey(final int unit, final int target) {
+        return ( unit << 16 ) | ( target & 0xffff );
+    }
+
+    /** Returns true if the given capability is per texture unit, i.e. fixed function texture enables. */
+    private static boolean isTextureUnitCapability(final int cap) {
+        switch( cap ) {
+            case GL2GL3.GL_TEXTURE_1D:
+            case GL.GL_TEXTURE_2D:
+            case GL2ES2.GL_TEXTURE_3D:
+            case GL.GL_TEXTURE_CUBE_MAP:
+            case GL2GL3.GL_TEXTURE_RECTANGLE:
+            case GLES2.GL_TEXTURE_EXTERNAL_OES:
+            case GL2.GL_TEXTURE_GEN_S:
+            case GL2.GL_TEXTURE_GEN_T:
+            case GL2.GL_TEXTURE_GEN_R:
+            case GL2.GL_TEXTURE_GEN_Q:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GLStateFilter[enabled "+enabled+", elided "+elidedCount+", passed "+passedCount+"]";
+    }
+}
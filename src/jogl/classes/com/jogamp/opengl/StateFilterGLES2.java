@@ -0,0 +1,21 @@
+package com.jogamp.opengl;
+
+/**
+ * <p>
+ * Composable pipeline which wraps an underlying {@link GL} implementation,
+ * eliding OpenGL method calls which would not change the current state
+ * as shadowed by its {@link GLStateFilter}.
+ * </p>
+ * <p>
+ * Sample code which installs this pipeline, manual:
+ * <pre>
+ *     gl = drawable.setGL(new StateFilterGL(drawable.getGL()));
+ * </pre>
+ * For automatic instantiation see {@link GLPipelineFactory#create(String, Class, GL, Object[])}.
+ * </p>
+ */
+public class StateFilterGLES2 extends StateFilterGLES3 {
+    public StateFilterGLES2(final GLES2 downstream) {
+        super((GLES3)downstream);
+    }
+}
@@ -107,6 +107,7 @@ import com.jogamp.nativewindow.awt.AWTPrintLifecycle;
 import com.jogamp.nativewindow.awt.AWTWindowClosingProtocol;
 import com.jogamp.opengl.FBObject;
 import com.jogamp.opengl.GLRendererQuirks;
+import com.jogamp.opengl.util.GLAsyncReadBufferUtil;
 import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
 import com.jogamp.opengl.util.GLPixelBuffer.SingletonGLPixelBufferProvider;
 import com.jogamp.opengl.util.GLDrawableUtil;
@@ -148,6 +149,11 @@ import com.jogamp.opengl.util.texture.TextureState;
     for later Java2D composition.
     </p>
     <p>
+    If system property <code>jogl.gljpanel.asyncreadback</code> is set and pack PBOs with fence syncs are supported,
+    the read back is pipelined via {@link GLAsyncReadBufferUtil}, i.e. the previous completed frame is copied
+    while the current frame's read is only issued. This avoids stalling the GPU pipeline at the cost of one frame latency.
+    </p>
+    <p>
     Finally the Java2D compositioning takes place via via {@link Graphics#drawImage(java.awt.Image, int, int, int, int, java.awt.image.ImageObserver) Graphics.drawImage(...)}
     on the prepared {@link BufferedImage} as described above.
     </p>
@@ -192,6 +198,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
   private static final boolean DEBUG_VIEWPORT;
   private static final boolean USE_GLSL_VERTICAL_FLIP;
   private static final boolean SKIP_VERTICAL_FLIP_DEFAULT;
+  private static final boolean USE_ASYNC_READBACK;
 
   /** Indicates whether the Java 2D OpenGL pipeline is requested by user. */
   private static final boolean java2dOGLEnabledByProp;
@@ -209,6 +216,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       DEBUG_VIEWPORT = PropertyAccess.isPropertyDefined("jogl.debug.GLJPanel.Viewport", true);
       USE_GLSL_VERTICAL_FLIP = !PropertyAccess.isPropertyDefined("jogl.gljpanel.noglsl", true);
       SKIP_VERTICAL_FLIP_DEFAULT = PropertyAccess.isPropertyDefined("jogl.gljpanel.noverticalflip", true);
+      USE_ASYNC_READBACK = PropertyAccess.isPropertyDefined("jogl.gljpanel.asyncreadback", true);
       boolean enabled = PropertyAccess.getBooleanProperty("sun.java2d.opengl", false);
       java2dOGLEnabledByProp = enabled && !PropertyAccess.isPropertyDefined("jogl.gljpanel.noogl", true);
 
@@ -229,6 +237,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
           System.err.println("GLJPanel: DEBUG_VIEWPORT "+DEBUG_VIEWPORT);
           System.err.println("GLJPanel: USE_GLSL_VERTICAL_FLIP "+USE_GLSL_VERTICAL_FLIP);
           System.err.println("GLJPanel: SKIP_VERTICAL_FLIP_DEFAULT "+SKIP_VERTICAL_FLIP_DEFAULT);
+          System.err.println("GLJPanel: USE_ASYNC_READBACK "+USE_ASYNC_READBACK);
           System.err.println("GLJPanel: java2dOGLEnabledByProp "+java2dOGLEnabledByProp);
           System.err.println("GLJPanel: useJava2DGLPipeline "+useJava2DGLPipeline);
           System.err.println("GLJPanel: java2DGLPipelineOK "+java2DGLPipelineOK);
@@ -1717,6 +1726,10 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
     // For saving/restoring of OpenGL state during ReadPixels
     private final GLPixelStorageModes psm =  new GLPixelStorageModes();
 
+    // Pipelined PBO readback, if USE_ASYNC_READBACK and supported
+    private GLAsyncReadBufferUtil asyncReader;
+    private int asyncValidWidth = 0, asyncValidHeight = 0;
+
     OffscreenBackend(final AWTGLPixelBufferProvider custom) {
         if(null == custom) {
             pixelBufferProvider = getSingleAWTGLPixelBufferProvider();
@@ -1856,6 +1869,9 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
                 if(null != fboFlipped) {
                     fboFlipped.destroy(gl);
                 }
+                if(null != asyncReader) {
+                    asyncReader.dispose(gl);
+                }
             } finally {
                 offscreenContext.destroy();
             }
@@ -1864,6 +1880,9 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       offscreenContext = null;
       glslTextureRaster = null;
       fboFlipped = null;
+      asyncReader = null;
+      asyncValidWidth = 0;
+      asyncValidHeight = 0;
       offscreenContext = null;
 
       if (offscreenDrawable != null) {
@@ -2078,7 +2097,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
               System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0.1: bound-readFBO  0x"+Integer.toHexString(gl.getBoundFramebuffer(GL.GL_READ_FRAMEBUFFER)));
               System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0.1: "+GLJPanel.this.getName()+" pixelAttribs "+pixelAttribs);
             }
-            gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
+            readPixels(gl, pixelAttribs, readBackInts);
 
             fboFlipped.unbind(gl);
             if( DEBUG_INIT ) {
@@ -2093,9 +2112,9 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
                 gl.glViewport(usrViewport[0], usrViewport[1], usrViewport[2], usrViewport[3]);
             }
         } else {
-            gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
+            final boolean updated = readPixels(gl, pixelAttribs, readBackInts);
 
-            if ( flipVertical ) {
+            if ( flipVertical && updated ) {
                 // Copy temporary data into raster of BufferedImage for faster
                 // blitting Note that we could avoid this copy in the cases
                 // where !offscreenDrawable.isGLOriented(),
@@ -2126,6 +2145,41 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       }
     }
 
+    /**
+     * Reads the panel's pixels into {@code readBackInts}.
+     * <p>
+     * If {@link #USE_ASYNC_READBACK} and supported, the read is pipelined via {@link GLAsyncReadBufferUtil},
+     * i.e. the newest completed previous frame is fetched while the current frame's read is only issued.
+     * </p>
+     * @return true if {@code readBackInts} has been updated, otherwise false and the previous image shall be kept.
+     */
+    private boolean readPixels(final GL gl, final GLPixelAttributes pixelAttribs, final IntBuffer readBackInts) {
+        if( !USE_ASYNC_READBACK || !GLAsyncReadBufferUtil.isAsyncSupported(gl) ) {
+            gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
+            return true;
+        }
+        if( null == asyncReader ) {
+            asyncReader = new GLAsyncReadBufferUtil(pixelBufferProvider, !isOpaque(), GLAsyncReadBufferUtil.DEFAULT_RING_SIZE,
+                                                    null, null, new GLAsyncReadBufferUtil.FrameListener() {
+                @Override
+                public void frameAvailable(final GLAsyncReadBufferUtil.ReadFrame frame) {
+                    frame.release(); // superseded by a newer frame
+                } } );
+        }
+        long frameNo = asyncReader.fetchLatest(gl, panelWidth, panelHeight, false, readBackInts);
+        asyncReader.readPixels(gl, 0, 0, panelWidth, panelHeight, pixelAttribs, true);
+        if( 0 > frameNo && ( asyncValidWidth != panelWidth || asyncValidHeight != panelHeight ) ) {
+            // initial frame or reshape: no valid image available yet, block on the just issued frame
+            frameNo = asyncReader.fetchLatest(gl, panelWidth, panelHeight, true, readBackInts);
+        }
+        if( 0 <= frameNo ) {
+            asyncValidWidth = panelWidth;
+            asyncValidHeight = panelHeight;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public final int getTextureUnit() {
         if(null != glslTextureRaster && null != offscreenDrawable) { // implies flippedVertical
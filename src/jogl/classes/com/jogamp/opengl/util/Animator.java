@@ -55,6 +55,13 @@ import com.jogamp.opengl.GLProfile;
     has been redrawn, a brief pause is performed to avoid swamping the
     CPU, unless {@link #setRunAsFastAsPossible} has been called.  </P>
 
+    <P> With {@link #setDeadlinePacing(float) deadline pacing} enabled,
+    the thread sleeps until the predicted start of the next frame instead. </P>
+
+    <P> With {@link AnimatorBase#MODE_PARALLEL_RENDERING} the drawables are
+    rendered in parallel on pooled worker threads, issued and awaited
+    by the animator thread. </P>
+
  * <p>
  * The Animator execution thread does not run as a daemon thread,
  * so it is able to keep an application from terminating.<br>
@@ -199,15 +206,17 @@ public class Animator extends AnimatorBase {
                         System.err.println("Animator start on " + getThreadName() + ": " + toString());
                     }
                     fpsCounter.resetFPSCounter();
+                    resetPacingDeadline();
                     animThread = Thread.currentThread();
                     isAnimating = false;
                     // 'waitForStartedCondition' wake-up is handled below!
                 }
 
+                boolean ectCleared = false;
                 while (!stopIssued) {
+                    boolean propagateUnlocked = false;
                     synchronized (Animator.this) {
                         // Pause; Also don't consume CPU unless there is work to be done and not paused
-                        boolean ectCleared = false;
                         while ( !stopIssued && ( pauseIssued || drawablesEmpty ) ) {
                             if( drawablesEmpty ) {
                                 pauseIssued = true;
@@ -219,6 +228,11 @@ public class Animator extends AnimatorBase {
                             if ( exclusiveContext && !drawablesEmpty && !ectCleared ) {
                                 ectCleared = true;
                                 setDrawablesExclCtxState(false);
+                                if( impl instanceof ParallelAnimatorImpl ) {
+                                    // display() blocks on the worker threads, whose listeners may call into this animator
+                                    propagateUnlocked = true;
+                                    break; // propagate w/o holding the lock below
+                                }
                                 try {
                                     display(); // propagate exclusive context -> off!
                                 } catch (final UncaughtAnimatorException dre) {
@@ -239,12 +253,13 @@ public class Animator extends AnimatorBase {
                             if (wasPaused) {
                                 // resume from pause -> reset counter
                                 fpsCounter.resetFPSCounter();
+                                resetPacingDeadline();
                                 if (DEBUG) {
                                     System.err.println("Animator resume on " + animThread.getName() + ": " + toString());
                                 }
                             }
                         }
-                        if (!stopIssued && !isAnimating) {
+                        if (!propagateUnlocked && !stopIssued && ( !isAnimating || ectCleared ) ) {
                             // Wakes up 'waitForStartedCondition' sync
                             // - and -
                             // Resume from pause or drawablesEmpty,
@@ -253,7 +268,20 @@ public class Animator extends AnimatorBase {
                             setDrawablesExclCtxState(exclusiveContext); // may re-enable exclusive context
                             Animator.this.notifyAll();
                         }
+                        if (!propagateUnlocked) {
+                            ectCleared = false;
+                        }
                     } // sync Animator.this
+                    if ( propagateUnlocked ) {
+                        try {
+                            display(); // propagate exclusive context -> off!
+                        } catch (final UncaughtAnimatorException dre) {
+                            caughtException = dre;
+                            stopIssued = true;
+                            break; // end animation loop
+                        }
+                        continue; // re-enter the pause loop
+                    }
                     if ( !pauseIssued && !stopIssued ) {
                         try {
                             display();
@@ -262,7 +290,7 @@ public class Animator extends AnimatorBase {
                             stopIssued = true;
                             break; // end animation loop
                         }
-                        if ( !runAsFastAsPossible ) {
+                        if ( !waitForPacedFrameStart() && !runAsFastAsPossible ) {
                             // Avoid swamping the CPU
                             Thread.yield();
                         }
@@ -286,6 +314,7 @@ public class Animator extends AnimatorBase {
                     }
                 }
             }
+            stopWorkerThreads();
             boolean flushGLRunnables = false;
             boolean throwCaughtException = false;
             synchronized (Animator.this) {
@@ -370,6 +399,7 @@ public class Animator extends AnimatorBase {
             return false;
         }
         stopIssued = true;
+        wakeUpPacing();
         return finishLifecycleAction(waitForStoppedCondition, 0);
     }
     private final Condition waitForStoppedCondition = new Condition() {
@@ -384,6 +414,7 @@ public class Animator extends AnimatorBase {
             return false;
         }
         pauseIssued = true;
+        wakeUpPacing();
         return finishLifecycleAction(waitForPausedCondition, 0);
     }
     private final Condition waitForPausedCondition = new Condition() {
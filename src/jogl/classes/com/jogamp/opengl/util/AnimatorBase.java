@@ -34,7 +34,9 @@ import jogamp.opengl.FPSCounterImpl;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
 
+import com.jogamp.opengl.FrameIntervalStats;
 import com.jogamp.opengl.GLAnimatorControl;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLException;
@@ -71,6 +73,43 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      */
     public static final int MODE_EXPECT_AWT_RENDERING_THREAD = 1 << 0;
 
+    /**
+     * If present in <code>modeBits</code> field,
+     * all {@link GLAutoDrawable}s are rendered in parallel on pooled worker threads,
+     * taking precedence over {@link #MODE_EXPECT_AWT_RENDERING_THREAD}.
+     * <p>
+     * Each {@link GLAutoDrawable} is assigned to one worker thread,
+     * where {@link GLAutoDrawable}s sharing a {@link com.jogamp.opengl.GLContext#getSharedMaster() shared master context}
+     * are assigned to the same worker thread and hence rendered sequentially.
+     * The number of worker threads is limited to the number of available processors.
+     * The animator thread issues each frame to all worker threads and waits until all have completed,
+     * hence a frame's duration is the longest duration of all worker threads instead of the sum of all {@link GLAutoDrawable}s.
+     * </p>
+     * <p>
+     * Enabling this mode also enables the {@link #setExclusiveContext(boolean) exclusive context} mode,
+     * where each {@link GLAutoDrawable}'s context is dedicated to its worker thread.
+     * </p>
+     * <p>
+     * Utilizing this mode is suitable for multiple onscreen windows or offscreen {@link GLAutoDrawable}s,
+     * but not for AWT {@link GLAutoDrawable}s.
+     * </p>
+     * @see #MODE_PARALLEL_SWAP_BARRIER
+     * @see #setModeBits(boolean, int)
+     */
+    public static final int MODE_PARALLEL_RENDERING = 1 << 1;
+
+    /**
+     * If present in <code>modeBits</code> field together w/ {@link #MODE_PARALLEL_RENDERING},
+     * all {@link GLAutoDrawable}s swap their buffers after all worker threads have completed rendering.
+     * <p>
+     * The {@link GLAutoDrawable#getAutoSwapBufferMode() auto swap buffer mode} of assigned {@link GLAutoDrawable}s
+     * is disabled while animated and {@link GLAutoDrawable#swapBuffers()} is issued by the worker threads.
+     * {@link GLAutoDrawable}s w/ disabled auto swap buffer mode are not swapped.
+     * </p>
+     * @see #setModeBits(boolean, int)
+     */
+    public static final int MODE_PARALLEL_SWAP_BARRIER = 1 << 2;
+
 
     @SuppressWarnings("serial")
     public static class UncaughtAnimatorException extends RuntimeException {
@@ -108,6 +147,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     protected Thread userExclusiveContextThread;
     protected UncaughtExceptionHandler uncaughtExceptionHandler;
     protected FPSCounterImpl fpsCounter = new FPSCounterImpl();
+    private final DeadlinePacer pacer = new DeadlinePacer();
+    private volatile boolean pacingWakeUp = false;
 
     private final static Class<?> awtAnimatorImplClazz;
     static {
@@ -152,12 +193,25 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     public AnimatorBase(final int modeBits) {
         this.modeBits = modeBits;
         drawablesEmpty = true;
+        exclusiveContext = useParallelAnimatorImpl(modeBits);
     }
 
     private static final boolean useAWTAnimatorImpl(final int modeBits) {
         return 0 != ( MODE_EXPECT_AWT_RENDERING_THREAD & modeBits ) && null != awtAnimatorImplClazz;
     }
 
+    private static final boolean useParallelAnimatorImpl(final int modeBits) {
+        return 0 != ( MODE_PARALLEL_RENDERING & modeBits );
+    }
+
+    private static final int getImplModeBits(final int modeBits) {
+        if( useParallelAnimatorImpl(modeBits) ) {
+            return modeBits & ( MODE_PARALLEL_RENDERING | MODE_PARALLEL_SWAP_BARRIER );
+        } else {
+            return useAWTAnimatorImpl(modeBits) ? MODE_EXPECT_AWT_RENDERING_THREAD : 0;
+        }
+    }
+
     /**
      * Initializes implementation details post setup,
      * invoked at {@link #add(GLAutoDrawable)}, {@link #start()}, ..
@@ -171,7 +225,14 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     protected final synchronized void initImpl(final boolean force) {
         if( force || null == impl ) {
             final String seqSuffix = String.format((Locale)null, "#%02d", seqInstanceNumber++);
-            if( useAWTAnimatorImpl( modeBits ) ) {
+            if( null != impl ) {
+                stopWorkerThreads();
+                impl = null;
+            }
+            if( useParallelAnimatorImpl( modeBits ) ) {
+                baseName = getBaseName("Parallel")+seqSuffix;
+                impl = new ParallelAnimatorImpl(baseName, 0 != ( MODE_PARALLEL_SWAP_BARRIER & modeBits ));
+            } else if( useAWTAnimatorImpl( modeBits ) ) {
                 try {
                     impl = (AnimatorImpl) awtAnimatorImplClazz.newInstance();
                     baseName = getBaseName("AWT")+seqSuffix;
@@ -194,21 +255,26 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      * @param enable
      * @param bitValues
      *
-     * @throws GLException if Animator is {@link #isStarted()} and {@link #MODE_EXPECT_AWT_RENDERING_THREAD} about to change
+     * @throws GLException if Animator is {@link #isStarted()} and the implementation selected by
+     *         {@link #MODE_EXPECT_AWT_RENDERING_THREAD}, {@link #MODE_PARALLEL_RENDERING} or {@link #MODE_PARALLEL_SWAP_BARRIER} is about to change
      * @see AnimatorBase#MODE_EXPECT_AWT_RENDERING_THREAD
+     * @see AnimatorBase#MODE_PARALLEL_RENDERING
+     * @see AnimatorBase#MODE_PARALLEL_SWAP_BARRIER
      */
     public final synchronized void setModeBits(final boolean enable, final int bitValues) throws GLException {
         final int _oldModeBits = modeBits;
-        if(enable) {
-            modeBits |=  bitValues;
-        } else {
-            modeBits &= ~bitValues;
-        }
-        if( useAWTAnimatorImpl( _oldModeBits ) != useAWTAnimatorImpl( modeBits ) ) {
+        final int newModeBits = enable ? modeBits | bitValues : modeBits & ~bitValues;
+        if( getImplModeBits( _oldModeBits ) != getImplModeBits( newModeBits ) ) {
             if( isStarted() ) {
                 throw new GLException("Animator already started");
             }
+            modeBits = newModeBits;
+            if( useParallelAnimatorImpl( _oldModeBits ) != useParallelAnimatorImpl( modeBits ) ) {
+                exclusiveContext = useParallelAnimatorImpl( modeBits );
+            }
             initImpl(true);
+        } else {
+            modeBits = newModeBits;
         }
     }
     public synchronized int getModeBits() { return modeBits; }
@@ -225,7 +291,7 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         initImpl(false);
         pause();
         if( isStarted() ) {
-            drawable.setExclusiveContextThread( exclusiveContext ? getExclusiveContextThread() : null ); // if already running ..
+            drawable.setExclusiveContextThread( exclusiveContext ? getExclusiveContextThread(drawable, getExclusiveContextThread()) : null ); // if already running ..
         }
         drawables.add(drawable);
         drawablesEmpty = drawables.size() == 0;
@@ -442,7 +508,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         final Thread ect = getExclusiveContextThread();
         for (int i=0; i<drawables.size(); i++) {
             try {
-                drawables.get(i).setExclusiveContextThread( enable ? ect : null );
+                final GLAutoDrawable drawable = drawables.get(i);
+                drawable.setExclusiveContextThread( enable ? getExclusiveContextThread(drawable, ect) : null );
             } catch (final RuntimeException e) {
                 e.printStackTrace();
             }
@@ -450,13 +517,41 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     }
     protected final boolean validateDrawablesExclCtxState(final Thread expected) {
         for (int i=0; i<drawables.size(); i++) {
-            if( expected != drawables.get(i).getExclusiveContextThread() ) {
+            final GLAutoDrawable drawable = drawables.get(i);
+            if( getExclusiveContextThread(drawable, expected) != drawable.getExclusiveContextThread() ) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the exclusive context thread of the given {@link GLAutoDrawable},
+     * i.e. its worker thread if {@link #MODE_PARALLEL_RENDERING rendering in parallel}
+     * and <code>ect</code> is the {@link #getThread() animator thread}, otherwise <code>ect</code>.
+     */
+    private final Thread getExclusiveContextThread(final GLAutoDrawable drawable, final Thread ect) {
+        if( null != ect && ect == animThread && impl instanceof ParallelAnimatorImpl ) {
+            return ((ParallelAnimatorImpl)impl).getWorkerThread(drawable);
+        }
+        return ect;
+    }
+
+    /**
+     * Terminates the worker threads if {@link #MODE_PARALLEL_RENDERING rendering in parallel},
+     * which are created again on demand.
+     * <p>
+     * Should be called at {@link #stop()} from within the animator thread
+     * after propagating the release of the exclusive context thread.
+     * </p>
+     */
+    protected final void stopWorkerThreads() {
+        final AnimatorImpl _impl = impl;
+        if( _impl instanceof ParallelAnimatorImpl ) {
+            ((ParallelAnimatorImpl)_impl).shutdown();
+        }
+    }
+
     @Override
     public final synchronized Thread getThread() {
         return animThread;
@@ -468,8 +563,116 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         components this Animator manages, in particular when multiple
         lightweight widgets are continually being redrawn. */
     protected final void display() throws UncaughtAnimatorException {
+        final long t0 = System.nanoTime();
         impl.display(drawables, ignoreExceptions, printExceptions);
         fpsCounter.tickFPS();
+        if( pacer.frameDone(t0, System.nanoTime()) && DEBUG ) {
+            System.err.println("Animator missed frame deadline on "+getThreadName()+": "+pacer);
+        }
+    }
+
+    /**
+     * Enables deadline driven frame pacing w/ the given target frame rate, zero disables it.
+     * <p>
+     * Each frame's deadline is a multiple of the target period. The cost of recent frames,
+     * i.e. the duration of rendering and swapping all drawables, is used to predict the next frame's cost.
+     * The animator thread sleeps via {@link LockSupport#parkNanos(Object, long)} until the predicted start
+     * of the next frame, reaching the target rate w/ minimal CPU usage and jitter.
+     * Frames ending after their deadline are counted, see {@link #getMissedDeadlines()}.
+     * </p>
+     * <p>
+     * The given frame rate is also passed to {@link #setTargetFPS(float)}
+     * for counting dropped frames via {@link #getFrameIntervalStats()}.
+     * </p>
+     * <p>
+     * Deadline pacing replaces {@link Animator}'s brief pause between frames.
+     * It is not used by {@link FPSAnimator}, which schedules its frames via a fixed rate timer.
+     * </p>
+     * @param fps target frames per seconds, zero disables deadline pacing
+     */
+    public final void setDeadlinePacing(final float fps) {
+        pacer.setFPS(fps);
+        pacer.resetStats();
+        fpsCounter.setTargetFPS(fps);
+    }
+
+    /**
+     * Returns the target frame rate of deadline pacing, zero if disabled.
+     * @see #setDeadlinePacing(float)
+     */
+    public final float getDeadlinePacingFPS() {
+        return pacer.getFPS();
+    }
+
+    /**
+     * Returns the number of frames which missed their deadline since enabling deadline pacing.
+     * @see #setDeadlinePacing(float)
+     */
+    public final long getMissedDeadlines() {
+        return pacer.getMissedDeadlines();
+    }
+
+    /**
+     * Returns the predicted cost of the next frame in nanoseconds, i.e. the duration of rendering and swapping all drawables.
+     * @see #setDeadlinePacing(float)
+     */
+    public final long getPredictedFrameCost() {
+        return pacer.getPredictedCost();
+    }
+
+    /**
+     * Resets the deadline of {@link #setDeadlinePacing(float) deadline pacing}, e.g. after start or resume.
+     * <p>
+     * Shall be called on the animator thread.
+     * </p>
+     */
+    protected final void resetPacingDeadline() {
+        pacer.reset();
+        pacingWakeUp = false;
+    }
+
+    /**
+     * Sleeps until the predicted start of the next frame, if {@link #setDeadlinePacing(float) deadline pacing} is enabled.
+     * <p>
+     * Returns early if {@link #wakeUpPacing()} has been called, hence callers shall re-validate their state.
+     * </p>
+     * <p>
+     * Shall be called on the animator thread after {@link #display()}.
+     * </p>
+     * @return true if deadline pacing is enabled, otherwise false
+     */
+    protected final boolean waitForPacedFrameStart() {
+        if( !pacer.isEnabled() ) {
+            return false;
+        }
+        final long start = pacer.getNextStart();
+        if( 0 != start ) {
+            final long wakeAt = start - pacer.getOvershoot();
+            long now = System.nanoTime();
+            if( now < wakeAt ) {
+                while( !pacingWakeUp && now < wakeAt ) {
+                    LockSupport.parkNanos(this, wakeAt - now);
+                    now = System.nanoTime();
+                }
+                if( !pacingWakeUp ) {
+                    pacer.woke(wakeAt, now);
+                }
+            }
+        }
+        pacingWakeUp = false;
+        return true;
+    }
+
+    /**
+     * Wakes up the animator thread sleeping in {@link #waitForPacedFrameStart()},
+     * e.g. when issuing a pause or stop.
+     */
+    protected final void wakeUpPacing() {
+        pacingWakeUp = true;
+        final Thread t = animThread;
+        if( null != t ) {
+            LockSupport.unpark(t);
+        }
     }
 
     @Override
@@ -522,6 +725,21 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         return fpsCounter.getTotalFPS();
     }
 
+    @Override
+    public final void setTargetFPS(final float fps) {
+        fpsCounter.setTargetFPS(fps);
+    }
+
+    @Override
+    public final float getTargetFPS() {
+        return fpsCounter.getTargetFPS();
+    }
+
+    @Override
+    public final FrameIntervalStats getFrameIntervalStats() {
+        return fpsCounter.getFrameIntervalStats();
+    }
+
     /** Sets a flag causing this Animator to ignore exceptions produced
     while redrawing the drawables. By default this flag is set to
     false, causing any exception thrown to halt the Animator. */
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+/**
+ * Deadline driven frame pacing state of an {@link AnimatorBase}.
+ * <p>
+ * Each frame has a deadline at a multiple of the target period.
+ * The cost of a frame, i.e. the duration of {@link AnimatorBase#display()} including swap,
+ * is estimated by a smoothed mean plus twice its smoothed mean deviation, similar to TCP's RTT estimation.
+ * The next frame shall start at its deadline minus the estimated cost minus the smoothed sleep overshoot,
+ * hence the animator thread may sleep until then.
+ * </p>
+ * <p>
+ * A frame ending after its deadline counts as a missed deadline
+ * and the next deadline is moved to the next period slot after that frame.
+ * </p>
+ * <p>
+ * All methods besides the setter and getter must be called on the animator thread.
+ * </p>
+ */
+final class DeadlinePacer {
+    private volatile long periodNS;
+    private volatile float fps;
+    private volatile long missedDeadlines;
+    private volatile long costNS, costDevNS, overshootNS;
+    private long deadlineNS;
+
+    DeadlinePacer() {
+        periodNS = 0;
+        fps = 0f;
+        reset();
+    }
+
+    /** Sets the target frame rate, zero disables pacing. */
+    void setFPS(final float fps) {
+        this.fps = Math.max(0f, fps);
+        this.periodNS = 0f < fps ? (long) ( 1e9 / fps ) : 0;
+    }
+    float getFPS() { return fps; }
+    boolean isEnabled() { return 0 < periodNS; }
+
+    long getMissedDeadlines() { return missedDeadlines; }
+
+    /** Returns the estimated frame cost in nanoseconds. */
+    long getPredictedCost() { return costNS + 2 * costDevNS; }
+
+    /** Returns the smoothed sleep overshoot in nanoseconds. */
+    long getOvershoot() { return overshootNS; }
+
+    /** Resets the deadline, e.g. after start or resume, keeping the cost estimation. */
+    void reset() {
+        deadlineNS = 0;
+    }
+
+    /** Clears all statistics. */
+    void resetStats() {
+        missedDeadlines = 0;
+    }
+
+    /**
+     * Updates the cost estimation w/ the given frame and advances the deadline.
+     * @return true if the frame missed its deadline
+     */
+    boolean frameDone(final long startNS, final long endNS) {
+        final long cost = endNS - startNS;
+        final long err = cost - costNS;
+        costNS += err / 8;
+        costDevNS += ( Math.abs(err) - costDevNS ) / 4;
+
+        final long period = periodNS;
+        if( 0 >= period ) {
+            deadlineNS = 0;
+            return false;
+        }
+        if( 0 == deadlineNS ) {
+            deadlineNS = endNS + period;
+            return false;
+        }
+        final boolean missed = endNS > deadlineNS;
+        if( missed ) {
+            missedDeadlines++;
+            deadlineNS += ( ( endNS - deadlineNS ) / period ) * period;
+        }
+        deadlineNS += period;
+        return missed;
+    }
+
+    /** Returns the {@link System#nanoTime()} to start the next frame, or zero if disabled or no deadline is set. */
+    long getNextStart() {
+        if( 0 >= periodNS || 0 == deadlineNS ) {
+            return 0;
+        }
+        return deadlineNS - getPredictedCost();
+    }
+
+    /** Returns the current deadline, i.e. the end time of the next frame, or zero if none is set. */
+    long getDeadline() { return deadlineNS; }
+
+    /** Updates the smoothed sleep overshoot after waking up at <code>nowNS</code> for the given <code>targetNS</code>. */
+    void woke(final long targetNS, final long nowNS) {
+        final long over = Math.max(0, nowNS - targetNS);
+        overshootNS += ( over - overshootNS ) / 8;
+    }
+
+    @Override
+    public String toString() {
+        return "DeadlinePacer[fps "+fps+", cost "+costNS/1000+" us, dev "+costDevNS/1000+" us, overshoot "+overshootNS/1000+" us, missed "+missedDeadlines+"]";
+    }
+}
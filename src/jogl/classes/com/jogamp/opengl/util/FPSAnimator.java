@@ -296,6 +296,7 @@ public class FPSAnimator extends AnimatorBase {
                             }
                         }
                     }
+                    stopWorkerThreads();
                     boolean flushGLRunnables = false;
                     boolean throwCaughtException = false;
                     synchronized (FPSAnimator.this) {
@@ -0,0 +1,621 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelBufferProvider;
+
+/**
+ * Asynchronous variant of {@link GLReadBufferUtil}, reading the current FB
+ * into a small ring of {@link GL2ES3#GL_PIXEL_PACK_BUFFER pack PBOs} guarded by fence sync objects.
+ * <p>
+ * {@link #readPixels(GL, int, int, int, int, boolean) readPixels(..)} of frame <code>N</code>
+ * only issues the {@link GL#glReadPixels(int, int, int, int, int, int, long) glReadPixels(..)} command into the next free PBO
+ * and returns immediately. Its data is fetched while frames <code>N+1 .. N+k</code> are being rendered,
+ * i.e. once its fence has been signaled, where <code>k+1</code> is the {@link #getRingSize() ring size}.
+ * The ring is {@link #poll(GL) polled} on each <code>readPixels(..)</code> call and completed frames are
+ * handed out via {@link FrameListener#frameAvailable(ReadFrame)}.
+ * </p>
+ * <p>
+ * Copying a completed PBO into host memory is performed on the GL thread,
+ * optional vertical flipping and {@link PixelFormat} conversion as well as the {@link FrameListener} callback
+ * are performed off-thread if an {@link Executor} is given.
+ * </p>
+ * <p>
+ * If the current context does not support PBOs and fence syncs, see {@link #isAsyncSupported(GL)},
+ * this instance falls back to a synchronous {@link GL#glReadPixels(int, int, int, int, int, int, Buffer) glReadPixels(..)},
+ * while delivering the data through the same {@link FrameListener} path.
+ * </p>
+ * <p>
+ * All methods taking a {@link GL} instance must be called on the GL thread with the context being current.
+ * </p>
+ */
+public class GLAsyncReadBufferUtil {
+    /** Default ring size of 3, i.e. pipelining two frames. */
+    public static final int DEFAULT_RING_SIZE = 3;
+
+    /** Listener receiving completed frames, see {@link GLAsyncReadBufferUtil}. */
+    public static interface FrameListener {
+        /**
+         * Called for each completed frame in sequence.
+         * <p>
+         * Called off-thread if an {@link Executor} has been passed, otherwise on the GL thread.
+         * </p>
+         * <p>
+         * Implementation shall {@link ReadFrame#release() release} the frame when done,
+         * allowing its pixel storage to be reused.
+         * </p>
+         */
+        void frameAvailable(ReadFrame frame);
+    }
+
+    /** A completed frame, see {@link FrameListener#frameAvailable(ReadFrame)}. */
+    public static class ReadFrame {
+        private final ConcurrentLinkedQueue<ByteBuffer> pool;
+        /** Frame number as returned by {@link GLAsyncReadBufferUtil#readPixels(GL, int, int, int, int, boolean) readPixels(..)}. */
+        public final long frameNo;
+        /** Width in pixels */
+        public final int width;
+        /** Height in pixels */
+        public final int height;
+        /** {@link PixelFormat} of {@link #pixels} */
+        public final PixelFormat pixelFormat;
+        /** Line stride in bytes of {@link #pixels} */
+        public final int stride;
+        /** If true, {@link #pixels} is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>, otherwise <i>origin at top left</i>. */
+        public final boolean isGLOriented;
+        /** The pixel data, valid until {@link #release()}. */
+        public final ByteBuffer pixels;
+
+        ReadFrame(final ConcurrentLinkedQueue<ByteBuffer> pool, final long frameNo, final int width, final int height,
+                  final PixelFormat pixelFormat, final int stride, final boolean isGLOriented, final ByteBuffer pixels) {
+            this.pool = pool;
+            this.frameNo = frameNo;
+            this.width = width;
+            this.height = height;
+            this.pixelFormat = pixelFormat;
+            this.stride = stride;
+            this.isGLOriented = isGLOriented;
+            this.pixels = pixels;
+        }
+
+        /** Returns the pixel storage to the owning {@link GLAsyncReadBufferUtil} for reuse. */
+        public void release() {
+            pool.offer(pixels);
+        }
+
+        @Override
+        public String toString() {
+            return "ReadFrame[#"+frameNo+", "+width+"x"+height+", "+pixelFormat+", stride "+stride+", glOriented "+isGLOriented+"]";
+        }
+    }
+
+    /** One PBO of the ring */
+    private static class Slot {
+        int pbo = 0;
+        int pboSize = 0;
+        long sync = 0;
+        long frameNo;
+        int width, height, stride;
+        PixelFormat pixFmt;
+        boolean isGLOriented;
+        boolean pending = false;
+    }
+
+    private final GLPixelBufferProvider pixelBufferProvider;
+    private final boolean alphaRequested;
+    private final Executor executor;
+    private final PixelFormat destFormat;
+    private final FrameListener listener;
+    private final GLPixelStorageModes psm;
+    private final Slot[] ring;
+    private final ConcurrentLinkedQueue<ByteBuffer> hostPool = new ConcurrentLinkedQueue<ByteBuffer>();
+    private int readBuffer = -1;
+    private int head = 0; // next slot to issue
+    private int tail = 0; // oldest pending slot
+    private int pendingCount = 0;
+    private long frameCount = 0;
+    private long deliveredCount = 0;
+    private long droppedCount = 0;
+    private long stallCount = 0;
+    private boolean hasAlpha;
+
+    /**
+     * Using the default {@link GLPixelBuffer}: {@link GLPixelBuffer#defaultProviderNoRowStride},
+     * the {@link #DEFAULT_RING_SIZE}, no format conversion and delivering frames on the GL thread.
+     *
+     * @param requestAlpha true for RGBA readPixels, otherwise RGB readPixels.
+     * @param listener the {@link FrameListener} receiving completed frames
+     */
+    public GLAsyncReadBufferUtil(final boolean requestAlpha, final FrameListener listener) {
+        this(GLPixelBuffer.defaultProviderNoRowStride, requestAlpha, DEFAULT_RING_SIZE, null, null, listener);
+    }
+
+    /**
+     * @param pixelBufferProvider {@link GLPixelBufferProvider} used to determine the {@link GLPixelAttributes}
+     * @param requestAlpha true for RGBA readPixels, otherwise RGB readPixels.
+     * @param ringSize number of PBOs in the ring, must be &ge; 2
+     * @param executor optional {@link Executor} to perform vertical flipping, format conversion and the {@link FrameListener} callback off-thread,
+     *                 if {@code null} all is performed on the GL thread.
+     * @param destFormat optional destination {@link PixelFormat} to convert to, if {@code null} the GL read format is kept.
+     * @param listener the {@link FrameListener} receiving completed frames
+     */
+    public GLAsyncReadBufferUtil(final GLPixelBufferProvider pixelBufferProvider, final boolean requestAlpha, final int ringSize,
+                                 final Executor executor, final PixelFormat destFormat, final FrameListener listener) {
+        if( 2 > ringSize ) {
+            throw new IllegalArgumentException("ringSize "+ringSize+" < 2");
+        }
+        if( null == listener ) {
+            throw new IllegalArgumentException("Null listener");
+        }
+        this.pixelBufferProvider = pixelBufferProvider;
+        this.alphaRequested = requestAlpha;
+        this.hasAlpha = requestAlpha; // preset
+        this.executor = executor;
+        this.destFormat = destFormat;
+        this.listener = listener;
+        this.psm = new GLPixelStorageModes();
+        this.ring = new Slot[ringSize];
+        for(int i=0; i<ringSize; i++) {
+            ring[i] = new Slot();
+        }
+    }
+
+    /**
+     * Returns true if the given {@link GL} supports asynchronous readback,
+     * i.e. {@link GL2ES3#GL_PIXEL_PACK_BUFFER pack PBOs}, {@link GL#glMapBufferRange(int, long, long, int) glMapBufferRange(..)}
+     * and {@link GL3ES3#glFenceSync(int, int) fence sync objects}.
+     */
+    public static boolean isAsyncSupported(final GL gl) {
+        return gl.isGL2ES3() && gl.isGL3ES3() &&
+               gl.isFunctionAvailable("glFenceSync") &&
+               gl.isFunctionAvailable("glMapBufferRange");
+    }
+
+    public void setReadBuffer(final int name) { readBuffer = name; }
+
+    /** Returns true if the OpenGL read data contains alpha. This value is lazily determined after the first call of {@link #readPixels(GL, int, int, int, int, boolean) readPixels} */
+    public boolean hasAlpha() { return hasAlpha; }
+
+    /** Returns the number of PBOs in the ring. */
+    public final int getRingSize() { return ring.length; }
+
+    /** Returns the number of issued frames neither delivered nor dropped yet. */
+    public final int getPendingCount() { return pendingCount; }
+
+    /** Returns the number of issued frames. */
+    public final long getFrameCount() { return frameCount; }
+
+    /** Returns the number of delivered frames, i.e. passed to the {@link FrameListener} or copied by {@link #fetchLatest(GL, int, int, boolean, IntBuffer) fetchLatest(..)}. */
+    public final long getDeliveredCount() { return deliveredCount; }
+
+    /** Returns the number of dropped frames, e.g. older frames skipped by {@link #fetchLatest(GL, int, int, boolean, IntBuffer) fetchLatest(..)} or failed to be read. */
+    public final long getDroppedCount() { return droppedCount; }
+
+    /** Returns the number of times {@link #readPixels(GL, int, int, int, int, boolean) readPixels(..)} had to block on the oldest frame, since the ring was full. */
+    public final long getStallCount() { return stallCount; }
+
+    /**
+     * Issue reading the drawable's pixels asynchronously, see {@link GLAsyncReadBufferUtil}.
+     * <p>
+     * Completed frames are {@link #poll(GL) polled} before issuing the new read command.
+     * If the ring is full, this method blocks until the oldest frame has been completed.
+     * </p>
+     *
+     * @param gl the current GL context object. It's read drawable is being used as the pixel source.
+     * @param inX readPixel x offset
+     * @param inY readPixel y offset
+     * @param inWidth optional readPixel width value, used if [1 .. drawable.width], otherwise using drawable.width
+     * @param inHeight optional readPixel height, used if [1 .. drawable.height], otherwise using drawable.height
+     * @param mustFlipVertically indicates whether to flip the data vertically or not.
+     *                           The context's drawable {@link GLDrawable#isGLOriented()} state
+     *                           is taken into account.
+     * @return the frame number of the issued read, or {@code -1} on failure.
+     */
+    public long readPixels(final GL gl, final int inX, final int inY, final int inWidth, final int inHeight, final boolean mustFlipVertically) {
+        final GLDrawable drawable = gl.getContext().getGLReadDrawable();
+        final int width, height;
+        if( 0 >= inWidth || drawable.getSurfaceWidth() < inWidth ) {
+            width = drawable.getSurfaceWidth();
+        } else {
+            width = inWidth;
+        }
+        if( 0 >= inHeight || drawable.getSurfaceHeight() < inHeight ) {
+            height = drawable.getSurfaceHeight();
+        } else {
+            height= inHeight;
+        }
+        final boolean flipVertically;
+        if( drawable.isGLOriented() ) {
+            flipVertically = mustFlipVertically;
+        } else {
+            flipVertically = !mustFlipVertically;
+        }
+        final int reqCompCount = alphaRequested ? 4 : 3;
+        final GLPixelAttributes pixelAttribs = pixelBufferProvider.getAttributes(gl, reqCompCount, true);
+        hasAlpha = 0 <= pixelAttribs.pfmt.comp.find(PixelFormat.CType.A);
+        return readPixelsImpl(gl, inX, inY, width, height, pixelAttribs, !flipVertically);
+    }
+
+    /**
+     * Issue reading the current read buffer's pixels asynchronously using the given {@link GLPixelAttributes},
+     * see {@link #readPixels(GL, int, int, int, int, boolean)}.
+     *
+     * @param gl the current GL context object
+     * @param x readPixel x offset
+     * @param y readPixel y offset
+     * @param width readPixel width
+     * @param height readPixel height
+     * @param pixelAttribs {@link GLPixelAttributes} to be used
+     * @param isGLOriented true if the resulting data shall be laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                     i.e. no vertical flipping is required.
+     * @return the frame number of the issued read, or {@code -1} on failure.
+     */
+    public long readPixels(final GL gl, final int x, final int y, final int width, final int height,
+                           final GLPixelAttributes pixelAttribs, final boolean isGLOriented) {
+        return readPixelsImpl(gl, x, y, width, height, pixelAttribs, isGLOriented);
+    }
+
+    private long readPixelsImpl(final GL gl, final int x, final int y, final int width, final int height,
+                                final GLPixelAttributes pixelAttribs, final boolean isGLOriented) {
+        if( 0 >= width || 0 >= height ) {
+            return -1;
+        }
+        final int glerr0 = gl.glGetError();
+        if(GL.GL_NO_ERROR != glerr0) {
+            System.err.println("Info: GLAsyncReadBufferUtil.readPixels: pre-exisiting GL error 0x"+Integer.toHexString(glerr0));
+        }
+        final int bpp = pixelAttribs.pfmt.comp.bytesPerPixel();
+        final int alignment = 4 == pixelAttribs.pfmt.comp.componentCount() ? 4 : 1;
+        final int tmp[] = new int[1];
+        final int readPixelSize = GLBuffers.sizeof(gl, tmp, bpp, width, height, 1, true);
+        final long frameNo = frameCount;
+
+        final boolean async = isAsyncSupported(gl);
+        if( async ) {
+            poll(gl);
+            if( pendingCount == ring.length ) {
+                stallCount++;
+                completeOldest(gl, true);
+            }
+        }
+        psm.setPackAlignment(gl, alignment);
+        if(gl.isGL2ES3()) {
+            final GL2ES3 gl2es3 = gl.getGL2ES3();
+            psm.setPackRowLength(gl2es3, width);
+            if( 0 > readBuffer ) {
+                gl2es3.glReadBuffer(gl2es3.getDefaultReadBuffer());
+            } else {
+                gl2es3.glReadBuffer(readBuffer);
+            }
+        }
+        boolean res = true;
+        try {
+            if( async ) {
+                final GL3ES3 gl3es3 = gl.getGL3ES3();
+                final Slot s = ring[head];
+                if( 0 == s.pbo ) {
+                    gl.glGenBuffers(1, tmp, 0);
+                    s.pbo = tmp[0];
+                    s.pboSize = 0;
+                }
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, s.pbo);
+                if( s.pboSize < readPixelSize ) {
+                    gl.glBufferData(GL2ES3.GL_PIXEL_PACK_BUFFER, readPixelSize, null, GL2ES3.GL_STREAM_READ);
+                    s.pboSize = readPixelSize;
+                }
+                gl.glReadPixels(x, y, width, height, pixelAttribs.format, pixelAttribs.type, 0L);
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+                s.sync = gl3es3.glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+                s.frameNo = frameNo;
+                s.width = width;
+                s.height = height;
+                s.stride = width * bpp;
+                s.pixFmt = pixelAttribs.pfmt;
+                s.isGLOriented = isGLOriented;
+                s.pending = true;
+                head = ( head + 1 ) % ring.length;
+                pendingCount++;
+            } else {
+                final ByteBuffer host = acquireHostBuffer(readPixelSize);
+                gl.glReadPixels(x, y, width, height, pixelAttribs.format, pixelAttribs.type, host);
+                host.position(0);
+                host.limit(readPixelSize);
+                dispatch(frameNo, width, height, pixelAttribs.pfmt, width * bpp, isGLOriented, host);
+            }
+        } catch(final GLException gle) { res = false; gle.printStackTrace(); }
+        psm.restore(gl);
+        final int glerr1 = gl.glGetError();
+        if(GL.GL_NO_ERROR != glerr1) {
+            System.err.println("GLAsyncReadBufferUtil.readPixels: readPixels error 0x"+Integer.toHexString(glerr1)+
+                               " "+width+"x"+height+", "+pixelAttribs+", sz "+readPixelSize);
+            res = false;
+        }
+        if( !res ) {
+            return -1;
+        }
+        frameCount++;
+        return frameNo;
+    }
+
+    /**
+     * Deliver all completed frames in sequence without blocking.
+     * @param gl the current GL context object
+     * @return number of delivered frames
+     */
+    public int poll(final GL gl) {
+        int n = 0;
+        while( 0 < pendingCount && completeOldest(gl, false) ) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Deliver all pending frames in sequence, blocking until completed.
+     * @param gl the current GL context object
+     * @return number of delivered frames
+     */
+    public int flush(final GL gl) {
+        int n = 0;
+        while( 0 < pendingCount && completeOldest(gl, true) ) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Fetch the newest completed frame into the given {@link IntBuffer} on the GL thread,
+     * bypassing the {@link FrameListener} for all older completed frames.
+     * <p>
+     * Utilized by pipelined consumers on the GL thread like the {@link com.jogamp.opengl.awt.GLJPanel GLJPanel},
+     * where the latest frame is of interest only.
+     * </p>
+     * <p>
+     * Only frames of the given {@code width} x {@code height} are accepted, others are dropped.
+     * Skipped older frames are counted as {@link #getDroppedCount() dropped}.
+     * If {@code wait} is true and no completed frame is available, this method blocks on the oldest pending frame.
+     * </p>
+     * <p>
+     * Data is copied as is, i.e. w/o vertical flipping nor format conversion.
+     * </p>
+     * @param gl the current GL context object
+     * @param width required frame width
+     * @param height required frame height
+     * @param wait if true and no completed frame is available, block on the oldest pending frame
+     * @param dest the destination {@link IntBuffer}, capable to hold {@code width * height} pixels
+     * @return the frame number of the copied frame or {@code -1} if no frame has been copied
+     */
+    public long fetchLatest(final GL gl, final int width, final int height, final boolean wait, final IntBuffer dest) {
+        long res = -1;
+        final GL3ES3 gl3es3 = gl.getGL3ES3();
+        while( 0 < pendingCount ) {
+            final Slot s = ring[tail];
+            final boolean isNewest = 1 == pendingCount;
+            final boolean doWait = wait && -1 == res;
+            if( !waitSync(gl3es3, s, doWait) ) {
+                break;
+            }
+            boolean copied = false;
+            if( s.width == width && s.height == height && ( isNewest || !isSignaled(gl3es3, ring[( tail + 1 ) % ring.length]) ) ) {
+                final ByteBuffer mapped = mapSlot(gl, s);
+                if( null != mapped ) {
+                    final int pos = dest.position();
+                    dest.put(mapped.order(ByteOrder.nativeOrder()).asIntBuffer());
+                    dest.position(pos);
+                    gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+                    res = s.frameNo;
+                    copied = true;
+                }
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+            }
+            releaseSlot(gl3es3, s);
+            if( copied ) {
+                deliveredCount++;
+            } else {
+                droppedCount++;
+            }
+        }
+        return res;
+    }
+
+    private boolean isSignaled(final GL3ES3 gl3es3, final Slot s) {
+        if( !s.pending ) {
+            return false;
+        }
+        final int r = gl3es3.glClientWaitSync(s.sync, 0, 0);
+        return GL3ES3.GL_ALREADY_SIGNALED == r || GL3ES3.GL_CONDITION_SATISFIED == r;
+    }
+
+    private boolean waitSync(final GL3ES3 gl3es3, final Slot s, final boolean wait) {
+        if( !wait ) {
+            return isSignaled(gl3es3, s);
+        }
+        while( true ) {
+            final int r = gl3es3.glClientWaitSync(s.sync, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, 1000000000L /* 1s */);
+            if( GL3ES3.GL_ALREADY_SIGNALED == r || GL3ES3.GL_CONDITION_SATISFIED == r ) {
+                return true;
+            } else if( GL3ES3.GL_WAIT_FAILED == r ) {
+                return false;
+            } // else GL_TIMEOUT_EXPIRED: continue
+        }
+    }
+
+    private ByteBuffer mapSlot(final GL gl, final Slot s) {
+        final int size = s.stride * s.height;
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, s.pbo);
+        final ByteBuffer mapped = gl.glMapBufferRange(GL2ES3.GL_PIXEL_PACK_BUFFER, 0, size, GL.GL_MAP_READ_BIT);
+        if( null != mapped ) {
+            mapped.position(0);
+            mapped.limit(size);
+        }
+        return mapped;
+    }
+
+    private void releaseSlot(final GL3ES3 gl3es3, final Slot s) {
+        if( 0 != s.sync ) {
+            gl3es3.glDeleteSync(s.sync);
+            s.sync = 0;
+        }
+        s.pending = false;
+        tail = ( tail + 1 ) % ring.length;
+        pendingCount--;
+    }
+
+    private boolean completeOldest(final GL gl, final boolean wait) {
+        final Slot s = ring[tail];
+        final GL3ES3 gl3es3 = gl.getGL3ES3();
+        if( !waitSync(gl3es3, s, wait) ) {
+            if( wait ) {
+                // GL_WAIT_FAILED: drop frame
+                releaseSlot(gl3es3, s);
+                droppedCount++;
+            }
+            return false;
+        }
+        final ByteBuffer mapped = mapSlot(gl, s);
+        if( null != mapped ) {
+            final int size = s.stride * s.height;
+            final ByteBuffer host = acquireHostBuffer(size);
+            host.put(mapped);
+            host.flip();
+            gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+            final long frameNo = s.frameNo;
+            final int width = s.width, height = s.height, stride = s.stride;
+            final PixelFormat pixFmt = s.pixFmt;
+            final boolean isGLOriented = s.isGLOriented;
+            releaseSlot(gl3es3, s);
+            dispatch(frameNo, width, height, pixFmt, stride, isGLOriented, host);
+        } else {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+            releaseSlot(gl3es3, s);
+            droppedCount++;
+        }
+        return true;
+    }
+
+    private ByteBuffer acquireHostBuffer(final int size) {
+        ByteBuffer b;
+        while( null != ( b = hostPool.poll() ) ) {
+            if( b.capacity() >= size ) {
+                b.clear();
+                return b;
+            }
+        }
+        return Buffers.newDirectByteBuffer(size);
+    }
+
+    private void dispatch(final long frameNo, final int width, final int height, final PixelFormat pixFmt, final int stride,
+                          final boolean isGLOriented, final ByteBuffer host) {
+        deliveredCount++;
+        final Runnable action = new Runnable() {
+            @Override
+            public void run() {
+                deliver(frameNo, width, height, pixFmt, stride, isGLOriented, host);
+            }
+        };
+        if( null != executor ) {
+            executor.execute(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Delivers the read data, which is always laid out in OpenGL's coordinate system,
+     * converted to the requested orientation and {@link #destFormat}.
+     */
+    private void deliver(final long frameNo, final int width, final int height, final PixelFormat pixFmt, final int stride,
+                         final boolean isGLOriented, final ByteBuffer host) {
+        final PixelFormat dFmt = null != destFormat ? destFormat : pixFmt;
+        if( isGLOriented && dFmt == pixFmt ) {
+            listener.frameAvailable(new ReadFrame(hostPool, frameNo, width, height, pixFmt, stride, isGLOriented, host));
+        } else {
+            // vertical flip and/or format conversion
+            final int dStride = width * dFmt.comp.bytesPerPixel();
+            final ByteBuffer dst = acquireHostBuffer(dStride * height);
+            PixelFormatUtil.convert(width, height,
+                                    host, pixFmt, true, stride,
+                                    dst, dFmt, isGLOriented, dStride);
+            dst.position(0);
+            dst.limit(dStride * height);
+            hostPool.offer(host);
+            listener.frameAvailable(new ReadFrame(hostPool, frameNo, width, height, dFmt, dStride, isGLOriented, dst));
+        }
+    }
+
+    /**
+     * Release all GL resources, pending frames are dropped.
+     * @param gl the current GL context object
+     */
+    public void dispose(final GL gl) {
+        final int[] tmp = new int[1];
+        final boolean async = isAsyncSupported(gl);
+        for(int i=0; i<ring.length; i++) {
+            final Slot s = ring[i];
+            if( async && 0 != s.sync ) {
+                gl.getGL3ES3().glDeleteSync(s.sync);
+            }
+            s.sync = 0;
+            s.pending = false;
+            if( 0 != s.pbo ) {
+                tmp[0] = s.pbo;
+                gl.glDeleteBuffers(1, tmp, 0);
+                s.pbo = 0;
+                s.pboSize = 0;
+            }
+        }
+        droppedCount += pendingCount;
+        head = 0;
+        tail = 0;
+        pendingCount = 0;
+        hostPool.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "GLAsyncReadBufferUtil[ring "+ring.length+", pending "+pendingCount+", frames "+frameCount+
+               ", delivered "+deliveredCount+", dropped "+droppedCount+", stalls "+stallCount+", alpha "+hasAlpha+", destFormat "+destFormat+"]";
+    }
+}
@@ -0,0 +1,453 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.opengl.FPSCounter;
+import com.jogamp.opengl.FramePhaseCounter;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLAnimatorControl;
+import com.jogamp.opengl.GLCapabilitiesImmutable;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+
+/**
+ * Pool of {@link GLOffscreenAutoDrawable}s for headless rendering services,
+ * sparing context creation and FBO setup for each request.
+ * <p>
+ * Idle {@link GLOffscreenAutoDrawable}s are keyed by their requested {@link GLCapabilitiesImmutable capabilities}
+ * and their size class, i.e. width and height rounded up to the next power of two.
+ * {@link #acquire(GLCapabilitiesImmutable, int, int)} prefers an idle instance of the exact size,
+ * otherwise one of the same size class is resized via {@link GLOffscreenAutoDrawable#setSurfaceSize(int, int)},
+ * which resets the {@link com.jogamp.opengl.FBObject FBObject} attachments of an FBO drawable.
+ * Only if none is idle, a new instance is created via
+ * {@link GLDrawableFactory#createOffscreenAutoDrawable(AbstractGraphicsDevice, GLCapabilitiesImmutable, com.jogamp.opengl.GLCapabilitiesChooser, int, int) createOffscreenAutoDrawable(..)}
+ * and its context created by an initial {@link GLOffscreenAutoDrawable#display() display}.
+ * </p>
+ * <p>
+ * Each acquisition is handed out as a {@link Lease}. {@link Lease#release() Releasing} a lease
+ * resets the state tracked by this pool and returns the drawable to the pool:
+ * <ul>
+ *   <li>all {@link com.jogamp.opengl.GLEventListener}s are {@link GLOffscreenAutoDrawable#disposeGLEventListener(com.jogamp.opengl.GLEventListener, boolean) disposed and removed},
+ *       allowing them to release their GL resources</li>
+ *   <li>pending {@link com.jogamp.opengl.GLRunnable}s are {@link GLOffscreenAutoDrawable#flushGLRunnables() flushed}</li>
+ *   <li>the {@link GLOffscreenAutoDrawable#setAutoSwapBufferMode(boolean) auto swap buffer mode} is enabled</li>
+ *   <li>the upstream widget, {@link FPSCounter} and {@link FramePhaseCounter} statistics are cleared</li>
+ *   <li>the GL state commonly modified by rendering is reset to its default: no bound program,
+ *       blending disabled w/ {@link GL#GL_ONE}, {@link GL#GL_ZERO} function and {@link GL#GL_FUNC_ADD} equation,
+ *       clear color <code>0, 0, 0, 0</code>, the default framebuffer bound,
+ *       no buffer bound to the array, element array and pixel pack/unpack targets,
+ *       no 2D or cube map texture bound on all texture units and texture unit 0 active</li>
+ * </ul>
+ * Other GL state, e.g. the viewport, depth or stencil state, is not reset,
+ * hence users shall restore it or not rely on its default value.
+ * </p>
+ * <p>
+ * Up to <code>maxIdlePerKey</code> idle instances are kept per key, exceeding instances are destroyed.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public class GLOffscreenAutoDrawablePool {
+    private final GLDrawableFactory factory;
+    private final AbstractGraphicsDevice device;
+    private final int maxIdlePerKey;
+    private final Map<Key, ArrayList<GLOffscreenAutoDrawable>> idle = new HashMap<Key, ArrayList<GLOffscreenAutoDrawable>>();
+    private int idleCount;
+    private int leasedCount;
+    private long hitCount;
+    private long missCount;
+    private long resizeCount;
+    private long evictionCount;
+    private boolean destroyed;
+
+    /**
+     * Handle of an acquired {@link GLOffscreenAutoDrawable}, to be {@link #release() released} or {@link #discard() discarded} after use.
+     */
+    public final class Lease {
+        private final Key key;
+        private final GLOffscreenAutoDrawable drawable;
+        private boolean released;
+
+        private Lease(final Key key, final GLOffscreenAutoDrawable drawable) {
+            this.key = key;
+            this.drawable = drawable;
+        }
+
+        /**
+         * Returns the leased {@link GLOffscreenAutoDrawable}.
+         * @throws IllegalStateException if this lease has been released already
+         */
+        public final GLOffscreenAutoDrawable getDrawable() throws IllegalStateException {
+            if( released ) {
+                throw new IllegalStateException("Lease released");
+            }
+            return drawable;
+        }
+
+        /** Returns true if this lease has been {@link #release() released} or {@link #discard() discarded}. */
+        public final boolean isReleased() { return released; }
+
+        /**
+         * Resets the tracked state of the leased {@link GLOffscreenAutoDrawable} and returns it to the pool.
+         * @throws IllegalStateException if this lease has been released already
+         *         or the drawable is still attached to an {@link GLAnimatorControl animator} or {@link GLOffscreenAutoDrawable#getExclusiveContextThread() exclusive context thread}
+         */
+        public final void release() throws IllegalStateException {
+            releaseImpl(this, true);
+        }
+
+        /**
+         * Destroys the leased {@link GLOffscreenAutoDrawable} instead of returning it to the pool,
+         * e.g. after a GL error leaving it in an undefined state.
+         * @throws IllegalStateException if this lease has been released already
+         */
+        public final void discard() throws IllegalStateException {
+            releaseImpl(this, false);
+        }
+
+        @Override
+        public final String toString() {
+            return "Lease["+key+", released "+released+", "+drawable.getSurfaceWidth()+"x"+drawable.getSurfaceHeight()+"]";
+        }
+    }
+
+    private static final class Key {
+        final GLCapabilitiesImmutable caps;
+        final int wClass;
+        final int hClass;
+        final int hash;
+
+        Key(final GLCapabilitiesImmutable caps, final int wClass, final int hClass) {
+            this.caps = caps;
+            this.wClass = wClass;
+            this.hClass = hClass;
+            // 31 * x == (x << 5) - x
+            int h = 31 + caps.hashCode();
+            h = ((h << 5) - h) + wClass;
+            this.hash = ((h << 5) - h) + hClass;
+        }
+
+        @Override
+        public final int hashCode() { return hash; }
+
+        @Override
+        public final boolean equals(final Object o) {
+            if( this == o ) {
+                return true;
+            }
+            if( !(o instanceof Key) ) {
+                return false;
+            }
+            final Key k = (Key)o;
+            return wClass == k.wClass && hClass == k.hClass && caps.equals(k.caps);
+        }
+
+        @Override
+        public final String toString() {
+            return wClass+"x"+hClass+", "+caps;
+        }
+    }
+
+    /**
+     * Creates a new pool.
+     * @param factory the {@link GLDrawableFactory} used to create {@link GLOffscreenAutoDrawable}s
+     * @param device the {@link AbstractGraphicsDevice} passed to the factory, may be <code>null</code> for the default device
+     * @param maxIdlePerKey maximum number of idle instances kept per capabilities and size class, at least 1
+     */
+    public GLOffscreenAutoDrawablePool(final GLDrawableFactory factory, final AbstractGraphicsDevice device, final int maxIdlePerKey) {
+        if( null == factory ) {
+            throw new IllegalArgumentException("Null factory");
+        }
+        if( 1 > maxIdlePerKey ) {
+            throw new IllegalArgumentException("Invalid maxIdlePerKey "+maxIdlePerKey);
+        }
+        this.factory = factory;
+        this.device = device;
+        this.maxIdlePerKey = maxIdlePerKey;
+    }
+
+    /** Returns the size class of the given size, i.e. the next power of two. */
+    private static int getSizeClass(final int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Acquires a {@link GLOffscreenAutoDrawable} of the given capabilities and size,
+     * reusing an idle instance if available.
+     * <p>
+     * The returned drawable's context has been created and is not current.
+     * </p>
+     * @param caps requested capabilities
+     * @param width requested width in pixel units
+     * @param height requested height in pixel units
+     * @return the {@link Lease} of the drawable
+     * @throws GLException if the drawable could not be created
+     * @throws IllegalStateException if this pool has been {@link #destroy() destroyed}
+     */
+    public final Lease acquire(final GLCapabilitiesImmutable caps, final int width, final int height) throws GLException, IllegalStateException {
+        if( 0 >= width || 0 >= height ) {
+            throw new IllegalArgumentException("Invalid size "+width+"x"+height);
+        }
+        final Key key = new Key((GLCapabilitiesImmutable) caps.cloneMutable(), getSizeClass(width), getSizeClass(height));
+        GLOffscreenAutoDrawable drawable = null;
+        synchronized( this ) {
+            if( destroyed ) {
+                throw new IllegalStateException("Pool destroyed");
+            }
+            final ArrayList<GLOffscreenAutoDrawable> list = idle.get(key);
+            if( null != list && !list.isEmpty() ) {
+                int idx = list.size() - 1; // most recently used
+                for(int i=idx; i>=0; i--) {
+                    final GLOffscreenAutoDrawable d = list.get(i);
+                    if( d.getSurfaceWidth() == width && d.getSurfaceHeight() == height ) {
+                        idx = i;
+                        break;
+                    }
+                }
+                drawable = list.remove(idx);
+                idleCount--;
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            leasedCount++;
+        }
+        try {
+            if( null != drawable ) {
+                if( drawable.getSurfaceWidth() != width || drawable.getSurfaceHeight() != height ) {
+                    drawable.setSurfaceSize(width, height);
+                    synchronized( this ) {
+                        resizeCount++;
+                    }
+                }
+            } else {
+                drawable = factory.createOffscreenAutoDrawable(device, key.caps, null, width, height);
+                drawable.display(); // lazy context creation and FBO setup
+            }
+        } catch (final RuntimeException re) {
+            synchronized( this ) {
+                leasedCount--;
+            }
+            if( null != drawable ) {
+                drawable.destroy();
+            }
+            throw re;
+        }
+        return new Lease(key, drawable);
+    }
+
+    private void releaseImpl(final Lease lease, final boolean reuse) throws IllegalStateException {
+        final GLOffscreenAutoDrawable drawable = lease.drawable;
+        synchronized( this ) {
+            if( lease.released ) {
+                throw new IllegalStateException("Lease released");
+            }
+            if( reuse ) {
+                final GLAnimatorControl animator = drawable.getAnimator();
+                if( null != animator ) {
+                    throw new IllegalStateException("Drawable still attached to animator "+animator);
+                }
+                if( null != drawable.getExclusiveContextThread() ) {
+                    throw new IllegalStateException("Drawable still claimed by exclusive context thread "+drawable.getExclusiveContextThread());
+                }
+            }
+            lease.released = true;
+            leasedCount--;
+        }
+        boolean keep = reuse && drawable.isRealized();
+        if( keep ) {
+            try {
+                resetState(drawable);
+            } catch (final RuntimeException re) {
+                re.printStackTrace();
+                keep = false;
+            }
+        }
+        if( keep ) {
+            synchronized( this ) {
+                if( !destroyed ) {
+                    ArrayList<GLOffscreenAutoDrawable> list = idle.get(lease.key);
+                    if( null == list ) {
+                        list = new ArrayList<GLOffscreenAutoDrawable>(maxIdlePerKey);
+                        idle.put(lease.key, list);
+                    }
+                    if( list.size() < maxIdlePerKey ) {
+                        list.add(drawable);
+                        idleCount++;
+                        return;
+                    }
+                    evictionCount++;
+                }
+            }
+        }
+        drawable.destroy();
+    }
+
+    private static void resetState(final GLOffscreenAutoDrawable drawable) {
+        drawable.flushGLRunnables();
+        for(int i = drawable.getGLEventListenerCount() - 1; i >= 0; i--) {
+            drawable.disposeGLEventListener(drawable.getGLEventListener(i), true);
+        }
+        drawable.setAutoSwapBufferMode(true);
+        drawable.setUpstreamWidget(null);
+        if( drawable instanceof FPSCounter ) {
+            final FPSCounter fpsCounter = (FPSCounter)drawable;
+            fpsCounter.setUpdateFPSFrames(0, null);
+            fpsCounter.setTargetFPS(0f);
+        }
+        if( drawable instanceof FramePhaseCounter ) {
+            ((FramePhaseCounter)drawable).setFramePhaseStats(null);
+        }
+        final GLContext context = drawable.getContext();
+        final GLContext lastContext = GLContext.getCurrent();
+        if( lastContext == context ) {
+            resetGLState(context);
+            return;
+        }
+        if( null != lastContext ) {
+            lastContext.release();
+        }
+        try {
+            if( GLContext.CONTEXT_NOT_CURRENT == context.makeCurrent() ) {
+                throw new GLException("Could not make context current: "+context);
+            }
+            try {
+                resetGLState(context);
+            } finally {
+                context.release();
+            }
+        } finally {
+            if( null != lastContext ) {
+                lastContext.makeCurrent();
+            }
+        }
+    }
+
+    /** Resets the GL state listed in the class documentation using the context's {@link GL} pipeline, keeping an installed state filter coherent. */
+    private static void resetGLState(final GLContext context) {
+        final GL gl = context.getGL();
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, context.getDefaultDrawFramebuffer());
+        gl.glDisable(GL.GL_BLEND);
+        gl.glBlendFunc(GL.GL_ONE, GL.GL_ZERO);
+        gl.glClearColor(0f, 0f, 0f, 0f);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+        int textureUnits = 1;
+        if( gl.isGL2ES2() ) {
+            final GL2ES2 gl2es2 = gl.getGL2ES2();
+            gl2es2.glUseProgram(0);
+            gl2es2.glBlendEquation(GL.GL_FUNC_ADD);
+            final int[] val = { 0 };
+            gl2es2.glGetIntegerv(GL2ES2.GL_MAX_COMBINED_TEXTURE_IMAGE_UNITS, val, 0);
+            textureUnits = Math.max(1, val[0]);
+        }
+        if( gl.isGL2ES3() ) {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        }
+        for(int i=textureUnits-1; i>=0; i--) {
+            gl.glActiveTexture(GL.GL_TEXTURE0 + i);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, 0);
+            if( gl.isGL2ES2() ) {
+                gl.glBindTexture(GL.GL_TEXTURE_CUBE_MAP, 0);
+            }
+        }
+    }
+
+    /**
+     * Destroys all idle {@link GLOffscreenAutoDrawable}s, leased instances are not affected.
+     */
+    public final void trim() {
+        final ArrayList<GLOffscreenAutoDrawable> drawables = new ArrayList<GLOffscreenAutoDrawable>();
+        synchronized( this ) {
+            for(final Iterator<ArrayList<GLOffscreenAutoDrawable>> it = idle.values().iterator(); it.hasNext(); ) {
+                drawables.addAll(it.next());
+            }
+            idle.clear();
+            evictionCount += idleCount;
+            idleCount = 0;
+        }
+        for(int i=0; i<drawables.size(); i++) {
+            drawables.get(i).destroy();
+        }
+    }
+
+    /**
+     * Destroys all idle {@link GLOffscreenAutoDrawable}s and disables this pool.
+     * <p>
+     * Drawables of outstanding leases are destroyed at release.
+     * </p>
+     */
+    public final void destroy() {
+        synchronized( this ) {
+            destroyed = true;
+        }
+        trim();
+    }
+
+    /** Returns the number of acquisitions served by an idle instance. */
+    public final synchronized long getHitCount() { return hitCount; }
+
+    /** Returns the number of acquisitions requiring a new instance. */
+    public final synchronized long getMissCount() { return missCount; }
+
+    /** Returns the ratio of hits to all acquisitions, [0..1]. */
+    public final synchronized float getHitRatio() {
+        final long total = hitCount + missCount;
+        return 0 < total ? (float)hitCount / (float)total : 0f;
+    }
+
+    /** Returns the number of hits requiring a resize of the reused instance. */
+    public final synchronized long getResizeCount() { return resizeCount; }
+
+    /** Returns the number of idle instances destroyed, due to exceeding <code>maxIdlePerKey</code> or {@link #trim()}. */
+    public final synchronized long getEvictionCount() { return evictionCount; }
+
+    /** Returns the number of idle instances. */
+    public final synchronized int getIdleCount() { return idleCount; }
+
+    /** Returns the number of outstanding leases. */
+    public final synchronized int getLeasedCount() { return leasedCount; }
+
+    @Override
+    public final synchronized String toString() {
+        return "GLOffscreenAutoDrawablePool[hits "+hitCount+", misses "+missCount+", resizes "+resizeCount+", evictions "+evictionCount+
+               ", idle "+idleCount+", leased "+leasedCount+", keys "+idle.size()+", destroyed "+destroyed+"]";
+    }
+}
@@ -28,11 +28,15 @@
 package com.jogamp.opengl.util;
 
 import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import com.jogamp.nativewindow.util.Dimension;
 import com.jogamp.nativewindow.util.DimensionImmutable;
@@ -56,6 +60,48 @@ import com.jogamp.common.util.IOUtil;
 public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     private static final boolean DEBUG = Debug.debug("PNG");
 
+    /**
+     * Minimum pixel count of an image to be encoded in parallel by the <code>write(..)</code> methods,
+     * if more than one processor is available.
+     */
+    public static final int PARALLEL_WRITE_MIN_PIXELS = 512 * 512;
+
+    private static boolean useParallelWrite(final int width, final int height) {
+        return width * height >= PARALLEL_WRITE_MIN_PIXELS && 1 < Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Size of the read buffer used by {@link #read(File, PixelFormat, boolean, int, boolean)}.
+     */
+    public static final int FILE_READ_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Reads a PNG image from the specified File via a {@link FileChannel} backed stream
+     * using a {@link #FILE_READ_BUFFER_SIZE} sized buffer.
+     * <p>
+     * See {@link #read(InputStream, PixelFormat, boolean, int, boolean)} for details.
+     * </p>
+     *
+     * @param file input file
+     * @param destFmt desired destination {@link PixelFormat} incl. conversion, maybe <code>null</code> to use source {@link PixelFormat}
+     * @param destDirectBuffer if true, using a direct NIO buffer, otherwise an array backed buffer
+     * @param destMinStrideInBytes used if greater than PNG's stride, otherwise using PNG's stride. Stride is width * bytes-per-pixel.
+     * @param destIsGLOriented
+     * @return the newly created PNGPixelRect instance
+     * @throws IOException
+     */
+    public static PNGPixelRect read(final File file,
+                                    final PixelFormat destFmt, final boolean destDirectBuffer, final int destMinStrideInBytes,
+                                    final boolean destIsGLOriented) throws IOException {
+        final FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            final BufferedInputStream bin = new BufferedInputStream(Channels.newInputStream(fc), FILE_READ_BUFFER_SIZE);
+            return read(bin, destFmt, destDirectBuffer, destMinStrideInBytes, destIsGLOriented);
+        } finally {
+            fc.close();
+        }
+    }
+
     /**
      * Reads a PNG image from the specified InputStream.
      * <p>
@@ -78,6 +124,41 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     public static PNGPixelRect read(final InputStream in,
                                     final PixelFormat ddestFmt, final boolean destDirectBuffer, final int destMinStrideInBytes,
                                     final boolean destIsGLOriented) throws IOException {
+        return readImpl(in, ddestFmt, null, destDirectBuffer, destMinStrideInBytes, destIsGLOriented);
+    }
+
+    /**
+     * Reads a PNG image from the specified InputStream directly into the given caller provided buffer.
+     * <p>
+     * Rows are inflated, unfiltered and converted straight into <code>destPixels</code>
+     * starting at its current position, using the resulting stride and orientation.
+     * The buffer's position is left untouched.
+     * </p>
+     * <p>
+     * See {@link #read(InputStream, PixelFormat, boolean, int, boolean)} for details.
+     * </p>
+     *
+     * @param in input stream
+     * @param destFmt desired destination {@link PixelFormat} incl. conversion, maybe <code>null</code> to use source {@link PixelFormat}
+     * @param destPixels destination buffer, must have at least <code>destStrideInBytes * height</code> bytes remaining
+     * @param destMinStrideInBytes used if greater than PNG's stride, otherwise using PNG's stride. Stride is width * bytes-per-pixel.
+     * @param destIsGLOriented
+     * @return the newly created PNGPixelRect instance, referencing a slice of <code>destPixels</code>
+     * @throws IOException
+     * @throws IndexOutOfBoundsException if <code>destPixels</code> has insufficient bytes remaining
+     */
+    public static PNGPixelRect read(final InputStream in,
+                                    final PixelFormat destFmt, final ByteBuffer destPixels, final int destMinStrideInBytes,
+                                    final boolean destIsGLOriented) throws IOException {
+        if( null == destPixels ) {
+            throw new IllegalArgumentException("Null destPixels");
+        }
+        return readImpl(in, destFmt, destPixels.slice(), destPixels.isDirect(), destMinStrideInBytes, destIsGLOriented);
+    }
+
+    private static PNGPixelRect readImpl(final InputStream in,
+                                         final PixelFormat ddestFmt, final ByteBuffer userPixels, final boolean destDirectBuffer,
+                                         final int destMinStrideInBytes, final boolean destIsGLOriented) throws IOException {
         final BufferedInputStream bin = (in instanceof BufferedInputStream) ? (BufferedInputStream)in : new BufferedInputStream(in);
         final PngReader pngr = new PngReader(bin, null);
         final ImageInfo imgInfo = pngr.imgInfo;
@@ -139,8 +220,13 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             destFmt = ddestFmt; // user choice
         }
         final int destStrideInBytes = Math.max(destMinStrideInBytes, destFmt.comp.bytesPerPixel() * width);
-        final ByteBuffer destPixels = destDirectBuffer ? Buffers.newDirectByteBuffer(destStrideInBytes * height) :
-                                                         ByteBuffer.allocate(destStrideInBytes * height);
+        final ByteBuffer destPixels;
+        if( null != userPixels ) {
+            destPixels = userPixels;
+        } else {
+            destPixels = destDirectBuffer ? Buffers.newDirectByteBuffer(destStrideInBytes * height) :
+                                            ByteBuffer.allocate(destStrideInBytes * height);
+        }
         {
             final int reqBytes = destStrideInBytes * height;
             if( destPixels.limit() < reqBytes ) {
@@ -158,39 +244,127 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             System.err.println("PNGPixelRect: destStrideInBytes "+destStrideInBytes+" (destMinStrideInBytes "+destMinStrideInBytes+")");
         }
 
+        if( !pngr.isInterlaced() && ( 8 == imgInfo.bitDepth || indexed ) ) {
+            // direct path: unfiltered raw rows are converted straight into destPixels
+            readRowsDirect(pngr, imgInfo, plte, trns, srcFmt, destFmt, destPixels, destStrideInBytes, vert_flip,
+                           channels, bytesPerPixel, hasAlpha, isGrayAlpha);
+        } else {
+            for (int row = 0; row < height; row++) {
+                final ImageLine l1 = pngr.readRow(row);
+                int lineOff = 0;
+                int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
+                if( indexed ) {
+                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
+                    for (int j = width - 1; j >= 0; j--) {
+                        dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, rgbaScanline, lineOff, hasAlpha);
+                        lineOff += bytesPerPixel;
+                    }
+                } else if( 1 == channels ) {
+                    for (int j = width - 1; j >= 0; j--) {
+                        dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
+                    }
+                } else if( isGrayAlpha ) {
+                    for (int j = width - 1; j >= 0; j--) {
+                        dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)l1.scanline[lineOff++]); // Luminance+Alpha, 2 bytesPerPixel
+                    }
+                } else if( srcFmt == destFmt ) { // fast-path
+                    for (int j = width - 1; j >= 0; j--) {
+                        dataOff = getPixelRGBSame(destPixels, dataOff, l1.scanline, lineOff, bytesPerPixel);
+                        lineOff += bytesPerPixel;
+                    }
+                } else {
+                    for (int j = width - 1; j >= 0; j--) {
+                        dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, l1.scanline, lineOff, hasAlpha);
+                        lineOff += bytesPerPixel;
+                    }
+                }
+            }
+        }
+        pngr.end();
+
+        return new PNGPixelRect(destFmt, new Dimension(width, height), destStrideInBytes, destIsGLOriented, destPixels, dpiX, dpiY);
+    }
+
+    /**
+     * Reads all rows of a non interlaced 8 bit or indexed image via {@link PngReader#readRowRawBytes(int)}
+     * directly into {@code destPixels} at the given stride and orientation, w/o intermediate {@link ImageLine} copies.
+     * <p>
+     * Palette expansion incl. tRNS alpha and the conversion to {@code destFmt} is performed in one pass
+     * using a lookup table of the destination pixel values.
+     * </p>
+     */
+    private static void readRowsDirect(final PngReader pngr, final ImageInfo imgInfo, final PngChunkPLTE plte, final PngChunkTRNS trns,
+                                       final PixelFormat srcFmt, final PixelFormat destFmt,
+                                       final ByteBuffer destPixels, final int destStrideInBytes, final boolean vert_flip,
+                                       final int channels, final int bytesPerPixel, final boolean hasAlpha, final boolean isGrayAlpha) {
+        final int width = imgInfo.cols;
+        final int height = imgInfo.rows;
+        final int dbpp = destFmt.comp.bytesPerPixel();
+        final int[] lut;
+        if( imgInfo.indexed ) {
+            lut = new int[256];
+            final int[] rgb = new int[3];
+            final int[] palAlpha = null != trns ? trns.getPalletteAlpha() : null;
+            final int n = Math.min(256, plte.getNentries());
+            for(int i=0; i<n; i++) {
+                plte.getEntryRgb(i, rgb);
+                final int a = null != palAlpha && i < palAlpha.length ? palAlpha[i] : 0xff;
+                lut[i] = PixelFormatUtil.convertToInt32(destFmt, (byte)rgb[0], (byte)rgb[1], (byte)rgb[2], (byte)a);
+            }
+        } else {
+            lut = null;
+        }
+        final boolean sameFormat = !imgInfo.indexed && !isGrayAlpha && srcFmt == destFmt;
+        final ByteBuffer destBulk = sameFormat ? destPixels.duplicate() : null;
+        final int rowBytes = width * bytesPerPixel;
+        final int bitDepth = imgInfo.bitDepth;
+        final int indexMask = ( 1 << bitDepth ) - 1;
+
         for (int row = 0; row < height; row++) {
-            final ImageLine l1 = pngr.readRow(row);
-            int lineOff = 0;
+            final byte[] rowb = pngr.readRowRawBytes(row); // data starts at offset 1
             int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
-            if( indexed ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, rgbaScanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
+            if( sameFormat ) {
+                destBulk.position(dataOff);
+                destBulk.put(rowb, 1, rowBytes);
+            } else if( null != lut ) {
+                for (int j = 0; j < width; j++) {
+                    final int index;
+                    if( 8 == bitDepth ) {
+                        index = rowb[1 + j] & 0xff;
+                    } else {
+                        final int bitOff = j * bitDepth;
+                        index = ( rowb[1 + ( bitOff >>> 3 )] >>> ( 8 - bitDepth - ( bitOff & 7 ) ) ) & indexMask;
+                    }
+                    dataOff = putInt32(destPixels, dataOff, lut[index], dbpp);
                 }
             } else if( 1 == channels ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
+                for (int j = 1; j <= width; j++) {
+                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, rowb[j], (byte)0xff); // Luminance, 1 bytesPerPixel
                 }
             } else if( isGrayAlpha ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)l1.scanline[lineOff++]); // Luminance+Alpha, 2 bytesPerPixel
-                }
-            } else if( srcFmt == destFmt ) { // fast-path
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBSame(destPixels, dataOff, l1.scanline, lineOff, bytesPerPixel);
-                    lineOff += bytesPerPixel;
+                for (int j = 1; j < 1 + rowBytes; j+=2) {
+                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, rowb[j], rowb[j+1]); // Luminance+Alpha, 2 bytesPerPixel
                 }
             } else {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, l1.scanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
+                for (int j = 1; j < 1 + rowBytes; j+=bytesPerPixel) {
+                    final int p = PixelFormatUtil.convertToInt32(destFmt, rowb[j], rowb[j+1], rowb[j+2],
+                                                                 hasAlpha ? rowb[j+3] : (byte)0xff);
+                    dataOff = putInt32(destPixels, dataOff, p, dbpp);
                 }
             }
         }
-        pngr.end();
+    }
 
-        return new PNGPixelRect(destFmt, new Dimension(width, height), destStrideInBytes, destIsGLOriented, destPixels, dpiX, dpiY);
+    private static final int putInt32(final ByteBuffer d, int dOff, final int p, final int dbpp) {
+        d.put(dOff++, (byte) ( p ));                // 1
+        if( 1 < dbpp ) {
+            d.put(dOff++, (byte) ( p >>>  8 ));     // 2
+            d.put(dOff++, (byte) ( p >>> 16 ));     // 3
+            if( 4 == dbpp ) {
+                d.put(dOff++, (byte) ( p >>> 24 )); // 4
+            }
+        }
+        return dOff;
     }
 
     private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final byte lum, final byte alpha) {
@@ -320,21 +494,30 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             png.getMetadata().setText(PngChunkTextVar.KEY_Title, "JogAmp PNGPixelRect");
             final boolean hasAlpha = 4 == bytesPerPixel;
 
-            final ImageLine l1 = new ImageLine(imi);
-            for (int row = 0; row < height; row++) {
-                int dataOff = isGLOriented ? ( height - 1 - row ) * strideInBytes : row * strideInBytes;
-                int lineOff = 0;
-                if(1 == bytesPerPixel) {
-                    for (int j = width - 1; j >= 0; j--) {
-                        l1.scanline[lineOff++] = pixels.get(dataOff++); // // Luminance, 1 bytesPerPixel
-                    }
-                } else {
-                    for (int j = width - 1; j >= 0; j--) {
-                        dataOff = setPixelRGBA8(l1, lineOff, pixels, dataOff, bytesPerPixel, hasAlpha);
-                        lineOff += bytesPerPixel;
+            final PngWriter.RowProvider rows = new PngWriter.RowProvider() {
+                @Override
+                public void fillRow(final int row, final ImageLine l1) {
+                    int dataOff = isGLOriented ? ( height - 1 - row ) * strideInBytes : row * strideInBytes;
+                    int lineOff = 0;
+                    if(1 == bytesPerPixel) {
+                        for (int j = width - 1; j >= 0; j--) {
+                            l1.scanline[lineOff++] = pixels.get(dataOff++); // // Luminance, 1 bytesPerPixel
+                        }
+                    } else {
+                        for (int j = width - 1; j >= 0; j--) {
+                            dataOff = setPixelRGBA8(l1, lineOff, pixels, dataOff, bytesPerPixel, hasAlpha);
+                            lineOff += bytesPerPixel;
+                        }
                     }
+                } };
+            if( useParallelWrite(width, height) ) {
+                png.writeRowsParallel(rows, 0, 0);
+            } else {
+                final ImageLine l1 = new ImageLine(imi);
+                for (int row = 0; row < height; row++) {
+                    rows.fillRow(row, l1);
+                    png.writeRow(l1, row);
                 }
-                png.writeRow(l1, row);
             }
             png.end();
         } finally {
@@ -375,22 +558,32 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
             png.getMetadata().setText(PngChunkTextVar.KEY_Title, "JogAmp PNGPixelRect");
             final boolean hasAlpha = 4 == bytesPerPixel;
+            final int _strideInPixels = strideInPixels;
 
-            final ImageLine l1 = new ImageLine(imi);
-            for (int row = 0; row < height; row++) {
-                int dataOff = isGLOriented ? ( height - 1 - row ) * strideInPixels : row * strideInPixels;
-                int lineOff = 0;
-                if(1 == bytesPerPixel) {
-                    for (int j = width - 1; j >= 0; j--) {
-                        l1.scanline[lineOff++] = pixels.get(dataOff++); // // Luminance, 1 bytesPerPixel
-                    }
-                } else {
-                    for (int j = width - 1; j >= 0; j--) {
-                        setPixelRGBA8(pixelformat, l1, lineOff, pixels.get(dataOff++), bytesPerPixel, hasAlpha);
-                        lineOff += bytesPerPixel;
+            final PngWriter.RowProvider rows = new PngWriter.RowProvider() {
+                @Override
+                public void fillRow(final int row, final ImageLine l1) {
+                    int dataOff = isGLOriented ? ( height - 1 - row ) * _strideInPixels : row * _strideInPixels;
+                    int lineOff = 0;
+                    if(1 == bytesPerPixel) {
+                        for (int j = width - 1; j >= 0; j--) {
+                            l1.scanline[lineOff++] = pixels.get(dataOff++); // // Luminance, 1 bytesPerPixel
+                        }
+                    } else {
+                        for (int j = width - 1; j >= 0; j--) {
+                            setPixelRGBA8(pixelformat, l1, lineOff, pixels.get(dataOff++), bytesPerPixel, hasAlpha);
+                            lineOff += bytesPerPixel;
+                        }
                     }
+                } };
+            if( useParallelWrite(width, height) ) {
+                png.writeRowsParallel(rows, 0, 0);
+            } else {
+                final ImageLine l1 = new ImageLine(imi);
+                for (int row = 0; row < height; row++) {
+                    rows.fillRow(row, l1);
+                    png.writeRow(l1, row);
                 }
-                png.writeRow(l1, row);
             }
             png.end();
         } finally {
@@ -0,0 +1,351 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLContext;
+
+import com.jogamp.opengl.util.AnimatorBase.UncaughtAnimatorException;
+
+/**
+ * Animator implementation rendering its {@link GLAutoDrawable}s in parallel on pooled worker threads,
+ * see {@link AnimatorBase#MODE_PARALLEL_RENDERING}.
+ * <p>
+ * Each {@link GLAutoDrawable} is assigned to one worker thread for its lifetime within the animator,
+ * allowing its context to be dedicated to this thread via {@link GLAutoDrawable#setExclusiveContextThread(Thread)}.
+ * {@link GLAutoDrawable}s sharing a {@link GLContext#getSharedMaster() shared master context}
+ * are assigned to the same worker thread and hence rendered sequentially.
+ * The group is determined at assignment, i.e. a {@link GLAutoDrawable} w/o a created context forms its own group.
+ * The number of worker threads is limited to the number of available processors,
+ * exceeding groups are assigned to the least loaded worker thread.
+ * </p>
+ * <p>
+ * If using a swap barrier, see {@link AnimatorBase#MODE_PARALLEL_SWAP_BARRIER},
+ * the {@link GLAutoDrawable#getAutoSwapBufferMode() auto swap buffer mode} is disabled while assigned
+ * and all worker threads swap their {@link GLAutoDrawable}s after all have completed rendering.
+ * </p>
+ */
+class ParallelAnimatorImpl implements AnimatorBase.AnimatorImpl {
+    private static final int maxWorkerCount = Runtime.getRuntime().availableProcessors();
+
+    private final String name;
+    private final boolean swapBarrier;
+    private final ArrayList<Worker> workers = new ArrayList<Worker>();
+    private final Map<GLAutoDrawable, Worker> drawable2Worker = new IdentityHashMap<GLAutoDrawable, Worker>();
+    private final Map<GLAutoDrawable, Object> drawable2Group = new IdentityHashMap<GLAutoDrawable, Object>();
+    private final Map<Object, Worker> group2Worker = new IdentityHashMap<Object, Worker>();
+    /** {@link GLAutoDrawable}s w/ disabled auto swap buffer mode, swapped by this instance */
+    private final Map<GLAutoDrawable, GLAutoDrawable> managedSwap = new IdentityHashMap<GLAutoDrawable, GLAutoDrawable>();
+    private final ArrayList<Future<UncaughtAnimatorException>> futures = new ArrayList<Future<UncaughtAnimatorException>>();
+    private CyclicBarrier barrier;
+
+    ParallelAnimatorImpl(final String name, final boolean swapBarrier) {
+        this.name = name;
+        this.swapBarrier = swapBarrier;
+    }
+
+    private final class Worker implements ThreadFactory {
+        final int id;
+        final ThreadPoolExecutor executor;
+        final ArrayList<GLAutoDrawable> frameDrawables = new ArrayList<GLAutoDrawable>();
+        Thread thread;
+        int groupCount;
+
+        Worker(final int id) {
+            this.id = id;
+            executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), this);
+            executor.prestartCoreThread(); // fixes 'thread'
+        }
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            thread = new Thread(r, name+"-Worker-"+id);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /** Returns the key of the {@link GLAutoDrawable}'s group, i.e. its shared master context, its context or itself. */
+    private static Object getGroupKey(final GLAutoDrawable drawable) {
+        final GLContext context = drawable.getContext();
+        if( null == context ) {
+            return drawable;
+        }
+        final GLContext master = context.getSharedMaster();
+        return null != master ? master : context;
+    }
+
+    private Worker getWorker(final GLAutoDrawable drawable) {
+        Worker w = drawable2Worker.get(drawable);
+        if( null == w ) {
+            final Object group = getGroupKey(drawable);
+            w = group2Worker.get(group);
+            if( null == w ) {
+                if( workers.size() < maxWorkerCount ) {
+                    w = new Worker(workers.size());
+                    workers.add(w);
+                } else {
+                    w = workers.get(0);
+                    for(int i=1; i<workers.size(); i++) {
+                        if( workers.get(i).groupCount < w.groupCount ) {
+                            w = workers.get(i);
+                        }
+                    }
+                }
+                group2Worker.put(group, w);
+                w.groupCount++;
+            }
+            drawable2Worker.put(drawable, w);
+            drawable2Group.put(drawable, group);
+            if( swapBarrier && drawable.getAutoSwapBufferMode() ) {
+                drawable.setAutoSwapBufferMode(false);
+                managedSwap.put(drawable, drawable);
+            }
+        }
+        return w;
+    }
+
+    private void releaseDrawable(final GLAutoDrawable drawable) {
+        final Worker w = drawable2Worker.remove(drawable);
+        final Object group = drawable2Group.remove(drawable);
+        if( null != managedSwap.remove(drawable) ) {
+            drawable.setAutoSwapBufferMode(true);
+        }
+        if( null != w && !drawable2Group.containsValue(group) ) {
+            group2Worker.remove(group);
+            w.groupCount--;
+        }
+    }
+
+    /**
+     * Returns the worker thread the given {@link GLAutoDrawable} is assigned to,
+     * assigning it if not yet done.
+     */
+    synchronized Thread getWorkerThread(final GLAutoDrawable drawable) {
+        return getWorker(drawable).thread;
+    }
+
+    /** Returns true if the given thread is one of the worker threads. */
+    synchronized boolean isWorkerThread(final Thread t) {
+        for(int i=0; i<workers.size(); i++) {
+            if( t == workers.get(i).thread ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the number of worker threads. */
+    synchronized int getWorkerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Releases all {@link GLAutoDrawable} assignments and terminates all worker threads.
+     * <p>
+     * Worker threads are created again on demand.
+     * </p>
+     */
+    synchronized void shutdown() {
+        final ArrayList<GLAutoDrawable> assigned = new ArrayList<GLAutoDrawable>(drawable2Worker.keySet());
+        for(int i=0; i<assigned.size(); i++) {
+            releaseDrawable(assigned.get(i));
+        }
+        for(int i=0; i<workers.size(); i++) {
+            workers.get(i).executor.shutdown();
+        }
+        workers.clear();
+        barrier = null;
+    }
+
+    @Override
+    public void display(final ArrayList<GLAutoDrawable> drawables,
+                        final boolean ignoreExceptions,
+                        final boolean printExceptions) throws UncaughtAnimatorException {
+        synchronized( this ) {
+            for(int i=0; i<workers.size(); i++) {
+                workers.get(i).frameDrawables.clear();
+            }
+            int drawableCount = 0;
+            for (int i=0; i<drawables.size(); i++) {
+                final GLAutoDrawable drawable;
+                try {
+                    drawable = drawables.get(i);
+                } catch (final IndexOutOfBoundsException ioobe) {
+                    break; // concurrent pulling of GLAutoDrawables ..
+                }
+                getWorker(drawable).frameDrawables.add(drawable);
+                drawableCount++;
+            }
+            if( drawable2Worker.size() > drawableCount ) {
+                // release removed GLAutoDrawables
+                final ArrayList<GLAutoDrawable> removed = new ArrayList<GLAutoDrawable>();
+                for(final Iterator<GLAutoDrawable> it = drawable2Worker.keySet().iterator(); it.hasNext(); ) {
+                    final GLAutoDrawable drawable = it.next();
+                    if( !drawables.contains(drawable) ) {
+                        removed.add(drawable);
+                    }
+                }
+                for(int i=0; i<removed.size(); i++) {
+                    releaseDrawable(removed.get(i));
+                }
+            }
+            int activeWorkers = 0;
+            for(int i=0; i<workers.size(); i++) {
+                if( !workers.get(i).frameDrawables.isEmpty() ) {
+                    activeWorkers++;
+                }
+            }
+            final CyclicBarrier frameBarrier;
+            if( swapBarrier && 0 < activeWorkers ) {
+                if( null == barrier || barrier.getParties() != activeWorkers || barrier.isBroken() ) {
+                    barrier = new CyclicBarrier(activeWorkers);
+                }
+                frameBarrier = barrier;
+            } else {
+                frameBarrier = null;
+            }
+            futures.clear();
+            for(int i=0; i<workers.size(); i++) {
+                final Worker w = workers.get(i);
+                if( !w.frameDrawables.isEmpty() ) {
+                    futures.add(w.executor.submit(new FrameTask(w.frameDrawables, frameBarrier, ignoreExceptions, printExceptions)));
+                }
+            }
+        }
+        UncaughtAnimatorException caught = null;
+        for(int i=0; i<futures.size(); i++) {
+            UncaughtAnimatorException res;
+            try {
+                res = futures.get(i).get();
+            } catch (final InterruptedException e) {
+                res = new UncaughtAnimatorException(null, e);
+            } catch (final ExecutionException e) {
+                res = new UncaughtAnimatorException(null, e.getCause());
+            }
+            if( null == caught ) {
+                caught = res;
+            }
+        }
+        if( null != caught ) {
+            throw caught;
+        }
+    }
+
+    private final class FrameTask implements Callable<UncaughtAnimatorException> {
+        private final ArrayList<GLAutoDrawable> frameDrawables;
+        private final CyclicBarrier frameBarrier;
+        private final boolean ignoreExceptions;
+        private final boolean printExceptions;
+
+        FrameTask(final ArrayList<GLAutoDrawable> frameDrawables, final CyclicBarrier frameBarrier,
+                  final boolean ignoreExceptions, final boolean printExceptions) {
+            this.frameDrawables = frameDrawables;
+            this.frameBarrier = frameBarrier;
+            this.ignoreExceptions = ignoreExceptions;
+            this.printExceptions = printExceptions;
+        }
+
+        private UncaughtAnimatorException handle(final GLAutoDrawable drawable, final Throwable t) {
+            if( ignoreExceptions ) {
+                if( printExceptions ) {
+                    t.printStackTrace();
+                }
+                return null;
+            }
+            return new UncaughtAnimatorException(drawable, t);
+        }
+
+        @Override
+        public UncaughtAnimatorException call() {
+            UncaughtAnimatorException caught = null;
+            try {
+                for(int i=0; null == caught && i<frameDrawables.size(); i++) {
+                    final GLAutoDrawable drawable = frameDrawables.get(i);
+                    try {
+                        drawable.display();
+                    } catch (final Throwable t) {
+                        caught = handle(drawable, t);
+                    }
+                }
+            } finally {
+                if( null != frameBarrier ) {
+                    try {
+                        frameBarrier.await();
+                    } catch (final InterruptedException e) {
+                        if( null == caught ) {
+                            caught = new UncaughtAnimatorException(null, e);
+                        }
+                    } catch (final BrokenBarrierException e) {
+                        if( null == caught ) {
+                            caught = new UncaughtAnimatorException(null, e);
+                        }
+                    }
+                }
+            }
+            if( null != frameBarrier ) {
+                for(int i=0; null == caught && i<frameDrawables.size(); i++) {
+                    final GLAutoDrawable drawable = frameDrawables.get(i);
+                    if( isManagedSwap(drawable) ) {
+                        try {
+                            drawable.swapBuffers();
+                        } catch (final Throwable t) {
+                            caught = handle(drawable, t);
+                        }
+                    }
+                }
+            }
+            return caught;
+        }
+    }
+
+    private synchronized boolean isManagedSwap(final GLAutoDrawable drawable) {
+        return managedSwap.containsKey(drawable);
+    }
+
+    @Override
+    public boolean blockUntilDone(final Thread thread) {
+        final Thread ct = Thread.currentThread();
+        return ct != thread && !isWorkerThread(ct);
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.av;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.common.os.Clock;
+
+/**
+ * Shared decode scheduler, servicing the video decoding of many {@link GLMediaPlayer}s
+ * w/ a bounded pool of worker threads instead of one <a href="GLMediaPlayer.html#streamworker"><i>StreamWorker</i></a> thread per player.
+ * <p>
+ * Set via {@link GLMediaPlayer#setDecodeScheduler(DecodeScheduler)} before {@link GLMediaPlayer#initGL(com.jogamp.opengl.GL)}.
+ * </p>
+ * <p>
+ * Each worker thread decodes one frame of the {@link Stream#isReady() ready} {@link Stream}
+ * w/ the earliest {@link Stream#getDeadline(long) presentation deadline} at a time,
+ * i.e. the stream whose next video PTS is closest to or furthest behind its clock.
+ * A {@link Stream} is serviced by one worker thread at a time only.
+ * </p>
+ * <p>
+ * Idle worker threads wait w/o polling until a {@link Stream} is {@link #register(Stream) registered},
+ * a decode has been completed or {@link #signal()} is called.
+ * Hence a {@link Stream} must call {@link #signal()} whenever it becomes {@link Stream#isReady() ready} by other means than its own decode.
+ * </p>
+ * <p>
+ * The {@link #getShare(Stream) share} of each {@link Stream} of the worker pool's busy time is tracked.
+ * </p>
+ */
+public final class DecodeScheduler {
+    /**
+     * A decoding stream serviced by {@link DecodeScheduler}, e.g. of one {@link GLMediaPlayer}.
+     * <p>
+     * Methods are called on the worker threads.
+     * </p>
+     */
+    public static interface Stream {
+        /**
+         * Returns {@code true} if the next frame can be decoded w/o blocking, e.g. playing and a free texture is available.
+         * <p>
+         * A transition to ready, e.g. a returned free texture, shall be followed by {@link DecodeScheduler#signal()}.
+         * </p>
+         */
+        boolean isReady();
+
+        /**
+         * Returns the presentation deadline of the next frame in milliseconds relative to {@code currentMillis},
+         * negative if already late. Streams w/ a lower deadline are serviced first.
+         * @param currentMillis current time in milliseconds, see {@link Clock#currentMillis()}
+         */
+        int getDeadline(long currentMillis);
+
+        /**
+         * Decodes the next frame on the calling worker thread.
+         * <p>
+         * Implementation shall not block, handle its own exceptions and stay {@link #isReady() non ready} on error.
+         * </p>
+         */
+        void decode();
+    }
+
+    private static final class Entry {
+        final Stream stream;
+        boolean busy = false;
+        long busyNanos = 0;
+        long decodeCount = 0;
+        Entry(final Stream stream) {
+            this.stream = stream;
+        }
+    }
+    private static final AtomicInteger instanceId = new AtomicInteger(0);
+
+    private final Object lock = new Object();
+    private final ArrayList<Entry> entries = new ArrayList<Entry>();
+    private final Thread[] threads;
+    private long totalBusyNanos = 0;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a {@link DecodeScheduler} and starts its pool of daemon worker threads.
+     * @param threadCount number of worker threads, values &lt; 1 use the number of available processors minus one, at least one
+     */
+    public DecodeScheduler(final int threadCount) {
+        final int n = 0 < threadCount ? threadCount : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        final String name = "DecodeScheduler-"+instanceId.getAndIncrement();
+        threads = new Thread[n];
+        for(int i=0; i<n; ++i) {
+            threads[i] = new Thread( () -> { run(); }, name+"-Worker-"+i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    /** Returns the number of worker threads. */
+    public int getThreadCount() { return threads.length; }
+
+    /** Returns the number of registered {@link Stream}s. */
+    public int getStreamCount() {
+        synchronized( lock ) {
+            return entries.size();
+        }
+    }
+
+    /** Registers the given {@link Stream} to be serviced. */
+    public void register(final Stream s) {
+        synchronized( lock ) {
+            entries.add(new Entry(s));
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Unregisters the given {@link Stream}, waiting until it is no more serviced.
+     */
+    public void unregister(final Stream s) {
+        synchronized( lock ) {
+            final Entry e = find(s);
+            if( null != e ) {
+                while( e.busy && !shutdown ) {
+                    try {
+                        lock.wait();
+                    } catch (final InterruptedException ie) {
+                        break;
+                    }
+                }
+                entries.remove(e);
+            }
+        }
+    }
+
+    /** Wakes up idle worker threads, e.g. after a {@link Stream} became {@link Stream#isReady() ready}. */
+    public void signal() {
+        synchronized( lock ) {
+            lock.notifyAll();
+        }
+    }
+
+    private Entry find(final Stream s) {
+        for(final Entry e : entries) {
+            if( e.stream == s ) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the share of the given {@link Stream} of the worker pool's busy time in the range [0..1],
+     * zero if not registered.
+     */
+    public float getShare(final Stream s) {
+        synchronized( lock ) {
+            final Entry e = find(s);
+            if( null == e || 0 == totalBusyNanos ) {
+                return 0f;
+            }
+            return (float) ( (double)e.busyNanos / (double)totalBusyNanos );
+        }
+    }
+
+    /** Returns the number of decoded frames of the given {@link Stream}, zero if not registered. */
+    public long getDecodeCount(final Stream s) {
+        synchronized( lock ) {
+            final Entry e = find(s);
+            return null != e ? e.decodeCount : 0;
+        }
+    }
+
+    /** Resets the busy time and decode count statistics of all {@link Stream}s. */
+    public void resetStats() {
+        synchronized( lock ) {
+            for(final Entry e : entries) {
+                e.busyNanos = 0;
+                e.decodeCount = 0;
+            }
+            totalBusyNanos = 0;
+        }
+    }
+
+    /**
+     * Stops all worker threads after their current decode, not waiting.
+     */
+    public void shutdown() {
+        synchronized( lock ) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+    }
+
+    private void run() {
+        while( !shutdown ) {
+            Entry next = null;
+            synchronized( lock ) {
+                final long currentMillis = Clock.currentMillis();
+                int deadline = Integer.MAX_VALUE;
+                for(int i=entries.size()-1; i>=0; --i) {
+                    final Entry e = entries.get(i);
+                    if( !e.busy && e.stream.isReady() ) {
+                        final int d = e.stream.getDeadline(currentMillis);
+                        if( null == next || d < deadline ) {
+                            next = e;
+                            deadline = d;
+                        }
+                    }
+                }
+                if( null == next ) {
+                    try {
+                        lock.wait();
+                    } catch (final InterruptedException ie) { }
+                    continue;
+                }
+                next.busy = true;
+            }
+            final long t0 = System.nanoTime();
+            try {
+                next.stream.decode();
+            } catch(final Throwable t) {
+                System.err.println("DecodeScheduler: Caught Exception decoding "+next.stream+": "+t.getMessage());
+                t.printStackTrace();
+            }
+            final long dt = System.nanoTime() - t0;
+            synchronized( lock ) {
+                next.busy = false;
+                next.busyNanos += dt;
+                next.decodeCount++;
+                totalBusyNanos += dt;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized( lock ) {
+            return "DecodeScheduler[threads "+threads.length+", streams "+entries.size()+", busy "+(totalBusyNanos/1000000L)+" ms"+(shutdown?", shutdown":"")+"]";
+        }
+    }
+}
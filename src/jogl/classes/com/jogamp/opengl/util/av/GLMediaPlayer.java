@@ -823,6 +823,77 @@ public interface GLMediaPlayer extends TextureSequence {
      */
     public int getPresentedFrameCount();
 
+    /**
+     * @return the current dropped video frame count since {@link #resume()} and {@link #seek(int)},
+     *         i.e. frames skipped by {@link #getNextTexture(GL)} or at decoding being too late.
+     */
+    public int getDroppedFrameCount();
+
+    /**
+     * @return the current repeated video frame count since {@link #resume()} and {@link #seek(int)},
+     *         i.e. frames presented again by {@link #getNextTexture(GL)} being too early.
+     */
+    public int getRepeatedFrameCount();
+
+    /**
+     * @return the number of decoded video frames queued for presentation by the <a href="#streamworker"><i>StreamWorker</i></a>,
+     *         zero if decoding single-threaded.
+     */
+    public int getDecodedQueueDepth();
+
+    /**
+     * @return the average duration in milliseconds to decode one video frame, including its texture upload
+     *         performed by the implementation.
+     */
+    public float getAvgFrameDecodeMillis();
+
+    /**
+     * @return the jitter of {@link #getAvgFrameDecodeMillis()} in milliseconds, i.e. the mean absolute deviation.
+     */
+    public float getFrameDecodeJitterMillis();
+
+    /**
+     * Enables or disables the adaptive texture count.
+     * <p>
+     * If enabled and decoding multi-threaded, see {@link #playStream(Uri, int, int, int, int)},
+     * the number of buffered textures grows and shrinks between {@link #TEXTURE_COUNT_MIN} + 1
+     * and the given maximum based on the observed {@link #getFrameDecodeJitterMillis() decode jitter}
+     * and decoded queue underruns.
+     * </p>
+     * @param maxTextureCount maximum number of buffered textures, zero disables the adaptive texture count (default)
+     */
+    public void setAdaptiveTextureCount(int maxTextureCount);
+
+    /**
+     * Returns the maximum number of buffered textures of the adaptive texture count, zero if disabled.
+     * @see #setAdaptiveTextureCount(int)
+     */
+    public int getAdaptiveTextureCount();
+
+    /**
+     * Sets the shared {@link DecodeScheduler} to decode video frames multi-threaded,
+     * instead of using a dedicated <a href="#streamworker"><i>StreamWorker</i></a> thread.
+     * <p>
+     * Shall be called before {@link #initGL(GL)}. Audio only streams always use a dedicated <i>StreamWorker</i> thread.
+     * </p>
+     * <p>
+     * Decoded video frames already too late for presentation are skipped when using a {@link DecodeScheduler}
+     * and are included in {@link #getDroppedFrameCount()}.
+     * </p>
+     * @param scheduler the shared {@link DecodeScheduler}, {@code null} to use a dedicated <i>StreamWorker</i> thread (default)
+     */
+    public void setDecodeScheduler(DecodeScheduler scheduler);
+
+    /** Returns the shared {@link DecodeScheduler} or {@code null}, see {@link #setDecodeScheduler(DecodeScheduler)}. */
+    public DecodeScheduler getDecodeScheduler();
+
+    /**
+     * Returns the share of this player of the {@link #getDecodeScheduler() DecodeScheduler}'s busy time in the range [0..1],
+     * zero if not using a {@link DecodeScheduler}.
+     * @see DecodeScheduler#getShare(DecodeScheduler.Stream)
+     */
+    public float getDecodeShare();
+
 
     /**
      * Returns current System Clock Reference (SCR) presentation timestamp ({@link PTS}).
@@ -1051,6 +1122,27 @@ public interface GLMediaPlayer extends TextureSequence {
     /** Returns the {@link #setSubtitleEventListener(SubtitleEventListener)} of this player. */
     public SubtitleEventListener getSubtitleEventListener();
 
+    /**
+     * Enables or disables packing bitmap subtitles into one shared atlas {@link Texture}.
+     * <p>
+     * If enabled, each bitmap is uploaded into a region of the atlas,
+     * which {@link SubBitmapEvent#texture} refers to along with the region's {@link SubBitmapEvent#texCoords}.
+     * The region is freed once the event is {@link SubBitmapEvent#release() released}.
+     * Bitmaps are dropped while the atlas is exhausted, hence events shall be released when expired.
+     * </p>
+     * <p>
+     * Otherwise (default) each {@link SubBitmapEvent} uses a dedicated {@link Texture} out of a small pool,
+     * reallocated for each event.
+     * </p>
+     * <p>
+     * Shall be called before {@link #initGL(GL)}.
+     * </p>
+     */
+    public void setSubtitleAtlas(boolean enable);
+
+    /** Returns whether bitmap subtitles are packed into a shared atlas {@link Texture}, see {@link #setSubtitleAtlas(boolean)}. */
+    public boolean isSubtitleAtlasEnabled();
+
     /**
      * Returns the attached user object for the given name.
      */
@@ -29,12 +29,19 @@ package com.jogamp.opengl.util.av;
 
 import com.jogamp.math.Vec2i;
 import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureCoords;
 
 /**
  * Bitmap {@link Texture} event of {@link SubtitleEvent}
  * <p>
  * Consider {@link SubtitleEvent#pts_end} and {@link SubEmptyEvent}.
  * </p>
+ * <p>
+ * The bitmap may reside in a region of a shared atlas {@link #texture},
+ * see {@link GLMediaPlayer#setSubtitleAtlas(boolean)}.
+ * Hence users shall render the {@link #texture} using the given {@link #texCoords}
+ * and must not modify or destroy the {@link #texture}.
+ * </p>
  */
 public class SubBitmapEvent extends SubtitleEvent {
     /** To be implemented by the {@link Texture} owner to release the texture. */
@@ -48,6 +55,8 @@ public class SubBitmapEvent extends SubtitleEvent {
     public final Vec2i dimension;
     /** Subtitle texture or {@code null} if unused */
     public Texture texture;
+    /** Subtitle bitmap {@link TextureCoords} within {@link #texture}, or {@code null} if {@link #texture} is unused */
+    public final TextureCoords texCoords;
     private final TextureOwner owner;
 
     /**
@@ -62,17 +71,35 @@ public class SubBitmapEvent extends SubtitleEvent {
      * @param owner {@link Texture} owner code-stub to release the texture
      */
     public SubBitmapEvent(final CodecID codec, final String lang, final Vec2i pos, final Vec2i dim, final Texture tex, final int pts_start, final int pts_end, final TextureOwner owner) {
+        this(codec, lang, pos, dim, tex, null != tex ? tex.getImageTexCoords() : null, pts_start, pts_end, owner);
+    }
+
+    /**
+     * Texture Event ctor w/ given {@link TextureCoords}, e.g. a region of an atlas {@link Texture}
+     * @param codec the {@link CodecID}
+     * @param lang language code, supposed to be 3-letters of `ISO 639-2 language codes`
+     * @param pos texture position
+     * @param dim texture dimension
+     * @param tex the {@link Texture} or {@code null} if unused
+     * @param texCoords the bitmap {@link TextureCoords} within {@code tex}
+     * @param pts_start pts start in ms
+     * @param pts_end pts end in ms, often {@link #isEndDefined()} for bitmap'ed types see {@link #pts_end}
+     * @param owner {@link Texture} owner code-stub to release the texture or its region
+     */
+    public SubBitmapEvent(final CodecID codec, final String lang, final Vec2i pos, final Vec2i dim, final Texture tex, final TextureCoords texCoords,
+                          final int pts_start, final int pts_end, final TextureOwner owner) {
         super(SubtitleEvent.Type.Bitmap, codec, lang, pts_start, pts_end);
         position = pos;
         dimension = dim;
         texture = tex;
+        this.texCoords = texCoords;
         this.owner = owner;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * The {@link #texture} is released back to the owner
+     * The {@link #texture} or its atlas region is released back to the owner
      * </p>
      */
     @Override
@@ -85,6 +112,6 @@ public class SubBitmapEvent extends SubtitleEvent {
     }
     @Override
     public String toString() {
-        return getStartString()+", pos "+position+", dim "+dimension+", "+texture+"]";
+        return getStartString()+", pos "+position+", dim "+dimension+", "+texCoords+", "+texture+"]";
     }
 }
@@ -0,0 +1,321 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.av;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.stream.IntStream;
+
+/**
+ * CPU YUV to RGBA or BGRA color conversion of {@link VideoPixelFormat#YUV420P}, {@link VideoPixelFormat#YUVJ420P},
+ * {@link VideoPixelFormat#NV12}, {@link VideoPixelFormat#NV21}, {@link VideoPixelFormat#YUYV422} and {@link VideoPixelFormat#UYVY422}
+ * frames, e.g. for thumbnails or frame analysis where no shader based conversion is available.
+ * <p>
+ * Supports the {@link Matrix#BT601 BT.601} and {@link Matrix#BT709 BT.709} matrices in full or limited range
+ * using 16-bit fixed point coefficients.
+ * </p>
+ * <p>
+ * Conversion is allocation free and uses absolute {@link ByteBuffer} access only, i.e. buffer positions are not changed.
+ * Each pixel is written as one 32-bit value in the destination's {@link ByteBuffer#order() byte order}.
+ * The inner loops are branch free besides clamping, allowing the JIT to unroll them.
+ * {@link #convert(VideoPixelFormat, ByteBuffer[], int[], int, int, ByteBuffer, int, int, int) Row bands}
+ * can be converted in parallel, see {@link #convertParallel(VideoPixelFormat, ByteBuffer[], int[], int, int, ByteBuffer, int, int)}.
+ * </p>
+ * <p>
+ * Planes and strides are passed in order, i.e.
+ * <ul>
+ *   <li>{@link VideoPixelFormat#YUV420P}: Y, U and V</li>
+ *   <li>{@link VideoPixelFormat#NV12}, {@link VideoPixelFormat#NV21}: Y and interleaved UV or VU</li>
+ *   <li>{@link VideoPixelFormat#YUYV422}, {@link VideoPixelFormat#UYVY422}: the packed plane</li>
+ * </ul>
+ * </p>
+ */
+public final class YUVConverter {
+    /** YUV to RGB color matrix */
+    public static enum Matrix {
+        /** ITU-R BT.601, SD video */
+        BT601(0.299f, 0.114f),
+        /** ITU-R BT.709, HD video */
+        BT709(0.2126f, 0.0722f);
+
+        /** Red luma coefficient Kr */
+        public final float kr;
+        /** Blue luma coefficient Kb */
+        public final float kb;
+
+        Matrix(final float kr, final float kb) {
+            this.kr = kr;
+            this.kb = kb;
+        }
+    }
+
+    private static final int SHIFT = 16;
+    private static final int ROUND = 1 << ( SHIFT - 1 );
+
+    private final Matrix matrix;
+    private final boolean fullRange;
+    private final boolean bgra;
+    private final int yOff;
+    private final int cy, crR, cbG, crG, cbB;
+    /** Bit shifts of R, G, B and A within a little endian 32-bit pixel */
+    private final int sR, sG, sB, sA;
+
+    /**
+     * Creates a converter.
+     * @param matrix the {@link Matrix}
+     * @param fullRange {@code true} for full range [0..255], {@code false} for limited range, i.e. Y [16..235] and UV [16..240]
+     * @param bgra {@code true} to write BGRA, otherwise RGBA
+     */
+    public YUVConverter(final Matrix matrix, final boolean fullRange, final boolean bgra) {
+        this.matrix = matrix;
+        this.fullRange = fullRange;
+        this.bgra = bgra;
+        final float kr = matrix.kr, kb = matrix.kb, kg = 1f - kr - kb;
+        final float ys = fullRange ? 1f : 255f / 219f;
+        final float cs = fullRange ? 1f : 255f / 224f;
+        final float one = 1 << SHIFT;
+        yOff = fullRange ? 0 : 16;
+        cy  = Math.round( one * ys );
+        crR = Math.round( one * cs * 2f * ( 1f - kr ) );
+        cbB = Math.round( one * cs * 2f * ( 1f - kb ) );
+        cbG = Math.round( one * cs * 2f * ( 1f - kb ) * kb / kg );
+        crG = Math.round( one * cs * 2f * ( 1f - kr ) * kr / kg );
+        sR = bgra ? 16 : 0;
+        sG = 8;
+        sB = bgra ? 0 : 16;
+        sA = 24;
+    }
+
+    public Matrix getMatrix() { return matrix; }
+    public boolean isFullRange() { return fullRange; }
+    public boolean isBGRA() { return bgra; }
+
+    /** Returns {@code true} if the given source {@link VideoPixelFormat} is supported. */
+    public static boolean isSupported(final VideoPixelFormat fmt) {
+        switch( fmt ) {
+            case YUV420P:
+            case YUVJ420P:
+            case NV12:
+            case NV21:
+            case YUYV422:
+            case UYVY422:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int clamp(final int v) {
+        return v < 0 ? 0 : ( v > 255 ? 255 : v );
+    }
+
+    /** Returns one little endian RGBA or BGRA pixel using premultiplied luma {@code yc} and chroma terms. */
+    private int pack(final int yc, final int r, final int g, final int b) {
+        return clamp( ( yc + r ) >> SHIFT ) << sR |
+               clamp( ( yc - g ) >> SHIFT ) << sG |
+               clamp( ( yc + b ) >> SHIFT ) << sB |
+               0xff << sA;
+    }
+
+    /** Writes one pixel at byte offset {@code d}, see {@link #pack(int, int, int, int)}. */
+    private static void put(final ByteBuffer dst, final boolean le, final int d, final int pixel) {
+        dst.putInt(d, le ? pixel : Integer.reverseBytes(pixel));
+    }
+
+    /**
+     * Converts the row band [{@code rowStart}..{@code rowEnd}) of the given frame.
+     * @param fmt the source {@link VideoPixelFormat}, see {@link #isSupported(VideoPixelFormat)}
+     * @param planes source planes, see {@link YUVConverter}
+     * @param strides source plane strides in bytes
+     * @param width frame width in pixels
+     * @param height frame height in pixels
+     * @param dst destination buffer of at least {@code height * dstStride} bytes
+     * @param dstStride destination stride in bytes, at least {@code 4 * width}
+     * @param rowStart first row to convert
+     * @param rowEnd row after the last row to convert
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public void convert(final VideoPixelFormat fmt, final ByteBuffer[] planes, final int[] strides,
+                        final int width, final int height,
+                        final ByteBuffer dst, final int dstStride, final int rowStart, final int rowEnd)
+                        throws IllegalArgumentException
+    {
+        final int y1 = Math.min(height, rowEnd);
+        switch( fmt ) {
+            case YUV420P:
+            case YUVJ420P:
+                convertPlanar420(planes[0], strides[0], planes[1], strides[1], planes[2], strides[2], width, dst, dstStride, rowStart, y1);
+                break;
+            case NV12:
+                convertSemiPlanar420(planes[0], strides[0], planes[1], strides[1], 0, 1, width, dst, dstStride, rowStart, y1);
+                break;
+            case NV21:
+                convertSemiPlanar420(planes[0], strides[0], planes[1], strides[1], 1, 0, width, dst, dstStride, rowStart, y1);
+                break;
+            case YUYV422:
+                convertPacked422(planes[0], strides[0], 0, 1, 3, width, dst, dstStride, rowStart, y1);
+                break;
+            case UYVY422:
+                convertPacked422(planes[0], strides[0], 1, 0, 2, width, dst, dstStride, rowStart, y1);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported format "+fmt);
+        }
+    }
+
+    /**
+     * Converts the whole frame, see {@link #convert(VideoPixelFormat, ByteBuffer[], int[], int, int, ByteBuffer, int, int, int)}.
+     */
+    public void convert(final VideoPixelFormat fmt, final ByteBuffer[] planes, final int[] strides,
+                        final int width, final int height, final ByteBuffer dst, final int dstStride)
+                        throws IllegalArgumentException
+    {
+        convert(fmt, planes, strides, width, height, dst, dstStride, 0, height);
+    }
+
+    /**
+     * Converts the whole frame in parallel row bands on the common {@link java.util.concurrent.ForkJoinPool},
+     * see {@link #convert(VideoPixelFormat, ByteBuffer[], int[], int, int, ByteBuffer, int, int, int)}.
+     * <p>
+     * Bands are aligned to even rows, i.e. chroma rows of 4:2:0 formats are not shared across bands.
+     * </p>
+     * @param bandCount number of row bands, values &lt; 1 use the number of available processors
+     */
+    public void convertParallel(final VideoPixelFormat fmt, final ByteBuffer[] planes, final int[] strides,
+                                final int width, final int height, final ByteBuffer dst, final int dstStride,
+                                final int bandCount)
+                                throws IllegalArgumentException
+    {
+        if( !isSupported(fmt) ) {
+            throw new IllegalArgumentException("Unsupported format "+fmt);
+        }
+        final int n = 0 < bandCount ? bandCount : Runtime.getRuntime().availableProcessors();
+        final int bandRows = ( ( ( height + n - 1 ) / n ) + 1 ) & ~1;
+        final int bands = ( height + bandRows - 1 ) / bandRows;
+        if( 1 >= bands ) {
+            convert(fmt, planes, strides, width, height, dst, dstStride, 0, height);
+            return;
+        }
+        IntStream.range(0, bands).parallel().forEach( (final int i) -> {
+            convert(fmt, planes, strides, width, height, dst, dstStride, i * bandRows, ( i + 1 ) * bandRows);
+        } );
+    }
+
+    private void convertPlanar420(final ByteBuffer yP, final int yStride, final ByteBuffer uP, final int uStride,
+                                  final ByteBuffer vP, final int vStride, final int width,
+                                  final ByteBuffer dst, final int dstStride, final int row0, final int row1)
+    {
+        final boolean le = ByteOrder.LITTLE_ENDIAN == dst.order();
+        final int w2 = width & ~1;
+        for(int row = row0; row < row1; ++row) {
+            final int ys = row * yStride;
+            final int us = ( row >> 1 ) * uStride;
+            final int vs = ( row >> 1 ) * vStride;
+            int d = row * dstStride;
+            int x = 0;
+            for(; x < w2; x += 2, d += 8) {
+                final int cb = ( uP.get(us + ( x >> 1 )) & 0xff ) - 128;
+                final int cr = ( vP.get(vs + ( x >> 1 )) & 0xff ) - 128;
+                final int r = crR * cr + ROUND;
+                final int g = cbG * cb + crG * cr - ROUND;
+                final int b = cbB * cb + ROUND;
+                put(dst, le, d, pack(cy * ( ( yP.get(ys + x    ) & 0xff ) - yOff ), r, g, b));
+                put(dst, le, d + 4, pack(cy * ( ( yP.get(ys + x + 1) & 0xff ) - yOff ), r, g, b));
+            }
+            if( x < width ) {
+                final int cb = ( uP.get(us + ( x >> 1 )) & 0xff ) - 128;
+                final int cr = ( vP.get(vs + ( x >> 1 )) & 0xff ) - 128;
+                put(dst, le, d, pack(cy * ( ( yP.get(ys + x) & 0xff ) - yOff ), crR * cr + ROUND, cbG * cb + crG * cr - ROUND, cbB * cb + ROUND));
+            }
+        }
+    }
+
+    private void convertSemiPlanar420(final ByteBuffer yP, final int yStride, final ByteBuffer uvP, final int uvStride,
+                                      final int iU, final int iV, final int width,
+                                      final ByteBuffer dst, final int dstStride, final int row0, final int row1)
+    {
+        final boolean le = ByteOrder.LITTLE_ENDIAN == dst.order();
+        final int w2 = width & ~1;
+        for(int row = row0; row < row1; ++row) {
+            final int ys = row * yStride;
+            final int cs = ( row >> 1 ) * uvStride;
+            int d = row * dstStride;
+            int x = 0;
+            for(; x < w2; x += 2, d += 8) {
+                final int cb = ( uvP.get(cs + x + iU) & 0xff ) - 128;
+                final int cr = ( uvP.get(cs + x + iV) & 0xff ) - 128;
+                final int r = crR * cr + ROUND;
+                final int g = cbG * cb + crG * cr - ROUND;
+                final int b = cbB * cb + ROUND;
+                put(dst, le, d, pack(cy * ( ( yP.get(ys + x    ) & 0xff ) - yOff ), r, g, b));
+                put(dst, le, d + 4, pack(cy * ( ( yP.get(ys + x + 1) & 0xff ) - yOff ), r, g, b));
+            }
+            if( x < width ) {
+                final int cb = ( uvP.get(cs + x + iU) & 0xff ) - 128;
+                final int cr = ( uvP.get(cs + x + iV) & 0xff ) - 128;
+                put(dst, le, d, pack(cy * ( ( yP.get(ys + x) & 0xff ) - yOff ), crR * cr + ROUND, cbG * cb + crG * cr - ROUND, cbB * cb + ROUND));
+            }
+        }
+    }
+
+    /**
+     * @param iY0 byte offset of the first luma sample within a 4 byte macro pixel, second at {@code iY0 + 2}
+     * @param iU byte offset of the U sample
+     * @param iV byte offset of the V sample
+     */
+    private void convertPacked422(final ByteBuffer src, final int srcStride, final int iY0, final int iU, final int iV,
+                                  final int width, final ByteBuffer dst, final int dstStride, final int row0, final int row1)
+    {
+        final boolean le = ByteOrder.LITTLE_ENDIAN == dst.order();
+        final int w2 = width & ~1;
+        for(int row = row0; row < row1; ++row) {
+            int s = row * srcStride;
+            int d = row * dstStride;
+            int x = 0;
+            for(; x < w2; x += 2, s += 4, d += 8) {
+                final int cb = ( src.get(s + iU) & 0xff ) - 128;
+                final int cr = ( src.get(s + iV) & 0xff ) - 128;
+                final int r = crR * cr + ROUND;
+                final int g = cbG * cb + crG * cr - ROUND;
+                final int b = cbB * cb + ROUND;
+                put(dst, le, d, pack(cy * ( ( src.get(s + iY0    ) & 0xff ) - yOff ), r, g, b));
+                put(dst, le, d + 4, pack(cy * ( ( src.get(s + iY0 + 2) & 0xff ) - yOff ), r, g, b));
+            }
+            if( x < width ) {
+                final int cb = ( src.get(s + iU) & 0xff ) - 128;
+                final int cr = ( src.get(s + iV) & 0xff ) - 128;
+                put(dst, le, d, pack(cy * ( ( src.get(s + iY0) & 0xff ) - yOff ), crR * cr + ROUND, cbG * cb + crG * cr - ROUND, cbB * cb + ROUND));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "YUVConverter["+matrix+", "+(fullRange?"full":"limited")+" range, "+(bgra?"BGRA":"RGBA")+"]";
+    }
+}
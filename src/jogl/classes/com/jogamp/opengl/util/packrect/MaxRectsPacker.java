@@ -0,0 +1,288 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.packrect;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Online MaxRects allocator of {@link Rect}s within a fixed size area.
+ * <p>
+ * In contrast to {@link RectanglePacker}, which packs into {@link LevelSet} shelves
+ * and re-packs all rectangles into a new backing store on compaction,
+ * this allocator keeps the list of maximal free rectangles and places each added {@link Rect}
+ * using the best short side fit heuristic. Removed rectangles are returned to the free list
+ * and merged w/ edge sharing neighbors. If an addition fails after removals,
+ * the free list is rebuilt from the added rectangles once to regain maximal free rectangles.
+ * Hence no backing store movement is ever required.
+ * </p>
+ */
+public class MaxRectsPacker {
+    private final int w;
+    private final int h;
+    private final ArrayList<Rect> freeRects;
+    private final ArrayList<Rect> usedRects;
+    private long usedArea;
+    private boolean removedSinceRebuild;
+
+    public MaxRectsPacker(final int w, final int h) {
+        if( 0 >= w || 0 >= h ) {
+            throw new IllegalArgumentException("Invalid size "+w+"x"+h);
+        }
+        this.w = w;
+        this.h = h;
+        this.freeRects = new ArrayList<Rect>();
+        this.usedRects = new ArrayList<Rect>();
+        clear();
+    }
+
+    public int w() { return w; }
+    public int h() { return h; }
+
+    /** Returns the summed area of all added rectangles. */
+    public long getUsedArea() { return usedArea; }
+
+    /** Returns the free area. */
+    public long getFreeArea() { return (long)w * h - usedArea; }
+
+    /** Returns the area of the largest free rectangle. */
+    public long getMaxFreeRectArea() {
+        long max = 0;
+        for(int i=0; i<freeRects.size(); i++) {
+            final Rect r = freeRects.get(i);
+            max = Math.max(max, (long)r.w() * r.h());
+        }
+        return max;
+    }
+
+    /** Returns the current free rectangles, maybe overlapping, as an unmodifiable view. */
+    public List<Rect> getFreeRects() { return Collections.unmodifiableList(freeRects); }
+
+    /** Returns ratio of used area to the total area, [0..1]. */
+    public float getOccupancy() {
+        return (float) ( (double)usedArea / ( (double)w * h ) );
+    }
+
+    /**
+     * Returns the fragmentation ratio, i.e. <code>1 - largest-free-rect-area / free-area</code>, [0..1].
+     * A high value indicates that the free space is scattered across small pieces.
+     */
+    public float getFragmentation() {
+        final long free = getFreeArea();
+        if( 0 >= free ) {
+            return 0f;
+        }
+        return Math.max(0f, 1f - (float) ( (double)getMaxFreeRectArea() / free ));
+    }
+
+    /**
+     * Decides upon an (x, y) position for the given rectangle, leaving its size unchanged.
+     * @return true if the rectangle has been placed, otherwise false and the rectangle is left untouched
+     */
+    public boolean add(final Rect rect) {
+        Rect best = findPosition(rect.w(), rect.h());
+        if( null == best && removedSinceRebuild ) {
+            rebuild();
+            best = findPosition(rect.w(), rect.h());
+        }
+        if( null == best ) {
+            return false;
+        }
+        rect.setPosition(best.x(), best.y());
+        place(rect);
+        return true;
+    }
+
+    /**
+     * Marks the given rectangle at its current position as used, w/o checking for overlaps.
+     * Useful to restore a known layout.
+     */
+    public void place(final Rect rect) {
+        reserveImpl(rect);
+        usedRects.add(rect);
+        usedArea += (long)rect.w() * rect.h();
+    }
+
+    /** Returns the area of the given added rectangle to the free list. */
+    public void remove(final Rect rect) {
+        if( !removeIdentity(usedRects, rect) ) {
+            return;
+        }
+        usedArea -= (long)rect.w() * rect.h();
+        removedSinceRebuild = true;
+        if( 0 < rect.w() && 0 < rect.h() ) {
+            addFreeRect(new Rect(rect.x(), rect.y(), rect.w(), rect.h(), null));
+        }
+    }
+
+    /** Clears all allocations. */
+    public void clear() {
+        freeRects.clear();
+        freeRects.add(new Rect(0, 0, w, h, null));
+        usedRects.clear();
+        usedArea = 0;
+        removedSinceRebuild = false;
+    }
+
+    /** Returns true if both rectangles intersect. */
+    public static boolean intersects(final Rect a, final Rect b) {
+        return a.x() < b.x() + b.w() && b.x() < a.x() + a.w() &&
+               a.y() < b.y() + b.h() && b.y() < a.y() + a.h();
+    }
+
+    private Rect findPosition(final int rw, final int rh) {
+        int bestShort = Integer.MAX_VALUE;
+        int bestLong = Integer.MAX_VALUE;
+        Rect best = null;
+        for(int i=0; i<freeRects.size(); i++) {
+            final Rect r = freeRects.get(i);
+            if( r.w() >= rw && r.h() >= rh ) {
+                final int dw = r.w() - rw;
+                final int dh = r.h() - rh;
+                final int shortSide = Math.min(dw, dh);
+                final int longSide = Math.max(dw, dh);
+                if( shortSide < bestShort || ( shortSide == bestShort && longSide < bestLong ) ) {
+                    bestShort = shortSide;
+                    bestLong = longSide;
+                    best = r;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Rebuilds the maximal free rectangles from all used rectangles. */
+    private void rebuild() {
+        freeRects.clear();
+        freeRects.add(new Rect(0, 0, w, h, null));
+        for(int i=0; i<usedRects.size(); i++) {
+            reserveImpl(usedRects.get(i));
+        }
+        removedSinceRebuild = false;
+    }
+
+    private static boolean removeIdentity(final ArrayList<Rect> list, final Rect r) {
+        for(int i=list.size()-1; i>=0; i--) {
+            if( list.get(i) == r ) {
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reserveImpl(final Rect used) {
+        final ArrayList<Rect> split = new ArrayList<Rect>();
+        for(int i = freeRects.size() - 1; i >= 0; i--) {
+            final Rect r = freeRects.get(i);
+            if( intersects(r, used) ) {
+                freeRects.remove(i);
+                splitFreeRect(r, used, split);
+            }
+        }
+        // Only the new parts may be redundant: the list was pruned before
+        // and each new part lies within a removed free rectangle.
+        for(int i=0; i<split.size(); i++) {
+            final Rect n = split.get(i);
+            boolean redundant = false;
+            for(int j=0; j<freeRects.size() && !redundant; j++) {
+                redundant = contains(freeRects.get(j), n);
+            }
+            for(int j=i+1; j<split.size() && !redundant; j++) {
+                redundant = contains(split.get(j), n);
+            }
+            if( !redundant ) {
+                freeRects.add(n);
+            }
+        }
+    }
+
+    /** Adds the up to four maximal parts of <code>free</code> not covered by <code>used</code>. */
+    private static void splitFreeRect(final Rect free, final Rect used, final ArrayList<Rect> out) {
+        final int fx1 = free.x() + free.w(), fy1 = free.y() + free.h();
+        final int ux1 = used.x() + used.w(), uy1 = used.y() + used.h();
+        if( used.x() > free.x() ) { // left
+            out.add(new Rect(free.x(), free.y(), used.x() - free.x(), free.h(), null));
+        }
+        if( ux1 < fx1 ) { // right
+            out.add(new Rect(ux1, free.y(), fx1 - ux1, free.h(), null));
+        }
+        if( used.y() > free.y() ) { // top
+            out.add(new Rect(free.x(), free.y(), free.w(), used.y() - free.y(), null));
+        }
+        if( uy1 < fy1 ) { // bottom
+            out.add(new Rect(free.x(), uy1, free.w(), fy1 - uy1, null));
+        }
+    }
+
+    /** Adds a freed rectangle, growing it by merging w/ free rectangles sharing a complete edge. */
+    private void addFreeRect(final Rect a) {
+        boolean merged = true;
+        while( merged ) {
+            merged = false;
+            for(int j=freeRects.size()-1; j>=0; j--) {
+                final Rect b = freeRects.get(j);
+                if( a.x() == b.x() && a.w() == b.w() &&
+                    ( a.y() + a.h() == b.y() || b.y() + b.h() == a.y() ) ) {
+                    a.setPosition(a.x(), Math.min(a.y(), b.y()));
+                    a.setSize(a.w(), a.h() + b.h());
+                } else if( a.y() == b.y() && a.h() == b.h() &&
+                           ( a.x() + a.w() == b.x() || b.x() + b.w() == a.x() ) ) {
+                    a.setPosition(Math.min(a.x(), b.x()), a.y());
+                    a.setSize(a.w() + b.w(), a.h());
+                } else {
+                    continue;
+                }
+                freeRects.remove(j);
+                merged = true;
+            }
+        }
+        for(int j=freeRects.size()-1; j>=0; j--) {
+            final Rect b = freeRects.get(j);
+            if( contains(b, a) ) {
+                return;
+            }
+            if( contains(a, b) ) {
+                freeRects.remove(j);
+            }
+        }
+        freeRects.add(a);
+    }
+
+    private static boolean contains(final Rect outer, final Rect inner) {
+        return inner.x() >= outer.x() && inner.y() >= outer.y() &&
+               inner.x() + inner.w() <= outer.x() + outer.w() &&
+               inner.y() + inner.h() <= outer.y() + outer.h();
+    }
+
+    @Override
+    public String toString() {
+        return "MaxRectsPacker["+w+"x"+h+", used "+usedRects.size()+", occupancy "+getOccupancy()+", fragmentation "+getFragmentation()+", free-rects "+freeRects.size()+"]";
+    }
+}
@@ -37,7 +37,6 @@ import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLProfile;
 
 import com.jogamp.common.util.IOUtil;
-import com.jogamp.math.Vec4f;
 
 /**
  * Simple {@link TextureSequence} implementation
@@ -45,29 +44,11 @@ import com.jogamp.math.Vec4f;
  * or {@link #addFrame(GL, Class, String, String) image streams}
  * to be used and <i>replayed</i> as {@link TextureSequence.TextureFrame frames}.
  */
-public class ImageSequence implements TextureSequence {
-    private final int textureUnit;
-    private final boolean useBuildInTexLookup;
+public class ImageSequence extends ImageSequenceBase {
     private final List<TextureSequence.TextureFrame> frames = new ArrayList<TextureSequence.TextureFrame>();
-    private final int[] texMinMagFilter = { GL.GL_NEAREST, GL.GL_NEAREST };
-    private final int[] texWrapST = { GL.GL_CLAMP_TO_EDGE, GL.GL_CLAMP_TO_EDGE };
-    private volatile int frameIdx = 0;
-    private volatile boolean manualStepping = false;
-    private int textureFragmentShaderHashCode = 0;
-    private boolean aRatioAdjustment = true;
-    private boolean aRatioLbox = false;
-    private final Vec4f aRatioLboxBackColor = new Vec4f();
 
     public ImageSequence(final int textureUnit, final boolean useBuildInTexLookup) {
-        this.textureUnit = textureUnit;
-        this.useBuildInTexLookup = useBuildInTexLookup;
-    }
-
-    public void setParams(final int magFilter, final int minFilter, final int wrapS, final int wrapT) {
-        texMinMagFilter[0] = minFilter;
-        texMinMagFilter[1] = magFilter;
-        texWrapST[0] = wrapS;
-        texWrapST[1] = wrapT;
+        super(textureUnit, useBuildInTexLookup);
     }
 
     public final TextureSequence.TextureFrame addFrame(final GL gl, final Texture tex) {
@@ -75,11 +56,7 @@ public class ImageSequence implements TextureSequence {
     }
     public final TextureSequence.TextureFrame addFrame(final GL gl, final TextureSequence.TextureFrame frame) {
         frames.add(frame);
-        frame.texture.bind(gl);
-        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MIN_FILTER, texMinMagFilter[0]);
-        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MAG_FILTER, texMinMagFilter[1]);
-        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_S, texWrapST[0]);
-        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_T, texWrapST[1]);
+        applyParams(gl, frame.texture);
         return frame;
     }
     public boolean removeFrame(final TextureFrame tex) {
@@ -98,21 +75,11 @@ public class ImageSequence implements TextureSequence {
             addFrame(gl, tex);
         }
     }
+    @Override
     public final int getFrameCount() { return frames.size(); }
-    public final int getCurrentIdx() { return frameIdx; }
-    public final void setCurrentIdx(final int idx) throws IndexOutOfBoundsException {
-        if( 0 > idx || idx >= frames.size() ) {
-            throw new IndexOutOfBoundsException("idx shall be within 0 <= "+idx+" < "+frames.size());
-        }
-        frameIdx=idx;
-    }
-    public final void setManualStepping(final boolean v) { manualStepping = v; }
-    public final boolean isManualStepping() { return manualStepping; }
-
-    /** Returns {@code true} if not {@link #isManualStepping()} and {@link #getFrameCount()} > 1 */
-    public final boolean isSequenceAnimating() { return !manualStepping && frames.size() > 1; }
     public final TextureSequence.TextureFrame getFrame(final int idx) { return frames.get(idx); }
 
+    @Override
     public void destroy(final GL gl) throws GLException {
         for(int i=frames.size()-1; i>=0; i--) {
             frames.get(i).getTexture().destroy(gl);
@@ -120,70 +87,6 @@ public class ImageSequence implements TextureSequence {
         frames.clear();
     }
 
-    @Override
-    public int getTextureTarget() {
-        return GL.GL_TEXTURE_2D;
-    }
-
-    @Override
-    public int getTextureUnit() {
-        return textureUnit;
-    }
-
-    @Override
-    public int[] getTextureMinMagFilter() {
-        return texMinMagFilter;
-    }
-
-    @Override
-    public int[] getTextureWrapST() {
-        return texWrapST;
-    }
-
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Defaults to {@code true} and toggling is supported via {@link #setARatioAdjustment(boolean)}
-     * </p>
-     */
-    @Override
-    public boolean useARatioAdjustment() { return aRatioAdjustment; }
-
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Defaults to {@code true}.
-     * </p>
-     */
-    @Override
-    public void setARatioAdjustment(final boolean v) { aRatioAdjustment = v; }
-
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Defaults to {@code false} and toggling is supported via {@link #setARatioLetterbox(boolean, Vec4f)}
-     * </p>
-     */
-    @Override
-    public boolean useARatioLetterbox() { return aRatioLbox; }
-
-    @Override
-    public Vec4f getARatioLetterboxBackColor() { return aRatioLboxBackColor; }
-
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Defaults to {@code false}.
-     * </p>
-     */
-    @Override
-    public void setARatioLetterbox(final boolean v, final Vec4f backColor) {
-        aRatioLbox = v;
-        if( null != backColor ) {
-            aRatioLboxBackColor.set(backColor);
-        }
-    };
-
     @Override
     public boolean isTextureAvailable() { return frames.size() > 0; }
 
@@ -199,66 +102,4 @@ public class ImageSequence implements TextureSequence {
         }
         return frames.get(frameIdx);
     }
-
-    @Override
-    public String getRequiredExtensionsShaderStub() throws IllegalStateException {
-        return "// TextTextureSequence: No extensions required\n";
-    }
-
-    @Override
-    public String getTextureSampler2DType() throws IllegalStateException {
-        return "sampler2D" ;
-    }
-
-    private String textureLookupFunctionName = "myTexture2D";
-
-    @Override
-    public String setTextureLookupFunctionName(final String texLookupFuncName) throws IllegalStateException {
-        if(useBuildInTexLookup) {
-            textureLookupFunctionName = "texture2D";
-        } else if(null != texLookupFuncName && texLookupFuncName.length()>0) {
-            textureLookupFunctionName = texLookupFuncName;
-        }
-        textureFragmentShaderHashCode = 0;
-        return textureLookupFunctionName;
-    }
-
-    @Override
-    public String getTextureLookupFunctionName() throws IllegalStateException {
-        return textureLookupFunctionName;
-    }
-
-    @Override
-    public String getTextureLookupFragmentShaderImpl() throws IllegalStateException {
-        if(useBuildInTexLookup) {
-          return "";
-        }
-        return
-          "\n"+
-          "vec4 "+textureLookupFunctionName+"(in "+getTextureSampler2DType()+" image, in vec2 texCoord) {\n"+
-          "  return texture2D(image, texCoord);\n"+
-          "}\n\n";
-    }
-
-    @Override
-    public String getTextureFragmentShaderHashID() {
-        // return getTextureSampler2DType()+";"+getTextureLookupFunctionName()+";"+getTextureLookupFragmentShaderImpl();
-        if( useBuildInTexLookup ) {
-            return getTextureSampler2DType()+";"+getTextureLookupFunctionName();
-        } else {
-            return getTextureLookupFragmentShaderImpl();
-        }
-    }
-
-    @Override
-    public int getTextureFragmentShaderHashCode() {
-        if( !isTextureAvailable() ) {
-            textureFragmentShaderHashCode = 0;
-            return 0;
-        } else if( 0 == textureFragmentShaderHashCode ) {
-            final int hash = getTextureFragmentShaderHashID().hashCode();
-            textureFragmentShaderHashCode = hash;
-        }
-        return textureFragmentShaderHashCode;
-    }
 }
@@ -0,0 +1,219 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+
+import com.jogamp.math.Vec4f;
+
+/**
+ * Common {@link TextureSequence} base of {@link ImageSequence} and {@link StreamingImageSequence},
+ * handling the texture parameter, frame index, aspect-ratio and shader state.
+ * <p>
+ * Implementations only manage their {@link TextureSequence.TextureFrame frames}.
+ * </p>
+ */
+public abstract class ImageSequenceBase implements TextureSequence {
+    private final int textureUnit;
+    private final boolean useBuildInTexLookup;
+    private final int[] texMinMagFilter = { GL.GL_NEAREST, GL.GL_NEAREST };
+    private final int[] texWrapST = { GL.GL_CLAMP_TO_EDGE, GL.GL_CLAMP_TO_EDGE };
+    protected volatile int frameIdx = 0;
+    protected volatile boolean manualStepping = false;
+    private int textureFragmentShaderHashCode = 0;
+    private boolean aRatioAdjustment = true;
+    private boolean aRatioLbox = false;
+    private final Vec4f aRatioLboxBackColor = new Vec4f();
+    private String textureLookupFunctionName = "myTexture2D";
+
+    protected ImageSequenceBase(final int textureUnit, final boolean useBuildInTexLookup) {
+        this.textureUnit = textureUnit;
+        this.useBuildInTexLookup = useBuildInTexLookup;
+    }
+
+    public void setParams(final int magFilter, final int minFilter, final int wrapS, final int wrapT) {
+        texMinMagFilter[0] = minFilter;
+        texMinMagFilter[1] = magFilter;
+        texWrapST[0] = wrapS;
+        texWrapST[1] = wrapT;
+    }
+
+    /** Binds the given {@link Texture} and applies the {@link #setParams(int, int, int, int) texture parameter}. */
+    protected final void applyParams(final GL gl, final Texture tex) {
+        tex.bind(gl);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MIN_FILTER, texMinMagFilter[0]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_MAG_FILTER, texMinMagFilter[1]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_S, texWrapST[0]);
+        gl.glTexParameteri(getTextureTarget(), GL.GL_TEXTURE_WRAP_T, texWrapST[1]);
+    }
+
+    /** Returns the number of frames. */
+    public abstract int getFrameCount();
+
+    public final int getCurrentIdx() { return frameIdx; }
+    public final void setCurrentIdx(final int idx) throws IndexOutOfBoundsException {
+        final int n = getFrameCount();
+        if( 0 > idx || idx >= n ) {
+            throw new IndexOutOfBoundsException("idx shall be within 0 <= "+idx+" < "+n);
+        }
+        frameIdx=idx;
+    }
+    public final void setManualStepping(final boolean v) { manualStepping = v; }
+    public final boolean isManualStepping() { return manualStepping; }
+
+    /** Returns {@code true} if not {@link #isManualStepping()} and {@link #getFrameCount()} > 1 */
+    public final boolean isSequenceAnimating() { return !manualStepping && getFrameCount() > 1; }
+
+    /** Destroys all frames and their {@link Texture}s. */
+    public abstract void destroy(final GL gl) throws GLException;
+
+    @Override
+    public int getTextureTarget() {
+        return GL.GL_TEXTURE_2D;
+    }
+
+    @Override
+    public int getTextureUnit() {
+        return textureUnit;
+    }
+
+    @Override
+    public int[] getTextureMinMagFilter() {
+        return texMinMagFilter;
+    }
+
+    @Override
+    public int[] getTextureWrapST() {
+        return texWrapST;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Defaults to {@code true} and toggling is supported via {@link #setARatioAdjustment(boolean)}
+     * </p>
+     */
+    @Override
+    public boolean useARatioAdjustment() { return aRatioAdjustment; }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Defaults to {@code true}.
+     * </p>
+     */
+    @Override
+    public void setARatioAdjustment(final boolean v) { aRatioAdjustment = v; }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Defaults to {@code false} and toggling is supported via {@link #setARatioLetterbox(boolean, Vec4f)}
+     * </p>
+     */
+    @Override
+    public boolean useARatioLetterbox() { return aRatioLbox; }
+
+    @Override
+    public Vec4f getARatioLetterboxBackColor() { return aRatioLboxBackColor; }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Defaults to {@code false}.
+     * </p>
+     */
+    @Override
+    public void setARatioLetterbox(final boolean v, final Vec4f backColor) {
+        aRatioLbox = v;
+        if( null != backColor ) {
+            aRatioLboxBackColor.set(backColor);
+        }
+    };
+
+    @Override
+    public String getRequiredExtensionsShaderStub() throws IllegalStateException {
+        return "// ImageSequence: No extensions required\n";
+    }
+
+    @Override
+    public String getTextureSampler2DType() throws IllegalStateException {
+        return "sampler2D" ;
+    }
+
+    @Override
+    public String setTextureLookupFunctionName(final String texLookupFuncName) throws IllegalStateException {
+        if(useBuildInTexLookup) {
+            textureLookupFunctionName = "texture2D";
+        } else if(null != texLookupFuncName && texLookupFuncName.length()>0) {
+            textureLookupFunctionName = texLookupFuncName;
+        }
+        textureFragmentShaderHashCode = 0;
+        return textureLookupFunctionName;
+    }
+
+    @Override
+    public String getTextureLookupFunctionName() throws IllegalStateException {
+        return textureLookupFunctionName;
+    }
+
+    @Override
+    public String getTextureLookupFragmentShaderImpl() throws IllegalStateException {
+        if(useBuildInTexLookup) {
+          return "";
+        }
+        return
+          "\n"+
+          "vec4 "+textureLookupFunctionName+"(in "+getTextureSampler2DType()+" image, in vec2 texCoord) {\n"+
+          "  return texture2D(image, texCoord);\n"+
+          "}\n\n";
+    }
+
+    @Override
+    public String getTextureFragmentShaderHashID() {
+        // return getTextureSampler2DType()+";"+getTextureLookupFunctionName()+";"+getTextureLookupFragmentShaderImpl();
+        if( useBuildInTexLookup ) {
+            return getTextureSampler2DType()+";"+getTextureLookupFunctionName();
+        } else {
+            return getTextureLookupFragmentShaderImpl();
+        }
+    }
+
+    @Override
+    public int getTextureFragmentShaderHashCode() {
+        if( !isTextureAvailable() ) {
+            textureFragmentShaderHashCode = 0;
+            return 0;
+        } else if( 0 == textureFragmentShaderHashCode ) {
+            final int hash = getTextureFragmentShaderHashID().hashCode();
+            textureFragmentShaderHashCode = hash;
+        }
+        return textureFragmentShaderHashCode;
+    }
+}
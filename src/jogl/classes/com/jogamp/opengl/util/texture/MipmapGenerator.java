@@ -0,0 +1,615 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLException;
+
+import jogamp.opengl.util.WorkerThreadPool;
+
+/**
+ * CPU mipmap generator for the common uncompressed formats,
+ * used by {@link Texture} if {@code GL_GENERATE_MIPMAP} is not available
+ * or a {@link TextureData#setMipmapFilter(Filter) mipmap filter} has been requested.
+ * <p>
+ * Supported are {@link GL#GL_UNSIGNED_BYTE} and {@link GL#GL_FLOAT} pixel types
+ * w/ 1 - 4 components, see {@link #isSupported(int, int)}.
+ * In contrast to {@code gluBuild2DMipmaps} the image is not scaled to power-of-two dimensions,
+ * each level has the size {@code max(1, width>>level) x max(1, height>>level)}.
+ * Odd dimensions are reduced w/ an area weighted three tap filter.
+ * </p>
+ * <p>
+ * For sRGB encoded {@link GL#GL_UNSIGNED_BYTE} data, the color components are filtered in linear space,
+ * while alpha is always filtered linear. {@link GL#GL_FLOAT} data is considered linear.
+ * </p>
+ * <p>
+ * Rows are filtered in parallel for images of at least {@link #PARALLEL_MIN_PIXELS} pixels.
+ * </p>
+ */
+public class MipmapGenerator {
+    /** Downsampling filter. */
+    public static enum Filter {
+        /** Area weighted box filter, i.e. 2x2 average for even dimensions. Fastest. */
+        BOX,
+        /** Kaiser windowed sinc filter, sharper than {@link #BOX} w/ less aliasing. */
+        KAISER
+    }
+
+    /** Minimum pixel count of a level to be filtered in parallel. */
+    public static final int PARALLEL_MIN_PIXELS = 256 * 256;
+
+    /** Kaiser filter radius in destination pixels. */
+    private static final float KAISER_RADIUS = 2f;
+    /** Kaiser window shape parameter. */
+    private static final float KAISER_ALPHA = 4f;
+
+    /** Size of the linear to sRGB lookup table, fine enough to round-trip all 8 bit values. */
+    private static final int LIN2SRGB_SIZE = 1 << 13;
+
+    /**
+     * Returns the number of components of the given pixel format, or 0 if not supported.
+     */
+    public static int getComponentCount(final int pixelFormat) {
+        switch( pixelFormat ) {
+            case GL.GL_ALPHA:
+            case GL.GL_LUMINANCE:
+            case GL2ES2.GL_RED:
+                return 1;
+            case GL.GL_LUMINANCE_ALPHA:
+            case GL2ES2.GL_RG:
+                return 2;
+            case GL.GL_RGB:
+            case GL.GL_BGR:
+                return 3;
+            case GL.GL_RGBA:
+            case GL.GL_BGRA:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Returns true if the given pixel format and type can be handled.
+     */
+    public static boolean isSupported(final int pixelFormat, final int pixelType) {
+        return 0 < getComponentCount(pixelFormat) &&
+               ( GL.GL_UNSIGNED_BYTE == pixelType || GL.GL_FLOAT == pixelType );
+    }
+
+    /**
+     * Returns true if the given internal format is sRGB encoded.
+     */
+    public static boolean isSRGB(final int internalFormat) {
+        switch( internalFormat ) {
+            case 0x8C40: // GL_SRGB
+            case 0x8C41: // GL_SRGB8
+            case 0x8C42: // GL_SRGB_ALPHA
+            case 0x8C43: // GL_SRGB8_ALPHA8
+            case 0x8C44: // GL_SLUMINANCE_ALPHA
+            case 0x8C45: // GL_SLUMINANCE8_ALPHA8
+            case 0x8C46: // GL_SLUMINANCE
+            case 0x8C47: // GL_SLUMINANCE8
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the number of mipmap levels incl. the base level, i.e. {@code 1 + floor(log2(max(width, height)))}.
+     */
+    public static int getLevelCount(final int width, final int height) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(1, Math.max(width, height)));
+    }
+
+    /**
+     * Generates all lower mipmap levels for the given {@link TextureData},
+     * which must not be compressed and hold its base level via {@link TextureData#getBuffer()}.
+     * <p>
+     * Uses {@link TextureData#getMipmapFilter()} or {@link Filter#BOX} if not set,
+     * while sRGB handling is derived from {@link TextureData#getInternalFormat()}.
+     * </p>
+     * @see #generate(int, int, int, int, int, int, Buffer, Filter, boolean, boolean)
+     */
+    public static Buffer[] generate(final TextureData data) throws GLException {
+        if( data.isDataCompressed() || null == data.getBuffer() ) {
+            throw new GLException("Mipmap generation requires uncompressed base level data: "+data);
+        }
+        final Filter filter = null != data.getMipmapFilter() ? data.getMipmapFilter() : Filter.BOX;
+        return generate(data.getWidth(), data.getHeight(), data.getPixelFormat(), data.getPixelType(),
+                        data.getAlignment(), data.getRowLength(), data.getBuffer(),
+                        filter, isSRGB(data.getInternalFormat()), true);
+    }
+
+    /**
+     * Generates all lower mipmap levels of the given base level.
+     * <p>
+     * Each level is derived from its predecessor.
+     * Resulting buffers use the given <code>alignment</code> for their rows and a row length of zero,
+     * i.e. they can be passed to {@code glTexImage2D} as is.
+     * {@link GL#GL_FLOAT} data is returned as {@link FloatBuffer} if <code>level0</code> is a {@link FloatBuffer},
+     * otherwise as native ordered {@link ByteBuffer}.
+     * </p>
+     *
+     * @param width base level width
+     * @param height base level height
+     * @param pixelFormat see {@link #isSupported(int, int)}
+     * @param pixelType see {@link #isSupported(int, int)}
+     * @param alignment row alignment in bytes of the base level and the resulting levels, i.e. {@code GL_UNPACK_ALIGNMENT}
+     * @param rowLength row length in pixels of the base level, if greater than zero, i.e. {@code GL_UNPACK_ROW_LENGTH}
+     * @param level0 the base level, read from its current position
+     * @param filter the downsampling {@link Filter}
+     * @param sRGB if true and pixelType is {@link GL#GL_UNSIGNED_BYTE}, color components are sRGB encoded
+     * @param parallel if true, larger levels are filtered in parallel
+     * @return levels {@code 1 .. getLevelCount(width, height)-1}, empty if the base level is 1x1
+     * @throws GLException if the pixel format or type is not supported
+     */
+    public static Buffer[] generate(final int width, final int height, final int pixelFormat, final int pixelType,
+                                    final int alignment, final int rowLength, final Buffer level0,
+                                    final Filter filter, final boolean sRGB, final boolean parallel) throws GLException {
+        if( !isSupported(pixelFormat, pixelType) ) {
+            throw new GLException("Unsupported pixel format 0x"+Integer.toHexString(pixelFormat)+", type 0x"+Integer.toHexString(pixelType));
+        }
+        if( 0 >= width || 0 >= height ) {
+            throw new IllegalArgumentException("Invalid size "+width+"x"+height);
+        }
+        final int comps = getComponentCount(pixelFormat);
+        final boolean isFloat = GL.GL_FLOAT == pixelType;
+        final int alphaIdx = getAlphaIndex(pixelFormat);
+        final int levelCount = getLevelCount(width, height);
+        final Buffer[] res = new Buffer[levelCount - 1];
+        if( 0 == res.length ) {
+            return res;
+        }
+        final int srcRowPixels = 0 < rowLength ? rowLength : width;
+        int w = width, h = height;
+        if( isFloat ) {
+            float[] src = readFloats(level0, w, h, comps, alignStride(srcRowPixels * comps * 4, alignment) / 4);
+            for(int l = 1; l < levelCount; l++) {
+                final int dw = Math.max(1, w / 2), dh = Math.max(1, h / 2);
+                final float[] dst = new float[dw * dh * comps];
+                filterSeparable(new DecoderF(src, comps), w, h, comps, dst, dw, dh, null, filter, parallel);
+                res[l-1] = writeFloats(dst, dw, dh, comps, alignment, level0 instanceof FloatBuffer);
+                src = dst; w = dw; h = dh;
+            }
+        } else {
+            byte[] src = readBytes((ByteBuffer)level0, w, h, comps, alignStride(srcRowPixels * comps, alignment));
+            final Decoder8 dec = new Decoder8(comps, alphaIdx, sRGB);
+            for(int l = 1; l < levelCount; l++) {
+                final int dw = Math.max(1, w / 2), dh = Math.max(1, h / 2);
+                final byte[] dst = new byte[dw * dh * comps];
+                if( Filter.BOX == filter && !sRGB && 0 == ( w & 1 ) && 0 == ( h & 1 ) ) {
+                    box2x2(src, w, comps, dst, dw, dh, parallel);
+                } else {
+                    dec.src = src;
+                    filterSeparable(dec, w, h, comps, null, dw, dh, dst, filter, parallel);
+                }
+                res[l-1] = writeBytes(dst, dw, dh, comps, alignment);
+                src = dst; w = dw; h = dh;
+            }
+        }
+        return res;
+    }
+
+    private static int getAlphaIndex(final int pixelFormat) {
+        switch( pixelFormat ) {
+            case GL.GL_ALPHA:           return 0;
+            case GL.GL_LUMINANCE_ALPHA: return 1;
+            case GL.GL_RGBA:
+            case GL.GL_BGRA:            return 3;
+            default:                    return -1;
+        }
+    }
+
+    private static int alignStride(final int bytes, final int alignment) {
+        final int a = Math.max(1, alignment);
+        return ( ( bytes + a - 1 ) / a ) * a;
+    }
+
+    //
+    // Level I/O, internal levels are tightly packed arrays
+    //
+
+    private static byte[] readBytes(final ByteBuffer src, final int w, final int h, final int comps, final int srcStride) {
+        final int rowBytes = w * comps;
+        final byte[] dst = new byte[rowBytes * h];
+        final ByteBuffer s = src.duplicate();
+        final int pos = s.position();
+        for(int y = 0; y < h; y++) {
+            s.position(pos + y * srcStride);
+            s.get(dst, y * rowBytes, rowBytes);
+        }
+        return dst;
+    }
+
+    private static float[] readFloats(final Buffer src, final int w, final int h, final int comps, final int srcStride) {
+        final FloatBuffer s;
+        if( src instanceof FloatBuffer ) {
+            s = ((FloatBuffer)src).duplicate();
+        } else if( src instanceof ByteBuffer ) {
+            s = ((ByteBuffer)src).asFloatBuffer(); // starts at position, using the buffer's byte order
+        } else {
+            throw new GLException("Unsupported buffer type for GL_FLOAT: "+src);
+        }
+        final int rowFloats = w * comps;
+        final float[] dst = new float[rowFloats * h];
+        final int pos = s.position();
+        for(int y = 0; y < h; y++) {
+            s.position(pos + y * srcStride);
+            s.get(dst, y * rowFloats, rowFloats);
+        }
+        return dst;
+    }
+
+    private static ByteBuffer writeBytes(final byte[] src, final int w, final int h, final int comps, final int alignment) {
+        final int rowBytes = w * comps;
+        final int stride = alignStride(rowBytes, alignment);
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(stride * h);
+        for(int y = 0; y < h; y++) {
+            dst.position(y * stride);
+            dst.put(src, y * rowBytes, rowBytes);
+        }
+        dst.rewind();
+        return dst;
+    }
+
+    private static Buffer writeFloats(final float[] src, final int w, final int h, final int comps, final int alignment, final boolean asFloatBuffer) {
+        final int rowFloats = w * comps;
+        final int stride = alignStride(rowFloats * 4, alignment) / 4;
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(stride * h * 4);
+        final FloatBuffer dst = bb.asFloatBuffer();
+        for(int y = 0; y < h; y++) {
+            dst.position(y * stride);
+            dst.put(src, y * rowFloats, rowFloats);
+        }
+        dst.rewind();
+        return asFloatBuffer ? dst : bb;
+    }
+
+    //
+    // 8 bit linear 2x2 box fast path
+    //
+
+    private static void box2x2(final byte[] src, final int sw, final int comps, final byte[] dst, final int dw, final int dh, final boolean parallel) {
+        final int srcRow = sw * comps;
+        final int dstRow = dw * comps;
+        forRows(dh, dw * dh, parallel, new RowRange() {
+            @Override
+            public void run(final int y0, final int y1) {
+                for(int y = y0; y < y1; y++) {
+                    int s0 = 2 * y * srcRow;
+                    int s1 = s0 + srcRow;
+                    int d = y * dstRow;
+                    for(int x = 0; x < dw; x++) {
+                        for(int c = 0; c < comps; c++) {
+                            final int sum = ( src[s0+c] & 0xff ) + ( src[s0+comps+c] & 0xff ) +
+                                            ( src[s1+c] & 0xff ) + ( src[s1+comps+c] & 0xff );
+                            dst[d++] = (byte) ( ( sum + 2 ) >>> 2 );
+                        }
+                        s0 += 2 * comps;
+                        s1 += 2 * comps;
+                    }
+                }
+            }
+        });
+    }
+
+    //
+    // Generic separable path, filtering in linear float space
+    //
+
+    /** Decodes one source row into linear float components. */
+    private static abstract class Decoder {
+        final int comps;
+        Decoder(final int comps) {
+            this.comps = comps;
+        }
+        /**
+         * Stores the linear row array in <code>out[0]</code>, either the source itself or <code>tmp</code>,
+         * and returns the row's offset within.
+         */
+        abstract int decodeRow(final int y, final int w, final float[] tmp, final float[][] out);
+    }
+    private static final class DecoderF extends Decoder {
+        final float[] src;
+        DecoderF(final float[] src, final int comps) {
+            super(comps);
+            this.src = src;
+        }
+        @Override
+        int decodeRow(final int y, final int w, final float[] tmp, final float[][] out) {
+            out[0] = src;
+            return y * w * comps;
+        }
+    }
+    private static final class Decoder8 extends Decoder {
+        byte[] src;
+        final float[] lutColor;
+        final float[] lutAlpha;
+        final int alphaIdx;
+        Decoder8(final int comps, final int alphaIdx, final boolean sRGB) {
+            super(comps);
+            this.alphaIdx = alphaIdx;
+            this.lutAlpha = getUNormLUT();
+            this.lutColor = sRGB ? getSRGB2LinearLUT() : lutAlpha;
+        }
+        @Override
+        int decodeRow(final int y, final int w, final float[] tmp, final float[][] out) {
+            int s = y * w * comps;
+            int d = 0;
+            for(int x = 0; x < w; x++) {
+                for(int c = 0; c < comps; c++) {
+                    tmp[d++] = ( c == alphaIdx ? lutAlpha : lutColor )[ src[s++] & 0xff ];
+                }
+            }
+            out[0] = tmp;
+            return 0;
+        }
+    }
+
+    /** Filter taps per destination pixel, source indices clamped to edge. */
+    private static final class Taps {
+        final int count;
+        final int[] index;
+        final float[] weight;
+        Taps(final int count, final int dstLen) {
+            this.count = count;
+            this.index = new int[count * dstLen];
+            this.weight = new float[count * dstLen];
+        }
+    }
+
+    private static Taps computeTaps(final int srcLen, final int dstLen, final Filter filter) {
+        final double scale = (double)srcLen / (double)dstLen;
+        if( srcLen == dstLen ) {
+            final Taps t = new Taps(1, dstLen);
+            for(int i = 0; i < dstLen; i++) {
+                t.index[i] = i;
+                t.weight[i] = 1f;
+            }
+            return t;
+        }
+        final double radius = Filter.KAISER == filter ? KAISER_RADIUS * scale : scale / 2.0;
+        final int count = (int)Math.ceil(2.0 * radius) + 2;
+        final Taps t = new Taps(count, dstLen);
+        final double i0Alpha = bessel0(KAISER_ALPHA);
+        for(int x = 0; x < dstLen; x++) {
+            final double center = ( x + 0.5 ) * scale;
+            final int first = (int)Math.floor(center - radius);
+            double sum = 0;
+            for(int k = 0; k < count; k++) {
+                final int i = first + k;
+                final double w;
+                if( Filter.KAISER == filter ) {
+                    final double d = ( i + 0.5 - center ) / scale; // in destination pixels
+                    if( Math.abs(d) < KAISER_RADIUS ) {
+                        final double r = d / KAISER_RADIUS;
+                        w = sinc(d) * bessel0(KAISER_ALPHA * Math.sqrt(1.0 - r * r)) / i0Alpha;
+                    } else {
+                        w = 0;
+                    }
+                } else {
+                    // overlap of source pixel [i, i+1] w/ destination footprint [x*scale, (x+1)*scale]
+                    w = Math.max(0, Math.min(i + 1, center + radius) - Math.max(i, center - radius));
+                }
+                t.index[x * count + k] = Math.max(0, Math.min(srcLen - 1, i));
+                t.weight[x * count + k] = (float)w;
+                sum += w;
+            }
+            for(int k = 0; k < count; k++) {
+                t.weight[x * count + k] /= (float)sum;
+            }
+        }
+        return t;
+    }
+
+    private static double sinc(final double x) {
+        if( Math.abs(x) < 1e-6 ) {
+            return 1.0;
+        }
+        final double px = Math.PI * x;
+        return Math.sin(px) / px;
+    }
+
+    /** Zeroth order modified Bessel function of the first kind. */
+    private static double bessel0(final double x) {
+        final double xh = x * x / 4.0;
+        double sum = 1.0, term = 1.0;
+        for(int k = 1; k < 32 && term > 1e-12 * sum; k++) {
+            term *= xh / ( (double)k * k );
+            sum += term;
+        }
+        return sum;
+    }
+
+    /**
+     * Horizontal pass into a float temp image of source height, followed by the vertical pass
+     * into either <code>dstF</code> or the sRGB/linear encoded <code>dst8</code>.
+     */
+    private static void filterSeparable(final Decoder dec, final int sw, final int sh, final int comps,
+                                        final float[] dstF, final int dw, final int dh, final byte[] dst8,
+                                        final Filter filter, final boolean parallel) {
+        final Taps hTaps = computeTaps(sw, dw, filter);
+        final Taps vTaps = computeTaps(sh, dh, filter);
+        final int tmpRow = dw * comps;
+        final float[] tmp = new float[tmpRow * sh];
+
+        forRows(sh, sw * sh, parallel, new RowRange() {
+            @Override
+            public void run(final int y0, final int y1) {
+                final float[] rowBuf = new float[sw * comps];
+                final float[][] rowArr = new float[1][];
+                final int hc = hTaps.count;
+                for(int y = y0; y < y1; y++) {
+                    final int rOff = dec.decodeRow(y, sw, rowBuf, rowArr);
+                    final float[] row = rowArr[0];
+                    int d = y * tmpRow;
+                    for(int x = 0; x < dw; x++) {
+                        final int t0 = x * hc;
+                        for(int c = 0; c < comps; c++) {
+                            float sum = 0f;
+                            for(int k = 0; k < hc; k++) {
+                                sum += hTaps.weight[t0 + k] * row[rOff + hTaps.index[t0 + k] * comps + c];
+                            }
+                            tmp[d++] = sum;
+                        }
+                    }
+                }
+            }
+        });
+        final Decoder8 enc = dec instanceof Decoder8 ? (Decoder8)dec : null;
+        final byte[] lin2sRGB = null != enc && enc.lutColor != enc.lutAlpha ? getLinear2SRGBLUT() : null;
+        forRows(dh, dw * dh, parallel, new RowRange() {
+            @Override
+            public void run(final int y0, final int y1) {
+                final int vc = vTaps.count;
+                for(int y = y0; y < y1; y++) {
+                    final int t0 = y * vc;
+                    int d = y * tmpRow;
+                    for(int i = 0; i < tmpRow; i++) {
+                        float sum = 0f;
+                        for(int k = 0; k < vc; k++) {
+                            sum += vTaps.weight[t0 + k] * tmp[vTaps.index[t0 + k] * tmpRow + i];
+                        }
+                        if( null == enc ) {
+                            dstF[d++] = sum;
+                        } else {
+                            final float v = Math.max(0f, Math.min(1f, sum));
+                            if( null != lin2sRGB && i % comps != enc.alphaIdx ) {
+                                dst8[d++] = lin2sRGB[(int)( v * ( LIN2SRGB_SIZE - 1 ) + 0.5f )];
+                            } else {
+                                dst8[d++] = (byte)( v * 255f + 0.5f );
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    //
+    // Lookup tables
+    //
+
+    private static volatile float[] unormLUT;
+    private static volatile float[] srgb2LinearLUT;
+    private static volatile byte[] linear2SRGBLUT;
+
+    private static float[] getUNormLUT() {
+        float[] lut = unormLUT;
+        if( null == lut ) {
+            lut = new float[256];
+            for(int i = 0; i < 256; i++) {
+                lut[i] = i / 255f;
+            }
+            unormLUT = lut;
+        }
+        return lut;
+    }
+
+    private static float[] getSRGB2LinearLUT() {
+        float[] lut = srgb2LinearLUT;
+        if( null == lut ) {
+            lut = new float[256];
+            for(int i = 0; i < 256; i++) {
+                final double c = i / 255.0;
+                lut[i] = (float) ( c <= 0.04045 ? c / 12.92 : Math.pow(( c + 0.055 ) / 1.055, 2.4) );
+            }
+            srgb2LinearLUT = lut;
+        }
+        return lut;
+    }
+
+    private static byte[] getLinear2SRGBLUT() {
+        byte[] lut = linear2SRGBLUT;
+        if( null == lut ) {
+            lut = new byte[LIN2SRGB_SIZE];
+            for(int i = 0; i < LIN2SRGB_SIZE; i++) {
+                final double l = (double)i / ( LIN2SRGB_SIZE - 1 );
+                final double c = l <= 0.0031308 ? l * 12.92 : 1.055 * Math.pow(l, 1.0 / 2.4) - 0.055;
+                lut[i] = (byte) Math.round(c * 255.0);
+            }
+            linear2SRGBLUT = lut;
+        }
+        return lut;
+    }
+
+    //
+    // Parallel row processing
+    //
+
+    private static interface RowRange {
+        void run(int y0, int y1);
+    }
+
+    private static final int threadCount = WorkerThreadPool.getSharedThreadCount();
+
+    /** Runs <code>task</code> over all rows, split in bands across the shared pool if worthwhile. */
+    private static void forRows(final int rows, final int pixels, final boolean parallel, final RowRange task) {
+        if( !parallel || 1 >= threadCount || pixels < PARALLEL_MIN_PIXELS || rows < 2 ) {
+            task.run(0, rows);
+            return;
+        }
+        final int bands = Math.min(rows, threadCount * 2);
+        final int bandRows = ( rows + bands - 1 ) / bands;
+        final ExecutorService exec = WorkerThreadPool.getShared();
+        final List<Future<?>> futures = new ArrayList<Future<?>>(bands);
+        for(int y0 = bandRows; y0 < rows; y0 += bandRows) {
+            final int b0 = y0, b1 = Math.min(rows, y0 + bandRows);
+            futures.add(exec.submit(new Runnable() {
+                @Override
+                public void run() {
+                    task.run(b0, b1);
+                }
+            }));
+        }
+        task.run(0, Math.min(rows, bandRows)); // first band on the calling thread
+        try {
+            for(final Future<?> f : futures) {
+                f.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GLException("Interrupted while generating mipmaps", e);
+        } catch (final ExecutionException e) {
+            throw new GLException("Caught exception while generating mipmaps", e.getCause());
+        }
+    }
+}
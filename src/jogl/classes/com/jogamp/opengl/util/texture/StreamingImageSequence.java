@@ -0,0 +1,404 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.common.util.IOUtil;
+
+import jogamp.opengl.util.WorkerThreadPool;
+
+/**
+ * Streaming {@link TextureSequence} implementation of {@link #addFrame(GL, Class, String, String) image streams}
+ * <i>replayed</i> as {@link TextureSequence.TextureFrame frames} like {@link ImageSequence},
+ * while keeping only a sliding window of {@link #getResidentCount() resident} {@link Texture}s.
+ * <p>
+ * Added frames are only referenced by their {@link URL}.
+ * The upcoming frames within the window are decoded via {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}
+ * on a pool of worker threads ahead of {@link #getNextTexture(GL)},
+ * which {@link Texture#updateImage(GL, TextureData) uploads} them into recycled {@link Texture} objects.
+ * </p>
+ * <p>
+ * A frame not decoded in time is a {@link #getPrefetchMisses() prefetch miss}
+ * and blocks {@link #getNextTexture(GL)} until decoded.
+ * </p>
+ * <p>
+ * Besides {@link #addFrame(GL, Class, String, String)} and {@link #addFrame(GL, URL, String)},
+ * all methods shall be called on the GL thread.
+ * </p>
+ */
+public class StreamingImageSequence extends ImageSequenceBase {
+    /** Default number of {@link #getResidentCount() resident textures}, {@value}. */
+    public static final int DEFAULT_RESIDENT_COUNT = 8;
+
+    private static final class Source {
+        final URL url;
+        final String suffix;
+        Source(final URL url, final String suffix) {
+            this.url = url;
+            this.suffix = suffix;
+        }
+    }
+    private static final class Slot {
+        final TextureSequence.TextureFrame frame;
+        int frameIdx = -1;
+        boolean paramsSet = false;
+        Slot(final int target) {
+            frame = new TextureSequence.TextureFrame(new Texture(target));
+        }
+    }
+    private static final AtomicInteger instanceId = new AtomicInteger(0);
+
+    private final GLProfile glp;
+    private final List<Source> sources = new ArrayList<Source>();
+    private final Slot[] slots;
+    private final Map<Integer, Future<TextureData>> pending = new HashMap<Integer, Future<TextureData>>();
+    private final ExecutorService executor;
+    private volatile TextureSequence.TextureFrame lastFrame = null;
+
+    private long prefetchHits = 0;
+    private long prefetchMisses = 0;
+    private long missWaitNanos = 0;
+    private long uploadCount = 0;
+
+    /**
+     * Creates a {@link StreamingImageSequence} w/ {@link #DEFAULT_RESIDENT_COUNT} resident textures and one worker thread.
+     * @param textureUnit the texture unit
+     * @param useBuildInTexLookup see {@link ImageSequence#ImageSequence(int, boolean)}
+     */
+    public StreamingImageSequence(final int textureUnit, final boolean useBuildInTexLookup) {
+        this(textureUnit, useBuildInTexLookup, GLProfile.getGL2ES2(), DEFAULT_RESIDENT_COUNT, 1);
+    }
+
+    /**
+     * Creates a {@link StreamingImageSequence} w/ its own pool of daemon worker threads.
+     * @param textureUnit the texture unit
+     * @param useBuildInTexLookup see {@link ImageSequence#ImageSequence(int, boolean)}
+     * @param glp the {@link GLProfile} used to decode the {@link TextureData}
+     * @param residentCount maximum number of resident textures, i.e. the sliding window size, at least two
+     * @param threadCount number of decoding worker threads, values &lt; 1 use the number of available processors minus one, at least one
+     */
+    public StreamingImageSequence(final int textureUnit, final boolean useBuildInTexLookup, final GLProfile glp,
+                                  final int residentCount, final int threadCount)
+    {
+        super(textureUnit, useBuildInTexLookup);
+        this.glp = glp;
+        this.slots = new Slot[Math.max(2, residentCount)];
+        for(int i=0; i<slots.length; ++i) {
+            slots[i] = new Slot(getTextureTarget());
+        }
+        executor = WorkerThreadPool.create("StreamingImageSequence-"+instanceId.getAndIncrement()+"-Worker", threadCount);
+    }
+
+    @Override
+    public void setParams(final int magFilter, final int minFilter, final int wrapS, final int wrapT) {
+        super.setParams(magFilter, minFilter, wrapS, wrapT);
+        for(final Slot s : slots) {
+            s.paramsSet = false;
+        }
+    }
+
+    /**
+     * Adds the image resource as a new frame, not decoding it.
+     * <p>
+     * The first added frame is decoded and uploaded right away, hence {@link #isTextureAvailable()} afterwards.
+     * </p>
+     * @param gl the current GL object, only used for the first added frame
+     * @param context class used to locate the resource
+     * @param imageResourcePath the resource path
+     * @param imageSuffix the image suffix, see {@link TextureIO}
+     * @return {@code true} if the resource was found and added, otherwise {@code false}
+     */
+    public final boolean addFrame(final GL gl, final Class<?> context, final String imageResourcePath, final String imageSuffix) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(imageResourcePath, context.getClassLoader(), context);
+        if(null != urlConn) {
+            addFrame(gl, urlConn.getURL(), imageSuffix);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the image {@link URL} as a new frame, not decoding it.
+     * <p>
+     * The first added frame is decoded and uploaded right away, hence {@link #isTextureAvailable()} afterwards.
+     * </p>
+     * @param gl the current GL object, only used for the first added frame
+     * @param url the image {@link URL}
+     * @param imageSuffix the image suffix, see {@link TextureIO}
+     */
+    public final void addFrame(final GL gl, final URL url, final String imageSuffix) throws IOException {
+        final int idx;
+        synchronized( sources ) {
+            idx = sources.size();
+            sources.add(new Source(url, imageSuffix));
+        }
+        if( 0 == idx ) {
+            final TextureData data = TextureIO.newTextureData(glp, url, false, imageSuffix);
+            upload(gl, slots[0], 0, data);
+            lastFrame = slots[0].frame;
+            prefetch(0);
+        }
+    }
+
+    @Override
+    public final int getFrameCount() {
+        synchronized( sources ) {
+            return sources.size();
+        }
+    }
+    /** Returns the maximum number of resident textures, i.e. the sliding window size. */
+    public final int getResidentCount() { return slots.length; }
+
+    /** Returns the number of frames resident at {@link #getNextTexture(GL)} or decoded in time. */
+    public final long getPrefetchHits() { return prefetchHits; }
+    /** Returns the number of frames not decoded in time at {@link #getNextTexture(GL)}. */
+    public final long getPrefetchMisses() { return prefetchMisses; }
+    /** Returns the accumulated time in milliseconds {@link #getNextTexture(GL)} waited for frames not decoded in time. */
+    public final long getMissWaitMillis() { return TimeUnit.NANOSECONDS.toMillis(missWaitNanos); }
+    /** Returns the number of {@link Texture#updateImage(GL, TextureData) texture uploads}. */
+    public final long getUploadCount() { return uploadCount; }
+    /** Resets the prefetch statistics. */
+    public final void resetStats() {
+        prefetchHits = 0;
+        prefetchMisses = 0;
+        missWaitNanos = 0;
+        uploadCount = 0;
+    }
+
+    /** Returns the distance of frame {@code idx} ahead of frame {@code cur}, wrapping around. */
+    private static int distance(final int cur, final int idx, final int n) {
+        return ( idx - cur + n ) % n;
+    }
+
+    private Slot findSlot(final int idx) {
+        for(final Slot s : slots) {
+            if( s.frameIdx == idx ) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    /** Returns a {@link Slot} w/o a frame or holding a frame outside of the window starting at {@code cur}. */
+    private Slot findVictim(final int cur, final int n) {
+        Slot victim = null;
+        int victimDist = -1;
+        for(final Slot s : slots) {
+            if( 0 > s.frameIdx ) {
+                return s;
+            }
+            final int d = distance(cur, s.frameIdx, n);
+            if( d >= slots.length && d > victimDist ) {
+                victim = s;
+                victimDist = d;
+            }
+        }
+        return victim;
+    }
+
+    private Future<TextureData> submit(final int idx) {
+        final Source src;
+        synchronized( sources ) {
+            src = sources.get(idx);
+        }
+        final Future<TextureData> f = executor.submit( () -> TextureIO.newTextureData(glp, src.url, false, src.suffix) );
+        pending.put(idx, f);
+        return f;
+    }
+
+    /** Queues decoding of all non-resident frames within the window ahead of frame {@code cur} and cancels the ones outside. */
+    private void prefetch(final int cur) {
+        final int n = getFrameCount();
+        final Iterator<Map.Entry<Integer, Future<TextureData>>> it = pending.entrySet().iterator();
+        while( it.hasNext() ) {
+            final Map.Entry<Integer, Future<TextureData>> e = it.next();
+            if( distance(cur, e.getKey(), n) >= slots.length ) {
+                discard(e.getValue());
+                it.remove();
+            }
+        }
+        final int ahead = Math.min(slots.length, n);
+        for(int i=1; i<ahead; ++i) {
+            final int idx = ( cur + i ) % n;
+            if( !pending.containsKey(idx) && null == findSlot(idx) ) {
+                submit(idx);
+            }
+        }
+    }
+
+    private static void discard(final Future<TextureData> f) {
+        if( !f.cancel(true) && f.isDone() ) {
+            try {
+                f.get().destroy();
+            } catch (final InterruptedException | ExecutionException ex) { }
+        }
+    }
+
+    private void upload(final GL gl, final Slot slot, final int idx, final TextureData data) {
+        final Texture tex = slot.frame.getTexture();
+        tex.updateImage(gl, data);
+        data.destroy();
+        if( !slot.paramsSet ) {
+            applyParams(gl, tex);
+            slot.paramsSet = true;
+        }
+        slot.frameIdx = idx;
+        ++uploadCount;
+    }
+
+    private static TextureData get(final Future<TextureData> f) throws GLException {
+        try {
+            return f.get();
+        } catch (final InterruptedException ex) {
+            throw new GLException("Interrupted while decoding frame", ex);
+        } catch (final ExecutionException ex) {
+            throw new GLException("Failed decoding frame", ex.getCause());
+        }
+    }
+
+    /** Returns the resident frame {@code idx}, uploading it if required. */
+    private TextureSequence.TextureFrame acquire(final GL gl, final int idx, final int n) throws GLException {
+        Slot slot = findSlot(idx);
+        if( null != slot ) {
+            ++prefetchHits;
+            return slot.frame;
+        }
+        final Future<TextureData> f = pending.remove(idx);
+        final TextureData data;
+        if( null != f && f.isDone() ) {
+            ++prefetchHits;
+            data = get(f);
+        } else {
+            ++prefetchMisses;
+            final long t0 = System.nanoTime();
+            if( null != f ) {
+                data = get(f);
+            } else {
+                // not queued, e.g. after a seek: decode on the calling thread
+                final Source src;
+                synchronized( sources ) {
+                    src = sources.get(idx);
+                }
+                try {
+                    data = TextureIO.newTextureData(glp, src.url, false, src.suffix);
+                } catch (final IOException ex) {
+                    throw new GLException("Failed decoding frame "+idx, ex);
+                }
+            }
+            missWaitNanos += System.nanoTime() - t0;
+        }
+        slot = findVictim(idx, n);
+        upload(gl, slot, idx, data);
+        return slot.frame;
+    }
+
+    /** Uploads at most one decoded frame ahead of frame {@code cur}, spreading uploads across frames. */
+    private void uploadAhead(final GL gl, final int cur, final int n) {
+        final int ahead = Math.min(slots.length, n);
+        for(int i=1; i<ahead; ++i) {
+            final int idx = ( cur + i ) % n;
+            final Future<TextureData> f = pending.get(idx);
+            if( null != f && f.isDone() ) {
+                final Slot slot = findVictim(cur, n);
+                if( null != slot ) {
+                    pending.remove(idx);
+                    upload(gl, slot, idx, get(f));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cancels all pending decodes, shuts down the worker threads and destroys all resident textures.
+     */
+    @Override
+    public void destroy(final GL gl) throws GLException {
+        for(final Future<TextureData> f : pending.values()) {
+            discard(f);
+        }
+        pending.clear();
+        executor.shutdownNow();
+        for(final Slot s : slots) {
+            s.frame.getTexture().destroy(gl);
+            s.frameIdx = -1;
+        }
+        lastFrame = null;
+        synchronized( sources ) {
+            sources.clear();
+        }
+    }
+
+    @Override
+    public boolean isTextureAvailable() { return null != lastFrame; }
+
+    @Override
+    public TextureSequence.TextureFrame getLastTexture() throws IllegalStateException {
+        return lastFrame; // may return null
+    }
+
+    @Override
+    public TextureSequence.TextureFrame getNextTexture(final GL gl) throws IllegalStateException {
+        final int n = getFrameCount();
+        if( 0 == n ) {
+            return lastFrame;
+        }
+        if( !manualStepping ) {
+            frameIdx = ( frameIdx + 1 ) % n;
+        }
+        final int cur = frameIdx;
+        final TextureSequence.TextureFrame frame = acquire(gl, cur, n);
+        lastFrame = frame;
+        prefetch(cur);
+        uploadAhead(gl, cur, n);
+        return frame;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingImageSequence[frames "+getFrameCount()+", idx "+frameIdx+", resident "+slots.length+
+               ", pending "+pending.size()+", hits "+prefetchHits+", misses "+prefetchMisses+", uploads "+uploadCount+"]";
+    }
+}
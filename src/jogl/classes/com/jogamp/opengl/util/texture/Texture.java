@@ -587,9 +587,25 @@ public class Texture {
             haveAutoMipmapGeneration = false;
         }
 
+        // Use CPU mipmap generation if automatic generation is unavailable or unused (GL_GENERATE_MIPMAP requires GL2ES1)
+        // or a specific filter has been requested, leaving NPOT sizes intact.
+        final boolean cpuMipmapGeneration = data.getMipmap() && null == data.getMipmapData() &&
+                                            !data.isDataCompressed() && 0 == data.getBorder() &&
+                                            ( !haveAutoMipmapGeneration || !gl.isGL2ES1() || null != data.getMipmapFilter() ) &&
+                                            ( isPOT || haveNPOT(gl) ) &&
+                                            MipmapGenerator.isSupported(data.getPixelFormat(), data.getPixelType());
+
         boolean expandingCompressedTexture = false;
         boolean done = false;
-        if (data.getMipmap() && !haveAutoMipmapGeneration) {
+        if (cpuMipmapGeneration) {
+            if (DEBUG) {
+                System.err.println("Using CPU mipmap generation, filter "+data.getMipmapFilter());
+            }
+            texWidth = imgWidth;
+            texHeight = imgHeight;
+            texTarget = GL.GL_TEXTURE_2D;
+            done = true;
+        } else if (data.getMipmap() && !haveAutoMipmapGeneration) {
             // GLU always scales the texture's dimensions to be powers of
             // two. It also doesn't really matter exactly what the texture
             // width and height are because the texture coords are always
@@ -690,7 +706,30 @@ public class Texture {
             gl.glBindTexture(texTarget, texID);
         }
 
-        if (data.getMipmap() && !haveAutoMipmapGeneration) {
+        if (cpuMipmapGeneration) {
+            gl.glTexImage2D(texTarget, 0, data.getInternalFormat(),
+                            texWidth, texHeight, data.getBorder(),
+                            data.getPixelFormat(), data.getPixelType(), null);
+            updateSubImageImpl(gl, data, texTarget, 0, 0, 0, 0, 0, data.getWidth(), data.getHeight());
+
+            final Buffer[] levels = MipmapGenerator.generate(data);
+            final int[] align = new int[1];
+            gl.glGetIntegerv(GL.GL_UNPACK_ALIGNMENT, align, 0); // save alignment
+            gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, data.getAlignment());
+            try {
+                int width = texWidth;
+                int height = texHeight;
+                for (int i = 0; i < levels.length; i++) {
+                    width = Math.max(width / 2, 1);
+                    height = Math.max(height / 2, 1);
+                    gl.glTexImage2D(texTarget, i + 1, data.getInternalFormat(),
+                                    width, height, 0,
+                                    data.getPixelFormat(), data.getPixelType(), levels[i]);
+                }
+            } finally {
+                gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, align[0]); // restore alignment
+            }
+        } else if (data.getMipmap() && !haveAutoMipmapGeneration) {
             final int[] align = new int[1];
             gl.glGetIntegerv(GL.GL_UNPACK_ALIGNMENT, align, 0); // save alignment
             gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, data.getAlignment());
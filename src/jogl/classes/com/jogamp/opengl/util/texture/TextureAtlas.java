@@ -0,0 +1,490 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.packrect.MaxRectsPacker;
+import com.jogamp.opengl.util.packrect.Rect;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Texture atlas service, packing many small images like icons, sprites or glyphs
+ * into one GL texture w/o re-uploading the whole atlas on changes.
+ * <p>
+ * Entries are placed via a {@link MaxRectsPacker} and uploaded individually via {@code glTexSubImage2D}.
+ * If an entry does not fit:
+ * <ol>
+ *   <li>the atlas is partially defragmented if enough free area exists,
+ *       i.e. only the entries overlapping the cheapest target region are moved into other free space
+ *       on the GPU via {@code glBlitFramebuffer} or {@code glCopyTexSubImage2D},</li>
+ *   <li>otherwise or on failure the least recently used entry not used within the last
+ *       {@link #setMinEvictionAge(int) minimum age} frames is evicted and the addition retried.</li>
+ * </ol>
+ * </p>
+ * <p>
+ * Entry locations may hence change during {@link #add(GL, Object, int, int, Buffer) add(..)},
+ * users shall query the {@link Entry} coordinates when rendering or use a {@link Listener}.
+ * Entries are marked as used via {@link #get(Object)}, the frame age is advanced via {@link #nextFrame()}.
+ * </p>
+ * <p>
+ * Partial defragmentation requires framebuffer object support, otherwise only eviction is performed.
+ * </p>
+ */
+public class TextureAtlas {
+    private static final boolean DEBUG = Debug.debug("TextureAtlas");
+    /** Maximum number of candidate regions evaluated per partial defragmentation, {@value}. */
+    private static final int DEFRAG_MAX_CANDIDATES = 64;
+
+    /** An image's location within the atlas. */
+    public static class Entry {
+        private final Object key;
+        /** Allocated area incl. padding, the packer's {@link Rect} w/ this entry as user data. */
+        private final Rect area;
+        private final int width, height;
+        private long lastUsedFrame;
+
+        private Entry(final Object key, final int width, final int height, final int padding) {
+            this.key = key;
+            this.width = width;
+            this.height = height;
+            this.area = new Rect(0, 0, width + 2 * padding, height + 2 * padding, this);
+        }
+        public final Object getKey() { return key; }
+        /** Returns the x position of the image in pixels, excluding padding. */
+        public final int getX() { return area.x() + ( area.w() - width ) / 2; }
+        /** Returns the y position of the image in pixels, excluding padding. */
+        public final int getY() { return area.y() + ( area.h() - height ) / 2; }
+        public final int getWidth() { return width; }
+        public final int getHeight() { return height; }
+        /** Returns the frame number this entry has been used last, see {@link TextureAtlas#nextFrame()}. */
+        public final long getLastUsedFrame() { return lastUsedFrame; }
+
+        @Override
+        public String toString() {
+            return "Entry["+key+", "+getX()+"/"+getY()+" "+width+"x"+height+", last used "+lastUsedFrame+"]";
+        }
+    }
+
+    /** Notifications about evicted and moved entries. */
+    public static interface Listener {
+        /** The given entry has been evicted and is no longer valid. */
+        void evicted(Entry entry);
+        /** The given entry has been moved to a new location. */
+        void moved(Entry entry);
+    }
+
+    private final int width, height;
+    private final int internalFormat, format, type;
+    private final int padding;
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(64, 0.75f, true /* access-order */);
+    private final List<Listener> listeners = new ArrayList<Listener>();
+    private final MaxRectsPacker packer;
+    private int minEvictionAge = 1;
+    private long frame = 0;
+    private int texName = 0;
+    private int fboName = 0;
+
+    private long evictionCount = 0;
+    private long moveCount = 0;
+    private long defragCount = 0;
+    private long uploadCount = 0;
+
+    /**
+     * @param width atlas texture width
+     * @param height atlas texture height
+     * @param internalFormat texture internal format, e.g. {@link GL#GL_RGBA}
+     * @param format pixel format of uploaded images, e.g. {@link GL#GL_RGBA}
+     * @param type pixel type of uploaded images, e.g. {@link GL#GL_UNSIGNED_BYTE}
+     * @param padding empty border around each entry in pixels to avoid filter bleeding
+     */
+    public TextureAtlas(final int width, final int height, final int internalFormat, final int format, final int type, final int padding) {
+        if( 0 > padding ) {
+            throw new IllegalArgumentException("Negative padding");
+        }
+        this.width = width;
+        this.height = height;
+        this.internalFormat = internalFormat;
+        this.format = format;
+        this.type = type;
+        this.padding = padding;
+        this.packer = new MaxRectsPacker(width, height);
+    }
+
+    public final void addListener(final Listener l) { listeners.add(l); }
+    public final void removeListener(final Listener l) { listeners.remove(l); }
+
+    /**
+     * Sets the minimum number of frames since last use, before an entry may be evicted. Default is 1,
+     * i.e. entries used within the current frame are never evicted.
+     */
+    public final void setMinEvictionAge(final int frames) { minEvictionAge = Math.max(0, frames); }
+    public final int getMinEvictionAge() { return minEvictionAge; }
+
+    /** Advances the frame counter used for LRU aging. */
+    public final void nextFrame() { frame++; }
+    public final long getFrame() { return frame; }
+
+    public final int getWidth() { return width; }
+    public final int getHeight() { return height; }
+    /** Returns the GL texture name of the atlas, 0 if not yet initialized. */
+    public final int getTextureName() { return texName; }
+    /** Returns the texture target, {@link GL#GL_TEXTURE_2D}. */
+    public final int getTarget() { return GL.GL_TEXTURE_2D; }
+
+    /** Returns the number of entries. */
+    public final int getEntryCount() { return entries.size(); }
+    /** Returns the ratio of used area incl. padding to the total area, [0..1]. */
+    public final float getOccupancy() { return packer.getOccupancy(); }
+    /** Returns the fragmentation ratio of the free area, [0..1], see {@link MaxRectsPacker#getFragmentation()}. */
+    public final float getFragmentation() { return packer.getFragmentation(); }
+    public final long getEvictionCount() { return evictionCount; }
+    /** Returns the number of entries moved by partial defragmentation. */
+    public final long getMoveCount() { return moveCount; }
+    /** Returns the number of partial defragmentation runs. */
+    public final long getDefragCount() { return defragCount; }
+    public final long getUploadCount() { return uploadCount; }
+
+    /**
+     * Returns the entry for the given key and marks it as used within the current frame,
+     * or <code>null</code> if not contained.
+     */
+    public final Entry get(final Object key) {
+        final Entry e = entries.get(key);
+        if( null != e ) {
+            e.lastUsedFrame = frame;
+        }
+        return e;
+    }
+
+    /** Returns true if an entry for the given key exists, w/o marking it as used. */
+    public final boolean contains(final Object key) {
+        return entries.containsKey(key);
+    }
+
+    /** Returns the normalized texture coordinates of the given entry. */
+    public final TextureCoords getTexCoords(final Entry e) {
+        final float l = (float)e.getX() / width;
+        final float t = (float)e.getY() / height;
+        final float r = (float)( e.getX() + e.width ) / width;
+        final float b = (float)( e.getY() + e.height ) / height;
+        return new TextureCoords(l, b, r, t);
+    }
+
+    /** Creates the atlas texture, if not yet done. Called implicitly by {@link #add(GL, Object, int, int, Buffer)}. */
+    public void init(final GL gl) throws GLException {
+        if( 0 != texName ) {
+            return;
+        }
+        final int[] tmp = new int[1];
+        gl.glGenTextures(1, tmp, 0);
+        texName = tmp[0];
+        gl.glBindTexture(GL.GL_TEXTURE_2D, texName);
+        gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, internalFormat, width, height, 0, format, type, null);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER, GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER, GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_S, GL.GL_CLAMP_TO_EDGE);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_T, GL.GL_CLAMP_TO_EDGE);
+    }
+
+    /**
+     * Adds the given image under the given key, replacing an existing entry w/ the same key.
+     * <p>
+     * The image is uploaded via {@code glTexSubImage2D} using the current unpack pixel storage modes,
+     * leaving the atlas texture bound to {@link GL#GL_TEXTURE_2D}.
+     * </p>
+     * @param gl current GL
+     * @param key user key
+     * @param w image width
+     * @param h image height
+     * @param pixels image data of the atlas format and type, may be <code>null</code> to only allocate the area
+     * @return the new entry, marked as used within the current frame, or <code>null</code>
+     *         if no space could be made available
+     */
+    public Entry add(final GL gl, final Object key, final int w, final int h, final Buffer pixels) throws GLException {
+        init(gl);
+        remove(key);
+        final Entry e = new Entry(key, w, h, padding);
+        if( e.area.w() > width || e.area.h() > height ) {
+            return null;
+        }
+        boolean placed = packer.add(e.area);
+        while( !placed ) {
+            final long need = (long)e.area.w() * e.area.h();
+            if( packer.getFreeArea() >= need && defragment(gl, e) ) {
+                placed = true;
+            } else if( evictOne() ) {
+                placed = packer.add(e.area);
+            } else {
+                if( DEBUG ) {
+                    System.err.println("TextureAtlas: No space for "+w+"x"+h+": "+packer);
+                }
+                return null;
+            }
+        }
+        e.lastUsedFrame = frame;
+        entries.put(key, e);
+        if( null != pixels ) {
+            gl.glBindTexture(GL.GL_TEXTURE_2D, texName);
+            gl.glTexSubImage2D(GL.GL_TEXTURE_2D, 0, e.getX(), e.getY(), w, h, format, type, pixels);
+            uploadCount++;
+        }
+        return e;
+    }
+
+    /**
+     * Updates the image of an existing entry of the same size.
+     * @return false if no entry exists for the given key
+     */
+    public boolean update(final GL gl, final Object key, final Buffer pixels) {
+        final Entry e = get(key);
+        if( null == e ) {
+            return false;
+        }
+        gl.glBindTexture(GL.GL_TEXTURE_2D, texName);
+        gl.glTexSubImage2D(GL.GL_TEXTURE_2D, 0, e.getX(), e.getY(), e.width, e.height, format, type, pixels);
+        uploadCount++;
+        return true;
+    }
+
+    /** Removes the entry for the given key, returns true if it existed. */
+    public boolean remove(final Object key) {
+        final Entry e = entries.remove(key);
+        if( null != e ) {
+            packer.remove(e.area);
+            return true;
+        }
+        return false;
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        entries.clear();
+        packer.clear();
+    }
+
+    /** Evicts the least recently used entry older than {@link #getMinEvictionAge()}, returns false if none. */
+    private boolean evictOne() {
+        final Iterator<Entry> it = entries.values().iterator(); // access-order, eldest first
+        while( it.hasNext() ) {
+            final Entry e = it.next();
+            if( frame - e.lastUsedFrame >= minEvictionAge ) {
+                it.remove();
+                packer.remove(e.area);
+                evictionCount++;
+                for(int i=0; i<listeners.size(); i++) {
+                    listeners.get(i).evicted(e);
+                }
+                if( DEBUG ) {
+                    System.err.println("TextureAtlas: Evicted "+e);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final Comparator<Entry> areaDescComparator = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry a, final Entry b) {
+            return b.area.w() * b.area.h() - a.area.w() * a.area.h();
+        }
+    };
+
+    private static final Comparator<Rect> rectAreaDescComparator = new Comparator<Rect>() {
+        @Override
+        public int compare(final Rect a, final Rect b) {
+            return Long.compare((long)b.w() * b.h(), (long)a.w() * a.h());
+        }
+    };
+
+    /**
+     * Partial defragmentation to make room for <code>cause</code>:
+     * Finds the region of its size overlapping the smallest entry area,
+     * relocates the overlapping entries into other free space and places <code>cause</code> into the region.
+     * Only the relocated entries are copied on the GPU.
+     * <p>
+     * Candidate regions are located at the atlas origin and the origins of the
+     * {@link #DEFRAG_MAX_CANDIDATES} largest free rectangles, hence the search costs
+     * <code>O(DEFRAG_MAX_CANDIDATES * entries)</code>.
+     * </p>
+     * @return true if <code>cause</code> has been placed
+     */
+    private boolean defragment(final GL gl, final Entry cause) {
+        if( !gl.hasBasicFBOSupport() ) {
+            return false;
+        }
+        final int rw = cause.area.w(), rh = cause.area.h();
+        // Candidate positions are the atlas origin and the origins of the largest free rectangles,
+        // shifted to fit the region into the atlas.
+        final List<Rect> free = new ArrayList<Rect>(packer.getFreeRects());
+        Collections.sort(free, rectAreaDescComparator);
+        final int candidateCount = 1 + Math.min(free.size(), DEFRAG_MAX_CANDIDATES);
+        final int[] xs = new int[candidateCount];
+        final int[] ys = new int[candidateCount];
+        for(int i=1; i<candidateCount; i++) {
+            final Rect f = free.get(i-1);
+            xs[i] = Math.min(f.x(), width - rw);
+            ys[i] = Math.min(f.y(), height - rh);
+        }
+        final Rect region = new Rect(0, 0, rw, rh, null);
+        long bestCost = Long.MAX_VALUE;
+        int bestX = -1, bestY = -1;
+        for(int i=0; i<candidateCount && 0 < bestCost; i++) {
+            region.setPosition(xs[i], ys[i]);
+            long cost = 0;
+            for(final Entry e : entries.values()) {
+                if( MaxRectsPacker.intersects(region, e.area) ) {
+                    cost += (long)e.area.w() * e.area.h();
+                    if( cost >= bestCost ) {
+                        break;
+                    }
+                }
+            }
+            if( cost < bestCost ) {
+                bestCost = cost;
+                bestX = xs[i];
+                bestY = ys[i];
+            }
+        }
+        if( 0 > bestX ) {
+            return false;
+        }
+        region.setPosition(bestX, bestY);
+
+        // Plan the relocation on a new allocator w/ the region and the old locations still occupied,
+        // keeping the copies' source and destination areas disjoint.
+        final List<Entry> displaced = new ArrayList<Entry>();
+        final MaxRectsPacker plan = new MaxRectsPacker(width, height);
+        for(final Entry e : entries.values()) {
+            if( MaxRectsPacker.intersects(region, e.area) ) {
+                displaced.add(e);
+            }
+            plan.place(new Rect(e.area.x(), e.area.y(), e.area.w(), e.area.h(), null));
+        }
+        plan.place(region);
+        Collections.sort(displaced, areaDescComparator);
+        final Rect[] newAreas = new Rect[displaced.size()];
+        for(int i=0; i<newAreas.length; i++) {
+            final Rect old = displaced.get(i).area;
+            newAreas[i] = new Rect(0, 0, old.w(), old.h(), null);
+            if( !plan.add(newAreas[i]) ) {
+                return false;
+            }
+        }
+
+        copyAreas(gl, displaced, newAreas);
+        for(int i=0; i<newAreas.length; i++) {
+            final Entry e = displaced.get(i);
+            e.area.setPosition(newAreas[i].x(), newAreas[i].y());
+            for(int j=0; j<listeners.size(); j++) {
+                listeners.get(j).moved(e);
+            }
+        }
+        cause.area.setPosition(bestX, bestY);
+        // Final layout: all entries at their current locations and cause within the region
+        packer.clear();
+        for(final Entry e : entries.values()) {
+            packer.place(e.area);
+        }
+        packer.place(cause.area);
+        moveCount += newAreas.length;
+        defragCount++;
+        if( DEBUG ) {
+            System.err.println("TextureAtlas: Defragmented, moved "+newAreas.length+" entries for "+cause+": "+packer);
+        }
+        return true;
+    }
+
+    /** Copies the given entries' areas to their new disjoint locations within the atlas texture. */
+    private void copyAreas(final GL gl, final List<Entry> src, final Rect[] dst) {
+        final boolean useBlit = gl.isGL2ES3();
+        final int prevDrawFB = gl.getBoundFramebuffer(GL.GL_FRAMEBUFFER);
+        final int prevReadFB = useBlit ? gl.getBoundFramebuffer(GL2ES3.GL_READ_FRAMEBUFFER) : prevDrawFB;
+        if( 0 == fboName ) {
+            final int[] tmp = new int[1];
+            gl.glGenFramebuffers(1, tmp, 0);
+            fboName = tmp[0];
+        }
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, fboName);
+        gl.glFramebufferTexture2D(GL.GL_FRAMEBUFFER, GL.GL_COLOR_ATTACHMENT0, GL.GL_TEXTURE_2D, texName, 0);
+        try {
+            if( useBlit ) {
+                // Same read and draw buffer is well defined for non overlapping rectangles
+                final GL2ES3 gl2es3 = gl.getGL2ES3();
+                for(int i=0; i<dst.length; i++) {
+                    final Rect s = src.get(i).area, d = dst[i];
+                    gl2es3.glBlitFramebuffer(s.x(), s.y(), s.x() + s.w(), s.y() + s.h(),
+                                             d.x(), d.y(), d.x() + d.w(), d.y() + d.h(),
+                                             GL.GL_COLOR_BUFFER_BIT, GL.GL_NEAREST);
+                }
+            } else {
+                gl.glBindTexture(GL.GL_TEXTURE_2D, texName);
+                for(int i=0; i<dst.length; i++) {
+                    final Rect s = src.get(i).area, d = dst[i];
+                    gl.glCopyTexSubImage2D(GL.GL_TEXTURE_2D, 0, d.x(), d.y(), s.x(), s.y(), s.w(), s.h());
+                }
+            }
+        } finally {
+            gl.glFramebufferTexture2D(GL.GL_FRAMEBUFFER, GL.GL_COLOR_ATTACHMENT0, GL.GL_TEXTURE_2D, 0, 0);
+            gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, prevDrawFB);
+            if( useBlit && prevReadFB != prevDrawFB ) {
+                gl.glBindFramebuffer(GL2ES3.GL_READ_FRAMEBUFFER, prevReadFB);
+            }
+        }
+    }
+
+    /** Releases all GL resources and entries. */
+    public void dispose(final GL gl) {
+        if( 0 != fboName ) {
+            gl.glDeleteFramebuffers(1, new int[] { fboName }, 0);
+            fboName = 0;
+        }
+        if( 0 != texName ) {
+            gl.glDeleteTextures(1, new int[] { texName }, 0);
+            texName = 0;
+        }
+        clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TextureAtlas["+width+"x"+height+", tex "+texName+", entries "+entries.size()+", occupancy "+getOccupancy()+
+               ", fragmentation "+getFragmentation()+", evicted "+evictionCount+", moved "+moveCount+", defrags "+defragCount+"]";
+    }
+}
@@ -66,6 +66,7 @@ public class TextureData {
     protected int internalFormat; // perhaps inferred from pixelFormat?
     protected boolean mipmap; // indicates whether mipmaps should be generated
     // (ignored if mipmaps are supplied from the file)
+    private MipmapGenerator.Filter mipmapFilter; // null: default mipmap generation
     private boolean dataIsCompressed;
     protected boolean mustFlipVertically; // Must flip texture coordinates
     // vertically to get OpenGL output
@@ -380,6 +381,10 @@ public class TextureData {
     public boolean getMipmap() {
         return mipmap;
     }
+    /** Returns the requested {@link MipmapGenerator.Filter}, maybe <code>null</code>, see {@link #setMipmapFilter(MipmapGenerator.Filter)}. */
+    public MipmapGenerator.Filter getMipmapFilter() {
+        return mipmapFilter;
+    }
     /** Indicates whether the texture data is in compressed form. */
     public boolean isDataCompressed() {
         return dataIsCompressed;
@@ -443,6 +448,17 @@ public class TextureData {
     public void setInternalFormat(final int internalFormat) { this.internalFormat = internalFormat; }
     /** Sets whether mipmaps should be generated for the texture data. */
     public void setMipmap(final boolean mipmap) { this.mipmap = mipmap; }
+    /**
+     * Sets the {@link MipmapGenerator.Filter} for CPU based mipmap generation,
+     * which {@link Texture} will use instead of GL's automatic mipmap generation if supported,
+     * see {@link MipmapGenerator#isSupported(int, int)}.
+     * <p>
+     * Default is <code>null</code>, i.e. GL's automatic mipmap generation is preferred
+     * and {@link MipmapGenerator.Filter#BOX} is used otherwise.
+     * </p>
+     * @see #setMipmap(boolean)
+     */
+    public void setMipmapFilter(final MipmapGenerator.Filter filter) { this.mipmapFilter = filter; }
     /** Sets whether the texture data is in compressed form. */
     public void setIsDataCompressed(final boolean compressed) { this.dataIsCompressed = compressed; }
     /** Sets whether the texture coordinates must be flipped vertically
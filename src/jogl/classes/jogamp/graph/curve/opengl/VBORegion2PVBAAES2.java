@@ -31,6 +31,7 @@ import java.io.File;
 import java.nio.FloatBuffer;
 
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GLUniformData;
@@ -259,6 +260,15 @@ public final class VBORegion2PVBAAES2  extends GLRegion {
 
     private static final int border = 2; // surrounding border, i.e. width += 2*border, height +=2*border
 
+    /**
+     * Two-pass rendering doesn't support instancing, see {@link #isInstancingSupported()}.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    protected void drawInstancedImpl(final GL2ES3 gl, final RegionRenderer renderer, final int curRenderModes, final InstanceBuffer instances) {
+        throw new UnsupportedOperationException("Instancing not supported by two-pass "+getClass().getSimpleName());
+    }
+
     @Override
     protected void drawImpl(final GL2ES2 gl, final RegionRenderer renderer, final int curRenderModes) {
         if( 0 >= indicesBuffer.getElemCount() ) {
@@ -31,6 +31,7 @@ import java.nio.FloatBuffer;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.GLUniformData;
 
@@ -130,13 +131,16 @@ public final class VBORegionSPES2 extends GLRegion {
      * @param pass2Quality
      */
     public void useShaderProgram(final GL2ES2 gl, final RegionRenderer renderer, final int curRenderModes) {
+        useShaderProgram(gl, renderer, curRenderModes, false);
+    }
+    private void useShaderProgram(final GL2ES2 gl, final RegionRenderer renderer, final int curRenderModes, final boolean instancing) {
         final boolean hasColorChannel = Region.hasColorChannel( curRenderModes );
         final boolean hasColorTexture = Region.hasColorTexture( curRenderModes ) && null != colorTexSeq;
 
         final RenderState rs = renderer.getRenderState();
         final boolean hasFrustumClipping = null != rs.getClipFrustum();
 
-        final boolean updateLocGlobal = renderer.useShaderProgram(gl, curRenderModes, true, colorTexSeq);
+        final boolean updateLocGlobal = renderer.useShaderProgram(gl, curRenderModes, true, colorTexSeq, instancing);
         final ShaderProgram sp = renderer.getRenderState().getShaderProgram();
         final boolean updateLocLocal = !sp.equals(spPass1);
         spPass1 = sp;
@@ -215,6 +219,37 @@ public final class VBORegionSPES2 extends GLRegion {
         vpc_ileave.enableBuffer(gl, false);
     }
 
+    @Override
+    protected void drawInstancedImpl(final GL2ES3 gl, final RegionRenderer renderer, final int curRenderModes, final InstanceBuffer instances) {
+        useShaderProgram(gl, renderer, curRenderModes, true);
+        {
+            final Frustum f = renderer.getClipFrustum();
+            if( null != f ) {
+                f.getPlanes(clipFrustum, 0);
+                gl.glUniform(gcu_ClipFrustum); // Always update, since program maybe used by multiple regions
+            }
+        }
+        if( 0 >= indicesBuffer.getElemCount() || 0 >= instances.getCount() ) {
+            if(DEBUG_INSTANCE) {
+                System.err.printf("VBORegionSPES2.drawInstancedImpl: Empty%n");
+            }
+            return; // empty!
+        }
+        final RenderState rs = renderer.getRenderState();
+        vpc_ileave.enableBuffer(gl, true);
+        enableInstanceBuffer(gl, rs, instances, true);
+        indicesBuffer.bindBuffer(gl, true); // keeps VBO binding
+
+        if( rs.hintBitsSet(RenderState.BITHINT_BLENDING_ENABLED) ) {
+            gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+        }
+        gl.glDrawElementsInstanced(GL.GL_TRIANGLES, indicesBuffer.getElemCount() * indicesBuffer.getCompsPerElem(), glIdxType(), 0, instances.getCount());
+
+        indicesBuffer.bindBuffer(gl, false);
+        enableInstanceBuffer(gl, rs, instances, false);
+        vpc_ileave.enableBuffer(gl, false);
+    }
+
     @Override
     protected void destroyImpl(final GL2ES2 gl) {
         if(DEBUG_INSTANCE) {
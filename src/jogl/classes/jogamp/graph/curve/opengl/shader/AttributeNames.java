@@ -47,4 +47,17 @@ public class AttributeNames {
 
     public static final String FBO_TEXCOORDS_ATTR_NAME = "gca_FboTexCoords";
 
+    /**
+     * The per instance modelview matrix columns 0-3, see USE_INSTANCING
+     */
+    public static final String INSTANCE_MV0_ATTR_NAME = "gca_InstanceMv0";
+    public static final String INSTANCE_MV1_ATTR_NAME = "gca_InstanceMv1";
+    public static final String INSTANCE_MV2_ATTR_NAME = "gca_InstanceMv2";
+    public static final String INSTANCE_MV3_ATTR_NAME = "gca_InstanceMv3";
+
+    /**
+     * The per instance color, see USE_INSTANCING
+     */
+    public static final String INSTANCE_COLOR_ATTR_NAME = "gca_InstanceColor";
+
 }
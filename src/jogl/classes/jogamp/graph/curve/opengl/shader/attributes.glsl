@@ -26,6 +26,15 @@ attribute vec2    gca_FboTexCoords;
     attribute vec4    gca_Colors;
 #endif
 
+#ifdef USE_INSTANCING
+    // per instance modelview matrix columns and color
+    attribute vec4    gca_InstanceMv0;
+    attribute vec4    gca_InstanceMv1;
+    attribute vec4    gca_InstanceMv2;
+    attribute vec4    gca_InstanceMv3;
+    attribute vec4    gca_InstanceColor;
+#endif
+
 //attribute vec3    gca_Normals;
 
 #endif // attributes_glsl
@@ -29,70 +29,130 @@ package jogamp.opengl;
 
 import java.io.PrintStream;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import com.jogamp.common.os.Clock;
 import com.jogamp.opengl.FPSCounter;
+import com.jogamp.opengl.FrameIntervalStats;
 
 /**
  * Default implementation of FPSCounter to be used for FPSCounter implementing renderer.
+ * <p>
+ * Implementation is lock-free: {@link #tickFPS()} is expected to be called by one rendering thread at a time,
+ * while all getter and {@link #getFrameIntervalStats()} may be called from any thread, e.g. a monitoring thread,
+ * never contending w/ the rendering thread.
+ * Each frame interval is recorded into a fixed ring buffer of {@link #getFrameIntervalCapacity()} frames.
+ * </p>
  */
 public class FPSCounterImpl implements FPSCounter {
-    private PrintStream fpsOutputStream ;
+    /** Default capacity of recorded frame intervals, value {@value}. */
+    public static final int DEFAULT_FRAME_INTERVALS = 256;
+
+    private volatile PrintStream fpsOutputStream ;
 
     // counter in [ns]
-    private long fpsStartTimeNS, fpsLastUpdateTimeNS;
+    private volatile long fpsStartTimeNS, fpsLastUpdateTimeNS;
 
     // counter in [ms]
-    private long fpsLastPeriodMS, fpsTotalDurationMS;
+    private volatile long fpsLastPeriodMS, fpsTotalDurationMS;
 
     // counter in events
-    private int fpsUpdateFramesInterval;
-    private int  fpsTotalFrames;
+    private volatile int fpsUpdateFramesInterval;
+    private final AtomicInteger fpsTotalFrames = new AtomicInteger();
 
     // counter in fps
-    private float fpsLast, fpsTotal;
+    private volatile float fpsLast, fpsTotal;
+
+    // frame intervals in [ns]
+    private final AtomicLongArray intervalsNS;
+    private final AtomicLong intervalCount = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private volatile long lastTickNS;
+    private volatile long targetPeriodNS;
+    private volatile float targetFPS;
 
-    /** Creates a disabled instance */
+    /** Creates a disabled instance w/ {@link #DEFAULT_FRAME_INTERVALS} */
     public FPSCounterImpl() {
+        this(DEFAULT_FRAME_INTERVALS);
+    }
+
+    /**
+     * Creates a disabled instance
+     * @param frameIntervals capacity of recorded frame intervals
+     */
+    public FPSCounterImpl(final int frameIntervals) {
+        if( 0 >= frameIntervals ) {
+            throw new IllegalArgumentException("Invalid frameIntervals "+frameIntervals);
+        }
+        intervalsNS = new AtomicLongArray(frameIntervals);
         setUpdateFPSFrames(0, null);
     }
 
+    /** Returns the capacity of recorded frame intervals. */
+    public final int getFrameIntervalCapacity() {
+        return intervalsNS.length();
+    }
+
     /**
-     * Increases total frame count and updates values if feature is enabled and
+     * Increases total frame count, records the frame interval and updates values if feature is enabled and
      * update interval is reached.<br>
      *
      * Shall be called by actual FPSCounter implementing renderer, after display a new frame.
      */
-    public final synchronized void tickFPS() {
-        fpsTotalFrames++;
-        if(fpsUpdateFramesInterval>0 && fpsTotalFrames%fpsUpdateFramesInterval == 0) {
-            final long now = Clock.currentNanos();
-            fpsLastPeriodMS = TimeUnit.NANOSECONDS.toMillis(now - fpsLastUpdateTimeNS);
-            fpsLastPeriodMS = Math.max(fpsLastPeriodMS, 1); // div 0
-            fpsLast = ( fpsUpdateFramesInterval * 1000f ) / ( fpsLastPeriodMS ) ;
-
-            fpsTotalDurationMS = TimeUnit.NANOSECONDS.toMillis(now - fpsStartTimeNS);
-            fpsTotalDurationMS = Math.max(fpsTotalDurationMS, 1); // div 0
-            fpsTotal= ( fpsTotalFrames * 1000f ) / ( fpsTotalDurationMS ) ;
-
-            if(null != fpsOutputStream) {
-                fpsOutputStream.println(toString());
+    public final void tickFPS() {
+        final long now = Clock.currentNanos();
+        final long lastTick = lastTickNS;
+        lastTickNS = now;
+        if( 0 != lastTick ) {
+            recordInterval(now - lastTick);
+        }
+        final int totalFrames = fpsTotalFrames.incrementAndGet();
+        final int updateFramesInterval = fpsUpdateFramesInterval;
+        if(updateFramesInterval>0 && totalFrames%updateFramesInterval == 0) {
+            final long lastPeriodMS = Math.max(TimeUnit.NANOSECONDS.toMillis(now - fpsLastUpdateTimeNS), 1); // div 0
+            final long totalDurationMS = Math.max(TimeUnit.NANOSECONDS.toMillis(now - fpsStartTimeNS), 1); // div 0
+            fpsLast = ( updateFramesInterval * 1000f ) / ( lastPeriodMS ) ;
+            fpsTotal= ( totalFrames * 1000f ) / ( totalDurationMS ) ;
+            fpsLastPeriodMS = lastPeriodMS;
+            fpsTotalDurationMS = totalDurationMS;
+
+            final PrintStream out = fpsOutputStream;
+            if(null != out) {
+                out.println(toString());
             }
 
             fpsLastUpdateTimeNS = now;
         }
     }
 
+    private final void recordInterval(final long dtNS) {
+        final int cap = intervalsNS.length();
+        intervalsNS.lazySet( (int) ( intervalCount.getAndIncrement() % cap ), dtNS);
+        final long periodNS = targetPeriodNS;
+        if( 0 < periodNS ) {
+            final long missed = ( dtNS + periodNS / 2 ) / periodNS - 1;
+            if( 0 < missed ) {
+                droppedFrames.addAndGet(missed);
+            }
+        }
+    }
+
     public StringBuilder toString(StringBuilder sb) {
         if(null==sb) {
             sb = new StringBuilder();
         }
+        final int updateFramesInterval = fpsUpdateFramesInterval;
+        final int totalFrames = fpsTotalFrames.get();
+        final long lastPeriodMS = fpsLastPeriodMS;
+        final long totalDurationMS = fpsTotalDurationMS;
         String fpsLastS = String.valueOf(fpsLast);
         fpsLastS = fpsLastS.substring(0, fpsLastS.indexOf('.') + 2);
         String fpsTotalS = String.valueOf(fpsTotal);
         fpsTotalS = fpsTotalS.substring(0, fpsTotalS.indexOf('.') + 2);
-        sb.append(fpsTotalDurationMS/1000 +" s: "+ fpsUpdateFramesInterval+" f / "+ fpsLastPeriodMS+" ms, " + fpsLastS+" fps, "+ fpsLastPeriodMS/fpsUpdateFramesInterval+" ms/f; "+
-                  "total: "+ fpsTotalFrames+" f, "+ fpsTotalS+ " fps, "+ fpsTotalDurationMS/fpsTotalFrames+" ms/f");
+        sb.append(totalDurationMS/1000 +" s: "+ updateFramesInterval+" f / "+ lastPeriodMS+" ms, " + fpsLastS+" fps, "+ lastPeriodMS/Math.max(1, updateFramesInterval)+" ms/f; "+
+                  "total: "+ totalFrames+" f, "+ fpsTotalS+ " fps, "+ totalDurationMS/Math.max(1, totalFrames)+" ms/f");
         return sb;
     }
 
@@ -102,59 +162,85 @@ public class FPSCounterImpl implements FPSCounter {
     }
 
     @Override
-    public final synchronized void setUpdateFPSFrames(final int frames, final PrintStream out) {
+    public final void setUpdateFPSFrames(final int frames, final PrintStream out) {
         fpsUpdateFramesInterval = frames;
         fpsOutputStream = out;
         resetFPSCounter();
     }
 
     @Override
-    public final synchronized void resetFPSCounter() {
+    public final void resetFPSCounter() {
         fpsStartTimeNS = Clock.currentNanos();
         fpsLastUpdateTimeNS = fpsStartTimeNS;
-        fpsLastPeriodMS = 0;
-        fpsTotalFrames = 0;
+        fpsTotalFrames.set(0);
         fpsLast = 0f; fpsTotal = 0f;
         fpsLastPeriodMS = 0; fpsTotalDurationMS=0;
+        lastTickNS = 0;
+        intervalCount.set(0);
+        droppedFrames.set(0);
     }
 
     @Override
-    public final synchronized int getUpdateFPSFrames() {
+    public final int getUpdateFPSFrames() {
         return fpsUpdateFramesInterval;
     }
 
     @Override
-    public final synchronized long getFPSStartTime()   {
+    public final long getFPSStartTime()   {
         return TimeUnit.NANOSECONDS.toMillis(fpsStartTimeNS);
     }
 
     @Override
-    public final synchronized long getLastFPSUpdateTime() {
+    public final long getLastFPSUpdateTime() {
         return TimeUnit.NANOSECONDS.toMillis(fpsLastUpdateTimeNS);
     }
 
     @Override
-    public final synchronized long getLastFPSPeriod() {
+    public final long getLastFPSPeriod() {
         return fpsLastPeriodMS;
     }
 
     @Override
-    public final synchronized float getLastFPS() {
+    public final float getLastFPS() {
         return fpsLast;
     }
 
     @Override
-    public final synchronized int getTotalFPSFrames() {
-        return fpsTotalFrames;
+    public final int getTotalFPSFrames() {
+        return fpsTotalFrames.get();
     }
 
     @Override
-    public final synchronized long getTotalFPSDuration() {
+    public final long getTotalFPSDuration() {
         return fpsTotalDurationMS;
     }
 
     @Override
-    public final synchronized float getTotalFPS() {
+    public final float getTotalFPS() {
         return fpsTotal;
     }
+
+    @Override
+    public final void setTargetFPS(final float fps) {
+        targetFPS = Math.max(0f, fps);
+        targetPeriodNS = 0f < fps ? (long) ( 1e9 / fps ) : 0;
+    }
+
+    @Override
+    public final float getTargetFPS() {
+        return targetFPS;
+    }
+
+    @Override
+    public final FrameIntervalStats getFrameIntervalStats() {
+        final int cap = intervalsNS.length();
+        final long count = intervalCount.get();
+        final int n = (int) Math.min(count, cap);
+        final long start = count - n;
+        final long[] intervals = new long[n];
+        for(int i=0; i<n; i++) {
+            intervals[i] = intervalsNS.get( (int) ( ( start + i ) % cap ) );
+        }
+        return new FrameIntervalStats(intervals, droppedFrames.get(), targetPeriodNS);
+    }
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Emits the JFR event <code>com.jogamp.opengl.FramePhases</code> for {@link com.jogamp.opengl.FramePhaseStats}.
+ * <p>
+ * The event type is defined at runtime via <code>jdk.jfr.EventFactory</code> using reflection,
+ * hence JOGL neither requires <code>jdk.jfr</code> at compile time nor at runtime.
+ * </p>
+ */
+public class FramePhaseJFR {
+    private static final Object lock = new Object();
+    private static boolean initialized = false;
+    private static FramePhaseJFR instance = null;
+
+    private final Object factory;
+    private final Method newEvent;
+    private final Method shouldCommit;
+    private final Method set;
+    private final Method commit;
+
+    private FramePhaseJFR(final Object factory, final Method newEvent, final Method shouldCommit, final Method set, final Method commit) {
+        this.factory = factory;
+        this.newEvent = newEvent;
+        this.shouldCommit = shouldCommit;
+        this.set = set;
+        this.commit = commit;
+    }
+
+    /** Returns the singleton instance, or <code>null</code> if JFR is not available. */
+    public static FramePhaseJFR get() {
+        synchronized( lock ) {
+            if( !initialized ) {
+                initialized = true;
+                try {
+                    instance = create();
+                } catch (final Throwable t) {
+                    if( GLContextImpl.DEBUG ) {
+                        System.err.println("FramePhaseJFR: JFR not available: "+t.getMessage());
+                    }
+                    instance = null;
+                }
+            }
+            return instance;
+        }
+    }
+
+    private static FramePhaseJFR create() throws Exception {
+        final Class<?> annotationElementClazz = Class.forName("jdk.jfr.AnnotationElement");
+        final Class<?> valueDescriptorClazz = Class.forName("jdk.jfr.ValueDescriptor");
+        final Class<?> eventFactoryClazz = Class.forName("jdk.jfr.EventFactory");
+        final Class<?> eventClazz = Class.forName("jdk.jfr.Event");
+        final Constructor<?> aeCtor = annotationElementClazz.getConstructor(Class.class, Object.class);
+        final Constructor<?> vdCtor = valueDescriptorClazz.getConstructor(Class.class, String.class, List.class);
+        final Class<?> nameA = Class.forName("jdk.jfr.Name");
+        final Class<?> labelA = Class.forName("jdk.jfr.Label");
+        final Class<?> categoryA = Class.forName("jdk.jfr.Category");
+        final Class<?> timespanA = Class.forName("jdk.jfr.Timespan");
+
+        final List<Object> eventAnnotations = new ArrayList<Object>();
+        eventAnnotations.add(aeCtor.newInstance(nameA, "com.jogamp.opengl.FramePhases"));
+        eventAnnotations.add(aeCtor.newInstance(labelA, "JOGL Frame Phases"));
+        eventAnnotations.add(aeCtor.newInstance(categoryA, new String[] { "JOGL" }));
+
+        final List<Object> fields = new ArrayList<Object>();
+        fields.add(vdCtor.newInstance(String.class, "name", Arrays.asList(aeCtor.newInstance(labelA, "Name"))));
+        final String[] phases = { "makeCurrent", "render", "swap", "release" };
+        final String[] labels = { "Make Current", "Render", "Swap", "Release" };
+        for(int i=0; i<phases.length; i++) {
+            fields.add(vdCtor.newInstance(long.class, phases[i],
+                    Arrays.asList(aeCtor.newInstance(labelA, labels[i]), aeCtor.newInstance(timespanA, "NANOSECONDS"))));
+        }
+        final Object factory = eventFactoryClazz.getMethod("create", List.class, List.class).invoke(null, eventAnnotations, fields);
+        return new FramePhaseJFR(factory, eventFactoryClazz.getMethod("newEvent"),
+                                 eventClazz.getMethod("shouldCommit"),
+                                 eventClazz.getMethod("set", int.class, Object.class),
+                                 eventClazz.getMethod("commit"));
+    }
+
+    /** Emits one event if enabled by the current JFR recording settings. */
+    public final void emit(final String name, final long makeCurrent, final long render, final long swap, final long release) {
+        try {
+            final Object e = newEvent.invoke(factory);
+            if( ((Boolean)shouldCommit.invoke(e)).booleanValue() ) {
+                set.invoke(e, 0, name);
+                set.invoke(e, 1, makeCurrent);
+                set.invoke(e, 2, render);
+                set.invoke(e, 3, swap);
+                set.invoke(e, 4, release);
+                commit.invoke(e);
+            }
+        } catch (final Exception ex) {
+            if( GLContextImpl.DEBUG ) {
+                System.err.println("FramePhaseJFR: emit failed: "+ex.getMessage());
+            }
+        }
+    }
+}
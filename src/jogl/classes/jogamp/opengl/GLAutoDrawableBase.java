@@ -37,6 +37,9 @@ import com.jogamp.nativewindow.NativeWindowException;
 import com.jogamp.nativewindow.WindowClosingProtocol;
 import com.jogamp.nativewindow.WindowClosingProtocol.WindowClosingMode;
 import com.jogamp.opengl.FPSCounter;
+import com.jogamp.opengl.FrameIntervalStats;
+import com.jogamp.opengl.FramePhaseCounter;
+import com.jogamp.opengl.FramePhaseStats;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GLAnimatorControl;
 import com.jogamp.opengl.GLAutoDrawable;
@@ -48,6 +51,8 @@ import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLOffscreenAutoDrawable;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.GLRunnableQueue;
+import com.jogamp.opengl.GLRunnableQueueStats;
 import com.jogamp.opengl.GLSharedContextSetter;
 
 import com.jogamp.common.ExceptionUtils;
@@ -70,7 +75,7 @@ import com.jogamp.opengl.GLStateKeeper;
  * @see GLPBufferImpl
  * @see com.jogamp.newt.opengl.GLWindow
  */
-public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeeper, FPSCounter, GLSharedContextSetter {
+public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeeper, FPSCounter, FramePhaseCounter, GLRunnableQueue, GLSharedContextSetter {
     public static final boolean DEBUG = GLDrawableImpl.DEBUG;
     protected final GLDrawableHelper helper = new GLDrawableHelper();
     protected final FPSCounterImpl fpsCounter = new FPSCounterImpl();
@@ -740,6 +745,49 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         return fpsCounter.getTotalFPS();
     }
 
+    @Override
+    public final void setTargetFPS(final float fps) {
+        fpsCounter.setTargetFPS(fps);
+    }
+
+    @Override
+    public final float getTargetFPS() {
+        return fpsCounter.getTargetFPS();
+    }
+
+    @Override
+    public final FrameIntervalStats getFrameIntervalStats() {
+        return fpsCounter.getFrameIntervalStats();
+    }
+
+    //
+    // FramePhaseCounter
+    //
+
+    @Override
+    public final void setFramePhaseStats(final FramePhaseStats stats) {
+        helper.setFramePhaseStats(stats);
+    }
+
+    @Override
+    public final FramePhaseStats getFramePhaseStats() {
+        return helper.getFramePhaseStats();
+    }
+
+    //
+    // GLRunnableQueue
+    //
+
+    @Override
+    public final boolean enqueueGLRunnable(final GLRunnable glRunnable) {
+        return helper.enqueueGLRunnable(glRunnable);
+    }
+
+    @Override
+    public final GLRunnableQueueStats getGLRunnableQueueStats() {
+        return helper.getGLRunnableQueueStats();
+    }
+
     //
     // GLDrawable delegation
     //
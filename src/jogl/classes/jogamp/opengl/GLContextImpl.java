@@ -39,6 +39,7 @@ package jogamp.opengl;
 
 import java.lang.reflect.Method;
 import java.nio.IntBuffer;
+import java.util.Arrays;
 import java.security.PrivilegedAction;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -731,6 +732,9 @@ public abstract class GLContextImpl extends GLContext {
                 glDebugHandler.addListener(new GLDebugMessageHandler.StdErrGLDebugListener(true));
             }
         }
+        if(PROFILE_GL) {
+            setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", null, gl, null) );
+        }
         if(TRACE_GL) {
             setGL( GLPipelineFactory.create("com.jogamp.opengl.Trace", null, gl, new Object[] { System.err } ) );
         }
@@ -990,10 +994,17 @@ public abstract class GLContextImpl extends GLContext {
       System.err.println(getThreadName() + ": createContextARB-MapGLVersions is SET ("+device.getConnection()+"): "+
                GLContext.getAvailableGLVersionsSet(device));
     }
+    GLVersionProbeCache.Entry cachedVersions = null;
+    boolean storeVersions = false;
     if ( !GLContext.getAvailableGLVersionsSet(device) ) {
-        if( !mapGLVersions(device) ) {
+        cachedVersions = GLVersionProbeCache.get(device);
+        if( null != cachedVersions ) {
+            mapCachedGLVersions(device, cachedVersions);
+        } else if( !mapGLVersions(device) ) {
             // none of the ARB context creation calls was successful, bail out
             return 0;
+        } else {
+            storeVersions = GLVersionProbeCache.ENABLED;
         }
     }
 
@@ -1020,9 +1031,106 @@ public abstract class GLContextImpl extends GLContext {
             }
         }
     }
+    if( null != cachedVersions ) {
+        // validate the cached mapping w/ this single created context
+        if( 0 != _ctx && cachedVersions.matches(glVendor, glRenderer, glVersion, extensionAvailability.getGLExtensionsString(),
+                                                 reqMajorCTP[0], reqMajorCTP[1]) ) {
+            glRendererQuirks.addQuirks(GLRendererQuirks.getStickyDeviceQuirks(device));
+        } else {
+            if(DEBUG) {
+                System.err.println(getThreadName() + ": createContextARB-MapGLVersions cached mapping stale on "+device+
+                                   ": has ["+glVendor+", "+glRenderer+", "+glVersion+"], cached "+cachedVersions);
+            }
+            if( 0 != _ctx ) {
+                destroyContextARBImpl(_ctx);
+                resetStates(false);
+            }
+            unmapCachedGLVersions(device, cachedVersions);
+            GLVersionProbeCache.remove(device);
+            return createContextARB(share, direct); // full probe
+        }
+    } else if( storeVersions && 0 != _ctx ) {
+        GLVersionProbeCache.put(device, createCachedGLVersions(device, reqMajorCTP[0], reqMajorCTP[1]));
+    }
     return _ctx;
   }
 
+  private static final int[] cachedMajorVersions = { 4, 3, 2, 1 };
+  private static final int[] cachedProfiles = { CTX_PROFILE_ES, CTX_PROFILE_CORE, CTX_PROFILE_COMPAT };
+
+  /** Maps the {@link GLVersionProbeCache.Entry cached} GL versions and sticky quirks instead of probing all of them via {@link #mapGLVersions(AbstractGraphicsDevice)}. */
+  private static final void mapCachedGLVersions(final AbstractGraphicsDevice device, final GLVersionProbeCache.Entry e) {
+    synchronized (GLContext.deviceVersionAvailable) {
+        final long t0 = ( DEBUG ) ? Clock.currentNanos() : 0;
+        final int[] ctp = { 0 };
+        for(int i=0; i<e.getMappingCount(); i++) {
+            final GLRendererQuirks quirks = new GLRendererQuirks();
+            addQuirks(quirks, e.mapQuirks[i]);
+            final VersionNumber version = decomposeBits(e.mapBits[i], ctp);
+            mapAvailableGLVersion(device, e.mapMajor[i], e.mapProfile[i], version, ctp[0], quirks);
+        }
+        synchronized(GLContextImpl.class) {
+            final GLRendererQuirks sticky = GLRendererQuirks.getStickyDeviceQuirks(device);
+            e.addedStickyQuirks = e.stickyQuirks & ~sticky.getBitmask();
+            addQuirks(sticky, e.addedStickyQuirks);
+        }
+        GLContext.setAvailableGLVersionsSet(device, true);
+        if(DEBUG) {
+            final long t1 = Clock.currentNanos();
+            System.err.println(getThreadName() + ": createContextARB-MapGLVersions CACHED on "+device+", "+e+", total "+(t1-t0)/1e6 +"ms");
+            System.err.println(GLContext.dumpAvailableGLVersions(null).toString());
+        }
+    }
+  }
+  /** Reverts {@link #mapCachedGLVersions(AbstractGraphicsDevice, GLVersionProbeCache.Entry)} for a stale cache entry. */
+  private static final void unmapCachedGLVersions(final AbstractGraphicsDevice device, final GLVersionProbeCache.Entry e) {
+    synchronized (GLContext.deviceVersionAvailable) {
+        GLContext.setAvailableGLVersionsSet(device, false);
+        for(int i=0; i<e.getMappingCount(); i++) {
+            deviceVersionAvailable.remove( getDeviceVersionAvailableKey(device, e.mapMajor[i], e.mapProfile[i]) );
+        }
+        synchronized(GLContextImpl.class) {
+            GLRendererQuirks.getStickyDeviceQuirks(device).removeQuirks(e.addedStickyQuirks);
+        }
+    }
+  }
+  /** Returns a {@link GLVersionProbeCache.Entry} of the mapped GL versions and this validated context. */
+  private final GLVersionProbeCache.Entry createCachedGLVersions(final AbstractGraphicsDevice device, final int reqMajor, final int reqProfile) {
+    final int n = cachedMajorVersions.length * cachedProfiles.length;
+    final int[] mapMajor = new int[n];
+    final int[] mapProfile = new int[n];
+    final int[] mapBits = new int[n];
+    final int[] mapQuirks = new int[n];
+    int count = 0;
+    for(int i=0; i<cachedMajorVersions.length; i++) {
+        for(int j=0; j<cachedProfiles.length; j++) {
+            final Integer bits = GLContext.getAvailableGLVersion(device, cachedMajorVersions[i], cachedProfiles[j]);
+            if( null != bits ) {
+                mapMajor[count] = cachedMajorVersions[i];
+                mapProfile[count] = cachedProfiles[j];
+                mapBits[count] = bits.intValue();
+                mapQuirks[count] = GLVersionProbeCache.getMappedQuirks(getDeviceVersionAvailableKey(device, cachedMajorVersions[i], cachedProfiles[j]));
+                count++;
+            }
+        }
+    }
+    final int stickyQuirks;
+    synchronized(GLContextImpl.class) {
+        stickyQuirks = GLRendererQuirks.getStickyDeviceQuirks(device).getBitmask();
+    }
+    return new GLVersionProbeCache.Entry(null, glVendor, glRenderer, glVersion, extensionAvailability.getGLExtensionsString(),
+                                         reqMajor, reqProfile, stickyQuirks,
+                                         Arrays.copyOf(mapMajor, count), Arrays.copyOf(mapProfile, count),
+                                         Arrays.copyOf(mapBits, count), Arrays.copyOf(mapQuirks, count));
+  }
+  private static final void addQuirks(final GLRendererQuirks quirks, final int bitmask) {
+    for(int i=0; i<GLRendererQuirks.getCount(); i++) {
+        if( 0 != ( ( 1 << i ) & bitmask ) ) {
+            quirks.addQuirk(i);
+        }
+    }
+  }
+
   //----------------------------------------------------------------------
   //
 
@@ -1096,6 +1204,9 @@ public abstract class GLContextImpl extends GLContext {
                                                            final GLRendererQuirks resQuirks)
   {
       final Integer preVal = mapAvailableGLVersion(device, reqMajor, profile, resVersion, resCtp);
+      if( GLVersionProbeCache.ENABLED ) {
+          GLVersionProbeCache.setMappedQuirks(getDeviceVersionAvailableKey(device, reqMajor, profile), resQuirks);
+      }
       final int[] preCtp = { 0 };
       final VersionNumber preVersion = null != preVal ? decomposeBits(preVal.intValue(), preCtp) : null;
       final MappedGLVersion res = new MappedGLVersion(device, reqMajor, profile, resVersion, resCtp, resQuirks, preVersion, preCtp[0]);
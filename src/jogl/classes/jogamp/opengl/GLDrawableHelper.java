@@ -49,6 +49,8 @@ import com.jogamp.nativewindow.NativeSurface;
 import com.jogamp.nativewindow.NativeWindowException;
 import com.jogamp.nativewindow.ProxySurface;
 import com.jogamp.nativewindow.UpstreamSurfaceHook;
+import com.jogamp.opengl.FramePhaseCounter;
+import com.jogamp.opengl.FramePhaseStats;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GLAnimatorControl;
 import com.jogamp.opengl.GLAutoDrawable;
@@ -59,6 +61,7 @@ import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLFBODrawable;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.GLRunnableQueueStats;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.InterruptedRuntimeException;
@@ -84,10 +87,13 @@ public class GLDrawableHelper {
   private final Object glRunnablesLock = new Object();
   private ArrayList<GLRunnableTask> glRunnables = new ArrayList<GLRunnableTask>();
   private volatile int glRunnableCount = 0;
+  /** Lazily created ring for {@link #enqueueGLRunnable(GLRunnable)}, guarded by glRunnablesLock for creation. */
+  private volatile GLRunnableRing glRunnableRing;
   private boolean autoSwapBufferMode;
   private volatile Thread exclusiveContextThread;
   /** -1 release, 0 nop, 1 claim */
   private volatile int exclusiveContextSwitch;
+  private volatile FramePhaseStats framePhaseStats;
   private GLAnimatorControl animatorCtrl;
   private static Runnable nop = new Runnable() { @Override public void run() {} };
 
@@ -111,6 +117,10 @@ public class GLDrawableHelper {
         glRunnableCount = 0;
         glRunnables.clear();
     }
+    final GLRunnableRing ring = glRunnableRing;
+    if( null != ring ) {
+        ring.discard();
+    }
     animatorCtrl = null;
     sharedContext = null;
     sharedAutoDrawable = null;
@@ -671,6 +681,10 @@ public class GLDrawableHelper {
   }
 
   public final void display(final GLAutoDrawable drawable) {
+    final GLRunnableRing ring = glRunnableRing;
+    if( null != ring && ring.hasPending() ) {
+        ring.drain(drawable);
+    }
     displayImpl(drawable);
     // runForAllGLEventListener(drawable, displayAction);
     if( glRunnableCount > 0 && !execGLRunnables(drawable) ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
@@ -779,6 +793,10 @@ public class GLDrawableHelper {
             glRunnables.remove(0).flush();
         }
     }
+    final GLRunnableRing ring = glRunnableRing;
+    if( null != ring ) {
+        ring.discard();
+    }
   }
 
   public final void setAnimator(final GLAnimatorControl animator) throws GLException {
@@ -1007,6 +1025,45 @@ public class GLDrawableHelper {
     }
   }
 
+  /**
+   * Fire-and-forget enqueue of the given {@link GLRunnable} into a lock-free ring of pre-allocated slots,
+   * drained in bulk at the next {@link #display(GLAutoDrawable)} before the {@link GLEventListener}s are called.
+   * <p>
+   * In contrast to {@link #enqueue(GLRunnable)}, no {@link GLRunnableTask} is allocated
+   * and the {@link GLRunnable}'s return value is ignored.
+   * </p>
+   * @return <code>true</code> if enqueued into a pre-allocated slot, <code>false</code> if the ring overflowed
+   * @see com.jogamp.opengl.GLRunnableQueue
+   */
+  public final boolean enqueueGLRunnable(final GLRunnable glRunnable) {
+    if( null == glRunnable) {
+        return false;
+    }
+    GLRunnableRing ring = glRunnableRing;
+    if( null == ring ) {
+        synchronized(glRunnablesLock) {
+            ring = glRunnableRing;
+            if( null == ring ) {
+                ring = new GLRunnableRing(GLRunnableRing.DEFAULT_CAPACITY);
+                glRunnableRing = ring;
+            }
+        }
+    }
+    return ring.offer(glRunnable);
+  }
+
+  /**
+   * Returns a metrics snapshot of the {@link #enqueueGLRunnable(GLRunnable)} ring,
+   * all zero if never used.
+   */
+  public final GLRunnableQueueStats getGLRunnableQueueStats() {
+    final GLRunnableRing ring = glRunnableRing;
+    if( null == ring ) {
+        return new GLRunnableQueueStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+    return ring.getStats();
+  }
+
   public final void setAutoSwapBufferMode(final boolean enable) {
     autoSwapBufferMode = enable;
   }
@@ -1015,6 +1072,19 @@ public class GLDrawableHelper {
     return autoSwapBufferMode;
   }
 
+  /**
+   * Sets the {@link FramePhaseStats} recording each {@link #invokeGL(GLDrawable, GLContext, Runnable, Runnable)}, maybe <code>null</code>.
+   * @see FramePhaseCounter
+   */
+  public final void setFramePhaseStats(final FramePhaseStats stats) {
+    framePhaseStats = stats;
+  }
+
+  /** Returns the {@link FramePhaseStats} set via {@link #setFramePhaseStats(FramePhaseStats)}, maybe <code>null</code>. */
+  public final FramePhaseStats getFramePhaseStats() {
+    return framePhaseStats;
+  }
+
   private final String getExclusiveContextSwitchString() {
       return 0 == exclusiveContextSwitch ? "nop" : ( 0 > exclusiveContextSwitch ? "released" : "claimed" ) ;
   }
@@ -1273,6 +1343,9 @@ public class GLDrawableHelper {
           }
       }
 
+      final FramePhaseStats phaseStats = framePhaseStats;
+      final long t0 = null != phaseStats ? System.nanoTime() : 0;
+      long t1 = 0, t2 = 0, t3 = 0; // made current, rendered, swapped
       try {
           final boolean releaseContext;
           if( GLContext.CONTEXT_NOT_CURRENT == res ) {
@@ -1282,6 +1355,9 @@ public class GLDrawableHelper {
               releaseContext = _releaseExclusiveThread;
           }
           if (GLContext.CONTEXT_NOT_CURRENT != res) {
+              if( null != phaseStats ) {
+                  t1 = System.nanoTime();
+              }
               try {
                   setLastInitAction(initAction);
                   if (GLContext.CONTEXT_CURRENT_NEW == res) {
@@ -1291,9 +1367,15 @@ public class GLDrawableHelper {
                       initAction.run();
                   }
                   runnable.run();
+                  if( null != phaseStats ) {
+                      t2 = System.nanoTime();
+                  }
                   if ( autoSwapBufferMode ) {
                       drawable.swapBuffers();
                   }
+                  if( null != phaseStats ) {
+                      t3 = System.nanoTime();
+                  }
               } catch (final Throwable t) {
                   glEventListenerCaught = t;
               } finally {
@@ -1313,6 +1395,9 @@ public class GLDrawableHelper {
               }
           }
       } finally {
+          if( 0 != t3 ) {
+              phaseStats.record(t1 - t0, t2 - t1, t3 - t2, System.nanoTime() - t3);
+          }
           if (lastContext != null) {
               final int res2 = lastContext.makeCurrent();
               if (null != lastInitAction && res2 == GLContext.CONTEXT_CURRENT_NEW) {
@@ -5,6 +5,7 @@ import com.jogamp.nativewindow.NativeWindowException;
 import com.jogamp.nativewindow.ProxySurface;
 import com.jogamp.nativewindow.UpstreamSurfaceHook;
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3ES3;
 import com.jogamp.opengl.GLCapabilities;
 import com.jogamp.opengl.GLCapabilitiesImmutable;
 import com.jogamp.opengl.GLContext;
@@ -71,8 +72,16 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
     /** dump fboResetQuirk info only once pre ClassLoader and only in DEBUG mode */
     private static volatile boolean resetQuirkInfoDumped = false;
 
-    /** number of FBOs for double buffering. TODO: Possible to configure! */
-    private static final int bufferCount = 2;
+    /** default number of FBOs for double buffering */
+    private static final int DEFAULT_BUFFER_COUNT = 2;
+    /** maximum number of FBOs for double buffering */
+    private static final int MAX_BUFFER_COUNT = 8;
+    /** number of FBOs for double buffering, see {@link #setNumBuffers(int)} */
+    private int bufferCount = DEFAULT_BUFFER_COUNT;
+    /** Fence sync object per FBO, issued after rendering into it. Only used w/ more than two FBOs. */
+    private long[] fenceSyncs;
+    /** Indicates whether the FBO's frame has completed, i.e. its {@link #fenceSyncs fence} has been signaled. */
+    private boolean[] fboCompleted;
 
     // private DoubleBufferMode doubleBufferMode; // TODO: Add or remove TEXTURE (only) DoubleBufferMode support
 
@@ -228,6 +237,13 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
             fbos = new FBObject[fbosN];
             fboIBack = 0;                // head
             fboIFront = fbos.length - 1; // tail
+            if( 2 < fbosN && gl.isGL3ES3() && gl.isFunctionAvailable("glFenceSync") ) {
+                fenceSyncs = new long[fbosN];
+                fboCompleted = new boolean[fbosN];
+            } else {
+                fenceSyncs = null;
+                fboCompleted = null;
+            }
 
             if( 0 == ( FBOMODE_USE_TEXTURE & fboModeBits ) &&
                 gl.getContext().hasRendererQuirk(GLRendererQuirks.BuggyColorRenderbuffer) ) {
@@ -249,6 +265,9 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
             fbos[0].formatToGLCapabilities(chosenFBOCaps);
             chosenFBOCaps.setDoubleBuffered( chosenFBOCaps.getDoubleBuffered() || samples > 0 );
         } else {
+            clearFences(gl);
+            fenceSyncs = null;
+            fboCompleted = null;
             for(int i=0; i<fbos.length; i++) {
                 fbos[i].destroy(gl);
             }
@@ -356,6 +375,7 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
                 final int nWidth = getSurfaceWidth();
                 final int nHeight = getSurfaceHeight();
                 samples = newSamples;
+                clearFences(gl); // previous frames are invalidated
                 pendingFBOReset = ( 1 < fbos.length ) ? fboIFront : -1; // pending-front reset only w/ double buffering (or zero samples)
                 final GLCapabilitiesImmutable caps = (GLCapabilitiesImmutable) surface.getGraphicsConfiguration().getChosenCapabilities();
                 for(int i=0; i<fbos.length; i++) {
@@ -486,6 +506,7 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
     private final void swapFBOImplPost(final GLContext glc) {
         // Safely reset the previous front FBO - after completing propagating swap
         if(0 <= pendingFBOReset) {
+            clearFence(glc.getGL(), pendingFBOReset);
             final GLCapabilitiesImmutable caps = (GLCapabilitiesImmutable) surface.getGraphicsConfiguration().getChosenCapabilities();
             reset(glc.getGL(), pendingFBOReset, getSurfaceWidth(), getSurfaceHeight(), samples,
                   caps.getAlphaBits()>0, caps.getDepthBits(), caps.getStencilBits());
@@ -501,6 +522,12 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
             final int _fboIFront = ( fboIFront + 1 ) % fbos.length;
             if(_fboIFront != fboIBack) { throw new InternalError("XXX: "+_fboIFront+"!="+fboIBack); }
         }
+        if( null != fenceSyncs ) {
+            // fence the frame just rendered, and drop the fence of the new back buffer about to be rendered
+            fenceSyncs[fboIBack] = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+            fboCompleted[fboIBack] = false;
+            clearFence(gl, ( fboIBack + 1 ) % fbos.length);
+        }
         fboIFront = fboIBack;
         fboIBack  = ( fboIBack  + 1 ) % fbos.length;
 
@@ -570,18 +597,67 @@ public class GLFBODrawableImpl extends GLDrawableImpl implements GLFBODrawable {
         }
     }
 
+    private final void clearFence(final GL gl, final int idx) {
+        if( null != fenceSyncs ) {
+            if( 0 != fenceSyncs[idx] ) {
+                gl.getGL3ES3().glDeleteSync(fenceSyncs[idx]);
+                fenceSyncs[idx] = 0;
+            }
+            fboCompleted[idx] = false;
+        }
+    }
+
+    private final void clearFences(final GL gl) {
+        if( null != fenceSyncs ) {
+            for(int i=0; i<fenceSyncs.length; i++) {
+                clearFence(gl, i);
+            }
+        }
+    }
+
     @Override
     public final int setNumBuffers(final int bufferCount) throws IllegalStateException, GLException {
         if( isInitialized() ) {
             throw new IllegalStateException("Already initialized: "+this);
         }
-        // FIXME: Implement
-        return GLFBODrawableImpl.bufferCount;
+        this.bufferCount = Math.max(DEFAULT_BUFFER_COUNT, Math.min(MAX_BUFFER_COUNT, bufferCount));
+        return this.bufferCount;
     }
 
     @Override
     public final int getNumBuffers() {
-        return bufferCount;
+        return initialized ? fbos.length : bufferCount;
+    }
+
+    @Override
+    public final FBObject getCompletedFBObject(final GL gl) {
+        if( !initialized ) {
+            return null;
+        }
+        if( samples > 0 ) {
+            return fbos[0].getSamplingSinkFBO();
+        }
+        if( null == fenceSyncs ) {
+            return fbos[fboIFront];
+        }
+        // newest to oldest swapped frame, excluding the back buffer
+        for(int i=1; i<fbos.length; i++) {
+            final int idx = ( fboIBack - i + fbos.length ) % fbos.length;
+            if( fboCompleted[idx] ) {
+                return fbos[idx];
+            }
+            final long sync = fenceSyncs[idx];
+            if( 0 != sync ) {
+                final int r = gl.getGL3ES3().glClientWaitSync(sync, 0, 0);
+                if( GL3ES3.GL_ALREADY_SIGNALED == r || GL3ES3.GL_CONDITION_SATISFIED == r ) {
+                    gl.getGL3ES3().glDeleteSync(sync);
+                    fenceSyncs[idx] = 0;
+                    fboCompleted[idx] = true;
+                    return fbos[idx];
+                }
+            }
+        }
+        return null;
     }
 
     /** // TODO: Add or remove TEXTURE (only) DoubleBufferMode support
@@ -111,6 +111,11 @@ public class GLOffscreenAutoDrawableImpl extends GLAutoDrawableDelegate implemen
             return ((GLFBODrawableImpl)drawable).getNumBuffers();
         }
 
+        @Override
+        public final FBObject getCompletedFBObject(final GL gl) {
+            return ((GLFBODrawableImpl)drawable).getCompletedFBObject(gl);
+        }
+
         /** // TODO: Add or remove TEXTURE (only) DoubleBufferMode support
         @Override
         public DoubleBufferMode getDoubleBufferMode() {
@@ -0,0 +1,260 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.GLRunnableQueueStats;
+
+/**
+ * Lock-free multiple producer single consumer ring of pre-allocated {@link GLRunnable} slots,
+ * used for fire-and-forget {@link GLRunnable} submission, see {@link com.jogamp.opengl.GLRunnableQueue}.
+ * <p>
+ * Producers claim a slot via a CAS on the tail position and publish it via the slot's sequence number,
+ * i.e. {@link #offer(GLRunnable)} neither locks nor allocates.
+ * If the ring is full, the {@link GLRunnable} is appended to a locked overflow list
+ * and all following {@link GLRunnable}s are appended to the overflow list as well
+ * until the consumer has drained it, preserving the order of each producer.
+ * </p>
+ * <p>
+ * The consumer drains all published {@link GLRunnable}s in bulk, see {@link #drain(GLAutoDrawable)}.
+ * Consumer operations are serialized on this instance, hence multiple consumer threads are safe.
+ * </p>
+ */
+public final class GLRunnableRing {
+    /** Default number of slots, {@value}. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final int mask;
+    /** Slot sequence numbers: <code>pos</code> if free for producer position <code>pos</code>, <code>pos+1</code> if published. */
+    private final AtomicLongArray sequences;
+    /** Slot items, visible to the consumer after the slot's sequence has been published. */
+    private final GLRunnable[] items;
+    /** Slot enqueue timestamps in nanoseconds, visible to the consumer after the slot's sequence has been published. */
+    private final long[] timestamps;
+    private final AtomicLong tail = new AtomicLong();
+    /** Next consumer position, written by the consumer only. */
+    private volatile long head;
+
+    private final ArrayList<GLRunnable> overflow = new ArrayList<GLRunnable>();
+    private volatile boolean overflowing;
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    // consumer written metrics
+    private volatile long executedCount;
+    private volatile long discardedCount;
+    private volatile long maxDepth;
+    private volatile long latencySum;
+    private volatile long latencyCount;
+    private volatile long maxLatency;
+
+    /**
+     * @param capacity number of slots, rounded up to the next power of two
+     */
+    public GLRunnableRing(final int capacity) {
+        if( 0 >= capacity ) {
+            throw new IllegalArgumentException("Invalid capacity "+capacity);
+        }
+        this.capacity = 1 == capacity ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.sequences = new AtomicLongArray(this.capacity);
+        for(int i=0; i<this.capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.items = new GLRunnable[this.capacity];
+        this.timestamps = new long[this.capacity];
+    }
+
+    /** Returns the number of slots. */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Enqueues the given {@link GLRunnable}, may be called by any thread.
+     * @return <code>true</code> if enqueued into a pre-allocated slot,
+     *         <code>false</code> if appended to the overflow list
+     */
+    public boolean offer(final GLRunnable glRunnable) {
+        if( !overflowing ) {
+            long pos = tail.get();
+            while( true ) {
+                final int idx = (int)pos & mask;
+                final long dif = sequences.get(idx) - pos;
+                if( 0 == dif ) {
+                    if( tail.compareAndSet(pos, pos + 1) ) {
+                        items[idx] = glRunnable;
+                        timestamps[idx] = System.nanoTime();
+                        sequences.set(idx, pos + 1); // publish
+                        return true;
+                    }
+                    pos = tail.get();
+                } else if( 0 > dif ) {
+                    break; // full
+                } else {
+                    pos = tail.get(); // claimed by other producer
+                }
+            }
+        }
+        synchronized( overflow ) {
+            overflowing = true;
+            overflow.add(glRunnable);
+        }
+        overflowCount.incrementAndGet();
+        return false;
+    }
+
+    /** Returns <code>true</code> if {@link GLRunnable}s are pending. */
+    public boolean hasPending() {
+        return tail.get() != head || overflowing;
+    }
+
+    /** Returns the number of pending {@link GLRunnable}s, including the overflow list. */
+    public int getDepth() {
+        final int overflowSize;
+        synchronized( overflow ) {
+            overflowSize = overflow.size();
+        }
+        return (int) Math.max(0, tail.get() - head) + overflowSize;
+    }
+
+    /**
+     * Runs all published {@link GLRunnable}s in their enqueued order w/ the given drawable,
+     * the ring slots first followed by the overflow list.
+     * <p>
+     * The overflow list is only drained if all claimed ring slots have been published and drained,
+     * otherwise it is left for the next drain.
+     * </p>
+     * <p>
+     * Shall be called while the drawable's context is current.
+     * If a {@link GLRunnable} throws an exception, the remaining {@link GLRunnable}s stay enqueued.
+     * </p>
+     * @return number of executed {@link GLRunnable}s
+     */
+    public synchronized int drain(final GLAutoDrawable drawable) {
+        return drainImpl(drawable, true);
+    }
+
+    /**
+     * Removes all published {@link GLRunnable}s w/o running them, in the same order as {@link #drain(GLAutoDrawable)}.
+     * @return number of discarded {@link GLRunnable}s
+     */
+    public synchronized int discard() {
+        return drainImpl(null, false);
+    }
+
+    private int drainImpl(final GLAutoDrawable drawable, final boolean run) {
+        long pos = head;
+        final long depth = tail.get() - pos;
+        if( depth > maxDepth ) {
+            maxDepth = depth;
+        }
+        final long now = System.nanoTime();
+        long latSum = 0, latMax = maxLatency;
+        int n = 0;
+        try {
+            while( true ) {
+                final int idx = (int)pos & mask;
+                if( sequences.get(idx) != pos + 1 ) {
+                    break; // empty or not yet published
+                }
+                final GLRunnable r = items[idx];
+                final long lat = Math.max(0, now - timestamps[idx]);
+                items[idx] = null;
+                sequences.set(idx, pos + capacity); // free for next round
+                pos++;
+                n++;
+                latSum += lat;
+                if( lat > latMax ) {
+                    latMax = lat;
+                }
+                if( run ) {
+                    r.run(drawable);
+                }
+            }
+        } finally {
+            head = pos;
+            latencySum += latSum;
+            latencyCount += n;
+            maxLatency = latMax;
+            if( run ) {
+                executedCount += n;
+            } else {
+                discardedCount += n;
+            }
+        }
+        if( overflowing && pos == tail.get() ) {
+            // only after the ring is fully drained, a claimed but not yet published slot
+            // may hold an earlier GLRunnable of a producer whose later ones overflowed
+            final ArrayList<GLRunnable> _overflow;
+            synchronized( overflow ) {
+                _overflow = new ArrayList<GLRunnable>(overflow);
+                overflow.clear();
+                overflowing = false;
+            }
+            int i = 0;
+            try {
+                while( i < _overflow.size() ) {
+                    final GLRunnable r = _overflow.get(i++);
+                    n++;
+                    if( run ) {
+                        executedCount++;
+                        r.run(drawable);
+                    } else {
+                        discardedCount++;
+                    }
+                }
+            } finally {
+                if( i < _overflow.size() ) {
+                    // keep the remaining ones enqueued in order
+                    synchronized( overflow ) {
+                        overflow.addAll(0, _overflow.subList(i, _overflow.size()));
+                        overflowing = true;
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    /** Returns a snapshot of this ring's metrics. */
+    public GLRunnableQueueStats getStats() {
+        final long _latencyCount = latencyCount;
+        return new GLRunnableQueueStats(capacity, tail.get() + overflowCount.get(), executedCount, discardedCount, overflowCount.get(),
+                                        getDepth(), maxDepth,
+                                        0 < _latencyCount ? latencySum / _latencyCount : 0, maxLatency);
+    }
+
+    @Override
+    public String toString() {
+        return "GLRunnableRing["+getStats()+"]";
+    }
+}
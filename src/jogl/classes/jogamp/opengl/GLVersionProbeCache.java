@@ -0,0 +1,389 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Properties;
+
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.common.util.SecurityUtil;
+import com.jogamp.common.util.VersionNumberString;
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.opengl.GLRendererQuirks;
+import com.jogamp.opengl.JoglVersion;
+
+/**
+ * Opt-in persistent cache of the GL versions mapped per {@link AbstractGraphicsDevice},
+ * allowing {@link GLContextImpl} to skip the probing of all major versions and profiles
+ * at {@link com.jogamp.opengl.GLProfile#initSingleton()}.
+ * <p>
+ * The cache is enabled by property <code>jogl.cache.GLVersions</code>,
+ * either w/o value using the default file <code>${user.home}/.jogamp/jogl/glversions.properties</code>
+ * or w/ the cache file's path as its value.
+ * </p>
+ * <p>
+ * Each {@link Entry} is keyed by {@link AbstractGraphicsDevice#getUniqueID()}, i.e. device type and connection,
+ * and only valid for the JOGL build it has been written with.
+ * It holds the mapped GL versions w/ their {@link GLRendererQuirks}, the sticky device quirks
+ * as well as the GL vendor, renderer, version and extension strings of the context created after mapping.
+ * The latter are used to validate the cached entry against the first created context,
+ * i.e. a changed driver, incl. an update only changing its version, drops the entry and the full probe is performed.
+ * </p>
+ */
+public class GLVersionProbeCache {
+    protected static final boolean DEBUG = GLContextImpl.DEBUG;
+
+    /** True if the cache is enabled via property <code>jogl.cache.GLVersions</code>. */
+    public static final boolean ENABLED;
+    private static final File file;
+
+    static {
+        Debug.initSingleton();
+        final String path = PropertyAccess.getProperty("jogl.cache.GLVersions", true);
+        if( null == path ) {
+            ENABLED = false;
+            file = null;
+        } else {
+            ENABLED = true;
+            if( 0 == path.length() || "true".equalsIgnoreCase(path) ) {
+                file = new File(System.getProperty("user.home")+File.separator+".jogamp"+File.separator+"jogl"+File.separator+"glversions.properties");
+            } else {
+                file = new File(path);
+            }
+        }
+    }
+
+    private static final Object lock = new Object();
+    private static Properties props = null;
+    private static String build = null;
+    /** Quirks of each mapped GL version, keyed by <code>GLContext.getDeviceVersionAvailableKey(..)</code>. */
+    private static final HashMap<String, Integer> mappedQuirks = new HashMap<String, Integer>();
+
+    /** Returns the cache file if {@link #ENABLED}, otherwise <code>null</code>. */
+    public static File getFile() { return file; }
+
+    /** A cached GL version mapping of one {@link AbstractGraphicsDevice}. */
+    public static class Entry {
+        /** JOGL build this entry has been written with. */
+        public final String build;
+        public final String vendor;
+        public final String renderer;
+        public final String version;
+        public final String extensions;
+        /** Requested major version of the validating context. */
+        public final int reqMajor;
+        /** Requested profile of the validating context. */
+        public final int reqProfile;
+        /** Sticky device {@link GLRendererQuirks#getBitmask() quirks}. */
+        public final int stickyQuirks;
+        /** Requested major version of each mapping. */
+        public final int[] mapMajor;
+        /** Requested profile of each mapping. */
+        public final int[] mapProfile;
+        /** Mapped version and options of each mapping, see <code>GLContext.getAvailableGLVersion(..)</code>. */
+        public final int[] mapBits;
+        /** {@link GLRendererQuirks#getBitmask() Quirks} of each mapping. */
+        public final int[] mapQuirks;
+        /** Sticky device quirks added when mapping this entry, removed again if found stale. */
+        int addedStickyQuirks;
+
+        public Entry(final String build, final String vendor, final String renderer, final String version, final String extensions,
+                     final int reqMajor, final int reqProfile, final int stickyQuirks,
+                     final int[] mapMajor, final int[] mapProfile, final int[] mapBits, final int[] mapQuirks) {
+            this.build = build;
+            this.vendor = vendor;
+            this.renderer = renderer;
+            this.version = version;
+            this.extensions = extensions;
+            this.reqMajor = reqMajor;
+            this.reqProfile = reqProfile;
+            this.stickyQuirks = stickyQuirks;
+            this.mapMajor = mapMajor;
+            this.mapProfile = mapProfile;
+            this.mapBits = mapBits;
+            this.mapQuirks = mapQuirks;
+        }
+
+        /** Returns the number of mapped GL versions. */
+        public final int getMappingCount() { return mapBits.length; }
+
+        /**
+         * Returns true if the given strings of a context created w/ this entry's mapping match.
+         * <p>
+         * Vendor, renderer and the driver's {@link GLVersionNumber#createVendorVersion(String) vendor version},
+         * embedded in the version string, must always match.
+         * The full version and extensions are only compared if the given request equals the one this entry has been validated with,
+         * since they differ across profiles.
+         * </p>
+         */
+        public final boolean matches(final String vendor, final String renderer, final String version, final String extensions,
+                                     final int reqMajor, final int reqProfile) {
+            if( !this.vendor.equals(vendor) || !this.renderer.equals(renderer) ||
+                !getDriverVersion(this.version).equals(getDriverVersion(version)) ) {
+                return false;
+            }
+            if( this.reqMajor == reqMajor && this.reqProfile == reqProfile ) {
+                return this.version.equals(version) && this.extensions.equals(extensions);
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "GLVersionProbeCache.Entry[build "+build+", vendor "+vendor+", renderer "+renderer+", version "+version+
+                   ", extensions "+extensions.length()+" chars, mappings "+mapBits.length+", sticky quirks 0x"+Integer.toHexString(stickyQuirks)+"]";
+        }
+    }
+
+    /** Returns the driver's vendor version string embedded in the given GL version string, or an empty string if n/a. */
+    private static String getDriverVersion(final String glVersion) {
+        final VersionNumberString v = GLVersionNumber.createVendorVersion(glVersion);
+        return null != v ? v.getVersionString() : "";
+    }
+
+    /**
+     * Records the given quirks of a mapped GL version, later retrieved via {@link #getMappedQuirks(String)}.
+     * @param key the interned key, see <code>GLContext.getDeviceVersionAvailableKey(..)</code>
+     */
+    static void setMappedQuirks(final String key, final GLRendererQuirks quirks) {
+        synchronized( mappedQuirks ) {
+            mappedQuirks.put(key, Integer.valueOf( null != quirks ? quirks.getBitmask() : 0 ));
+        }
+    }
+
+    /** Returns the recorded quirks bitmask of a mapped GL version, or zero if none. */
+    static int getMappedQuirks(final String key) {
+        synchronized( mappedQuirks ) {
+            final Integer q = mappedQuirks.get(key);
+            return null != q ? q.intValue() : 0;
+        }
+    }
+
+    /**
+     * Returns the cached {@link Entry} for the given device written by this JOGL build, otherwise <code>null</code>.
+     * <p>
+     * Always returns <code>null</code> if not {@link #ENABLED}.
+     * </p>
+     */
+    public static Entry get(final AbstractGraphicsDevice device) {
+        if( !ENABLED ) {
+            return null;
+        }
+        synchronized( lock ) {
+            load();
+            final String p = device.getUniqueID() + ".";
+            final String eBuild = props.getProperty(p+"build");
+            if( null == eBuild || !eBuild.equals(build) ) {
+                if( DEBUG && null != eBuild ) {
+                    System.err.println("GLVersionProbeCache: Build mismatch "+device.getUniqueID()+": "+eBuild+" != "+build);
+                }
+                return null;
+            }
+            try {
+                final String[] maps = props.getProperty(p+"versions", "").split(",");
+                final int count = 0 < maps[0].length() ? maps.length : 0;
+                final int[] mapMajor = new int[count];
+                final int[] mapProfile = new int[count];
+                final int[] mapBits = new int[count];
+                final int[] mapQuirks = new int[count];
+                for(int i=0; i<count; i++) {
+                    final String[] v = maps[i].split(":");
+                    mapMajor[i] = Integer.parseInt(v[0]);
+                    mapProfile[i] = Integer.parseInt(v[1], 16);
+                    mapBits[i] = (int) Long.parseLong(v[2], 16);
+                    mapQuirks[i] = (int) Long.parseLong(v[3], 16);
+                }
+                final String[] req = props.getProperty(p+"request").split(":");
+                final Entry e = new Entry(eBuild, props.getProperty(p+"vendor"), props.getProperty(p+"renderer"),
+                                          props.getProperty(p+"version"), props.getProperty(p+"extensions"),
+                                          Integer.parseInt(req[0]), Integer.parseInt(req[1], 16),
+                                          (int) Long.parseLong(props.getProperty(p+"quirks"), 16),
+                                          mapMajor, mapProfile, mapBits, mapQuirks);
+                if( 0 == count || null == e.vendor || null == e.renderer || null == e.version || null == e.extensions ) {
+                    return null;
+                }
+                if( DEBUG ) {
+                    System.err.println("GLVersionProbeCache: Hit "+device.getUniqueID()+": "+e);
+                }
+                return e;
+            } catch (final RuntimeException re) {
+                if( DEBUG ) {
+                    System.err.println("GLVersionProbeCache: Invalid entry "+device.getUniqueID()+": "+re.getMessage());
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Stores the given {@link Entry} for the given device and writes the cache file.
+     * <p>
+     * NOP if not {@link #ENABLED}.
+     * </p>
+     */
+    public static void put(final AbstractGraphicsDevice device, final Entry e) {
+        if( !ENABLED ) {
+            return;
+        }
+        synchronized( lock ) {
+            load();
+            final String p = device.getUniqueID() + ".";
+            final StringBuilder sb = new StringBuilder();
+            for(int i=0; i<e.mapBits.length; i++) {
+                if( 0 < i ) {
+                    sb.append(",");
+                }
+                sb.append(e.mapMajor[i]).append(":").append(Integer.toHexString(e.mapProfile[i])).append(":")
+                  .append(Integer.toHexString(e.mapBits[i])).append(":").append(Integer.toHexString(e.mapQuirks[i]));
+            }
+            props.setProperty(p+"build", build);
+            props.setProperty(p+"vendor", e.vendor);
+            props.setProperty(p+"renderer", e.renderer);
+            props.setProperty(p+"version", e.version);
+            props.setProperty(p+"extensions", e.extensions);
+            props.setProperty(p+"request", e.reqMajor+":"+Integer.toHexString(e.reqProfile));
+            props.setProperty(p+"quirks", Integer.toHexString(e.stickyQuirks));
+            props.setProperty(p+"versions", sb.toString());
+            if( DEBUG ) {
+                System.err.println("GLVersionProbeCache: Put "+device.getUniqueID()+": "+e);
+            }
+            store();
+        }
+    }
+
+    /**
+     * Removes the {@link Entry} of the given device, e.g. if it has been found stale, and writes the cache file.
+     * <p>
+     * NOP if not {@link #ENABLED}.
+     * </p>
+     */
+    public static void remove(final AbstractGraphicsDevice device) {
+        if( !ENABLED ) {
+            return;
+        }
+        synchronized( lock ) {
+            load();
+            final String p = device.getUniqueID() + ".";
+            boolean removed = false;
+            for(final Object k : props.keySet().toArray()) {
+                if( ((String)k).startsWith(p) ) {
+                    props.remove(k);
+                    removed = true;
+                }
+            }
+            if( DEBUG ) {
+                System.err.println("GLVersionProbeCache: Remove "+device.getUniqueID()+": "+removed);
+            }
+            if( removed ) {
+                store();
+            }
+        }
+    }
+
+    private static void load() {
+        if( null != props ) {
+            return;
+        }
+        final JoglVersion jv = JoglVersion.getInstance();
+        build = jv.getImplementationVersion()+"-"+jv.getImplementationBuild()+"-"+jv.getImplementationCommit();
+        props = new Properties();
+        SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                if( file.isFile() ) {
+                    InputStream in = null;
+                    try {
+                        in = new FileInputStream(file);
+                        props.load(in);
+                    } catch (final IOException ioe) {
+                        if( DEBUG ) {
+                            System.err.println("GLVersionProbeCache: Could not read "+file+": "+ioe.getMessage());
+                        }
+                        props.clear();
+                    } finally {
+                        close(in);
+                    }
+                }
+                return null;
+            } } );
+    }
+
+    /** Writes the cache file via a temporary file, not disturbing concurrent readers. */
+    private static void store() {
+        SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                final File dir = file.getAbsoluteFile().getParentFile();
+                OutputStream out = null;
+                File tmp = null;
+                try {
+                    if( null != dir && !dir.isDirectory() && !dir.mkdirs() ) {
+                        throw new IOException("Could not create directory "+dir);
+                    }
+                    tmp = File.createTempFile(file.getName(), ".tmp", dir);
+                    out = new FileOutputStream(tmp);
+                    props.store(out, "JOGL GL version probe cache");
+                    out.close();
+                    out = null;
+                    if( !tmp.renameTo(file) ) {
+                        file.delete();
+                        if( !tmp.renameTo(file) ) {
+                            throw new IOException("Could not rename "+tmp+" to "+file);
+                        }
+                    }
+                    tmp = null;
+                } catch (final IOException ioe) {
+                    if( DEBUG ) {
+                        System.err.println("GLVersionProbeCache: Could not write "+file+": "+ioe.getMessage());
+                    }
+                } finally {
+                    close(out);
+                    if( null != tmp ) {
+                        tmp.delete();
+                    }
+                }
+                return null;
+            } } );
+    }
+
+    private static void close(final Closeable c) {
+        if( null != c ) {
+            try {
+                c.close();
+            } catch (final IOException ioe) { }
+        }
+    }
+}
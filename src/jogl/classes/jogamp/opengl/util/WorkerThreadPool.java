@@ -0,0 +1,98 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed size pools of daemon worker threads.
+ * <p>
+ * Short CPU bound tasks awaited by their caller, e.g. row bands of mipmap generation or deflate chunks of PNG encoding,
+ * shall use the {@link #getShared() shared pool}.
+ * Components owning long running or cancellable work, e.g. streaming decoders, shall {@link #create(String, int) create}
+ * their own pool and shut it down at destruction.
+ * </p>
+ */
+public final class WorkerThreadPool {
+    private static ExecutorService shared = null;
+
+    private WorkerThreadPool() {}
+
+    /**
+     * Returns the number of worker threads to use for the given requested count.
+     * @param threadCount requested number of threads, values &lt; 1 use the number of available processors minus one
+     * @return the number of worker threads, at least one
+     */
+    public static int getThreadCount(final int threadCount) {
+        return 0 < threadCount ? threadCount : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * Creates a new pool of <code>threadCount</code> daemon threads named <code>name-i</code>.
+     * <p>
+     * The caller owns the pool and shall shut it down after use.
+     * </p>
+     * @param name the thread name prefix
+     * @param threadCount number of threads, see {@link #getThreadCount(int)}
+     */
+    public static ExecutorService create(final String name, final int threadCount) {
+        final int n = getThreadCount(threadCount);
+        final ThreadFactory tf = new ThreadFactory() {
+            private int id = 0;
+            @Override
+            public synchronized Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, name+"-"+(id++));
+                t.setDaemon(true);
+                return t;
+            }
+        };
+        return new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), tf);
+    }
+
+    /**
+     * Returns the lazily created shared pool w/ one daemon thread per available processor.
+     * <p>
+     * Tasks shall not block on other tasks of this pool. The pool shall not be shut down.
+     * </p>
+     */
+    public static synchronized ExecutorService getShared() {
+        if( null == shared ) {
+            shared = create("WorkerThreadPool-Shared", Runtime.getRuntime().availableProcessors());
+        }
+        return shared;
+    }
+
+    /** Returns the number of threads of the {@link #getShared() shared pool}. */
+    public static int getSharedThreadCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.av;
+
+/**
+ * Per-frame decode duration statistics of the {@link GLMediaPlayerImpl} <i>StreamWorker</i>
+ * and the derived adaptive number of video textures of its decoded frame ring.
+ * <p>
+ * The decode duration and its jitter, the mean absolute deviation, are exponential moving averages.
+ * The required texture count is one displayed frame, one frame being decoded
+ * and the frames presented while decoding one frame w/ a worst case duration of average plus twice the jitter.
+ * </p>
+ * <p>
+ * {@link #evaluate(int, int, int, float, long)} grows the texture count by one at once
+ * if required or if the decoded frame ring ran empty,
+ * but only shrinks it by one after a lower count was sufficient for {@link #SHRINK_HOLD_MS}.
+ * </p>
+ */
+public final class AdaptiveTextureCount {
+    /** Minimum period in milliseconds between two evaluations, {@value}. */
+    public static final int EVAL_PERIOD_MS = 500;
+    /** Duration in milliseconds a lower texture count must be sufficient before shrinking, {@value}. */
+    public static final int SHRINK_HOLD_MS = 3000;
+    /** Weight of the history of the exponential moving averages, {@value}. */
+    private static final float COEFF = 0.9f;
+
+    private float avgDecodeMS = 0f;
+    private float jitterMS = 0f;
+    private int sampleCount = 0;
+    private int underrunCount = 0;
+    private long lastEvalMS = 0;
+    private long lowSinceMS = 0;
+
+    /** Adds the duration in milliseconds of one decoded frame, called by the decoding thread. */
+    public synchronized void addDecodeDuration(final float ms) {
+        if( 0 == sampleCount ) {
+            avgDecodeMS = ms;
+            jitterMS = 0f;
+        } else {
+            final float d = Math.abs(ms - avgDecodeMS);
+            avgDecodeMS = COEFF * avgDecodeMS + ( 1f - COEFF ) * ms;
+            jitterMS = COEFF * jitterMS + ( 1f - COEFF ) * d;
+        }
+        ++sampleCount;
+    }
+
+    /** Signals that no decoded frame was available for presentation. */
+    public synchronized void addUnderrun() {
+        ++underrunCount;
+    }
+
+    /** Returns the number of decode duration samples. */
+    public synchronized int getSampleCount() { return sampleCount; }
+
+    /** Returns the average decode duration per frame in milliseconds. */
+    public synchronized float getAvgDecodeMillis() { return avgDecodeMS; }
+
+    /** Returns the decode duration jitter per frame in milliseconds, i.e. the mean absolute deviation. */
+    public synchronized float getJitterMillis() { return jitterMS; }
+
+    /**
+     * Returns the required texture count for the given frame duration, not clamped.
+     * @param frameDurationMS the frame duration in milliseconds
+     */
+    public synchronized int getRequiredCount(final float frameDurationMS) {
+        final float fd = Math.max(1f, frameDurationMS);
+        return 2 + (int) Math.ceil( ( avgDecodeMS + 2f * jitterMS ) / fd );
+    }
+
+    /**
+     * Evaluates the texture count, at most once per {@link #EVAL_PERIOD_MS}.
+     * @param current the current texture count
+     * @param min the minimum texture count
+     * @param max the maximum texture count
+     * @param frameDurationMS the frame duration in milliseconds
+     * @param currentMillis the current time in milliseconds
+     * @return the new texture count, {@code current} if unchanged
+     */
+    public synchronized int evaluate(final int current, final int min, final int max, final float frameDurationMS, final long currentMillis) {
+        if( 0 == sampleCount || currentMillis - lastEvalMS < EVAL_PERIOD_MS ) {
+            return current;
+        }
+        lastEvalMS = currentMillis;
+        final int underruns = underrunCount;
+        underrunCount = 0;
+        final int required = getRequiredCount(frameDurationMS);
+        if( current < max && ( 0 < underruns || required > current ) ) {
+            lowSinceMS = 0;
+            return current + 1;
+        } else if( current > min && 0 == underruns && required < current ) {
+            if( 0 == lowSinceMS ) {
+                lowSinceMS = currentMillis;
+            } else if( currentMillis - lowSinceMS >= SHRINK_HOLD_MS ) {
+                lowSinceMS = 0;
+                return current - 1;
+            }
+        } else {
+            lowSinceMS = 0;
+        }
+        return current;
+    }
+
+    /** Resets all statistics. */
+    public synchronized void reset() {
+        avgDecodeMS = 0f;
+        jitterMS = 0f;
+        sampleCount = 0;
+        underrunCount = 0;
+        lastEvalMS = 0;
+        lowSinceMS = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("AdaptiveTextureCount[decode %.2f ms, jitter %.2f ms, samples %d, underruns %d]",
+                             avgDecodeMS, jitterMS, sampleCount, underrunCount);
+    }
+}
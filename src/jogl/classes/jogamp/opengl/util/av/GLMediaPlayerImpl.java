@@ -58,6 +58,7 @@ import com.jogamp.common.av.PTS;
 import com.jogamp.common.av.TimeFrameI;
 import com.jogamp.common.net.Uri;
 import com.jogamp.common.os.Clock;
+import com.jogamp.common.util.Bitfield;
 import com.jogamp.common.util.IOUtil;
 import com.jogamp.common.util.InterruptSource;
 import com.jogamp.common.util.LFRingbuffer;
@@ -70,12 +71,15 @@ import com.jogamp.math.Vec4f;
 import com.jogamp.opengl.GLExtensions;
 import com.jogamp.opengl.util.av.SubtitleEventListener;
 import com.jogamp.opengl.util.av.CodecID;
+import com.jogamp.opengl.util.av.DecodeScheduler;
 import com.jogamp.opengl.util.av.GLMediaPlayer;
 import com.jogamp.opengl.util.av.SubTextEvent;
 import com.jogamp.opengl.util.av.SubEmptyEvent;
 import com.jogamp.opengl.util.av.SubBitmapEvent;
 import com.jogamp.opengl.util.glsl.ShaderCode;
+import com.jogamp.opengl.util.packrect.Rect;
 import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureCoords;
 import com.jogamp.opengl.util.texture.TextureData;
 import com.jogamp.opengl.util.texture.TextureIO;
 import com.jogamp.opengl.util.texture.TextureSequence;
@@ -197,6 +201,21 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     private volatile int decodedFrameCount = 0;
     private int presentedFrameCount = 0;
     private int displayedFrameCount = 0;
+    private int droppedFrameCount = 0;
+    private int repeatedFrameCount = 0;
+
+    /** Decode duration statistics and adaptive texture count, see {@link #setAdaptiveTextureCount(int)}. */
+    private final AdaptiveTextureCount texCountAdapter = new AdaptiveTextureCount();
+    private volatile int adaptiveTexCountMax = 0;
+
+    /** Shared decode scheduler, see {@link #setDecodeScheduler(DecodeScheduler)}. */
+    private volatile DecodeScheduler decodeScheduler = null;
+    /** Frames skipped at decoding being too late, see {@link #getDecodeSkipPTS()}. */
+    private final LateFrameSkip lateFrameSkip = new LateFrameSkip(MAX_VIDEO_ASYNC);
+    /** {@link LateFrameSkip#getSkipPTS(int, float) Skip PTS} of the frame being decoded, see {@link #getDecodeSkipPTS()}. */
+    private volatile int decodeSkipPTS = TimeFrameI.INVALID_PTS;
+    /** Last decoded video PTS, used as the {@link DecodeScheduler.Stream#getDeadline(long) decode deadline}. */
+    private volatile int lastDecodedPTS = TimeFrameI.INVALID_PTS;
 
     /**
      * Help detect EOS, limit is {@link #MAX_FRAMELESS_MS_UNTIL_EOS}.
@@ -251,6 +270,10 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     private Texture[] subTexOrig = null;
     private Ringbuffer<Texture> subTexFree =  null;
     private static final int SUB_TEX_IMAGES_MIN = TEXTURE_COUNT_MIN + 1;
+    private volatile boolean subAtlasEnabled = false;
+    private volatile SubtitleAtlas subAtlas = null;
+    /** Atlas region allocated by {@link #allocSubtitleRect(int, int)} for the next {@link #pushSubtitleTex(Object, int, int, int, int, int, int, int, int, int)}, decoder thread only. */
+    private Rect subAtlasPending = null;
     private static final boolean subDEBUG = false;
 
     /**
@@ -398,6 +421,61 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     @Override
     public final int getPresentedFrameCount() { return presentedFrameCount; }
 
+    @Override
+    public final int getDroppedFrameCount() { return droppedFrameCount + lateFrameSkip.getSkippedCount(); }
+
+    @Override
+    public final int getRepeatedFrameCount() { return repeatedFrameCount; }
+
+    @Override
+    public final int getDecodedQueueDepth() {
+        final Ringbuffer<TextureFrame> decoded = videoFramesDecoded;
+        return null != decoded ? decoded.size() : 0;
+    }
+
+    @Override
+    public final float getAvgFrameDecodeMillis() { return texCountAdapter.getAvgDecodeMillis(); }
+
+    @Override
+    public final float getFrameDecodeJitterMillis() { return texCountAdapter.getJitterMillis(); }
+
+    @Override
+    public final void setAdaptiveTextureCount(final int maxTextureCount) {
+        adaptiveTexCountMax = Math.max(0, maxTextureCount);
+    }
+
+    @Override
+    public final int getAdaptiveTextureCount() { return adaptiveTexCountMax; }
+
+    @Override
+    public final void setSubtitleAtlas(final boolean enable) { subAtlasEnabled = enable; }
+    @Override
+    public final boolean isSubtitleAtlasEnabled() { return subAtlasEnabled; }
+
+    @Override
+    public final void setDecodeScheduler(final DecodeScheduler scheduler) { decodeScheduler = scheduler; }
+
+    @Override
+    public final DecodeScheduler getDecodeScheduler() { return decodeScheduler; }
+
+    /**
+     * Wakes up the {@link DecodeScheduler}'s idle workers if used,
+     * to be called after returning a free video frame or subtitle texture, i.e. {@link StreamWorker#isReady()} may have changed.
+     */
+    private void signalDecodeScheduler() {
+        final DecodeScheduler ds = decodeScheduler;
+        if( null != ds && null != streamWorker ) {
+            ds.signal();
+        }
+    }
+
+    @Override
+    public final float getDecodeShare() {
+        final DecodeScheduler ds = decodeScheduler;
+        final StreamWorker sw = streamWorker;
+        return null != ds && null != sw ? ds.getShare(sw) : 0f;
+    }
+
     @Override
     public final PTS getPTS() { return av_scr_cpy; }
 
@@ -731,6 +809,11 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
             decodedFrameCount = 0;
             presentedFrameCount = 0;
             displayedFrameCount = 0;
+            droppedFrameCount = 0;
+            repeatedFrameCount = 0;
+            lateFrameSkip.reset();
+            lastDecodedPTS = TimeFrameI.INVALID_PTS;
+            texCountAdapter.reset();
             nullFrameCount = 0;
             maxNullFrameCountUntilEOS = MAX_FRAMELESS_UNTIL_EOS_DEFAULT;
             this.streamLoc = streamLoc;
@@ -852,12 +935,18 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                             videoFramesDecoded = new LFRingbuffer<TextureFrame>(TextureFrame[].class, textureCount);
                             lastFrame = videoFramesFree.getBlocking();
                         }
-                        if( STREAM_ID_NONE != sid ) {
+                        if( STREAM_ID_NONE != sid && subAtlasEnabled ) {
+                            subAtlas = createSubAtlas(gl);
+                            subTexOrig = null;
+                            subTexFree = null;
+                        } else if( STREAM_ID_NONE != sid ) {
+                            subAtlas = null;
                             subTexOrig = createSubTextures(gl, Math.max(SUB_TEX_IMAGES_MIN, textureCount)); // minimum 2 textures
                             subTexFree = new LFRingbuffer<Texture>(subTexOrig);
                         } else {
                             subTexOrig = null;
                             subTexFree = null;
+                            subAtlas = null;
                         }
                     } else {
                         videoFramesOrig = null;
@@ -866,11 +955,12 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                         lastFrame = null;
                         subTexOrig = null;
                         subTexFree = null;
+                        subAtlas = null;
                     }
                     if( null == streamWorker &&
                         ( TEXTURE_COUNT_MIN < textureCount || STREAM_ID_NONE == vid ) ) // Enable StreamWorker for 'audio only' as well (Bug 918).
                     {
-                        streamWorker = new StreamWorker();
+                        streamWorker = new StreamWorker( STREAM_ID_NONE != vid ? decodeScheduler : null );
                     }
                     if( null != streamWorker ) {
                         streamWorker.initGL(gl);
@@ -890,6 +980,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                     lastFrame = null;
                     subTexOrig = null;
                     subTexFree = null;
+                    subAtlas = null;
                 } else {
                     // Using a dummy test frame
                     width = TestTexture.singleton.getWidth();
@@ -909,6 +1000,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                     }
                     subTexOrig = null;
                     subTexFree = null;
+                    subAtlas = null;
                     // changeState(0, State.Paused);
                 }
             } catch (final Throwable t) {
@@ -982,6 +1074,39 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         }
         return textures;
     }
+    /**
+     * Creates the shared bitmap subtitle atlas, see {@link #setSubtitleAtlas(boolean)}.
+     * <p>
+     * The atlas covers the video size, i.e. the maximum size of one subtitle bitmap, plus {@link SubtitleAtlas#PADDING}.
+     * </p>
+     */
+    protected SubtitleAtlas createSubAtlas(final GL gl) {
+        int aWidth = Math.max(1, width) + SubtitleAtlas.PADDING;
+        int aHeight = Math.max(1, height) + SubtitleAtlas.PADDING;
+        if( !gl.isNPOTTextureAvailable() ) {
+            aWidth = Bitfield.Util.roundToPowerOf2(aWidth);
+            aHeight = Bitfield.Util.roundToPowerOf2(aHeight);
+        }
+        final int[] texNames = new int[1];
+        gl.glGenTextures(1, texNames, 0);
+        gl.glBindTexture(GL.GL_TEXTURE_2D, texNames[0]);
+        gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, aWidth, aHeight, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, null);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MIN_FILTER, GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER, GL.GL_LINEAR);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_S, GL.GL_CLAMP_TO_EDGE);
+        gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_WRAP_T, GL.GL_CLAMP_TO_EDGE);
+        final int err = gl.glGetError();
+        if( GL.GL_NO_ERROR != err ) {
+            throw new RuntimeException("Subtitle atlas creation failed ("+aWidth+"x"+aHeight+"): err "+toHexString(err));
+        }
+        final Texture tex = new Texture(texNames[0], true /* ownsTextureID */,
+                                        GL.GL_TEXTURE_2D, aWidth, aHeight, aWidth, aHeight, true);
+        final SubtitleAtlas atlas = new SubtitleAtlas(tex, aWidth, aHeight);
+        if( DEBUG ) {
+            logout.println("Created "+atlas);
+        }
+        return atlas;
+    }
 
     private static class TestTexture {
         private static final TextureData singleton;
@@ -1166,6 +1291,15 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         destroyTextures(gl, subTexOrig); // can crash, if event obj w/ texture-copy still in use
         subTexOrig = null;
         subTexFree = null;
+        final SubtitleAtlas atlas = subAtlas;
+        subAtlas = null;
+        if( null != atlas ) {
+            if( subDEBUG ) {
+                System.err.println("GLMediaPlayer: removeAllTextureFrames: "+atlas);
+            }
+            atlas.clear();
+            destroyTextures(gl, new Texture[] { atlas.getTexture() }); // can crash, if event obj w/ atlas region still in use
+        }
     }
 
     private TextureFrame cachedFrame = null;
@@ -1257,11 +1391,13 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                             video_pts.set(currentMillis, nextFrame.getPTS());
                             hasVideoFrame = true;
                             repeatedFrame++;
+                            repeatedFrameCount++;
                             syncModeA = 'r';
                         } else {
                             if( null != cachedFrame && null != videoFramesFree ) {
                                 // Push back skipped repeated frame due to low audio_queued_ms
                                 videoFramesFree.putBlocking(cachedFrame);
+                                signalDecodeScheduler();
                                 syncModeA = 'z';
                             }
                             cachedFrame = null;
@@ -1276,6 +1412,9 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                                     video_pts.set(currentMillis, 0);
                                     hasVideoFrame = false;
                                     syncModeA = 'e';
+                                    if( State.Playing == state ) {
+                                        texCountAdapter.addUnderrun();
+                                    }
                                 }
                             } else {
                                 // single-threaded or audio-only
@@ -1396,6 +1535,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                                            ( null != videoFramesDecoded && videoFramesDecoded.size() > 0 || playSpeed > 2.0f ) ) {
                                     // frame is too late and one decoded frame is already available (or playSpeed > 2)
                                     dropFrame = true;
+                                    droppedFrameCount++;
                                     syncModeB = 'd';
                                 } else if( repeatedFrame > 0 ) {
                                     syncModeB = 'r';
@@ -1419,11 +1559,15 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                             lastFrame = nextFrame;
                             if( null != _lastFrame ) {
                                 videoFramesFree.putBlocking(_lastFrame);
+                                signalDecodeScheduler();
                             }
                         }
                         lastMillis = currentMillis;
                         audio_queued_last_ms = audio_queued_ms;
                     } while( dropFrame );
+                    if( 0 < adaptiveTexCountMax && null != videoFramesDecoded && null != streamWorker && State.Playing == state ) {
+                        adaptTextureCount(gl);
+                    }
                 } catch (final InterruptedException e) {
                     e.printStackTrace();
                 }
@@ -1433,6 +1577,83 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
             return lastFrame;
         }
     }
+
+    /** Returns the {@link LateFrameSkip#getSkipPTS(int, float) skip PTS} of the next {@link DecodeScheduler scheduled} frame, evaluated before decoding it. */
+    private int evalDecodeSkipPTS() {
+        if( video_scr_reset || 0 == presentedFrameCount ) {
+            return TimeFrameI.INVALID_PTS;
+        }
+        return lateFrameSkip.getSkipPTS(av_scr.get(Clock.currentMillis()), frame_duration);
+    }
+
+    /**
+     * Returns the PTS before which the video frame being decoded by {@link #getNextTextureImpl(GL, TextureFrame, Texture, boolean[])}
+     * is too late for presentation, or {@link TimeFrameI#INVALID_PTS} if no frame shall be skipped.
+     * <p>
+     * Implementations should compare the next video packet's PTS against this value before decoding it
+     * and, if lower, skip the frame as early as possible, i.e. skip decoding non-reference frames
+     * and neither convert nor upload the decoded frame to the texture.
+     * Such frame's PTS shall still be returned and is not presented.
+     * </p>
+     * <p>
+     * Only set while being {@link DecodeScheduler scheduled}, see {@link LateFrameSkip}.
+     * </p>
+     */
+    protected final int getDecodeSkipPTS() { return decodeSkipPTS; }
+
+    /**
+     * Grows or shrinks the video texture ring by one texture if required by {@link AdaptiveTextureCount},
+     * while the {@link StreamWorker} is paused.
+     * <p>
+     * Only free textures are removed, hence the texture count may shrink later.
+     * </p>
+     */
+    private void adaptTextureCount(final GL gl) {
+        final int max = Math.max(TEXTURE_COUNT_MIN + 1, adaptiveTexCountMax);
+        final int count = texCountAdapter.evaluate(textureCount, TEXTURE_COUNT_MIN + 1, max, frame_duration, Clock.currentMillis());
+        if( count == textureCount ) {
+            return;
+        }
+        streamWorker.pause(true);
+        try {
+            final ArrayList<TextureFrame> all = new ArrayList<TextureFrame>(Arrays.asList(videoFramesOrig));
+            final ArrayList<TextureFrame> free = new ArrayList<TextureFrame>(count);
+            final ArrayList<TextureFrame> decoded = new ArrayList<TextureFrame>(count);
+            TextureFrame f;
+            while( null != ( f = videoFramesFree.get() ) ) {
+                free.add(f);
+            }
+            while( null != ( f = videoFramesDecoded.get() ) ) {
+                decoded.add(f);
+            }
+            if( count > textureCount ) {
+                for(final TextureFrame a : createTexFrames(gl, count - textureCount)) {
+                    free.add(a);
+                    all.add(a);
+                }
+            } else if( !free.isEmpty() ) {
+                final TextureFrame r = free.remove(free.size()-1);
+                all.remove(r);
+                destroyTexFrame(gl, r);
+            }
+            final int newCount = all.size();
+            videoFramesOrig = all.toArray(new TextureFrame[newCount]);
+            videoFramesFree = new LFRingbuffer<TextureFrame>(TextureFrame[].class, newCount);
+            videoFramesDecoded = new LFRingbuffer<TextureFrame>(TextureFrame[].class, newCount);
+            for(final TextureFrame a : free) {
+                videoFramesFree.put(a);
+            }
+            for(final TextureFrame a : decoded) {
+                videoFramesDecoded.put(a);
+            }
+            if( DEBUG ) {
+                logout.println("AdaptiveTextureCount: "+textureCount+" -> "+newCount+", "+texCountAdapter);
+            }
+            textureCount = newCount;
+        } finally {
+            streamWorker.resume();
+        }
+    }
     protected void preNextTextureImpl(final GL gl) {}
     protected void postNextTextureImpl(final GL gl) {}
     /**
@@ -1453,6 +1674,9 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
      * <p>
      * Implementation shall care of OpenGL synchronization as required, e.g. glFinish()/glFlush()!
      * </p>
+     * <p>
+     * Implementation should skip late video frames early, see {@link #getDecodeSkipPTS()}.
+     * </p>
      * @param gl valid and current GL instance, shall be <code>null</code> for audio only.
      * @param vFrame next video {@link TextureFrame} to store the video PTS and texture data,
      *                       shall be <code>null</code> for audio only.
@@ -1471,13 +1695,24 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         if( STREAM_ID_NONE != vid ) {
             preNextTextureImpl(gl);
             final boolean[] sTexUsed = { false };
-            final Texture subTex = ( null != subTexFree && STREAM_ID_NONE != sid ) ? subTexFree.get() : null;
+            final SubtitleAtlas atlas = subAtlas;
+            final Texture subTex;
+            if( STREAM_ID_NONE == sid ) {
+                subTex = null;
+            } else if( null != atlas ) {
+                subTex = atlas.getTexture();
+            } else {
+                subTex = null != subTexFree ? subTexFree.get() : null;
+            }
+            final long t0 = System.nanoTime();
             pts = getNextTextureImpl(gl, nextVFrame, subTex, sTexUsed);
+            final long t1 = System.nanoTime();
             postNextTextureImpl(gl);
-            if( null != subTex && !sTexUsed[0] ) {
+            if( null != subTex && null == atlas && !sTexUsed[0] ) {
                 subTexFree.putBlocking(subTex); // return unused
             }
             if( TimeFrameI.INVALID_PTS != pts ) {
+                texCountAdapter.addDecodeDuration( ( t1 - t0 ) / 1e6f );
                 newVideoFrameAvailable(nextVFrame, Clock.currentMillis());
                 gotVFrame[0] = true;
             } else {
@@ -1540,6 +1775,10 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         presentedFrameCount = 0;
         displayedFrameCount = 0;
         decodedFrameCount = 0;
+        droppedFrameCount = 0;
+        repeatedFrameCount = 0;
+        lateFrameSkip.reset();
+        lastDecodedPTS = TimeFrameI.INVALID_PTS;
         video_scr_reset = true;
         audio_scr_reset = true;
     }
@@ -1563,11 +1802,15 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     }
 
     /**
+     * Decodes frames off-thread, either on its own dedicated daemon thread
+     * or {@link DecodeScheduler scheduled} on a shared worker pool.
+     * <p>
      * After {@link GLMediaPlayerImpl#initStreamImpl(int, String, int, String, int) initStreamImpl(..)} is completed via
      * {@link GLMediaPlayerImpl#updateAttributes(int, int, int, int, int, int, int, int, int, float, int, int, int, String, String) updateAttributes(..)},
      * the latter decides whether StreamWorker is being used.
+     * </p>
      */
-    private final class StreamWorker {
+    private final class StreamWorker implements DecodeScheduler.Stream {
         private volatile GLContext sharedGLCtx = null;
         private boolean hasSharedGLCtx = false;
         private GLDrawable dummyDrawable = null;
@@ -1654,17 +1897,53 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
             }
         }
         public final synchronized void pause(final boolean waitUntilDone) {
-            wt.pause(waitUntilDone);;
+            if( null != wt ) {
+                wt.pause(waitUntilDone);
+            } else {
+                synchronized( schedLock ) {
+                    schedPaused = true;
+                    while( waitUntilDone && schedBusy ) {
+                        try {
+                            schedLock.wait();
+                        } catch (final InterruptedException ie) {
+                            break;
+                        }
+                    }
+                }
+            }
         }
         public final synchronized void resume() {
-            wt.resume();
+            if( null != wt ) {
+                wt.resume();
+            } else {
+                synchronized( schedLock ) {
+                    if( null == schedError ) {
+                        schedPaused = false;
+                    }
+                }
+                scheduler.signal();
+            }
         }
         private final synchronized void stop(final boolean waitUntilDone) {
-            wt.stop(waitUntilDone);
+            if( null != wt ) {
+                wt.stop(waitUntilDone);
+            } else {
+                pause(true);
+                scheduler.unregister(this);
+                destroySharedGL();
+            }
         }
 
         private final synchronized StreamException getStreamException() {
-            final Exception e = wt.getError(true);
+            final Exception e;
+            if( null != wt ) {
+                e = wt.getError(true);
+            } else {
+                synchronized( schedLock ) {
+                    e = schedError;
+                    schedError = null;
+                }
+            }
             if( null != e ) {
                 return new StreamException(e);
             }
@@ -1700,24 +1979,47 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                     break;
             }
         };
-        private final WorkerThread.Callback action = (final WorkerThread self) -> {
+        /**
+         * Decodes the next frame.
+         * @param self the dedicated {@link WorkerThread} or {@code null} if {@link DecodeScheduler scheduled},
+         *        in which case this method does not block.
+         */
+        private void decodeNext(final WorkerThread self) throws InterruptedException {
             final GL gl;
             TextureFrame vidFrame = null;
             final boolean[] subTexUsed = { false };
+            final SubtitleAtlas atlas = subAtlas;
             Texture subTex = null;
             try {
                 if( STREAM_ID_NONE != vid ) {
-                    vidFrame = videoFramesFree.getBlocking();
+                    vidFrame = null != self ? videoFramesFree.getBlocking() : videoFramesFree.get();
+                    if( null == vidFrame ) {
+                        return; // scheduled: not ready
+                    }
                     vidFrame.setPTS( TimeFrameI.INVALID_PTS ); // mark invalid until processed!
                     gl = sharedGLCtx.getGL();
                 } else {
                     gl = null;
                 }
-                if( null != gl && STREAM_ID_NONE != sid && null != subTexFree ) {
-                    subTex = subTexFree.getBlocking();
+                if( null != gl && STREAM_ID_NONE != sid ) {
+                    if( null != atlas ) {
+                        subTex = atlas.getTexture(); // shared, regions allocated via allocSubtitleRect(..)
+                    } else if( null != subTexFree ) {
+                        subTex = null != self ? subTexFree.getBlocking() : subTexFree.get();
+                    }
                 }
-                final int vPTS = getNextTextureImpl(gl, vidFrame, subTex, subTexUsed);
-                if( null != subTex ) {
+                // scheduled: evaluate deadline before decoding, allowing the implementation to skip a late frame early
+                final int skipPTS = null == self && null != vidFrame ? evalDecodeSkipPTS() : TimeFrameI.INVALID_PTS;
+                final long t0 = System.nanoTime();
+                final int vPTS;
+                decodeSkipPTS = skipPTS;
+                try {
+                    vPTS = getNextTextureImpl(gl, vidFrame, subTex, subTexUsed);
+                } finally {
+                    decodeSkipPTS = TimeFrameI.INVALID_PTS;
+                }
+                final long t1 = System.nanoTime();
+                if( null != subTex && null == atlas ) {
                     if( !subTexUsed[0] ) {
                         subTexFree.putBlocking(subTex);// return unused
                     } else if( subDEBUG ) {
@@ -1730,11 +2032,17 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                         if( STREAM_WORKER_DELAY > 0 ) {
                             java.lang.Thread.sleep(STREAM_WORKER_DELAY);
                         }
-                        if( !videoFramesDecoded.put(vidFrame) ) {
-                            throw new InternalError("XXX: free "+videoFramesFree+", decoded "+videoFramesDecoded+", "+GLMediaPlayerImpl.this);
+                        lastDecodedPTS = vPTS;
+                        if( lateFrameSkip.isSkipped(skipPTS, vPTS) ) {
+                            // scheduled: skip frame too late for presentation, put back in finally
+                        } else {
+                            texCountAdapter.addDecodeDuration( ( t1 - t0 ) / 1e6f );
+                            if( !videoFramesDecoded.put(vidFrame) ) {
+                                throw new InternalError("XXX: free "+videoFramesFree+", decoded "+videoFramesDecoded+", "+GLMediaPlayerImpl.this);
+                            }
+                            newVideoFrameAvailable(vidFrame, Clock.currentMillis());
+                            vidFrame = null;
                         }
-                        newVideoFrameAvailable(vidFrame, Clock.currentMillis());
-                        vidFrame = null;
                     } else {
                         // audio only
                         if( TimeFrameI.END_OF_STREAM_PTS == vPTS || ( duration > 0 && duration < vPTS ) ) {
@@ -1752,7 +2060,9 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 }
                 if( audioEOS ) {
                     // state transition incl. notification
-                    self.pause(false);
+                    if( null != self ) {
+                        self.pause(false);
+                    }
                     if( DEBUG || DEBUG_AVSYNC ) {
                         logout.println( "AV-EOS (StreamWorker): EOS_PTS "+(TimeFrameI.END_OF_STREAM_PTS == vPTS)+", "+GLMediaPlayerImpl.this);
                     }
@@ -1763,17 +2073,88 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                     videoFramesFree.putBlocking(vidFrame);
                 }
             }
+        }
+        private final WorkerThread.Callback action = (final WorkerThread self) -> {
+            decodeNext(self);
         };
-        final WorkerThread wt =new WorkerThread(null, null, true /* daemonThread */, action, stateCB);
+
+        @Override
+        public final boolean isReady() {
+            final Ringbuffer<TextureFrame> free = videoFramesFree;
+            final Ringbuffer<Texture> subFree = subTexFree;
+            return !schedPaused && hasSharedGLCtx && null != free && !free.isEmpty() &&
+                   ( STREAM_ID_NONE == sid || null == subFree || !subFree.isEmpty() );
+        }
+
+        @Override
+        public final int getDeadline(final long currentMillis) {
+            final int last = lastDecodedPTS;
+            if( TimeFrameI.INVALID_PTS == last || video_scr_reset ) {
+                return Integer.MIN_VALUE; // nothing to present yet
+            }
+            final float speed = Math.max(0.1f, playSpeed);
+            return (int) ( ( last + frame_duration - av_scr.get(currentMillis) ) / speed );
+        }
+
+        @Override
+        public final void decode() {
+            synchronized( schedLock ) {
+                if( schedPaused ) {
+                    return;
+                }
+                schedBusy = true;
+            }
+            try {
+                makeCurrent(sharedGLCtx);
+                try {
+                    final GL gl = sharedGLCtx.getGL();
+                    preNextTextureImpl(gl);
+                    decodeNext(null);
+                    postNextTextureImpl(gl);
+                } finally {
+                    sharedGLCtx.release();
+                }
+            } catch (final Exception e) {
+                synchronized( schedLock ) {
+                    schedError = e;
+                    schedPaused = true;
+                }
+            } finally {
+                synchronized( schedLock ) {
+                    schedBusy = false;
+                    schedLock.notifyAll();
+                }
+            }
+        }
+
+        private final DecodeScheduler scheduler;
+        private final WorkerThread wt;
+        private final Object schedLock = new Object();
+        private volatile boolean schedPaused = true;
+        private boolean schedBusy = false;
+        private Exception schedError = null;
 
         /**
-         * Starts this daemon thread,
+         * Starts this daemon thread or registers with the given {@link DecodeScheduler},
          * <p>
-         * This thread pauses after it's started!
+         * This worker pauses after it's started!
          * </p>
+         * @param scheduler the shared {@link DecodeScheduler} or {@code null} for a dedicated thread
          **/
-        StreamWorker() {
-            wt.start( true );
+        StreamWorker(final DecodeScheduler scheduler) {
+            this.scheduler = scheduler;
+            if( null == scheduler ) {
+                wt = new WorkerThread(null, null, true /* daemonThread */, action, stateCB);
+                wt.start( true );
+            } else {
+                wt = null;
+                scheduler.register(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "StreamWorker["+GLMediaPlayerImpl.this.getClass().getSimpleName()+", "+getUri()+"]";
         }
     }
     private volatile StreamWorker streamWorker = null;
@@ -1812,6 +2193,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 // return unused
                 try {
                     subTexFree.putBlocking(subTex);
+                    signalDecodeScheduler();
                     if( subDEBUG ) {
                         System.err.println("GLMediaPlayer: Released SubTex: sid "+sid+", free "+subTexFree+", subTex "+subTex);
                     }
@@ -1822,10 +2204,53 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         }
 
     };
+    /**
+     * Allocates the atlas region for the next bitmap subtitle of given size,
+     * called by the native implementation before uploading the bitmap via {@link #pushSubtitleTex(Object, int, int, int, int, int, int, int, int, int)}.
+     * @return the region's position packed as {@code x << 32 | y}, {@code -1} if the atlas is disabled or {@code -2} if the atlas is exhausted
+     */
+    protected final long allocSubtitleRect(final int width, final int height) {
+        final SubtitleAtlas atlas = subAtlas;
+        if( null != atlas && null != subAtlasPending ) {
+            atlas.release(subAtlasPending); // not pushed
+        }
+        subAtlasPending = null;
+        if( null == atlas ) {
+            return -1;
+        }
+        final Rect r = atlas.alloc(width, height);
+        if( null == r ) {
+            if( subDEBUG || DEBUG ) {
+                logout.println("GLMediaPlayer: Subtitle atlas exhausted, dropping "+width+"x"+height+": "+atlas);
+            }
+            return -2;
+        }
+        subAtlasPending = r;
+        return ( (long)r.x() << 32 ) | ( r.y() & 0xffffffffL );
+    }
     protected final void pushSubtitleTex(final Object texObj, final int texID, final int texWidth, final int texHeight,
                                          final int x, final int y, final int width, final int height,
                                          final int start_display_pts, final int end_display_pts)
     {
+        final SubtitleAtlas atlas = subAtlas;
+        final Rect region = subAtlasPending;
+        subAtlasPending = null;
+        if( null != atlas && null != region ) {
+            final TextureCoords tc = atlas.getTexCoords(region);
+            final SubBitmapEvent.TextureOwner owner = (final Texture t) -> {
+                atlas.release(region);
+                if( subDEBUG ) {
+                    System.err.println("GLMediaPlayer: Released SubAtlas region: sid "+sid+", "+region+", "+atlas);
+                }
+            };
+            if( null != subEventListener ) {
+                subEventListener.run( new SubBitmapEvent(this.scodecID, getLang(getSID()), new Vec2i(x, y), new Vec2i(width, height),
+                                                         atlas.getTexture(), tc, start_display_pts, end_display_pts, owner) );
+            } else {
+                atlas.release(region); // release right away
+            }
+            return;
+        }
         final Texture subTex = (Texture)texObj;
         if( null != subTex ) {
             subTex.set(texWidth, texHeight, width, height);
@@ -2221,9 +2646,9 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         final int decVideoFrames = null != videoFramesDecoded ? videoFramesDecoded.size() : 0;
         final int video_scr_ms = av_scr.getCurrent();
         final String camPath = null != cameraPath ? ", camera: "+cameraPath : "";
-        return getClass().getSimpleName()+"["+state+", vSCR "+video_scr_ms+", "+getChapters().length+" chapters, duration "+tt+", frames[p "+presentedFrameCount+", d "+decodedFrameCount+", t "+videoFrames+", z "+nullFrameCount+" / "+maxNullFrameCountUntilEOS+"], "+
+        return getClass().getSimpleName()+"["+state+", vSCR "+video_scr_ms+", "+getChapters().length+" chapters, duration "+tt+", frames[p "+presentedFrameCount+", d "+decodedFrameCount+", dr "+droppedFrameCount+", r "+repeatedFrameCount+", t "+videoFrames+", z "+nullFrameCount+" / "+maxNullFrameCountUntilEOS+"], "+
                "speed "+playSpeed+", "+bps_stream+" bps, hasSW "+(null!=streamWorker)+
-               ", Texture[count "+textureCount+", free "+freeVideoFrames+", dec "+decVideoFrames+", tagt "+toHexString(textureTarget)+", ifmt "+toHexString(textureInternalFormat)+", fmt "+toHexString(textureFormat)+", type "+toHexString(textureType)+"], "+
+               ", Texture[count "+textureCount+"/"+adaptiveTexCountMax+", free "+freeVideoFrames+", dec "+decVideoFrames+", tagt "+toHexString(textureTarget)+", ifmt "+toHexString(textureInternalFormat)+", fmt "+toHexString(textureFormat)+", type "+toHexString(textureType)+"], "+
                "Video[id "+vid+"/"+Arrays.toString(v_streams)+"/"+Arrays.toString(v_langs)+", "+vcodecID+"/'"+vcodec+"', "+width+"x"+height+", glOrient "+isInGLOrientation+", "+fps+" fps, "+frame_duration+" fdur, "+bps_video+" bps], "+
                "Audio[id "+aid+"/"+Arrays.toString(a_streams)+"/"+Arrays.toString(a_langs)+", "+acodecID+"/'"+acodec+"', "+bps_audio+" bps, "+audioFrames+" frames], "+
                "Subs[id "+sid+"/"+Arrays.toString(s_streams)+"/"+Arrays.toString(s_langs)+", "+scodecID+"/'"+scodec+"'], uri "+loc+camPath+"]";
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.av;
+
+import com.jogamp.common.av.TimeFrameI;
+
+/**
+ * Late frame skipping of the {@link GLMediaPlayerImpl} <i>StreamWorker</i> if scheduled by a {@link com.jogamp.opengl.util.av.DecodeScheduler}.
+ * <p>
+ * The decoding thread determines the {@link #getSkipPTS(int, float) skip PTS} <i>before</i> decoding the next frame,
+ * i.e. frames w/ a lower PTS are too late for presentation.
+ * This allows the decoder implementation to drop such frames early, i.e. to neither convert nor upload them
+ * and to skip decoding non-reference frames altogether.
+ * Regardless, a decoded frame w/ a PTS lower than the skip PTS is {@link #isSkipped(int, int) skipped},
+ * i.e. not queued for presentation.
+ * </p>
+ * <p>
+ * At most {@link #MAX_SKIP_RUN} consecutive frames are skipped to keep presenting frames while decoding is too slow.
+ * </p>
+ */
+public final class LateFrameSkip {
+    /** Maximum number of consecutive skipped frames, value {@value}. */
+    public static final int MAX_SKIP_RUN = 4;
+
+    private final int maxAsyncMS;
+    /** Skipped frames, only written-to by the decoding thread or while it is paused. */
+    private volatile int skippedCount = 0;
+    /** Consecutive skipped frames, limited by {@link #MAX_SKIP_RUN}. */
+    private int skipRun = 0;
+
+    /**
+     * @param maxAsyncMS minimum lateness in milliseconds for a frame to be skipped,
+     *                   see {@link com.jogamp.opengl.util.av.GLMediaPlayer#MAX_VIDEO_ASYNC}
+     */
+    public LateFrameSkip(final int maxAsyncMS) {
+        this.maxAsyncMS = maxAsyncMS;
+    }
+
+    /**
+     * Returns the PTS before which the next frame is too late for presentation,
+     * i.e. being later than the maximum of {@code maxAsyncMS} and two frame durations,
+     * or {@link TimeFrameI#INVALID_PTS} if no frame shall be skipped.
+     * <p>
+     * {@link TimeFrameI#INVALID_PTS} is returned after {@link #MAX_SKIP_RUN} consecutive skipped frames.
+     * </p>
+     * @param scrPTS the current presentation time in milliseconds, i.e. the AV system clock reference
+     * @param frameDuration the frame duration in milliseconds
+     */
+    public int getSkipPTS(final int scrPTS, final float frameDuration) {
+        if( MAX_SKIP_RUN <= skipRun ) {
+            return TimeFrameI.INVALID_PTS;
+        }
+        return scrPTS - Math.max(maxAsyncMS, 2 * (int)frameDuration);
+    }
+
+    /**
+     * Returns {@code true} and counts the frame as skipped if the given decoded frame PTS is lower than the given {@code skipPTS},
+     * otherwise resets the consecutive skipped frame run.
+     * @param skipPTS the skip PTS determined before decoding via {@link #getSkipPTS(int, float)}, maybe {@link TimeFrameI#INVALID_PTS}
+     * @param vPTS the decoded frame PTS, {@link TimeFrameI#END_OF_STREAM_PTS} is never skipped
+     */
+    public boolean isSkipped(final int skipPTS, final int vPTS) {
+        if( TimeFrameI.INVALID_PTS != skipPTS && TimeFrameI.INVALID_PTS != vPTS &&
+            TimeFrameI.END_OF_STREAM_PTS != vPTS && vPTS < skipPTS )
+        {
+            skippedCount++;
+            skipRun++;
+            return true;
+        }
+        skipRun = 0;
+        return false;
+    }
+
+    /** Returns the number of skipped frames. */
+    public int getSkippedCount() { return skippedCount; }
+
+    /** Resets all counters. */
+    public void reset() {
+        skippedCount = 0;
+        skipRun = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LateFrameSkip[skipped "+skippedCount+", run "+skipRun+"/"+MAX_SKIP_RUN+", maxAsync "+maxAsyncMS+" ms]";
+    }
+}
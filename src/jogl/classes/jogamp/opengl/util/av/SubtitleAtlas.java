@@ -0,0 +1,137 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.av;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import com.jogamp.opengl.util.packrect.MaxRectsPacker;
+import com.jogamp.opengl.util.packrect.Rect;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureCoords;
+
+/**
+ * Shared bitmap subtitle atlas {@link Texture} of the {@link GLMediaPlayerImpl}.
+ * <p>
+ * Each bitmap subtitle is uploaded into its own region of the atlas via {@code glTexSubImage2D},
+ * instead of reallocating a dedicated texture per subtitle event.
+ * Regions are placed via a {@link MaxRectsPacker} and returned to the free list once the event has been released.
+ * Regions never move while allocated, hence a region's {@link TextureCoords} stay valid until its {@link #release(Rect)}.
+ * </p>
+ * <p>
+ * Each region is trailed by {@link #PADDING} texel to the right and bottom,
+ * avoiding linear filtering to sample neighboring regions.
+ * </p>
+ * <p>
+ * Regions are allocated by the decoding thread and released by the rendering thread, hence all methods are synchronized.
+ * </p>
+ */
+public final class SubtitleAtlas {
+    /** Texel gap trailing each region, {@value}. */
+    public static final int PADDING = 1;
+
+    private final Texture texture;
+    private final MaxRectsPacker packer;
+    private final Set<Rect> live = Collections.newSetFromMap(new IdentityHashMap<Rect, Boolean>());
+    private int allocCount = 0;
+    private int failCount = 0;
+
+    /**
+     * @param texture the atlas {@link Texture}, may be {@code null} if only used for bookkeeping
+     * @param width atlas width in texel
+     * @param height atlas height in texel
+     */
+    public SubtitleAtlas(final Texture texture, final int width, final int height) {
+        this.texture = texture;
+        this.packer = new MaxRectsPacker(width, height);
+    }
+
+    /** Returns the atlas {@link Texture}, may be {@code null}. */
+    public Texture getTexture() { return texture; }
+    public int getWidth() { return packer.w(); }
+    public int getHeight() { return packer.h(); }
+
+    /**
+     * Allocates a region of the given bitmap size.
+     * @return the region incl. its {@link #PADDING}, or {@code null} if the atlas is exhausted
+     */
+    public synchronized Rect alloc(final int width, final int height) {
+        final Rect r = new Rect(0, 0, width + PADDING, height + PADDING, null);
+        if( !packer.add(r) ) {
+            ++failCount;
+            return null;
+        }
+        live.add(r);
+        ++allocCount;
+        return r;
+    }
+
+    /** Returns the given region to the free list, ignored if already released. */
+    public synchronized void release(final Rect r) {
+        if( null != r && live.remove(r) ) {
+            packer.remove(r);
+        }
+    }
+
+    /**
+     * Returns the {@link TextureCoords} of the bitmap within the given region.
+     * <p>
+     * The bitmap's top row is stored at the region's top row {@link Rect#y()},
+     * i.e. the coordinates are vertically flipped like an image uploaded in its native top-down order.
+     * </p>
+     */
+    public TextureCoords getTexCoords(final Rect r) {
+        final float w = packer.w(), h = packer.h();
+        return new TextureCoords( r.x() / w,                          // l
+                                  ( r.y() + r.h() - PADDING ) / h,    // b
+                                  ( r.x() + r.w() - PADDING ) / w,    // r
+                                  r.y() / h );                        // t
+    }
+
+    /** Releases all regions. */
+    public synchronized void clear() {
+        packer.clear();
+        live.clear();
+    }
+
+    /** Returns the number of currently allocated regions. */
+    public synchronized int getLiveCount() { return live.size(); }
+    /** Returns the number of successful allocations. */
+    public synchronized int getAllocCount() { return allocCount; }
+    /** Returns the number of failed allocations, i.e. subtitle bitmaps dropped due to an exhausted atlas. */
+    public synchronized int getFailCount() { return failCount; }
+    /** Returns the ratio of allocated to total atlas area. */
+    public synchronized float getOccupancy() { return packer.getOccupancy(); }
+
+    @Override
+    public synchronized String toString() {
+        return "SubtitleAtlas["+packer.w()+"x"+packer.h()+", live "+live.size()+", allocs "+allocCount+", fails "+failCount+
+               ", occupancy "+packer.getOccupancy()+", "+texture+"]";
+    }
+}
@@ -998,6 +998,7 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
         }
         int vPTS = TimeFrameI.INVALID_PTS;
         int vTexID = 0; // invalid
+        final int vSkipPTS = getDecodeSkipPTS(); // late frames are neither converted nor uploaded
         if( null != gl ) {
             // glEnable() and glBindTexture() are performed in native readNextPacket0()
             // final Texture tex = nextFrame.getTexture();
@@ -1024,7 +1025,7 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
                     sTexHeight = sTex.getHeight();
                 }
             }
-            vPTS = natives.readNextPacket0(moviePtr, getTextureTarget(), vTexID, getTextureFormat(), getTextureType(),
+            vPTS = natives.readNextPacket0(moviePtr, getTextureTarget(), vTexID, getTextureFormat(), getTextureType(), vSkipPTS,
                     GL.GL_TEXTURE_2D, sTexID, sTexWidth, sTexHeight, sTex, sTexUsed);
         }
         if( null != vFrame ) {
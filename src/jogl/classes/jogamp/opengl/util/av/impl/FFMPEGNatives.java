@@ -90,15 +90,20 @@ import jogamp.opengl.util.av.GLMediaPlayerImpl;
      * @param vTexID video texture ID/name
      * @param vTexFmt video texture format
      * @param vTexType video texture data type
+     * @param vSkipPTS video frames w/ a lower PTS are too late and skipped, i.e. neither converted nor uploaded,
+     *        while decoding non-reference frames of such packets is skipped as well.
+     *        Their PTS is still returned. Pass {@link TextureFrame#INVALID_PTS} to skip no frame, see {@link GLMediaPlayerImpl#getDecodeSkipPTS()}.
      * @param sTexTarget subtitle texture target
      * @param sTexID subtitle texture ID/name
      * @param sTexWidthPre current texture size, may be increased and notified via {@link GLMediaPlayerImpl#pushSubtitleTex(Object, int, int, int, int, int, int, int, int, int)}
      * @param sTexHeightPre current texture size, may be increased and notified via {@link GLMediaPlayerImpl#pushSubtitleTex(Object, int, int, int, int, int, int, int, int, int)}
+     *        If {@link GLMediaPlayerImpl#allocSubtitleRect(int, int)} returns a region of the shared subtitle atlas,
+     *        the texture of size {@code sTexWidthPre} x {@code sTexHeightPre} is kept and the bitmap uploaded into the region only.
      * @param sTexObj subtitle texture Object to be passed to caller
      * @param sTexUsed result value, if {@code sTexObj} is being used {@code true} must be written into it
      * @return resulting current video PTS, or {@link TextureFrame#INVALID_PTS}
      */
-    abstract int readNextPacket0(long moviePtr, int vTexTarget, int vTexID, int vTexFmt, int vTexType, int sTexTarget, int sTexID, int sTexWidthPre, int sTexHeightPre, Object sTexObj, boolean[] sTexUsed);
+    abstract int readNextPacket0(long moviePtr, int vTexTarget, int vTexID, int vTexFmt, int vTexType, int vSkipPTS, int sTexTarget, int sTexID, int sTexWidthPre, int sTexHeightPre, Object sTexObj, boolean[] sTexUsed);
 
     abstract int play0(long moviePtr);
     abstract int pause0(long moviePtr);
@@ -68,7 +68,7 @@ class FFMPEGv0600Natives extends FFMPEGNatives {
     native int getAudioPTS0(long moviePtr);
 
     @Override
-    native int readNextPacket0(long moviePtr, int vTexTarget, int vTexID, int vTexFmt, int vTexType, int sTexTarget, int sTexID, int sTexWidthPre, int sTexHeightPre, Object sTexObj, boolean[] sTexUsed);
+    native int readNextPacket0(long moviePtr, int vTexTarget, int vTexID, int vTexFmt, int vTexType, int vSkipPTS, int sTexTarget, int sTexID, int sTexWidthPre, int sTexHeightPre, Object sTexObj, boolean[] sTexUsed);
 
     @Override
     native int play0(long moviePtr);
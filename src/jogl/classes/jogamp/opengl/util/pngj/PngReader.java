@@ -43,6 +43,12 @@ import jogamp.opengl.util.pngj.chunks.PngMetadata;
  */
 public class PngReader {
 
+	/**
+	 * Input buffer size of the IDAT inflater, larger than the default 512
+	 * bytes to reduce the number of reads through the IDAT chunk stream.
+	 */
+	private static final int INFLATER_BUFFER_SIZE = 32768;
+
 	/**
 	 * Basic image info - final and inmutable.
 	 */
@@ -309,7 +315,7 @@ public class PngReader {
 		} else {
 		inflater.reset();
 		}
-		idatIstream = new InflaterInputStream(iIdatCstream, inflater);
+		idatIstream = new InflaterInputStream(iIdatCstream, inflater, INFLATER_BUFFER_SIZE);
 		if (!crcEnabled)
 			iIdatCstream.disableCrcCheck();
 	}
@@ -591,6 +597,32 @@ public class PngReader {
 		return buffer;
 	}
 
+	/**
+	 * Reads a line and returns the internal buffer holding its raw unfiltered
+	 * bytes, without any conversion or copy.
+	 * <p>
+	 * The row data starts at offset 1 (offset 0 holds the filter type) and is
+	 * {@link ImageInfo#bytesPerRow} long, i.e. packed for bitdepth &lt; 8 and
+	 * big endian for bitdepth 16.
+	 * <p>
+	 * The returned buffer is owned by this reader and only valid until the
+	 * next row is read. Not available for interlaced images.
+	 *
+	 * @param nrow
+	 *            Row number (0 is top). Most be strictly greater than the last
+	 *            read row.
+	 * @return the internal raw row buffer
+	 */
+	public final byte[] readRowRawBytes(final int nrow) {
+		if (interlaced)
+			throw new PngjInputException("readRowRawBytes not supported for interlaced images");
+		if (nrow <= rowNum)
+			throw new PngjInputException("rows must be read in increasing order: " + nrow);
+		while (rowNum < nrow)
+			readRowRaw(rowNum + 1); // read rows, perhaps skipping if necessary
+		return rowb;
+	}
+
 	/**
 	 * @param nrow
 	 * @deprecated Now {@link #readRow(int)} implements the same funcion. This
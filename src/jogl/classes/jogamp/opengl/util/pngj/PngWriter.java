@@ -2,11 +2,19 @@ package jogamp.opengl.util.pngj;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 
+import jogamp.opengl.util.WorkerThreadPool;
 import jogamp.opengl.util.pngj.ImageLine.SampleType;
 import jogamp.opengl.util.pngj.chunks.ChunkCopyBehaviour;
 import jogamp.opengl.util.pngj.chunks.ChunkHelper;
@@ -78,6 +86,21 @@ public class PngWriter {
 	// this only influences the 1-2-4 bitdepth format - and if we pass a ImageLine to writeRow, this is ignored
 	private boolean unpackedMode = false;
 
+	// true if IDAT has been written via writeRowsParallel(..)
+	private boolean writtenParallel = false;
+
+	/**
+	 * Thread-safe source of image rows for {@link PngWriter#writeRowsParallel(RowProvider, int, int)}.
+	 */
+	public static interface RowProvider {
+		/**
+		 * Fills the given line with row <code>rown</code>.
+		 * <p>
+		 * Called concurrently from multiple threads, each passing its own {@link ImageLine} instance.
+		 */
+		void fillRow(int rown, ImageLine line);
+	}
+
 	public PngWriter(final OutputStream outputStream, final ImageInfo imgInfo) {
 		this(outputStream, imgInfo, "[NO FILENAME AVAILABLE]");
 	}
@@ -111,14 +134,17 @@ public class PngWriter {
 
 	private void init() {
 		datStream = new PngIDatChunkOutputStream(this.os, idatMaxSize);
-		final Deflater def = new Deflater(compLevel);
-		def.setStrategy(deflaterStrategy);
-		datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		if (!writtenParallel) {
+			final Deflater def = new Deflater(compLevel);
+			def.setStrategy(deflaterStrategy);
+			datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		}
 		writeSignatureAndIHDR();
 		writeFirstChunks();
 	}
 
-	private void reportResultsForFilter(final int rown, final FilterType type, final boolean tentative) {
+	private static void reportResultsForFilter(final ImageInfo imgInfo, final FilterWriteStrategy filterStrat,
+			final byte[] rowbfilter, final int[] histox, final int rown, final FilterType type, final boolean tentative) {
 		Arrays.fill(histox, 0);
 		int s = 0, v;
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
@@ -222,6 +248,10 @@ public class PngWriter {
 	}
 
 	protected void encodeRowFromInt(final int[] row) {
+		encodeRowFromInt(imgInfo, row, rowb, unpackedMode);
+	}
+
+	static void encodeRowFromInt(final ImageInfo imgInfo, final int[] row, final byte[] rowb, final boolean unpackedMode) {
 		// http://www.libpng.org/pub/png/spec/1.2/PNG-DataRep.html
 		if (row.length == imgInfo.samplesPerRowPacked) {
 			// some duplication of code - because this case is typical and it works faster this way
@@ -254,42 +284,50 @@ public class PngWriter {
 	}
 
 	private void filterRow(final int rown) {
-		// warning: filters operation rely on: "previos row" (rowbprev) is
-		// initialized to 0 the first time
+		filterRow(imgInfo, filterStrat, rown, rowb, rowbprev, rowbfilter, histox);
+	}
+
+	/**
+	 * Filters row <code>rown</code> of <code>rowb</code> into <code>rowbfilter</code>, using the given strategy.
+	 * <p>
+	 * Warning: filters operation rely on: "previos row" (rowbprev) is initialized to 0 the first time
+	 */
+	static void filterRow(final ImageInfo imgInfo, final FilterWriteStrategy filterStrat, final int rown,
+			final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter, final int[] histox) {
 		if (filterStrat.shouldTestAll(rown)) {
-			filterRowNone();
-			reportResultsForFilter(rown, FilterType.FILTER_NONE, true);
-			filterRowSub();
-			reportResultsForFilter(rown, FilterType.FILTER_SUB, true);
-			filterRowUp();
-			reportResultsForFilter(rown, FilterType.FILTER_UP, true);
-			filterRowAverage();
-			reportResultsForFilter(rown, FilterType.FILTER_AVERAGE, true);
-			filterRowPaeth();
-			reportResultsForFilter(rown, FilterType.FILTER_PAETH, true);
+			filterRowNone(imgInfo, rowb, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, FilterType.FILTER_NONE, true);
+			filterRowSub(imgInfo, rowb, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, FilterType.FILTER_SUB, true);
+			filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, FilterType.FILTER_UP, true);
+			filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, FilterType.FILTER_AVERAGE, true);
+			filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
+			reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, FilterType.FILTER_PAETH, true);
 		}
 		final FilterType filterType = filterStrat.gimmeFilterType(rown, true);
 		rowbfilter[0] = (byte) filterType.val;
 		switch (filterType) {
 		case FILTER_NONE:
-			filterRowNone();
+			filterRowNone(imgInfo, rowb, rowbfilter);
 			break;
 		case FILTER_SUB:
-			filterRowSub();
+			filterRowSub(imgInfo, rowb, rowbfilter);
 			break;
 		case FILTER_UP:
-			filterRowUp();
+			filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		case FILTER_AVERAGE:
-			filterRowAverage();
+			filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		case FILTER_PAETH:
-			filterRowPaeth();
+			filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
 			break;
 		default:
 			throw new PngjUnsupportedException("Filter type " + filterType + " not implemented");
 		}
-		reportResultsForFilter(rown, filterType, false);
+		reportResultsForFilter(imgInfo, filterStrat, rowbfilter, histox, rown, filterType, false);
 	}
 
 	private void prepareEncodeRow(final int rown) {
@@ -314,6 +352,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowAverage() {
+		filterRowAverage(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	static void filterRowAverage(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		int i, j, imax;
 		imax = imgInfo.bytesPerRow;
 		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
@@ -322,12 +364,20 @@ public class PngWriter {
 	}
 
 	protected void filterRowNone() {
+		filterRowNone(imgInfo, rowb, rowbfilter);
+	}
+
+	static void filterRowNone(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbfilter) {
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
 			rowbfilter[i] = rowb[i];
 		}
 	}
 
 	protected void filterRowPaeth() {
+		filterRowPaeth(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	static void filterRowPaeth(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		int i, j, imax;
 		imax = imgInfo.bytesPerRow;
 		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
@@ -339,6 +389,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowSub() {
+		filterRowSub(imgInfo, rowb, rowbfilter);
+	}
+
+	static void filterRowSub(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbfilter) {
 		int i, j;
 		for (i = 1; i <= imgInfo.bytesPixel; i++)
 			rowbfilter[i] = rowb[i];
@@ -349,6 +403,10 @@ public class PngWriter {
 	}
 
 	protected void filterRowUp() {
+		filterRowUp(imgInfo, rowb, rowbprev, rowbfilter);
+	}
+
+	static void filterRowUp(final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter) {
 		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
 			// rowbfilter[i] = (byte) (rowb[i] - rowbprev[i]); !!!
 			rowbfilter[i] = (byte) PngHelperInternal.filterRowUp(rowb[i], rowbprev[i]);
@@ -474,7 +532,8 @@ public class PngWriter {
 		if (rowNum != imgInfo.rows - 1)
 			throw new PngjOutputException("all rows have not been written");
 		try {
-			datStreamDeflated.finish();
+			if (!writtenParallel)
+				datStreamDeflated.finish();
 			datStream.flush();
 			writeLastChunks();
 			writeEndChunk();
@@ -651,6 +710,201 @@ public class PngWriter {
 		filterAndSend(rown);
 	}
 
+	/**
+	 * Writes all the pixels, filtering and compressing the image in parallel.
+	 * <p>
+	 * The image is split in chunks of <code>rowsPerChunk</code> rows, each
+	 * filtered with its own strategy and compressed by its own raw
+	 * {@link Deflater}, terminated by a {@link Deflater#SYNC_FLUSH} boundary
+	 * (the last one is finished). The compressed pieces are concatenated in
+	 * order within a single zlib stream, its Adler32 checksum is combined from
+	 * the chunks' checksums. The IDAT CRCs are computed as usual while
+	 * writing.
+	 * <p>
+	 * Rows are requested from the given {@link RowProvider}, which must be
+	 * thread-safe. Only for bitdepth 8 and 16, not indexed.
+	 * <p>
+	 * Chunks are compressed by a thread pool shared by all writers, while at
+	 * most <code>threadCount</code> chunks of this image are in flight at once.
+	 * <p>
+	 * This must be called instead of writing single rows, i.e. before any row
+	 * has been written. Call {@link #end()} afterwards.
+	 *
+	 * @param provider
+	 *            thread-safe row source
+	 * @param threadCount
+	 *            maximum number of chunks compressed concurrently, if &lt;= 0
+	 *            the number of available processors is used
+	 * @param rowsPerChunk
+	 *            rows per compressed chunk, if &lt;= 0 a default is computed
+	 */
+	public void writeRowsParallel(final RowProvider provider, final int threadCount, final int rowsPerChunk) {
+		if (rowNum != -1 || datStream != null)
+			throw new PngjOutputException("writeRowsParallel must be called before any row has been written");
+		if (imgInfo.bitDepth < 8 || imgInfo.indexed)
+			throw new PngjOutputException("writeRowsParallel only supports non indexed images w/ bitdepth 8 or 16");
+		final int nThreads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+		final int chunkRows;
+		if (rowsPerChunk > 0) {
+			chunkRows = rowsPerChunk;
+		} else {
+			// at least 128k raw bytes per chunk, about 4 chunks per thread
+			final int minRows = Math.max(1, (128 * 1024) / (imgInfo.bytesPerRow + 1));
+			chunkRows = Math.max(minRows, (imgInfo.rows + nThreads * 4 - 1) / (nThreads * 4));
+		}
+		writtenParallel = true;
+		init();
+		final int chunkCount = (imgInfo.rows + chunkRows - 1) / chunkRows;
+		final ExecutorService executor = WorkerThreadPool.getShared();
+		final List<Future<DeflatedChunk>> results = new ArrayList<Future<DeflatedChunk>>(chunkCount);
+		try {
+			// sliding window of at most nThreads pending chunks, consumed in order
+			int submitted = 0;
+			while (submitted < chunkCount && submitted < nThreads) {
+				results.add(submitDeflateChunk(executor, provider, submitted++, chunkRows));
+			}
+			// zlib header, see RFC 1950
+			final int flevel = compLevel < 2 ? 0 : (compLevel < 6 ? 1 : (compLevel == 6 ? 2 : 3));
+			final int cmf = 0x78; // deflate w/ 32k window
+			int flg = flevel << 6;
+			flg += 31 - ((cmf << 8) + flg) % 31;
+			datStream.write(cmf);
+			datStream.write(flg);
+			long adler = 1;
+			for (int i = 0; i < chunkCount; i++) {
+				final DeflatedChunk c = results.get(i).get();
+				results.set(i, null);
+				if (submitted < chunkCount) {
+					results.add(submitDeflateChunk(executor, provider, submitted++, chunkRows));
+				}
+				datStream.write(c.data, 0, c.size);
+				adler = combineAdler32(adler, c.adler, c.rawLen);
+			}
+			datStream.write((int) (adler >>> 24) & 0xFF);
+			datStream.write((int) (adler >>> 16) & 0xFF);
+			datStream.write((int) (adler >>> 8) & 0xFF);
+			datStream.write((int) (adler) & 0xFF);
+		} catch (final InterruptedException e) {
+			throw new PngjOutputException(e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new PngjOutputException(e.getCause());
+		} finally {
+			for (final Future<DeflatedChunk> f : results) {
+				if (f != null)
+					f.cancel(true);
+			}
+		}
+		rowNum = imgInfo.rows - 1;
+	}
+
+	private Future<DeflatedChunk> submitDeflateChunk(final ExecutorService executor, final RowProvider provider,
+			final int chunk, final int chunkRows) {
+		final int row0 = chunk * chunkRows;
+		final int row1 = Math.min(imgInfo.rows, row0 + chunkRows);
+		return executor.submit(new Callable<DeflatedChunk>() {
+			@Override
+			public DeflatedChunk call() {
+				return deflateChunk(provider, row0, row1);
+			}
+		});
+	}
+
+	/** Compressed output of one row chunk, see {@link #writeRowsParallel(RowProvider, int, int)} */
+	private static class DeflatedChunk {
+		byte[] data;
+		int size;
+		long adler;
+		long rawLen;
+	}
+
+	private static class ChunkOutputStream extends ByteArrayOutputStream {
+		ChunkOutputStream(final int size) {
+			super(size);
+		}
+
+		byte[] getBuffer() {
+			return buf;
+		}
+	}
+
+	private DeflatedChunk deflateChunk(final RowProvider provider, final int row0, final int row1) {
+		final int rowLen = imgInfo.bytesPerRow + 1;
+		final byte[] crowb = new byte[rowLen];
+		final byte[] crowbprev = new byte[rowLen]; // zero for row 0
+		final byte[] crowbfilter = new byte[rowLen];
+		final int[] chistox = new int[256];
+		final ImageLine line = new ImageLine(imgInfo);
+		final FilterWriteStrategy strat = new FilterWriteStrategy(imgInfo, filterStrat.configuredType);
+		final Deflater def = new Deflater(compLevel, true /* raw deflate, zlib header and trailer by caller */);
+		def.setStrategy(deflaterStrategy);
+		final Adler32 adler = new Adler32();
+		final ChunkOutputStream out = new ChunkOutputStream(Math.max(1024, (row1 - row0) * rowLen / 4));
+		final byte[] dbuf = new byte[32768];
+		try {
+			if (row0 > 0) {
+				provider.fillRow(row0 - 1, line);
+				encodeRowFromInt(imgInfo, line.scanline, crowbprev, line.samplesUnpacked);
+			}
+			for (int r = row0; r < row1; r++) {
+				provider.fillRow(r, line);
+				encodeRowFromInt(imgInfo, line.scanline, crowb, line.samplesUnpacked);
+				filterRow(imgInfo, strat, r, crowb, crowbprev, crowbfilter, chistox);
+				adler.update(crowbfilter, 0, rowLen);
+				def.setInput(crowbfilter, 0, rowLen);
+				while (!def.needsInput()) {
+					final int n = def.deflate(dbuf, 0, dbuf.length, Deflater.NO_FLUSH);
+					out.write(dbuf, 0, n);
+				}
+				System.arraycopy(crowb, 0, crowbprev, 0, rowLen);
+			}
+			if (row1 == imgInfo.rows) {
+				def.finish();
+				while (!def.finished()) {
+					final int n = def.deflate(dbuf, 0, dbuf.length);
+					out.write(dbuf, 0, n);
+				}
+			} else {
+				int n;
+				do {
+					n = def.deflate(dbuf, 0, dbuf.length, Deflater.SYNC_FLUSH);
+					out.write(dbuf, 0, n);
+				} while (n == dbuf.length);
+			}
+		} finally {
+			def.end();
+		}
+		final DeflatedChunk res = new DeflatedChunk();
+		res.data = out.getBuffer();
+		res.size = out.size();
+		res.adler = adler.getValue();
+		res.rawLen = (long) (row1 - row0) * rowLen;
+		return res;
+	}
+
+	/**
+	 * Combines two Adler32 checksums, where <code>adler2</code> covers the
+	 * <code>len2</code> bytes following the data of <code>adler1</code>.
+	 */
+	static long combineAdler32(final long adler1, final long adler2, final long len2) {
+		final long BASE = 65521;
+		final long rem = len2 % BASE;
+		long sum1 = adler1 & 0xFFFF;
+		long sum2 = (rem * sum1) % BASE;
+		sum1 += (adler2 & 0xFFFF) + BASE - 1;
+		sum2 += ((adler1 >>> 16) & 0xFFFF) + ((adler2 >>> 16) & 0xFFFF) + BASE - rem;
+		if (sum1 >= BASE)
+			sum1 -= BASE;
+		if (sum1 >= BASE)
+			sum1 -= BASE;
+		if (sum2 >= (BASE << 1))
+			sum2 -= (BASE << 1);
+		if (sum2 >= BASE)
+			sum2 -= BASE;
+		return sum1 | (sum2 << 16);
+	}
+
 	/**
 	 * Writes all the pixels, calling writeRowInt() for each image row
 	 */
@@ -1448,8 +1448,11 @@ JNIEXPORT void JNICALL FF_FUNC(setGLFuncs0)
 #define DBG_TEXSUBIMG2D_b(p)
 #endif
 
+/** Texel gap trailing each subtitle atlas region, see jogamp.opengl.util.av.SubtitleAtlas.PADDING */
+#define SUB_ATLAS_PADDING 1
+
 JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
-  (JNIEnv *env, jobject instance, jlong ptr, jint vTexTarget, jint vTexID, jint vTexFmt, jint vTexType, 
+  (JNIEnv *env, jobject instance, jlong ptr, jint vTexTarget, jint vTexID, jint vTexFmt, jint vTexType, jint vSkipPTS,
                                              jint sTexTarget, jint sTexID, jint sTexWidthPre, jint sTexHeightPre, 
                                              jobject sTexObj, jbooleanArray sTexUsed)
 {
@@ -1650,6 +1653,12 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                 sp_av_packet_unref(pAV->packet);
                 return INVALID_PTS;
             }
+            {
+                // Late packet, i.e. PTS < vSkipPTS: skip decoding non-reference frames, see GLMediaPlayerImpl.getDecodeSkipPTS()
+                const int64_t pkt_ts = AV_NOPTS_VALUE != pAV->packet->pts ? pAV->packet->pts : pAV->packet->dts;
+                const int late = AV_NOPTS_VALUE != pkt_ts && my_av_q2i32( pkt_ts * 1000, pAV->pVStream->time_base) < vSkipPTS;
+                pAV->pVCodecCtx->skip_frame = late ? AVDISCARD_NONREF : AVDISCARD_DEFAULT;
+            }
             int res = 0;
             for (int frameCount=0; 0 <= res || 0 == frameCount; ++frameCount) {
                 sp_av_frame_unref(pAV->pVFrame);
@@ -1740,6 +1749,11 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                     continue;
                 }
                 resPTS = pAV->vPTS; // Video Frame!
+                if( pAV->vPTS < vSkipPTS ) {
+                    // Late frame: neither convert nor upload, still returning its PTS
+                    sp_av_frame_unref(pAV->pVFrame);
+                    continue;
+                }
 
                 int p_offset[] = { 0, 0, 0, 0 };
                 if( pAV->pVFrame->linesize[0] < 0 ) {
@@ -1861,8 +1875,8 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                       sEnd = INT32_MAX;
                   }
               }
-              // Aggregated texture over all AVSubtitleRect
-              int subMinX=INT_MAX, subMinY=INT_MAX, subWidth=0, subHeight=0; 
+              // Aggregated texture over all AVSubtitleRect, i.e. their union extent
+              int subMinX=INT_MAX, subMinY=INT_MAX, subMaxX=0, subMaxY=0, subWidth=0, subHeight=0; 
               int subTextCount=0, subASSCount=0, subImgCount=0;
               for(unsigned int sub_idx=0; sub_idx<sub.num_rects; ++sub_idx) {
                 AVSubtitleRect* r = sub.rects[sub_idx];
@@ -1876,19 +1890,34 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                     const int y = my_clip(r->y, 0, pAV->vHeight);
                     subMinX = my_min(subMinX, x);
                     subMinY = my_min(subMinY, y);
-                    subWidth  = my_max(subWidth,  my_clip(r->w, 0, pAV->vWidth ));
-                    subHeight = my_max(subHeight, my_clip(r->h, 0, pAV->vHeight));
+                    subMaxX = my_max(subMaxX, my_clip(x + r->w, 0, pAV->vWidth ));
+                    subMaxY = my_max(subMaxY, my_clip(y + r->h, 0, pAV->vHeight));
                 }
               }
               if( 0 == subImgCount ) {
                 subMinX = 0;
                 subMinY = 0;
+              } else {
+                subWidth  = my_max(0, subMaxX - subMinX);
+                subHeight = my_max(0, subMaxY - subMinY);
               }
               const GLenum texIFmt = GL_RGBA;
               const GLenum texType = GL_UNSIGNED_BYTE;
               int32_t texWidth=0, texHeight=0;
+              int32_t atlasX=0, atlasY=0; // region offset within the shared atlas texture
+              int useAtlas = 0;
               if( AV_HAS_API_SWSCALE(pAV) && 0 != sTexID && subWidth > 0 && subHeight > 0 ) {
-                  if( !pAV->hasNPOT ) {
+                  // Shared atlas: -1 disabled, -2 exhausted, otherwise packed region position
+                  const jlong atlasPos = (*env)->CallLongMethod(env, pAV->ffmpegMediaPlayer, ffmpeg_jni_mid_allocSubtitleRect, (jint)subWidth, (jint)subHeight);
+                  JoglCommon_ExceptionCheck1_throwNewRuntimeException(env, "FFmpeg: Exception occured at allocSubtitleRect(..)");
+                  if( 0 <= atlasPos ) {
+                    useAtlas = 1;
+                    atlasX = (int32_t)( atlasPos >> 32 );
+                    atlasY = (int32_t)( atlasPos & 0xffffffff );
+                  }
+                  if( -2 == atlasPos ) {
+                    // atlas exhausted, drop bitmap
+                  } else if( !pAV->hasNPOT ) {
                     texWidth  = (int32_t)roundToPowerOf2((uint32_t)subWidth);
                     texHeight = (int32_t)roundToPowerOf2((uint32_t)subHeight);
                   } else {
@@ -1896,8 +1925,8 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                     texHeight = subHeight;
                   }
                   if( texWidth > 0 && texHeight > 0) {
-                      // New RGBA Packed texture allocation
-                      const size_t sPixelsSize = subWidth * subHeight * 4;
+                      // New RGBA Packed texture allocation, incl. atlas region padding
+                      const size_t sPixelsSize = ( subWidth + SUB_ATLAS_PADDING ) * ( subHeight + SUB_ATLAS_PADDING ) * 4;
                       if( NULL == pAV->sPixels || NULL != pAV->sPixels && pAV->sPixelsSize < sPixelsSize ) {
                         // new-alloc or realloc
                         if( NULL != pAV->sPixels ) {
@@ -1914,7 +1943,27 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                       }
                       pAV->procAddrGLBindTexture(sTexTarget, sTexID);
 
-                      if( 0 && texWidth <= sTexWidthPre && texHeight <= sTexHeightPre ) {
+                      if( useAtlas ) {
+                        // keep shared atlas texture, upload into allocated region only
+                        texWidth = sTexWidthPre;
+                        texHeight = sTexHeightPre;
+                        // clear previous content of the reused region, avoiding linear filtering to pick it up
+                        memset(pAV->sPixels, 0, sPixelsSize);
+                        if( 1 < subImgCount ) {
+                          // sub-rects may not cover the whole region
+                          pAV->procAddrGLTexSubImage2D(sTexTarget, 0, atlasX, atlasY,
+                                                       subWidth + SUB_ATLAS_PADDING, subHeight + SUB_ATLAS_PADDING,
+                                                       texIFmt, texType, pAV->sPixels);
+                        } else {
+                          // trailing padding column and row only
+                          pAV->procAddrGLTexSubImage2D(sTexTarget, 0, atlasX + subWidth, atlasY,
+                                                       SUB_ATLAS_PADDING, subHeight + SUB_ATLAS_PADDING,
+                                                       texIFmt, texType, pAV->sPixels);
+                          pAV->procAddrGLTexSubImage2D(sTexTarget, 0, atlasX, atlasY + subHeight,
+                                                       subWidth, SUB_ATLAS_PADDING,
+                                                       texIFmt, texType, pAV->sPixels);
+                        }
+                      } else if( 0 && texWidth <= sTexWidthPre && texHeight <= sTexHeightPre ) {
                         // Buggy on AMD GPU w/ shared ctx, hence disabled!
                         // Shows mangled texture content ...
                         //
@@ -1975,8 +2024,9 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                     {
                         x = my_clip(r->x, 0, pAV->vWidth );
                         y = my_clip(r->y, 0, pAV->vHeight);
-                        width  = my_clip(r->w, 0, pAV->vWidth );
-                        height = my_clip(r->h, 0, pAV->vHeight);
+                        // clipped to the union extent, i.e. within the texture or atlas region
+                        width  = my_clip(r->w, 0, subMaxX - x);
+                        height = my_clip(r->h, 0, subMaxY - y);
                     }
                     if( texWidth > 0 && texHeight > 0) {
                         pAV->sScaleCtx = sp_sws_getCachedContext(pAV->sScaleCtx,
@@ -1991,7 +2041,7 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                                       pixels, stride);
 
                             pAV->procAddrGLTexSubImage2D(sTexTarget, 0,
-                                                         x-subMinX,  y-subMinY,
+                                                         atlasX+x-subMinX,  atlasY+y-subMinY,
                                                          width, height,
                                                          texIFmt, texType, pixels[0]);
                             // pAV->procAddrGLFinish(); // No sync required and too expensive for multiple player
@@ -39,6 +39,7 @@ jmethodID ffmpeg_jni_mid_pushSound = NULL;
 jmethodID ffmpeg_jni_mid_pushSubtitleText = NULL;
 jmethodID ffmpeg_jni_mid_pushSubtitleASS = NULL;
 jmethodID ffmpeg_jni_mid_pushSubtitleTex = NULL;
+jmethodID ffmpeg_jni_mid_allocSubtitleRect = NULL;
 jmethodID ffmpeg_jni_mid_pushSubtitleEmpty = NULL;
 jmethodID ffmpeg_jni_mid_updateAttributes = NULL;
 jmethodID ffmpeg_jni_mid_setIsGLOriented = NULL;
@@ -72,6 +73,7 @@ JNIEXPORT jboolean JNICALL Java_jogamp_opengl_util_av_impl_FFMPEGStaticNatives_i
     ffmpeg_jni_mid_pushSubtitleText = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "pushSubtitleText", "(Ljava/lang/String;II)V");
     ffmpeg_jni_mid_pushSubtitleASS = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "pushSubtitleASS", "(Ljava/lang/String;II)V");
     ffmpeg_jni_mid_pushSubtitleTex = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "pushSubtitleTex", "(Ljava/lang/Object;IIIIIIIII)V");
+    ffmpeg_jni_mid_allocSubtitleRect = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "allocSubtitleRect", "(II)J");
     ffmpeg_jni_mid_pushSubtitleEmpty = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "pushSubtitleEmpty", "(II)V");
     ffmpeg_jni_mid_updateAttributes = (*env)->GetMethodID(env, ffmpegMediaPlayerClazz, "updateAttributes", 
         "(Ljava/lang/String;[I[Ljava/lang/String;I[I[Ljava/lang/String;I[I[Ljava/lang/String;IIIIIIFIIILjava/lang/String;Ljava/lang/String;Ljava/lang/String;III)V");
@@ -83,6 +85,7 @@ JNIEXPORT jboolean JNICALL Java_jogamp_opengl_util_av_impl_FFMPEGStaticNatives_i
        ffmpeg_jni_mid_pushSubtitleText == NULL ||
        ffmpeg_jni_mid_pushSubtitleASS == NULL ||
        ffmpeg_jni_mid_pushSubtitleTex == NULL ||
+       ffmpeg_jni_mid_allocSubtitleRect == NULL ||
        ffmpeg_jni_mid_pushSubtitleEmpty == NULL ||
        ffmpeg_jni_mid_updateAttributes == NULL ||
        ffmpeg_jni_mid_setIsGLOriented == NULL ||
@@ -0,0 +1,236 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.ui.AnimGroup;
+import com.jogamp.graph.ui.GlyphBatch;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.shapes.GlyphShape;
+import com.jogamp.math.Matrix4f;
+import com.jogamp.math.Recti;
+import com.jogamp.math.Vec3f;
+import com.jogamp.math.Vec4f;
+import com.jogamp.math.geom.AABBox;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates {@link GLRegion#isInstancingSupported()} per render mode
+ * and instanced {@link GlyphBatch} rendering, i.e. one draw call per distinct glyph,
+ * as well as {@link AnimGroup} recording its instanced {@link GlyphShape}s in bulk at {@link AnimGroup#tick()}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGlyphInstancingNEWT00 extends UITestCase {
+
+    @Test
+    public void test01SupportedRenderModes() {
+        final GLProfile glp = GLProfile.getDefault();
+        final int[] renderModes = { 0, Region.VBAA_RENDERING_BIT, Region.MSAA_RENDERING_BIT,
+                                    Region.COLORCHANNEL_RENDERING_BIT, Region.COLORTEXTURE_RENDERING_BIT };
+        final boolean[] expected = { true, false, false, false, false };
+        for(int i=0; i<renderModes.length; ++i) {
+            final GLRegion region = GLRegion.create(glp, renderModes[i], null);
+            Assert.assertEquals(Region.getRenderModeString(renderModes[i]), expected[i], region.isInstancingSupported());
+        }
+        // GlyphBatch drops the two-pass AA modes, hence creating single-pass regions
+        Assert.assertTrue(GlyphBatch.isSupported(Region.VBAA_RENDERING_BIT));
+        Assert.assertTrue(GlyphBatch.isSupported(Region.MSAA_RENDERING_BIT));
+        Assert.assertFalse(GlyphBatch.isSupported(Region.COLORCHANNEL_RENDERING_BIT));
+        Assert.assertEquals(0, new GlyphBatch(Region.VBAA_RENDERING_BIT).getRenderModes());
+    }
+
+    @Test
+    public void test02GlyphBatch() throws IOException {
+        final GLProfile glp = GLProfile.getMaxProgrammable(true);
+        if( !glp.isGL2ES3() ) {
+            System.err.println("Instancing requires GL2ES3, skipped: "+glp);
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        final RegionRenderer renderer = RegionRenderer.create(RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+        try {
+            final GL2ES3 gl = context.getGL().getGL2ES3();
+            renderer.init(gl);
+            renderer.enable(gl, true);
+            renderer.reshapeOrtho(64, 64, 0.1f, 1000.0f);
+
+            final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+            final String text = "ABBCCCABC";
+            final GlyphBatch batch = new GlyphBatch(Region.VBAA_RENDERING_BIT);
+            final Matrix4f mv = new Matrix4f();
+            final Vec4f rgba = new Vec4f(1f, 0f, 0f, 1f);
+            for(int frame=0; frame<2; ++frame) {
+                batch.clear();
+                for(int i=0; i<text.length(); ++i) {
+                    mv.setToTranslation(i, 0, -10);
+                    batch.add(font.getGlyph(text.charAt(i)), mv, rgba);
+                }
+                batch.draw(gl, renderer);
+                Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+                Assert.assertEquals(text.length(), batch.getLastInstanceCount());
+                Assert.assertEquals(3, batch.getLastDrawCalls());
+                Assert.assertEquals(3, batch.getGlyphCount());
+            }
+            // recorded instances are kept until cleared
+            batch.draw(gl, renderer);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            Assert.assertEquals(text.length(), batch.getLastInstanceCount());
+            Assert.assertEquals(3, batch.getLastDrawCalls());
+            batch.clear();
+            Assert.assertEquals(0, batch.getInstanceCount());
+            batch.draw(gl, renderer);
+            Assert.assertEquals(0, batch.getLastInstanceCount());
+            Assert.assertEquals(0, batch.getLastDrawCalls());
+
+            // two-pass regions don't implement instancing
+            final GLRegion vbaa = GLRegion.create(glp, Region.VBAA_RENDERING_BIT, null);
+            try {
+                vbaa.drawInstanced(gl, renderer, new GLRegion.InstanceBuffer(1));
+                Assert.fail("Expected IllegalStateException");
+            } catch(final IllegalStateException ise) { }
+            vbaa.destroy(gl);
+
+            renderer.enable(gl, false);
+            batch.destroy(gl);
+            Assert.assertEquals(0, batch.getGlyphCount());
+        } finally {
+            renderer.destroy(context.getGL().getGL2ES2());
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    @Test
+    public void test03AnimGroupBulkInstances() throws IOException {
+        final GLProfile glp = GLProfile.getMaxProgrammable(true);
+        if( !glp.isGL2ES3() ) {
+            System.err.println("Instancing requires GL2ES3, skipped: "+glp);
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        final RegionRenderer renderer = RegionRenderer.create(RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+        final AnimGroup group = new AnimGroup(null);
+        try {
+            final GL2ES3 gl = context.getGL().getGL2ES3();
+            renderer.init(gl);
+            renderer.enable(gl, true);
+            renderer.reshapeOrtho(64, 64, 0.1f, 1000.0f);
+
+            final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+            final String text = "ABBCCCABC";
+            final AABBox animBox = new AABBox(0f, 0f, 0f, 10f, 2f, 0f);
+            group.setInstancing(true);
+            group.setTickOnDraw(false);
+            group.setFixedPeriod(1f/60f);
+            renderer.getMatrix().pushMv();
+            renderer.getMatrix().translateMv(0, 0, -10);
+            final AnimGroup.Set as = group.addGlyphSetRandom01(4f, glp, renderer.getMatrix(), new Recti(0, 0, 64, 64), 0,
+                    font, text, 0.1f, new Vec4f(1f, 0f, 0f, 1f), 1f, 1f, 0f, 0f, animBox, false, new Random(1),
+                    new AnimGroup.TargetLerp(Vec3f.UNIT_Y));
+            renderer.getMatrix().popMv();
+            Assert.assertEquals(1, group.getGlyphBatches().size());
+            final GlyphBatch batch = group.getGlyphBatches().get(0);
+
+            // instanced GlyphShapes are not traversed, i.e. never drawn individually
+            final AtomicInteger shapeDraws = new AtomicInteger();
+            for(final AnimGroup.ShapeData sd : as.allShapes) {
+                Assert.assertTrue(((GlyphShape)sd.shape).isInstanced());
+                sd.shape.onDraw( (final Shape s, final GL2ES2 gl2, final RegionRenderer r) -> {
+                    shapeDraws.incrementAndGet();
+                    return false;
+                } );
+            }
+
+            // instances are recorded in bulk by the animation tick, w/o drawing
+            Assert.assertEquals(0, batch.getInstanceCount());
+            group.tick();
+            Assert.assertEquals(text.length(), batch.getInstanceCount());
+
+            for(int frame=0; frame<3; ++frame) {
+                group.tick();
+                group.draw(gl, renderer);
+                Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+                Assert.assertEquals(text.length(), batch.getLastInstanceCount());
+                Assert.assertEquals(3, batch.getLastDrawCalls());
+            }
+            // paused: last recorded instances are drawn again
+            group.setTickPaused(true);
+            group.draw(gl, renderer);
+            Assert.assertEquals(text.length(), batch.getLastInstanceCount());
+            Assert.assertEquals(0, shapeDraws.get());
+
+            // invisible shapes are not recorded
+            as.allShapes.get(0).shape.setVisible(false);
+            group.setTickPaused(false);
+            group.tick();
+            Assert.assertEquals(text.length()-1, batch.getInstanceCount());
+            renderer.enable(gl, false);
+        } finally {
+            group.destroy(context.getGL().getGL2ES2(), renderer);
+            renderer.destroy(context.getGL().getGL2ES2());
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGlyphInstancingNEWT00.class.getName());
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.ui.Group;
+import com.jogamp.graph.ui.Scene;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.layout.Alignment;
+import com.jogamp.graph.ui.layout.GridLayout;
+import com.jogamp.graph.ui.shapes.HUDShape;
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.math.Vec4f;
+import com.jogamp.math.geom.AABBox;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates incremental dirty-subtree validation and re-layout of {@link Group} and {@link HUDShape} w/o GL,
+ * i.e. only changed shapes are validated again and clean shapes are merely re-positioned.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGroupIncrementalLayout00NOUI extends JunitTracer {
+    static final float EPSILON = 1e-5f;
+
+    /** Plain box of given size, counting its validations of dirty state. */
+    static class Box extends Shape {
+        float w, h;
+        int dirtyValidations = 0;
+
+        Box(final float w, final float h) { this.w = w; this.h = h; }
+
+        Box setBoxSize(final float w, final float h) {
+            this.w = w;
+            this.h = h;
+            markShapeDirty();
+            return this;
+        }
+        @Override
+        protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+            if( isShapeDirty() ) {
+                ++dirtyValidations;
+                box.setSize(0, 0, 0, w, h, 0);
+            }
+        }
+        @Override
+        protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) { }
+        @Override
+        protected void drawToSelectImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        public boolean hasColorChannel() { return false; }
+    }
+
+    static List<Box> addBoxes(final Group g, final int count, final float w, final float h) {
+        final List<Box> boxes = new ArrayList<Box>();
+        for(int i=0; i<count; ++i) {
+            final Box b = new Box(w, h);
+            g.addShape(b);
+            boxes.add(b);
+        }
+        return boxes;
+    }
+    static int sumDirtyValidations(final List<Box> boxes) {
+        int sum = 0;
+        for(final Box b : boxes) {
+            sum += b.dirtyValidations;
+            b.dirtyValidations = 0;
+        }
+        return sum;
+    }
+
+    @Test
+    public void test01FreeGroupInterior() {
+        // w/o layout, a change within the union of all shapes keeps the group bounds
+        final Group g = new Group();
+        final List<Box> boxes = addBoxes(g, 100, 1, 1);
+        for(int i=0; i<boxes.size(); ++i) {
+            boxes.get(i).moveTo(i % 10 * 2, i / 10 * 2, 0);
+        }
+        g.validate((GLProfile)null);
+        Assert.assertEquals(100, sumDirtyValidations(boxes));
+        final AABBox b0 = new AABBox(g.getBounds());
+        Assert.assertEquals(19f, b0.getWidth(), EPSILON);
+
+        final Box inner = boxes.get(5*10+5);
+        inner.setBoxSize(0.5f, 0.5f);
+        g.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(boxes));
+        Assert.assertEquals(0.5f, inner.getBounds().getWidth(), EPSILON);
+        Assert.assertEquals(b0, g.getBounds());
+
+        // growing the last box beyond the union re-computes the group bounds
+        boxes.get(99).setBoxSize(3, 3);
+        g.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(boxes));
+        Assert.assertEquals(21f, g.getBounds().getWidth(), EPSILON);
+
+        // shrinking it again must shrink the group bounds
+        boxes.get(99).setBoxSize(1, 1);
+        g.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(boxes));
+        Assert.assertEquals(b0, g.getBounds());
+    }
+
+    @Test
+    public void test02GridRelayout() {
+        // single column grid, a grown cell moves all others w/o validating them again
+        final Group g = new Group(new GridLayout(1, 0, 0, Alignment.None));
+        final List<Box> boxes = addBoxes(g, 50, 1, 1);
+        g.validate((GLProfile)null);
+        Assert.assertEquals(50, sumDirtyValidations(boxes));
+        Assert.assertEquals(50f, g.getBounds().getHeight(), EPSILON);
+
+        final Box cell = boxes.get(10);
+        cell.setBoxSize(1, 2);
+        g.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(boxes));
+        Assert.assertEquals(51f, g.getBounds().getHeight(), EPSILON);
+
+        // nothing dirty, nothing validated
+        g.validate((GLProfile)null);
+        Assert.assertEquals(0, sumDirtyValidations(boxes));
+        Assert.assertEquals(51f, g.getBounds().getHeight(), EPSILON);
+    }
+
+    @Test
+    public void test03NestedGroups() {
+        // change of a leaf in one inner group only validates that leaf
+        final Group outer = new Group(new GridLayout(1, 0, 0, Alignment.None));
+        final List<Group> inner = new ArrayList<Group>();
+        final List<Box> all = new ArrayList<Box>();
+        for(int i=0; i<10; ++i) {
+            final Group ig = new Group(new GridLayout(10, 0, 0, Alignment.None));
+            all.addAll(addBoxes(ig, 10, 1, 1));
+            outer.addShape(ig);
+            inner.add(ig);
+        }
+        outer.validate((GLProfile)null);
+        Assert.assertEquals(100, sumDirtyValidations(all));
+        Assert.assertEquals(10f, outer.getBounds().getWidth(), EPSILON);
+        Assert.assertEquals(10f, outer.getBounds().getHeight(), EPSILON);
+
+        all.get(3*10+4).setBoxSize(2, 1);
+        outer.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(all));
+        Assert.assertEquals(11f, inner.get(3).getBounds().getWidth(), EPSILON);
+        Assert.assertEquals(11f, outer.getBounds().getWidth(), EPSILON);
+
+        // a subsequent change in the same subtree must not get lost
+        all.get(3*10+5).setBoxSize(2, 1);
+        outer.validate((GLProfile)null);
+        Assert.assertEquals(1, sumDirtyValidations(all));
+        Assert.assertEquals(12f, outer.getBounds().getWidth(), EPSILON);
+    }
+
+    @Test
+    public void test04HUD() {
+        final Scene scene = new Scene();
+        final Box target = new Box(10, 10);
+        scene.addShape(target);
+        final Group client = new Group(new GridLayout(1, 0, 0, Alignment.None));
+        final List<Box> boxes = addBoxes(client, 3, 1, 1);
+        final HUDShape hud = new HUDShape(scene, 5, 5, 0, target, client);
+        hud.validate((GLProfile)null);
+        Assert.assertEquals(3, sumDirtyValidations(boxes));
+        Assert.assertEquals(3f, client.getBounds().getHeight(), EPSILON);
+
+        // client changes are re-layouted incrementally, repeatedly
+        for(int i=1; i<=3; ++i) {
+            boxes.get(1).setBoxSize(1, 1+i);
+            hud.validate((GLProfile)null);
+            Assert.assertEquals(1, sumDirtyValidations(boxes));
+            Assert.assertEquals(1+i, boxes.get(1).getBounds().getHeight(), EPSILON);
+            Assert.assertEquals(3f+i, client.getBounds().getHeight(), EPSILON);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGroupIncrementalLayout00NOUI.class.getName());
+    }
+}
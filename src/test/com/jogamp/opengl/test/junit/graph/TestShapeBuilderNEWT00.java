@@ -0,0 +1,199 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.jogamp.graph.ui.Group;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.ShapeBuilder;
+import com.jogamp.graph.ui.shapes.Rectangle;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates {@link ShapeBuilder} w/o a GL context, i.e. building on its worker threads,
+ * adding built shapes to their target only at {@link ShapeBuilder#commit()} within the upload budget
+ * and dropping shapes failing to build.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestShapeBuilderNEWT00 extends UITestCase {
+    static final long TIMEOUT_MS = 10000;
+
+    static class BuildRect extends Rectangle {
+        final CountDownLatch built;
+        final boolean fail;
+        volatile Thread buildThread;
+
+        BuildRect(final int i, final CountDownLatch built, final boolean fail) {
+            super(0, i, 0, 1f, 1f, 0.1f);
+            this.built = built;
+            this.fail = fail;
+        }
+        @Override
+        protected void addShapeToRegion(final GLProfile glp, final GL2ES2 gl) {
+            try {
+                buildThread = Thread.currentThread();
+                if( fail ) {
+                    throw new RuntimeException("Test: Failing build of "+this);
+                }
+                super.addShapeToRegion(glp, gl);
+            } finally {
+                built.countDown();
+            }
+        }
+    }
+
+    static List<BuildRect> addAll(final ShapeBuilder sb, final Group target, final int count, final CountDownLatch built, final int failIdx) {
+        final List<BuildRect> shapes = new ArrayList<BuildRect>();
+        for(int i=0; i<count; i++) {
+            final BuildRect r = new BuildRect(i, built, i == failIdx);
+            shapes.add(r);
+            sb.add(target, r);
+        }
+        return shapes;
+    }
+
+    static void awaitReady(final ShapeBuilder sb, final int ready, final int failed) throws InterruptedException {
+        final long t0 = System.currentTimeMillis();
+        while( ( sb.getReadyCount() != ready || sb.getFailedCount() != failed ) && System.currentTimeMillis() - t0 < TIMEOUT_MS ) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(ready, sb.getReadyCount());
+        Assert.assertEquals(failed, sb.getFailedCount());
+        Assert.assertEquals(ready, sb.getPendingCount());
+    }
+
+    @Test
+    public void test01BuildOffThread() throws InterruptedException {
+        final ShapeBuilder sb = new ShapeBuilder(GLProfile.getGL2ES2(), 2);
+        try {
+            final Group target = new Group();
+            final CountDownLatch built = new CountDownLatch(8);
+            final List<BuildRect> shapes = addAll(sb, target, 8, built, -1);
+            Assert.assertTrue(built.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            awaitReady(sb, 8, 0);
+
+            // built on the workers, but not yet added
+            for(final BuildRect r : shapes) {
+                Assert.assertNotNull(r.buildThread);
+                Assert.assertNotSame(Thread.currentThread(), r.buildThread);
+                Assert.assertTrue(r.buildThread.getName(), r.buildThread.getName().startsWith("ShapeBuilder-"));
+                Assert.assertNotNull(r.getRegion());
+                Assert.assertTrue(0 < r.getRegion().getVertexCount());
+            }
+            Assert.assertEquals(0, target.getShapeCount());
+            Assert.assertEquals(0, sb.getCommittedCount());
+
+            sb.setUploadBudget(Integer.MAX_VALUE);
+            Assert.assertEquals(8, sb.commit());
+            Assert.assertEquals(8, target.getShapeCount());
+            Assert.assertTrue(target.getShapes().containsAll(shapes));
+            Assert.assertEquals(0, sb.getPendingCount());
+            Assert.assertEquals(8, sb.getCommittedCount());
+            Assert.assertEquals(0, sb.commit());
+        } finally {
+            sb.shutdown();
+        }
+    }
+
+    @Test
+    public void test02UploadBudget() throws InterruptedException {
+        final ShapeBuilder sb = new ShapeBuilder(GLProfile.getGL2ES2(), 1);
+        try {
+            final Group target = new Group();
+            final CountDownLatch built = new CountDownLatch(10);
+            final List<BuildRect> shapes = addAll(sb, target, 10, built, -1);
+            Assert.assertTrue(built.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            awaitReady(sb, 10, 0);
+
+            final int vertices = shapes.get(0).getRegion().getVertexCount();
+            for(final BuildRect r : shapes) {
+                Assert.assertEquals(vertices, r.getRegion().getVertexCount());
+            }
+            // one frame per commit: 3 shapes fit the budget, the remainder in the last frame
+            sb.setUploadBudget(3 * vertices);
+            final int[] expected = { 3, 3, 3, 1, 0 };
+            for(int frame=0; frame<expected.length; frame++) {
+                Assert.assertEquals("frame "+frame, expected[frame], sb.commit());
+            }
+            Assert.assertEquals(shapes, target.getShapes()); // single worker keeps the order
+            Assert.assertEquals(0, sb.getPendingCount());
+
+            // at least one shape per frame, even if exceeding the budget
+            final CountDownLatch built2 = new CountDownLatch(2);
+            addAll(sb, target, 2, built2, -1);
+            Assert.assertTrue(built2.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            awaitReady(sb, 2, 0);
+            sb.setUploadBudget(1);
+            Assert.assertEquals(1, sb.commit());
+            Assert.assertEquals(1, sb.commit());
+            Assert.assertEquals(12, target.getShapeCount());
+        } finally {
+            sb.shutdown();
+        }
+    }
+
+    @Test
+    public void test03ValidateThrows() throws InterruptedException {
+        final ShapeBuilder sb = new ShapeBuilder(GLProfile.getGL2ES2(), 2);
+        try {
+            final Group target = new Group();
+            final CountDownLatch built = new CountDownLatch(4);
+            final List<BuildRect> shapes = addAll(sb, target, 4, built, 1);
+            Assert.assertTrue(built.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            awaitReady(sb, 3, 1);
+
+            sb.setUploadBudget(Integer.MAX_VALUE);
+            Assert.assertEquals(3, sb.commit());
+            Assert.assertEquals(3, target.getShapeCount());
+            for(int i=0; i<shapes.size(); i++) {
+                final Shape s = shapes.get(i);
+                Assert.assertEquals("shape "+i, 1 != i, target.getShapes().contains(s));
+            }
+            Assert.assertEquals(0, sb.getPendingCount());
+            Assert.assertEquals(3, sb.getCommittedCount());
+        } finally {
+            sb.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestShapeBuilderNEWT00.class.getName());
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.ui.Container;
+import com.jogamp.graph.ui.Group;
+import com.jogamp.graph.ui.Scene;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.math.Vec4f;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the {@link Scene}'s shape index w/o GL, i.e. {@link Scene#getShapeByID(int)}, {@link Scene#getShapeByName(String)}
+ * and {@link Scene#forAll(Shape.Visitor1)} against a depth-first traversal while mutating the tree.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestShapeIndex00NOUI extends JunitTracer {
+
+    static class Box extends Shape {
+        @Override
+        protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+            if( isShapeDirty() ) {
+                box.setSize(0, 0, 0, 1, 1, 0);
+            }
+        }
+        @Override
+        protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) { }
+        @Override
+        protected void drawToSelectImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        public boolean hasColorChannel() { return false; }
+    }
+
+    static Box newBox(final int id, final String name) {
+        final Box b = new Box();
+        b.setID(id);
+        if( null != name ) {
+            b.setName(name);
+        }
+        return b;
+    }
+
+    /** Reference depth-first traversal */
+    static void dfs(final Container c, final List<Shape> out) {
+        for(final Shape s : c.getShapes()) {
+            out.add(s);
+            if( s instanceof Container ) {
+                dfs((Container)s, out);
+            }
+        }
+    }
+    static Shape dfsByID(final Container c, final int id) {
+        final List<Shape> all = new ArrayList<Shape>();
+        dfs(c, all);
+        for(final Shape s : all) {
+            if( s.getID() == id ) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    static void assertFlatOrder(final Scene scene) {
+        final List<Shape> exp = new ArrayList<Shape>();
+        dfs(scene, exp);
+        final List<Shape> has = new ArrayList<Shape>();
+        scene.forAll( (final Shape s) -> { has.add(s); return false; } );
+        Assert.assertEquals(exp, has);
+    }
+
+    /**
+     * Scene:
+     * <pre>
+     *   g0 (10)
+     *     b1 (11, "one")
+     *     g1 (12)
+     *       b2 (13, "two")
+     *       b3 (-1)
+     *   b4 (14, "four")
+     * </pre>
+     */
+    static Scene createScene(final Group g0, final Group g1) {
+        final Scene scene = new Scene();
+        g0.setID(10);
+        g1.setID(12);
+        g0.addShape(newBox(11, "one"));
+        g0.addShape(g1);
+        g1.addShape(newBox(13, "two"));
+        g1.addShape(newBox(-1, null));
+        scene.addShape(g0);
+        scene.addShape(newBox(14, "four"));
+        return scene;
+    }
+
+    @Test
+    public void test01Lookup() {
+        final Group g0 = new Group(), g1 = new Group();
+        final Scene scene = createScene(g0, g1);
+        for(int id=10; id<=14; ++id) {
+            final Shape s = scene.getShapeByID(id);
+            Assert.assertNotNull(s);
+            Assert.assertEquals(id, s.getID());
+        }
+        Assert.assertNull(scene.getShapeByID(99));
+        Assert.assertSame(scene.getShapeByID(13), scene.getShapeByName("two"));
+        Assert.assertNull(scene.getShapeByName("none"));
+
+        // default ID and name are not indexed, first match of the depth-first traversal
+        Assert.assertSame(dfsByID(scene, -1), scene.getShapeByID(-1));
+        Assert.assertSame(g1.getShapes().get(1), g1.getShapeByID(-1));
+        Assert.assertSame(g0, scene.getShapeByName(g0.getName()));
+
+        // group lookups are limited to its subtree
+        Assert.assertSame(scene.getShapeByID(13), g0.getShapeByID(13));
+        Assert.assertNull(g1.getShapeByID(14));
+        assertFlatOrder(scene);
+    }
+
+    @Test
+    public void test02Ambiguous() {
+        final Group g0 = new Group(), g1 = new Group();
+        final Scene scene = createScene(g0, g1);
+        final Shape dupe = newBox(13, "two");
+        g0.addShape(dupe); // after g1's subtree in depth-first order
+        Assert.assertSame(g1.getShapes().get(0), scene.getShapeByID(13));
+        Assert.assertSame(g1.getShapes().get(0), scene.getShapeByName("two"));
+        g1.removeShape(g1.getShapes().get(0));
+        Assert.assertSame(dupe, scene.getShapeByID(13));
+        Assert.assertSame(dupe, scene.getShapeByName("two"));
+        assertFlatOrder(scene);
+    }
+
+    @Test
+    public void test03Mutate() {
+        final Group g0 = new Group(), g1 = new Group();
+        final Scene scene = createScene(g0, g1);
+        final Shape b2 = scene.getShapeByID(13);
+
+        // change identity
+        b2.setID(23);
+        b2.setName("twenty-three");
+        Assert.assertNull(scene.getShapeByID(13));
+        Assert.assertNull(scene.getShapeByName("two"));
+        Assert.assertSame(b2, scene.getShapeByID(23));
+        Assert.assertSame(b2, scene.getShapeByName("twenty-three"));
+
+        // remove subtree
+        g0.removeShape(g1);
+        Assert.assertNull(scene.getShapeByID(12));
+        Assert.assertNull(scene.getShapeByID(23));
+        assertFlatOrder(scene);
+
+        // add populated subtree
+        g0.addShape(g1);
+        Assert.assertSame(g1, scene.getShapeByID(12));
+        Assert.assertSame(b2, scene.getShapeByID(23));
+        assertFlatOrder(scene);
+
+        // replace
+        final Shape b5 = newBox(15, "five");
+        Assert.assertTrue(g0.replaceShape(scene.getShapeByID(11), b5));
+        Assert.assertNull(scene.getShapeByID(11));
+        Assert.assertSame(b5, scene.getShapeByID(15));
+        assertFlatOrder(scene);
+
+        // z-order changes don't alter the depth-first order
+        b5.moveTo(0, 0, 10f);
+        assertFlatOrder(scene);
+
+        scene.removeShape(g0);
+        Assert.assertNull(scene.getShapeByID(10));
+        Assert.assertNull(scene.getShapeByID(15));
+        Assert.assertSame(scene.getShapeByID(14), scene.getShapeByName("four"));
+        assertFlatOrder(scene);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestShapeIndex00NOUI.class.getName());
+    }
+}
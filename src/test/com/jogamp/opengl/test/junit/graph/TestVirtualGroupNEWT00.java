@@ -0,0 +1,203 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.ui.Shape;
+import com.jogamp.graph.ui.widgets.VirtualGroup;
+import com.jogamp.math.Vec2f;
+import com.jogamp.math.Vec3f;
+import com.jogamp.math.Vec4f;
+import com.jogamp.math.geom.Cube;
+import com.jogamp.math.geom.Frustum;
+import com.jogamp.math.util.PMVMatrix4f;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates {@link VirtualGroup} while scrolling through a huge list and grid,
+ * i.e. the visible window and the number of created shapes stay bounded
+ * and changing the window neither marks the group dirty nor re-validates its clean cells.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestVirtualGroupNEWT00 extends UITestCase {
+    static final float CELL = 1f;
+    static final float CLIP_HEIGHT = 10f;
+
+    /** Plain cell, counting its validations of dirty state. */
+    static class Cell extends Shape {
+        int idx = -1;
+        int dirtyValidations = 0;
+
+        @Override
+        protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+            if( isShapeDirty() ) {
+                ++dirtyValidations;
+                box.setSize(0, 0, 0, CELL, CELL, 0);
+            }
+        }
+        @Override
+        protected void drawImpl0(final GL2ES2 gl, final RegionRenderer renderer, final Vec4f rgba) { }
+        @Override
+        protected void clearImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void destroyImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        protected void drawToSelectImpl0(final GL2ES2 gl, final RegionRenderer renderer) { }
+        @Override
+        public boolean hasColorChannel() { return false; }
+    }
+
+    static class Source implements VirtualGroup.DataSource {
+        final int count;
+        int binds = 0;
+        Source(final int count) { this.count = count; }
+        @Override
+        public int getItemCount() { return count; }
+        @Override
+        public Shape createShape(final VirtualGroup g) { return new Cell(); }
+        @Override
+        public void bindShape(final VirtualGroup g, final Shape s, final int idx) {
+            ((Cell)s).idx = idx;
+            s.markShapeDirty(); // new content
+            ++binds;
+        }
+    }
+
+    /** VirtualGroup counting its own validations of dirty state, i.e. full re-layouts. */
+    static class CountingGroup extends VirtualGroup {
+        int dirtyValidations = 0;
+        CountingGroup(final Source src, final int columns) {
+            super(src, new Vec2f(CELL, CELL), columns);
+        }
+        @Override
+        protected void validateImpl(final GL2ES2 gl, final GLProfile glp) {
+            if( isShapeDirty() ) {
+                ++dirtyValidations;
+            }
+            super.validateImpl(gl, glp);
+        }
+        int getDirtyValidations() { return dirtyValidations; }
+    }
+
+    static void draw(final GL2ES2 gl, final RegionRenderer renderer, final VirtualGroup g) {
+        final PMVMatrix4f pmv = renderer.getMatrix();
+        pmv.loadMvIdentity();
+        pmv.pushMv();
+        g.applyMatToMv(pmv);
+        g.draw(gl, renderer);
+        pmv.popMv();
+    }
+
+    void testScroll(final int itemCount, final int columns) {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getGL2ES2());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            final GL2ES2 gl = context.getGL().getGL2ES2();
+            final RegionRenderer renderer = RegionRenderer.create();
+            renderer.reshapeOrtho(64, 64, -1000f, 1000f);
+
+            final Source src = new Source(itemCount);
+            final CountingGroup g = new CountingGroup(src, columns);
+            // clipping window in modelview space: y in [0, CLIP_HEIGHT]
+            final Frustum clip = new Cube().set(new Vec3f(0, 0, -1), new Vec3f(columns * CELL, CLIP_HEIGHT, 1)).updateFrustumPlanes(new Frustum());
+            g.setClipMvFrustum(clip);
+            g.validate(gl);
+            Assert.assertEquals(1, g.getDirtyValidations());
+            Assert.assertEquals(g.getRowCount() * CELL, g.getBounds().getHeight(), 0f);
+
+            final int maxRows = (int)( CLIP_HEIGHT / CELL ) + 2;
+            final int maxVisible = maxRows * columns;
+            final float h = g.getRowCount() * CELL;
+            final int steps = 500;
+            final float step = 0.37f;
+            final long t0 = System.nanoTime();
+            for(int i=0; i<steps; ++i) {
+                // scroll from the top (first row) downwards, i.e. visible local y within [top - CLIP_HEIGHT, top]
+                final float top = h - i * step;
+                g.moveTo(0, CLIP_HEIGHT - top, 0);
+                draw(gl, renderer, g);
+
+                Assert.assertTrue(0 < g.getVisibleCount());
+                Assert.assertTrue("visible "+g.getVisibleCount(), g.getVisibleCount() <= maxVisible);
+                Assert.assertEquals(g.getVisibleCount(), g.getShapeCount());
+                Assert.assertTrue("pool "+g.getPoolSize(), g.getPoolSize() <= maxVisible);
+                Assert.assertTrue("created "+g.getCreatedShapeCount(), g.getCreatedShapeCount() <= 2 * maxVisible);
+                final int firstRow = (int)( i * step / CELL );
+                Assert.assertTrue("first "+g.getFirstVisibleIndex()+" vs row "+firstRow,
+                                  Math.abs(g.getFirstVisibleIndex() / columns - firstRow) <= 1);
+                for(int j=0; j<g.getShapeCount(); ++j) {
+                    final Cell c = (Cell) g.getShapes().get(j);
+                    Assert.assertTrue(g.getFirstVisibleIndex() <= c.idx && c.idx < g.getFirstVisibleIndex() + g.getVisibleCount());
+                }
+            }
+            final long t1 = System.nanoTime();
+            // no full re-layout while scrolling, each bound cell validated exactly once
+            Assert.assertEquals(1, g.getDirtyValidations());
+            int validations = 0;
+            for(int j=0; j<g.getShapeCount(); ++j) {
+                validations += ((Cell) g.getShapes().get(j)).dirtyValidations;
+            }
+            Assert.assertTrue(validations <= src.binds);
+            System.err.println("VirtualGroup items "+itemCount+", cols "+columns+": "+steps+" scroll steps in "+( t1 - t0 ) / 1000000.0+" ms, binds "+src.binds+", "+g);
+            g.destroy(gl, renderer);
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    @Test
+    public void test01List() {
+        testScroll(100000, 1);
+    }
+
+    @Test
+    public void test02Grid() {
+        testScroll(100000, 7);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestVirtualGroupNEWT00.class.getName());
+    }
+}
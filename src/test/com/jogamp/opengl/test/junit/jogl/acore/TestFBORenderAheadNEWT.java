@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.FBObject;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the render-ahead mode of {@link com.jogamp.opengl.GLFBODrawable} w/ three FBOs,
+ * i.e. {@link com.jogamp.opengl.GLFBODrawable#getCompletedFBObject(GL)} returning the latest completed frame.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFBORenderAheadNEWT extends UITestCase {
+    static final int frames = 10;
+
+    /** Clears each frame w/ a distinct red value */
+    static class FrameClear implements GLEventListener {
+        int frame = 0;
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            frame++;
+            final GL gl = drawable.getGL();
+            gl.glClearColor(getRed(frame)/255f, 0f, 0f, 1f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+    static int getRed(final int frame) { return ( frame * 20 ) % 256; }
+
+    @Test
+    public void test01TripleBuffer() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setFBO(true);
+        caps.setDoubleBuffered(true);
+        final GLOffscreenAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        Assert.assertTrue(glad instanceof GLOffscreenAutoDrawable.FBO);
+        final GLOffscreenAutoDrawable.FBO fboGlad = (GLOffscreenAutoDrawable.FBO)glad;
+        Assert.assertEquals(3, fboGlad.setNumBuffers(3));
+
+        final FrameClear clear = new FrameClear();
+        glad.addGLEventListener(clear);
+        for(int i=0; i<frames; i++) {
+            glad.display();
+        }
+        Assert.assertEquals(3, fboGlad.getNumBuffers());
+
+        final ByteBuffer pixel = Buffers.newDirectByteBuffer(4);
+        final boolean[] res = { false };
+        glad.invoke(true, new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                gl.glFinish(); // all swapped frames completed
+                final FBObject completed = fboGlad.getCompletedFBObject(gl);
+                Assert.assertNotNull(completed);
+                Assert.assertNotSame(fboGlad.getFBObject(GL.GL_BACK), completed);
+                Assert.assertSame(fboGlad.getFBObject(GL.GL_FRONT), completed);
+
+                gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, completed.getReadFramebuffer());
+                gl.glReadPixels(0, 0, 1, 1, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixel);
+                gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, gl.getDefaultDrawFramebuffer());
+                res[0] = true;
+                return true;
+            } });
+        Assert.assertTrue(res[0]);
+        // the invoked display renders one more frame into the back buffer
+        Assert.assertEquals(frames+1, clear.frame);
+        final int red = pixel.get(0) & 0xff;
+        System.err.println("Completed frame red "+red+", expected "+getRed(frames));
+        Assert.assertEquals(getRed(frames), red, 1);
+        glad.destroy();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFBORenderAheadNEWT.class.getName());
+    }
+}
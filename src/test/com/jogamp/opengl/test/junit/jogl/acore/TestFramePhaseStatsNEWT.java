@@ -0,0 +1,92 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.FramePhaseCounter;
+import com.jogamp.opengl.FramePhaseStats;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates the {@link FramePhaseStats} recorded via {@link FramePhaseCounter} of a {@link GLOffscreenAutoDrawable}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFramePhaseStatsNEWT extends UITestCase {
+    static int frames = 100;
+
+    @Test
+    public void test01GearsES2() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        drawable.addGLEventListener(new GearsES2(0));
+        drawable.display(); // trigger context creation ..
+
+        final FramePhaseCounter counter = (FramePhaseCounter) drawable;
+        Assert.assertNull(counter.getFramePhaseStats());
+        final FramePhaseStats stats = new FramePhaseStats("gears", 64);
+        counter.setFramePhaseStats(stats);
+        stats.setJFREventsEnabled(true); // NOP w/o JFR
+        for(int i=0; i<frames; i++) {
+            drawable.display();
+        }
+        counter.setFramePhaseStats(null);
+        drawable.display(); // not recorded
+        drawable.destroy();
+
+        final FramePhaseStats.Snapshot s = stats.snapshot();
+        System.err.println(s);
+        Assert.assertEquals(frames, s.getFrameCount());
+        Assert.assertEquals(64, s.getSampleCount());
+        Assert.assertTrue(0 < s.getPercentileNanos(FramePhaseStats.RENDER, 50));
+        Assert.assertTrue(s.getPercentileNanos(FramePhaseStats.TOTAL, 50) <= s.getPercentileNanos(FramePhaseStats.TOTAL, 99));
+        Assert.assertTrue(s.getPercentileNanos(FramePhaseStats.TOTAL, 99) <= s.getMaxNanos(FramePhaseStats.TOTAL));
+        Assert.assertTrue(s.getMinNanos(FramePhaseStats.RENDER) <= s.getMeanNanos(FramePhaseStats.RENDER));
+
+        stats.reset();
+        Assert.assertEquals(0, stats.snapshot().getSampleCount());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFramePhaseStatsNEWT.class.getName());
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.opengl.util.GLOffscreenAutoDrawablePool;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLOffscreenAutoDrawablePool} reuse, resize, state reset and eviction.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLOffscreenAutoDrawablePoolNEWT extends UITestCase {
+
+    static class DisposeTracker implements GLEventListener {
+        volatile boolean disposed;
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { disposed = true; }
+        @Override
+        public void display(final GLAutoDrawable drawable) { }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    @Test
+    public void test01ReuseAndReset() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawablePool pool = new GLOffscreenAutoDrawablePool(GLDrawableFactory.getFactory(glp), null, 2);
+
+        final GLOffscreenAutoDrawablePool.Lease l1 = pool.acquire(caps, 200, 100);
+        final GLOffscreenAutoDrawable d1 = l1.getDrawable();
+        Assert.assertTrue(d1.isRealized());
+        Assert.assertNotNull(d1.getContext());
+        Assert.assertEquals(200, d1.getSurfaceWidth());
+        Assert.assertEquals(100, d1.getSurfaceHeight());
+        Assert.assertEquals(1, pool.getMissCount());
+        Assert.assertEquals(1, pool.getLeasedCount());
+
+        final DisposeTracker tracker = new DisposeTracker();
+        d1.addGLEventListener(new GearsES2(0));
+        d1.addGLEventListener(tracker);
+        d1.setAutoSwapBufferMode(false);
+        d1.display();
+        l1.release();
+        Assert.assertTrue(l1.isReleased());
+        Assert.assertTrue(tracker.disposed);
+        Assert.assertEquals(0, d1.getGLEventListenerCount());
+        Assert.assertTrue(d1.getAutoSwapBufferMode());
+        Assert.assertEquals(1, pool.getIdleCount());
+        Assert.assertEquals(0, pool.getLeasedCount());
+        try {
+            l1.release();
+            Assert.fail("Released twice");
+        } catch (final IllegalStateException ise) { }
+
+        // same size class 256x128, resized
+        final long t0 = System.nanoTime();
+        final GLOffscreenAutoDrawablePool.Lease l2 = pool.acquire(caps, 220, 120);
+        final long t1 = System.nanoTime();
+        Assert.assertSame(d1, l2.getDrawable());
+        Assert.assertEquals(220, d1.getSurfaceWidth());
+        Assert.assertEquals(120, d1.getSurfaceHeight());
+        Assert.assertEquals(1, pool.getHitCount());
+        Assert.assertEquals(1, pool.getResizeCount());
+        l2.release();
+
+        // exact size, no resize
+        final long t2 = System.nanoTime();
+        final GLOffscreenAutoDrawablePool.Lease l3 = pool.acquire(caps, 220, 120);
+        final long t3 = System.nanoTime();
+        Assert.assertSame(d1, l3.getDrawable());
+        Assert.assertEquals(2, pool.getHitCount());
+        Assert.assertEquals(1, pool.getResizeCount());
+
+        // other size class -> miss
+        final GLOffscreenAutoDrawablePool.Lease l4 = pool.acquire(caps, 64, 64);
+        final GLOffscreenAutoDrawable d4 = l4.getDrawable();
+        Assert.assertNotSame(d1, d4);
+        Assert.assertEquals(2, pool.getMissCount());
+        System.err.println("Acquire: resize "+(t1-t0)/1000+" us, exact "+(t3-t2)/1000+" us");
+        l3.release();
+        l4.discard();
+        Assert.assertFalse(d4.isRealized());
+        Assert.assertEquals(1, pool.getIdleCount());
+        System.err.println(pool);
+
+        pool.destroy();
+        Assert.assertEquals(0, pool.getIdleCount());
+        Assert.assertFalse(d1.isRealized());
+    }
+
+    @Test
+    public void test02Eviction() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawablePool pool = new GLOffscreenAutoDrawablePool(GLDrawableFactory.getFactory(glp), null, 2);
+        final GLOffscreenAutoDrawablePool.Lease[] leases = new GLOffscreenAutoDrawablePool.Lease[3];
+        for(int i=0; i<leases.length; i++) {
+            leases[i] = pool.acquire(caps, 128, 128);
+        }
+        Assert.assertEquals(3, pool.getMissCount());
+        for(int i=0; i<leases.length; i++) {
+            leases[i].release();
+        }
+        Assert.assertEquals(2, pool.getIdleCount());
+        Assert.assertEquals(1, pool.getEvictionCount());
+        pool.destroy();
+        Assert.assertEquals(3, pool.getEvictionCount());
+    }
+
+    static int getInteger(final GL gl, final int pname) {
+        final int[] val = { -1 };
+        gl.glGetIntegerv(pname, val, 0);
+        return val[0];
+    }
+
+    @Test
+    public void test03GLStateReset() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawablePool pool = new GLOffscreenAutoDrawablePool(GLDrawableFactory.getFactory(glp), null, 2);
+
+        final GLOffscreenAutoDrawablePool.Lease l1 = pool.acquire(caps, 64, 64);
+        final GLOffscreenAutoDrawable d1 = l1.getDrawable();
+        final GLContext context = d1.getContext();
+        final int[] names = new int[2];
+        context.makeCurrent();
+        try {
+            final GL gl = context.getGL();
+            gl.glEnable(GL.GL_BLEND);
+            gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+            gl.glClearColor(0.25f, 0.5f, 0.75f, 1f);
+            gl.glGenBuffers(1, names, 0);
+            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, names[0]);
+            gl.glGenTextures(1, names, 1);
+            gl.glActiveTexture(GL.GL_TEXTURE1);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, names[1]);
+            Assert.assertEquals(names[1], getInteger(gl, GL.GL_TEXTURE_BINDING_2D));
+        } finally {
+            context.release();
+        }
+        l1.release();
+
+        final GLOffscreenAutoDrawablePool.Lease l2 = pool.acquire(caps, 64, 64);
+        Assert.assertSame(d1, l2.getDrawable());
+        context.makeCurrent();
+        try {
+            final GL gl = context.getGL();
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            Assert.assertFalse(gl.glIsEnabled(GL.GL_BLEND));
+            Assert.assertEquals(GL.GL_ONE, getInteger(gl, GL.GL_BLEND_SRC_RGB));
+            Assert.assertEquals(GL.GL_ZERO, getInteger(gl, GL.GL_BLEND_DST_RGB));
+            final float[] clearColor = new float[4];
+            gl.glGetFloatv(GL.GL_COLOR_CLEAR_VALUE, clearColor, 0);
+            Assert.assertArrayEquals(new float[] { 0f, 0f, 0f, 0f }, clearColor, 0f);
+            Assert.assertEquals(0, getInteger(gl, GL2ES2.GL_CURRENT_PROGRAM));
+            Assert.assertEquals(0, getInteger(gl, GL.GL_ARRAY_BUFFER_BINDING));
+            Assert.assertEquals(GL.GL_TEXTURE0, getInteger(gl, GL.GL_ACTIVE_TEXTURE));
+            Assert.assertEquals(0, getInteger(gl, GL.GL_TEXTURE_BINDING_2D));
+            gl.glActiveTexture(GL.GL_TEXTURE1);
+            Assert.assertEquals(0, getInteger(gl, GL.GL_TEXTURE_BINDING_2D));
+            gl.glActiveTexture(GL.GL_TEXTURE0);
+            gl.glDeleteBuffers(1, names, 0);
+            gl.glDeleteTextures(1, names, 1);
+        } finally {
+            context.release();
+        }
+        l2.release();
+        pool.destroy();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLOffscreenAutoDrawablePoolNEWT.class.getName());
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.GLRunnableQueue;
+import com.jogamp.opengl.GLRunnableQueueStats;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates {@link GLRunnableQueue} of a {@link GLOffscreenAutoDrawable},
+ * i.e. per producer order, execution w/ current context before display and overflow handling.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLRunnableQueueNEWT extends UITestCase {
+    static final int producerCount = 4;
+    static final int perProducer = 1000; // exceeds the ring capacity in total
+
+    static class Recorder implements GLRunnable {
+        final int[] last;
+        final int producer;
+        final int seq;
+        final boolean[] failed;
+
+        Recorder(final int[] last, final boolean[] failed, final int producer, final int seq) {
+            this.last = last;
+            this.failed = failed;
+            this.producer = producer;
+            this.seq = seq;
+        }
+        @Override
+        public boolean run(final GLAutoDrawable drawable) {
+            if( !drawable.getContext().isCurrent() || last[producer] + 1 != seq ) {
+                failed[0] = true;
+            }
+            last[producer] = seq;
+            return true;
+        }
+    }
+
+    @Test
+    public void test01MultiProducer() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.addGLEventListener(new GearsES2(0));
+        drawable.display(); // trigger context creation ..
+
+        final GLRunnableQueue queue = (GLRunnableQueue) drawable;
+        Assert.assertEquals(0, queue.getGLRunnableQueueStats().getEnqueuedCount());
+
+        final int[] last = new int[producerCount];
+        final boolean[] failed = new boolean[] { false };
+        for(int i=0; i<producerCount; i++) {
+            last[i] = -1;
+        }
+        final Thread[] producers = new Thread[producerCount];
+        for(int i=0; i<producerCount; i++) {
+            final int producer = i;
+            producers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j=0; j<perProducer; j++) {
+                        queue.enqueueGLRunnable(new Recorder(last, failed, producer, j));
+                    }
+                } }, getSimpleTestName(".")+"-Producer-"+i);
+        }
+        for(int i=0; i<producerCount; i++) {
+            producers[i].start();
+        }
+        while( !allDone(producers) ) {
+            drawable.display();
+        }
+        for(int i=0; i<producerCount; i++) {
+            producers[i].join();
+        }
+        drawable.display(); // drain remaining
+
+        final GLRunnableQueueStats stats = queue.getGLRunnableQueueStats();
+        System.err.println(stats);
+        Assert.assertFalse(failed[0]);
+        for(int i=0; i<producerCount; i++) {
+            Assert.assertEquals(perProducer-1, last[i]);
+        }
+        Assert.assertEquals(producerCount*perProducer, stats.getEnqueuedCount());
+        Assert.assertEquals(producerCount*perProducer, stats.getExecutedCount());
+        Assert.assertEquals(0, stats.getDepth());
+        Assert.assertTrue(stats.getMeanLatencyNanos() <= stats.getMaxLatencyNanos());
+
+        // discarded by flush
+        queue.enqueueGLRunnable(new Recorder(last, failed, 0, perProducer));
+        Assert.assertEquals(1, queue.getGLRunnableQueueStats().getDepth());
+        drawable.flushGLRunnables();
+        drawable.display();
+        Assert.assertEquals(perProducer-1, last[0]);
+        Assert.assertEquals(1, queue.getGLRunnableQueueStats().getDiscardedCount());
+        drawable.destroy();
+    }
+
+    @Test
+    public void test02Overflow() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+
+        final GLRunnableQueue queue = (GLRunnableQueue) drawable;
+        final int[] last = new int[] { -1 };
+        final boolean[] failed = new boolean[] { false };
+        final int count = 3000;
+        int inSlots = 0;
+        for(int j=0; j<count; j++) {
+            if( queue.enqueueGLRunnable(new Recorder(last, failed, 0, j)) ) {
+                inSlots++;
+            }
+        }
+        GLRunnableQueueStats stats = queue.getGLRunnableQueueStats();
+        System.err.println(stats);
+        Assert.assertEquals(stats.getCapacity(), inSlots);
+        Assert.assertEquals(count - inSlots, stats.getOverflowCount());
+        Assert.assertEquals(count, stats.getDepth());
+
+        drawable.display();
+        stats = queue.getGLRunnableQueueStats();
+        System.err.println(stats);
+        Assert.assertFalse(failed[0]);
+        Assert.assertEquals(count-1, last[0]);
+        Assert.assertEquals(count, stats.getExecutedCount());
+        Assert.assertEquals(0, stats.getDepth());
+
+        // slots are available again
+        Assert.assertTrue(queue.enqueueGLRunnable(new Recorder(last, failed, 0, count)));
+        drawable.display();
+        Assert.assertFalse(failed[0]);
+        Assert.assertEquals(count, last[0]);
+        drawable.destroy();
+    }
+
+    private static boolean allDone(final Thread[] threads) {
+        for(int i=0; i<threads.length; i++) {
+            if( threads[i].isAlive() ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLRunnableQueueNEWT.class.getName());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.jogamp.junit.util.JunitTracer;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLRunnable;
+
+import jogamp.opengl.GLRunnableRing;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link GLRunnableRing}'s per producer order w/ a claimed but not yet published slot
+ * followed by overflowed {@link GLRunnable}s, w/o GL.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLRunnableRing00NOUI extends JunitTracer {
+
+    static class Recorder implements GLRunnable {
+        final List<Integer> order;
+        final int id;
+        Recorder(final List<Integer> order, final int id) {
+            this.order = order;
+            this.id = id;
+        }
+        @Override
+        public boolean run(final GLAutoDrawable drawable) {
+            order.add(id);
+            return true;
+        }
+    }
+
+    static Object getField(final GLRunnableRing ring, final String name) throws ReflectiveOperationException {
+        final Field f = GLRunnableRing.class.getDeclaredField(name);
+        f.setAccessible(true);
+        return f.get(ring);
+    }
+
+    @Test
+    public void test01OverflowAfterUnpublishedSlot() throws ReflectiveOperationException {
+        final GLRunnableRing ring = new GLRunnableRing(2);
+        final List<Integer> order = new ArrayList<Integer>();
+        final AtomicLong tail = (AtomicLong) getField(ring, "tail");
+        final AtomicLongArray sequences = (AtomicLongArray) getField(ring, "sequences");
+        final GLRunnable[] items = (GLRunnable[]) getField(ring, "items");
+
+        Assert.assertTrue(ring.offer(new Recorder(order, 0)));
+        // a producer claims slot 1 w/o publishing it yet
+        final long pos = tail.getAndIncrement();
+        Assert.assertEquals(1, pos);
+        // .. and overflows w/ its next runnable, as the ring is full
+        Assert.assertFalse(ring.offer(new Recorder(order, 2)));
+        Assert.assertEquals(3, ring.getDepth());
+
+        Assert.assertEquals(1, ring.drain(null));
+        Assert.assertEquals(1, order.size());
+        Assert.assertTrue(ring.hasPending());
+
+        // publish the claimed slot
+        items[(int)pos & 1] = new Recorder(order, 1);
+        sequences.set((int)pos & 1, pos + 1);
+
+        Assert.assertEquals(2, ring.drain(null));
+        Assert.assertEquals(3, order.size());
+        for(int i=0; i<order.size(); i++) {
+            Assert.assertEquals(i, order.get(i).intValue());
+        }
+        Assert.assertFalse(ring.hasPending());
+        Assert.assertEquals(0, ring.getDepth());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLRunnableRing00NOUI.class.getName());
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.jogamp.nativewindow.AbstractGraphicsDevice;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import jogamp.opengl.GLVersionProbeCache;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates the {@link GLVersionProbeCache} entry written at initial GL version mapping,
+ * enabled via property <code>jogl.cache.GLVersions</code> ahead of {@link GLProfile#initSingleton()}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLVersionProbeCacheNEWT extends UITestCase {
+    static final File cacheFile;
+
+    static {
+        try {
+            cacheFile = File.createTempFile("jogl-glversions", ".properties");
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        cacheFile.delete();
+        cacheFile.deleteOnExit();
+        System.setProperty("jogl.cache.GLVersions", cacheFile.getAbsolutePath());
+    }
+
+    @Test
+    public void test01CacheWritten() {
+        GLProfile.initSingleton();
+        Assert.assertTrue(GLVersionProbeCache.ENABLED);
+        Assert.assertEquals(cacheFile.getAbsolutePath(), GLVersionProbeCache.getFile().getAbsolutePath());
+
+        final GLProfile glp = GLProfile.getDefault();
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final AbstractGraphicsDevice device = factory.getDefaultDevice();
+        final GLVersionProbeCache.Entry e = GLVersionProbeCache.get(device);
+        if( null == e ) {
+            System.err.println("No cached GL versions for "+device+", i.e. no ARB context creation, skipped");
+            return;
+        }
+        System.err.println(e);
+        Assert.assertTrue(cacheFile.isFile());
+        Assert.assertTrue(0 < e.getMappingCount());
+
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(device, new GLCapabilities(glp), null, 64, 64);
+        final String[] vendorRenderer = { null, null };
+        drawable.addGLEventListener(new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                vendorRenderer[0] = gl.glGetString(GL.GL_VENDOR);
+                vendorRenderer[1] = gl.glGetString(GL.GL_RENDERER);
+            }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) { }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        drawable.display();
+        drawable.destroy();
+        Assert.assertEquals(e.vendor, vendorRenderer[0]);
+        Assert.assertEquals(e.renderer, vendorRenderer[1]);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestGLVersionProbeCacheNEWT.class.getName());
+    }
+}
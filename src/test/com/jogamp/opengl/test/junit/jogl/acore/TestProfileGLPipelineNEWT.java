@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCallProfiler;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLPipelineFactory;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates the generated <code>ProfileGL*</code> pipeline and its {@link GLCallProfiler} statistics.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestProfileGLPipelineNEWT extends UITestCase {
+    static int frames = 60;
+
+    @Test
+    public void test01GearsES2() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        drawable.display(); // trigger context creation ..
+        drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.Profile", null, drawable.getGL(), null) );
+        final GLCallProfiler profiler = GLCallProfiler.get(drawable.getGL());
+        Assert.assertNotNull(profiler);
+
+        drawable.addGLEventListener(new GearsES2(0));
+        for(int i=0; i<frames; i++) {
+            drawable.display();
+        }
+        final GLCallProfiler.Snapshot s0 = profiler.snapshot();
+        System.err.println(s0.toString(null, 20));
+        final GLCallProfiler.Entry clear = s0.getEntry("glClear");
+        Assert.assertNotNull(clear);
+        Assert.assertTrue(frames <= clear.getCount());
+        Assert.assertTrue(0 < s0.getTotalNanos());
+
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            final GL gl = context.getGL();
+            final int[] names = new int[1];
+            gl.glGenBuffers(1, names, 0);
+            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, names[0]);
+            final ByteBuffer data = Buffers.newDirectByteBuffer(1024);
+            gl.glBufferData(GL.GL_ARRAY_BUFFER, data.remaining(), data, GL.GL_STATIC_DRAW);
+            gl.glBufferData(GL.GL_ARRAY_BUFFER, data.remaining(), null, GL.GL_STATIC_DRAW);
+            gl.glBufferSubData(GL.GL_ARRAY_BUFFER, 0, 256, data);
+            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+            gl.glDeleteBuffers(1, names, 0);
+        } finally {
+            context.release();
+        }
+        final GLCallProfiler.Snapshot s1 = profiler.snapshot().since(s0);
+        System.err.println(s1.toString(null, 20));
+        Assert.assertEquals(2, s1.getEntry("glBufferData").getCount());
+        Assert.assertEquals(1024, s1.getEntry("glBufferData").getBytes());
+        Assert.assertEquals(256, s1.getEntry("glBufferSubData").getBytes());
+        Assert.assertNull(s1.getEntry("glClear"));
+
+        drawable.destroy();
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-frames")) {
+                frames = Integer.parseInt(args[++i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestProfileGLPipelineNEWT.class.getName());
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLPipelineFactory;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLStateFilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates the generated <code>StateFilterGL*</code> pipeline,
+ * i.e. redundant state calls are elided while the resulting GL state stays intact.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStateFilterGLPipelineNEWT extends UITestCase {
+    static int frames = 60;
+
+    private static GLOffscreenAutoDrawable createDrawable() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        drawable.display(); // trigger context creation ..
+        drawable.setGL( GLPipelineFactory.create("com.jogamp.opengl.StateFilter", null, drawable.getGL(), null) );
+        return drawable;
+    }
+
+    @Test
+    public void test01ElideRedundantCalls() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLOffscreenAutoDrawable drawable = createDrawable();
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            final GL gl = context.getGL();
+            final GLStateFilter filter = GLStateFilter.get(gl);
+            Assert.assertNotNull(filter);
+            final int[] tex = new int[2];
+            final int[] val = new int[1];
+            gl.glGenTextures(2, tex, 0);
+
+            gl.glActiveTexture(GL.GL_TEXTURE0);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, tex[0]);
+            gl.glEnable(GL.GL_BLEND);
+            gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+            final long passed = filter.getPassedCount();
+            Assert.assertEquals(0, filter.getElidedCount());
+            for(int i=0; i<10; i++) {
+                gl.glActiveTexture(GL.GL_TEXTURE0);
+                gl.glBindTexture(GL.GL_TEXTURE_2D, tex[0]);
+                gl.glEnable(GL.GL_BLEND);
+                gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+            }
+            Assert.assertEquals(40, filter.getElidedCount());
+            Assert.assertEquals(passed, filter.getPassedCount());
+
+            // changes pass
+            gl.glBindTexture(GL.GL_TEXTURE_2D, tex[1]);
+            gl.glDisable(GL.GL_BLEND);
+            Assert.assertEquals(passed+2, filter.getPassedCount());
+            gl.glGetIntegerv(GL.GL_TEXTURE_BINDING_2D, val, 0);
+            Assert.assertEquals(tex[1], val[0]);
+            Assert.assertFalse(gl.glIsEnabled(GL.GL_BLEND));
+
+            // external change via downstream GL, announced by invalidation
+            gl.getDownstreamGL().glBindTexture(GL.GL_TEXTURE_2D, tex[0]);
+            filter.invalidateTextureBindings();
+            gl.glActiveTexture(GL.GL_TEXTURE0);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, tex[1]);
+            gl.glGetIntegerv(GL.GL_TEXTURE_BINDING_2D, val, 0);
+            Assert.assertEquals(tex[1], val[0]);
+
+            // deletion invalidates
+            gl.glDeleteTextures(2, tex, 0);
+            gl.glGetIntegerv(GL.GL_TEXTURE_BINDING_2D, val, 0);
+            Assert.assertEquals(0, val[0]);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            System.err.println(filter);
+        } finally {
+            context.release();
+        }
+        drawable.destroy();
+    }
+
+    @Test
+    public void test02GearsES2() {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("GL2ES2 n/a, skipped");
+            return;
+        }
+        final GLOffscreenAutoDrawable drawable = createDrawable();
+        final GLStateFilter filter = GLStateFilter.get(drawable.getGL());
+        drawable.addGLEventListener(new GearsES2(0));
+        for(int i=0; i<frames; i++) {
+            drawable.display();
+        }
+        System.err.println(filter);
+        Assert.assertTrue(0 < filter.getPassedCount());
+        final GL2ES2 gl = drawable.getGL().getGL2ES2();
+        drawable.getContext().makeCurrent();
+        try {
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        } finally {
+            drawable.getContext().release();
+        }
+        drawable.destroy();
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-frames")) {
+                frames = Integer.parseInt(args[++i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestStateFilterGLPipelineNEWT.class.getName());
+    }
+}
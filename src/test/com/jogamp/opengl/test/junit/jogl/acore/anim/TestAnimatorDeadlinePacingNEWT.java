@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link Animator}'s deadline pacing reaching the target rate
+ * w/o exceeding it, using an offscreen drawable w/o vsync.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAnimatorDeadlinePacingNEWT extends UITestCase {
+    static long duration = 1000; // ms
+
+    @Test
+    public void test01Pacing60FPS() throws InterruptedException {
+        testPacing(60f);
+    }
+
+    @Test
+    public void test02Pacing30FPS() throws InterruptedException {
+        testPacing(30f);
+    }
+
+    private void testPacing(final float fps) throws InterruptedException {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 256, 256);
+        Assert.assertNotNull(glad);
+        glad.addGLEventListener(new GearsES2(0));
+
+        final Animator animator = new Animator(0 /* w/o AWT */);
+        animator.setDeadlinePacing(fps);
+        Assert.assertEquals(fps, animator.getDeadlinePacingFPS(), 0f);
+        animator.setUpdateFPSFrames(1, null);
+        animator.add(glad);
+        animator.start();
+        Assert.assertTrue(animator.isAnimating());
+
+        Thread.sleep(duration);
+
+        final float totalFPS = animator.getTotalFPS();
+        System.err.println("Target "+fps+" fps: total "+totalFPS+" fps, missed "+animator.getMissedDeadlines()+
+                           ", predicted cost "+animator.getPredictedFrameCost()/1000+" us");
+        System.err.println(animator.getFrameIntervalStats());
+        animator.stop();
+        Assert.assertFalse(animator.isAnimating());
+        glad.destroy();
+
+        Assert.assertTrue("Too fast: "+totalFPS, totalFPS <= fps * 1.1f);
+        Assert.assertTrue("Too slow: "+totalFPS, totalFPS >= fps * 0.5f);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestAnimatorDeadlinePacingNEWT.class.getName());
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.AnimatorBase;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates {@link AnimatorBase#MODE_PARALLEL_RENDERING} w/ multiple offscreen drawables,
+ * each rendered on its worker thread holding its exclusive context.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAnimatorParallelNEWT extends UITestCase {
+    static long duration = 500; // ms
+    static final int drawableCount = 4;
+
+    static class ThreadTracker implements GLEventListener {
+        volatile Thread displayThread;
+        volatile int frames;
+        volatile boolean threadChanged;
+
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final Thread t = Thread.currentThread();
+            if( null != displayThread && t != displayThread ) {
+                threadChanged = true;
+            }
+            displayThread = t;
+            frames++;
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    @Test
+    public void test01Parallel() throws InterruptedException {
+        testParallel(AnimatorBase.MODE_PARALLEL_RENDERING);
+    }
+
+    @Test
+    public void test02ParallelSwapBarrier() throws InterruptedException {
+        testParallel(AnimatorBase.MODE_PARALLEL_RENDERING | AnimatorBase.MODE_PARALLEL_SWAP_BARRIER);
+    }
+
+    /** Queries the {@link Animator}'s synchronized state on its worker thread each frame. */
+    static class AnimatorQuery implements GLEventListener {
+        final Animator animator;
+        volatile int queries;
+
+        AnimatorQuery(final Animator animator) { this.animator = animator; }
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            if( animator.isStarted() && ( animator.isAnimating() || animator.isPaused() ) ) {
+                queries++;
+            }
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    @Test
+    public void test03QueryAnimatorWhilePausing() throws InterruptedException {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable[] glads = new GLOffscreenAutoDrawable[drawableCount];
+        final Animator animator = new Animator(AnimatorBase.MODE_PARALLEL_RENDERING);
+        final AnimatorQuery[] queries = new AnimatorQuery[drawableCount];
+        for(int i=0; i<drawableCount; i++) {
+            glads[i] = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+            queries[i] = new AnimatorQuery(animator);
+            glads[i].addGLEventListener(queries[i]);
+            animator.add(glads[i]);
+        }
+        animator.start();
+        Thread.sleep(duration/2);
+
+        for(int j=0; j<3; j++) {
+            // pause propagates the exclusive context release via display() on the worker threads
+            final Thread pauser = new Thread( () -> animator.pause(), getSimpleTestName(".")+"-Pause" );
+            pauser.start();
+            pauser.join(5000);
+            Assert.assertFalse("pause() deadlocked", pauser.isAlive());
+            Assert.assertTrue(animator.isPaused());
+            Assert.assertFalse(animator.isAnimating());
+            for(int i=0; i<drawableCount; i++) {
+                Assert.assertNull("ECT of #"+i, glads[i].getExclusiveContextThread());
+            }
+            Assert.assertTrue(animator.resume());
+            Assert.assertTrue(animator.isAnimating());
+            Thread.sleep(duration/4);
+            for(int i=0; i<drawableCount; i++) {
+                Assert.assertNotNull("ECT of #"+i, glads[i].getExclusiveContextThread());
+            }
+        }
+        for(int i=0; i<drawableCount; i++) {
+            Assert.assertTrue(0 < queries[i].queries);
+        }
+        animator.stop();
+        for(int i=0; i<drawableCount; i++) {
+            glads[i].destroy();
+        }
+    }
+
+    private void testParallel(final int modeBits) throws InterruptedException {
+        final boolean swapBarrier = 0 != ( AnimatorBase.MODE_PARALLEL_SWAP_BARRIER & modeBits );
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable[] glads = new GLOffscreenAutoDrawable[drawableCount];
+        final ThreadTracker[] trackers = new ThreadTracker[drawableCount];
+
+        final Animator animator = new Animator(modeBits);
+        Assert.assertTrue(animator.isExclusiveContextEnabled());
+        for(int i=0; i<drawableCount; i++) {
+            glads[i] = factory.createOffscreenAutoDrawable(null, caps, null, 256, 256);
+            Assert.assertNotNull(glads[i]);
+            trackers[i] = new ThreadTracker();
+            glads[i].addGLEventListener(new GearsES2(0));
+            glads[i].addGLEventListener(trackers[i]);
+            animator.add(glads[i]);
+        }
+        animator.setUpdateFPSFrames(60, System.err);
+        animator.start();
+        Assert.assertTrue(animator.isAnimating());
+
+        Thread.sleep(duration);
+
+        final Thread animThread = animator.getThread();
+        for(int i=0; i<drawableCount; i++) {
+            final Thread ect = glads[i].getExclusiveContextThread();
+            Assert.assertNotNull("ECT of #"+i, ect);
+            Assert.assertNotSame(animThread, ect);
+            Assert.assertSame(ect, trackers[i].displayThread);
+            Assert.assertFalse(trackers[i].threadChanged);
+            Assert.assertTrue(0 < trackers[i].frames);
+            Assert.assertEquals(!swapBarrier, glads[i].getAutoSwapBufferMode());
+        }
+        System.err.println(animator);
+
+        animator.stop();
+        Assert.assertFalse(animator.isAnimating());
+        for(int i=0; i<drawableCount; i++) {
+            Assert.assertNull("ECT of #"+i, glads[i].getExclusiveContextThread());
+            Assert.assertTrue(glads[i].getAutoSwapBufferMode());
+            System.err.println("#"+i+": frames "+trackers[i].frames+", thread "+trackers[i].displayThread.getName());
+            glads[i].destroy();
+        }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                i++;
+                try {
+                    duration = Integer.parseInt(args[i]);
+                } catch (final Exception ex) { ex.printStackTrace(); }
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestAnimatorParallelNEWT.class.getName());
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import jogamp.opengl.util.av.AdaptiveTextureCount;
+
+/**
+ * Validates the {@link AdaptiveTextureCount} decode jitter statistics and its texture count evaluation.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAdaptiveTextureCount00 extends SingletonJunitCase {
+    static final float FRAME_DURATION = 1000f / 25f; // 40ms
+    static final int MIN = 2;
+    static final int MAX = 8;
+
+    @Test
+    public void test01SteadyDecode() {
+        final AdaptiveTextureCount a = new AdaptiveTextureCount();
+        Assert.assertEquals(3, a.evaluate(3, MIN, MAX, FRAME_DURATION, 1000));
+        for(int i=0; i<100; i++) {
+            a.addDecodeDuration(5f);
+        }
+        System.err.println(a);
+        Assert.assertEquals(5f, a.getAvgDecodeMillis(), 0.001f);
+        Assert.assertEquals(0f, a.getJitterMillis(), 0.001f);
+        Assert.assertEquals(3, a.getRequiredCount(FRAME_DURATION));
+        long t = 1000;
+        for(int i=0; i<20; i++, t+=AdaptiveTextureCount.EVAL_PERIOD_MS) {
+            Assert.assertEquals(3, a.evaluate(3, MIN, MAX, FRAME_DURATION, t));
+        }
+    }
+
+    @Test
+    public void test02JitterGrowAndShrink() {
+        final AdaptiveTextureCount a = new AdaptiveTextureCount();
+        for(int i=0; i<100; i++) {
+            a.addDecodeDuration( 0 == i % 2 ? 10f : 90f );
+        }
+        System.err.println(a);
+        Assert.assertTrue(a.getJitterMillis() > 30f);
+        final int required = a.getRequiredCount(FRAME_DURATION);
+        Assert.assertTrue(required > 4);
+
+        // grows by one per evaluation period, clamped to max
+        long t = 0;
+        int count = MIN;
+        for(int i=0; i<20; i++) {
+            t += AdaptiveTextureCount.EVAL_PERIOD_MS;
+            final int c = a.evaluate(count, MIN, MAX, FRAME_DURATION, t);
+            Assert.assertTrue(c == count || c == count + 1);
+            count = c;
+        }
+        Assert.assertEquals(Math.min(MAX, required), count);
+        Assert.assertEquals(count, a.evaluate(count, MIN, MAX, FRAME_DURATION, t + 1)); // rate limited
+
+        // steady decode: shrinks only after hold time
+        for(int i=0; i<200; i++) {
+            a.addDecodeDuration(5f);
+        }
+        Assert.assertEquals(3, a.getRequiredCount(FRAME_DURATION));
+        t += AdaptiveTextureCount.EVAL_PERIOD_MS;
+        Assert.assertEquals(count, a.evaluate(count, MIN, MAX, FRAME_DURATION, t));
+        final long t0 = t;
+        while( t - t0 < AdaptiveTextureCount.SHRINK_HOLD_MS - AdaptiveTextureCount.EVAL_PERIOD_MS ) {
+            t += AdaptiveTextureCount.EVAL_PERIOD_MS;
+            Assert.assertEquals(count, a.evaluate(count, MIN, MAX, FRAME_DURATION, t));
+        }
+        t += AdaptiveTextureCount.EVAL_PERIOD_MS;
+        Assert.assertEquals(count - 1, a.evaluate(count, MIN, MAX, FRAME_DURATION, t));
+    }
+
+    @Test
+    public void test03Underrun() {
+        final AdaptiveTextureCount a = new AdaptiveTextureCount();
+        for(int i=0; i<10; i++) {
+            a.addDecodeDuration(5f);
+        }
+        a.addUnderrun();
+        Assert.assertEquals(4, a.evaluate(3, MIN, MAX, FRAME_DURATION, 1000));
+        a.addUnderrun();
+        Assert.assertEquals(MAX, a.evaluate(MAX, MIN, MAX, FRAME_DURATION, 2000));
+
+        a.reset();
+        Assert.assertEquals(0, a.getSampleCount());
+        Assert.assertEquals(3, a.evaluate(3, MIN, MAX, FRAME_DURATION, 3000));
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestAdaptiveTextureCount00.class.getName());
+    }
+}
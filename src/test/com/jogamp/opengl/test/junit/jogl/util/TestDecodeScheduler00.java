@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+import com.jogamp.opengl.util.av.DecodeScheduler;
+
+/**
+ * Validates the {@link DecodeScheduler} deadline priority and busy time shares using synthetic decode costs.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDecodeScheduler00 extends SingletonJunitCase {
+
+    /** Synthetic stream w/ a fixed decode cost, whose deadline advances by one frame duration per decoded frame. */
+    static class SyntheticStream implements DecodeScheduler.Stream {
+        final String name;
+        final int deadlineBase;
+        final long costMillis;
+        final int maxFrames;
+        final List<String> log;
+        volatile int frames = 0;
+
+        SyntheticStream(final String name, final int deadlineBase, final long costMillis, final int maxFrames, final List<String> log) {
+            this.name = name;
+            this.deadlineBase = deadlineBase;
+            this.costMillis = costMillis;
+            this.maxFrames = maxFrames;
+            this.log = log;
+        }
+        @Override
+        public boolean isReady() { return frames < maxFrames; }
+        @Override
+        public int getDeadline(final long currentMillis) { return deadlineBase + frames * 40; }
+        @Override
+        public void decode() {
+            try {
+                Thread.sleep(costMillis);
+            } catch (final InterruptedException e) { }
+            if( null != log ) {
+                synchronized( log ) {
+                    log.add(name);
+                }
+            }
+            frames++;
+        }
+        @Override
+        public String toString() { return name; }
+    }
+
+    static void waitForFrames(final DecodeScheduler ds, final SyntheticStream[] streams, final int frames) throws InterruptedException {
+        for(int i=0; i<500; i++) {
+            boolean done = true;
+            for(final SyntheticStream s : streams) {
+                done = done && ds.getDecodeCount(s) >= frames;
+            }
+            if( done ) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        Assert.fail("Timeout waiting for "+frames+" frames");
+    }
+
+    @Test
+    public void test01DeadlinePriority() throws InterruptedException {
+        final List<String> log = new ArrayList<String>();
+        final DecodeScheduler ds = new DecodeScheduler(1);
+        final SyntheticStream late = new SyntheticStream("late", -1000, 1, 5, log);
+        final SyntheticStream early = new SyntheticStream("early", 1000, 1, 5, log);
+        ds.register(late);
+        ds.register(early);
+        final SyntheticStream[] all = { late, early };
+        waitForFrames(ds, all, 5);
+        System.err.println(ds+": "+log);
+        synchronized( log ) {
+            Assert.assertEquals(10, log.size());
+            for(int i=0; i<5; i++) {
+                Assert.assertEquals("late", log.get(i));
+            }
+        }
+        Assert.assertEquals(5, ds.getDecodeCount(late));
+        Assert.assertEquals(5, ds.getDecodeCount(early));
+        ds.unregister(late);
+        ds.unregister(early);
+        Assert.assertEquals(0, ds.getStreamCount());
+        Assert.assertEquals(0f, ds.getShare(late), 0f);
+        ds.shutdown();
+    }
+
+    @Test
+    public void test02BusyShare() throws InterruptedException {
+        final DecodeScheduler ds = new DecodeScheduler(2);
+        final SyntheticStream[] streams = new SyntheticStream[4];
+        for(int i=0; i<streams.length; i++) {
+            // equal deadlines, i.e. round robin by decoded frames; odd streams w/ thrice the decode cost
+            streams[i] = new SyntheticStream("s"+i, 0, 0 == i % 2 ? 2 : 6, 20, null);
+            ds.register(streams[i]);
+        }
+        waitForFrames(ds, streams, 20);
+        float sum = 0f;
+        for(final SyntheticStream s : streams) {
+            final float share = ds.getShare(s);
+            System.err.println(s+": frames "+ds.getDecodeCount(s)+", share "+share);
+            Assert.assertEquals(20, ds.getDecodeCount(s));
+            sum += share;
+        }
+        Assert.assertEquals(1f, sum, 0.001f);
+        Assert.assertTrue(ds.getShare(streams[1]) > ds.getShare(streams[0]));
+        Assert.assertTrue(ds.getShare(streams[3]) > ds.getShare(streams[2]));
+
+        ds.resetStats();
+        Assert.assertEquals(0f, ds.getShare(streams[0]), 0f);
+        Assert.assertEquals(0, ds.getDecodeCount(streams[0]));
+        ds.shutdown();
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestDecodeScheduler00.class.getName());
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+import com.jogamp.opengl.FrameIntervalStats;
+
+import jogamp.opengl.FPSCounterImpl;
+
+/**
+ * Validates the lock-free {@link FPSCounterImpl} frame interval recording and its {@link FrameIntervalStats}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFPSCounterImpl00 extends SingletonJunitCase {
+
+    @Test
+    public void test01Intervals() throws InterruptedException {
+        final FPSCounterImpl c = new FPSCounterImpl(16);
+        c.setUpdateFPSFrames(10, System.err);
+        Assert.assertEquals(0, c.getFrameIntervalStats().getSampleCount());
+        for(int i=0; i<30; i++) {
+            Thread.sleep(2);
+            c.tickFPS();
+        }
+        Assert.assertEquals(30, c.getTotalFPSFrames());
+        final FrameIntervalStats s = c.getFrameIntervalStats();
+        System.err.println(s);
+        Assert.assertEquals(16, s.getSampleCount());
+        Assert.assertTrue(s.getMinNanos() >= 2000000L);
+        Assert.assertTrue(s.getMinNanos() <= s.getPercentileNanos(50));
+        Assert.assertTrue(s.getPercentileNanos(50) <= s.getPercentileNanos(99));
+        Assert.assertEquals(s.getMaxNanos(), s.getPercentileNanos(100));
+        Assert.assertTrue(0 < s.getMeanFPS() && s.getMeanFPS() <= 500f);
+        Assert.assertEquals(0, s.getDroppedFrames());
+
+        c.resetFPSCounter();
+        Assert.assertEquals(0, c.getTotalFPSFrames());
+        Assert.assertEquals(0, c.getFrameIntervalStats().getSampleCount());
+    }
+
+    @Test
+    public void test02DroppedFrames() throws InterruptedException {
+        final FPSCounterImpl c = new FPSCounterImpl();
+        c.setTargetFPS(200f); // 5ms
+        Assert.assertEquals(200f, c.getTargetFPS(), 0f);
+        c.tickFPS();
+        Thread.sleep(20); // >= 4 periods
+        c.tickFPS();
+        final FrameIntervalStats s = c.getFrameIntervalStats();
+        System.err.println(s);
+        Assert.assertEquals(1, s.getSampleCount());
+        Assert.assertEquals(5000000L, s.getTargetPeriodNanos());
+        Assert.assertTrue(3 <= s.getDroppedFrames());
+    }
+
+    @Test
+    public void test03ConcurrentReader() throws InterruptedException {
+        final FPSCounterImpl c = new FPSCounterImpl(64);
+        c.setUpdateFPSFrames(100, null);
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final Throwable[] caught = { null };
+        final Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while( !done.get() ) {
+                        final FrameIntervalStats s = c.getFrameIntervalStats();
+                        Assert.assertTrue(s.getSampleCount() <= 64);
+                        c.getLastFPS();
+                        c.getTotalFPS();
+                    }
+                } catch (final Throwable t) {
+                    caught[0] = t;
+                }
+            } }, "reader");
+        reader.start();
+        for(int i=0; i<100000; i++) {
+            c.tickFPS();
+        }
+        done.set(true);
+        reader.join();
+        Assert.assertNull(caught[0]);
+        Assert.assertEquals(100000, c.getTotalFPSFrames());
+        Assert.assertEquals(64, c.getFrameIntervalStats().getSampleCount());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFPSCounterImpl00.class.getName());
+    }
+}
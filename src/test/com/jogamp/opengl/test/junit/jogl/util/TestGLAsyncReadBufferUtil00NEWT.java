@@ -0,0 +1,201 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLAsyncReadBufferUtil;
+import com.jogamp.opengl.util.GLAsyncReadBufferUtil.ReadFrame;
+
+/**
+ * Validates {@link GLAsyncReadBufferUtil} offscreen readback, i.e. the delivered frames' orientation
+ * as well as its delivered and dropped frame counts.
+ * <p>
+ * The bottom half of the framebuffer is cleared red and the top half green,
+ * hence the first delivered row is red if GL oriented, otherwise green.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLAsyncReadBufferUtil00NEWT extends UITestCase {
+    static final int WIDTH = 64;
+    static final int HEIGHT = 64;
+
+    static class Collector implements GLAsyncReadBufferUtil.FrameListener {
+        final List<ReadFrame> frames = new ArrayList<ReadFrame>();
+        @Override
+        public void frameAvailable(final ReadFrame frame) {
+            frames.add(frame);
+        }
+    }
+
+    interface GLAction {
+        void run(GL gl);
+    }
+
+    static void runOffscreen(final GLAction action) {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        caps.setAlphaBits(8);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, WIDTH, HEIGHT);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            action.run(context.getGL());
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    /** Clears the bottom half red and the top half green. */
+    static void render(final GL gl) {
+        gl.glEnable(GL.GL_SCISSOR_TEST);
+        gl.glScissor(0, 0, WIDTH, HEIGHT/2);
+        gl.glClearColor(1f, 0f, 0f, 1f);
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+        gl.glScissor(0, HEIGHT/2, WIDTH, HEIGHT - HEIGHT/2);
+        gl.glClearColor(0f, 1f, 0f, 1f);
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+        gl.glDisable(GL.GL_SCISSOR_TEST);
+    }
+
+    /** Returns the 8-bit component of given type of the pixel at given row and column 0. */
+    static int getComponent(final ByteBuffer pixels, final PixelFormat fmt, final int stride, final int row, final PixelFormat.CType type) {
+        final int idx = fmt.comp.find(type);
+        Assert.assertTrue(0 <= idx);
+        return pixels.get(row * stride + idx) & 0xff;
+    }
+
+    static void assertRedRow(final ReadFrame f, final int row) {
+        Assert.assertEquals(f.toString(), 255, getComponent(f.pixels, f.pixelFormat, f.stride, row, PixelFormat.CType.R));
+        Assert.assertEquals(f.toString(), 0, getComponent(f.pixels, f.pixelFormat, f.stride, row, PixelFormat.CType.G));
+    }
+    static void assertGreenRow(final ReadFrame f, final int row) {
+        Assert.assertEquals(f.toString(), 0, getComponent(f.pixels, f.pixelFormat, f.stride, row, PixelFormat.CType.R));
+        Assert.assertEquals(f.toString(), 255, getComponent(f.pixels, f.pixelFormat, f.stride, row, PixelFormat.CType.G));
+    }
+
+    @Test
+    public void test01Orientation() {
+        runOffscreen( (final GL gl) -> {
+            final Collector c = new Collector();
+            final GLAsyncReadBufferUtil reader = new GLAsyncReadBufferUtil(true, c);
+            System.err.println("Async supported: "+GLAsyncReadBufferUtil.isAsyncSupported(gl)+", "+gl.getContext().getGLVersion());
+            render(gl);
+            Assert.assertEquals(0, reader.readPixels(gl, 0, 0, WIDTH, HEIGHT, false));
+            Assert.assertEquals(1, reader.readPixels(gl, 0, 0, WIDTH, HEIGHT, true));
+            reader.flush(gl);
+            Assert.assertEquals(0, reader.getPendingCount());
+            Assert.assertEquals(2, reader.getFrameCount());
+            Assert.assertEquals(2, reader.getDeliveredCount());
+            Assert.assertEquals(0, reader.getDroppedCount());
+            Assert.assertEquals(2, c.frames.size());
+
+            final ReadFrame f0 = c.frames.get(0);
+            Assert.assertEquals(0, f0.frameNo);
+            Assert.assertTrue(f0.toString(), f0.isGLOriented);
+            assertRedRow(f0, 0);
+            assertGreenRow(f0, HEIGHT-1);
+
+            final ReadFrame f1 = c.frames.get(1);
+            Assert.assertEquals(1, f1.frameNo);
+            Assert.assertFalse(f1.toString(), f1.isGLOriented);
+            assertGreenRow(f1, 0);
+            assertRedRow(f1, HEIGHT-1);
+
+            f0.release();
+            f1.release();
+            reader.dispose(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        });
+    }
+
+    @Test
+    public void test02FetchLatestDropsOlderFrames() {
+        runOffscreen( (final GL gl) -> {
+            if( !GLAsyncReadBufferUtil.isAsyncSupported(gl) ) {
+                System.err.println("Async readback not supported, skipped: "+gl.getContext().getGLVersion());
+                return;
+            }
+            final Collector c = new Collector();
+            final GLAsyncReadBufferUtil reader = new GLAsyncReadBufferUtil(true, c);
+            render(gl);
+            final int n = reader.getRingSize();
+            long last = -1;
+            for(int i=0; i<n; i++) {
+                last = reader.readPixels(gl, 0, 0, WIDTH, HEIGHT, false);
+                Assert.assertEquals(i, last);
+            }
+            gl.glFinish();
+            final int listenerFrames = c.frames.size(); // polled by readPixels(..)
+            final IntBuffer dest = Buffers.newDirectIntBuffer(WIDTH * HEIGHT);
+            Assert.assertEquals(last, reader.fetchLatest(gl, WIDTH, HEIGHT, true, dest));
+            Assert.assertEquals(0, reader.getPendingCount());
+            Assert.assertEquals(listenerFrames, c.frames.size());
+            // only the newest frame is delivered, all skipped older frames are dropped
+            Assert.assertEquals(listenerFrames + 1, reader.getDeliveredCount());
+            Assert.assertEquals(n - 1 - listenerFrames, reader.getDroppedCount());
+            Assert.assertEquals(reader.getFrameCount(), reader.getDeliveredCount() + reader.getDroppedCount());
+
+            // raw copy, i.e. GL oriented w/ the read format
+            final PixelFormat fmt = 0 < listenerFrames ? c.frames.get(0).pixelFormat : PixelFormat.RGBA8888;
+            final ByteBuffer bytes = Buffers.newDirectByteBuffer(WIDTH * HEIGHT * 4).order(ByteOrder.nativeOrder());
+            bytes.asIntBuffer().put(dest);
+            final int stride = WIDTH * 4;
+            Assert.assertEquals(255, getComponent(bytes, fmt, stride, 0, PixelFormat.CType.R));
+            Assert.assertEquals(255, getComponent(bytes, fmt, stride, HEIGHT-1, PixelFormat.CType.G));
+
+            reader.dispose(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        });
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLAsyncReadBufferUtil00NEWT.class.getName());
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.av.TimeFrameI;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import jogamp.opengl.util.av.LateFrameSkip;
+
+/**
+ * Validates {@link LateFrameSkip}, i.e. late frames are determined before decoding
+ * and hence skipped w/o incurring their synthetic decode cost.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLateFrameSkip00 extends SingletonJunitCase {
+    static final int FRAME_DURATION = 40; // 25 fps
+    static final int MAX_ASYNC = 22;
+
+    /**
+     * Synthetic decoder w/ a fixed decode cost advancing a virtual clock,
+     * comparing the next packet's PTS against the skip PTS before decoding as the FFmpeg implementation does.
+     */
+    static class SyntheticDecoder {
+        final int costMillis;
+        final boolean skipBeforeDecode;
+        int clock = 0;
+        int nextPTS = 0;
+        int decodedCount = 0;
+
+        SyntheticDecoder(final int costMillis, final boolean skipBeforeDecode) {
+            this.costMillis = costMillis;
+            this.skipBeforeDecode = skipBeforeDecode;
+        }
+        int decodeNext(final int skipPTS) {
+            final int pts = nextPTS;
+            nextPTS += FRAME_DURATION;
+            if( !skipBeforeDecode || pts >= skipPTS ) {
+                clock += costMillis;
+                decodedCount++;
+            }
+            return pts;
+        }
+    }
+
+    /** Decodes the given number of frames, returning the number of skipped frames. */
+    static int decode(final LateFrameSkip lfs, final SyntheticDecoder dec, final int frames) {
+        int run = 0;
+        for(int i=0; i<frames; i++) {
+            final int skipPTS = lfs.getSkipPTS(dec.clock, FRAME_DURATION);
+            final int pts = dec.decodeNext(skipPTS);
+            if( lfs.isSkipped(skipPTS, pts) ) {
+                ++run;
+                Assert.assertTrue(run <= LateFrameSkip.MAX_SKIP_RUN);
+            } else {
+                run = 0;
+            }
+        }
+        return lfs.getSkippedCount();
+    }
+
+    @Test
+    public void test01SkipPTS() {
+        final LateFrameSkip lfs = new LateFrameSkip(MAX_ASYNC);
+        Assert.assertEquals(1000 - 2 * FRAME_DURATION, lfs.getSkipPTS(1000, FRAME_DURATION));
+        Assert.assertEquals(1000 - MAX_ASYNC, lfs.getSkipPTS(1000, 10f));
+
+        Assert.assertFalse(lfs.isSkipped(TimeFrameI.INVALID_PTS, 0));
+        Assert.assertFalse(lfs.isSkipped(920, TimeFrameI.END_OF_STREAM_PTS));
+        Assert.assertFalse(lfs.isSkipped(920, TimeFrameI.INVALID_PTS));
+        Assert.assertFalse(lfs.isSkipped(920, 920));
+        Assert.assertEquals(0, lfs.getSkippedCount());
+
+        for(int i=0; i<LateFrameSkip.MAX_SKIP_RUN; i++) {
+            final int skipPTS = lfs.getSkipPTS(1000, FRAME_DURATION);
+            Assert.assertTrue(lfs.isSkipped(skipPTS, i * FRAME_DURATION));
+        }
+        // limit of consecutive skipped frames reached
+        Assert.assertEquals(TimeFrameI.INVALID_PTS, lfs.getSkipPTS(1000, FRAME_DURATION));
+        Assert.assertFalse(lfs.isSkipped(TimeFrameI.INVALID_PTS, 0));
+        Assert.assertEquals(920, lfs.getSkipPTS(1000, FRAME_DURATION));
+        Assert.assertEquals(LateFrameSkip.MAX_SKIP_RUN, lfs.getSkippedCount());
+
+        lfs.reset();
+        Assert.assertEquals(0, lfs.getSkippedCount());
+    }
+
+    @Test
+    public void test02SkippedFramesNoDecodeCost() {
+        final int frames = 100;
+        final int cost = 60; // decoding slower than presentation
+
+        final LateFrameSkip lfs = new LateFrameSkip(MAX_ASYNC);
+        final SyntheticDecoder dec = new SyntheticDecoder(cost, true);
+        final int skipped = decode(lfs, dec, frames);
+
+        final LateFrameSkip lfsB = new LateFrameSkip(MAX_ASYNC);
+        final SyntheticDecoder decB = new SyntheticDecoder(cost, false); // skip after decoding
+        final int skippedB = decode(lfsB, decB, frames);
+
+        System.err.println("Skip before decode: skipped "+skipped+", decoded "+dec.decodedCount+", clock "+dec.clock+" ms, "+lfs);
+        System.err.println("Skip after  decode: skipped "+skippedB+", decoded "+decB.decodedCount+", clock "+decB.clock+" ms, "+lfsB);
+
+        Assert.assertTrue(0 < skipped);
+        Assert.assertEquals(frames, dec.decodedCount + skipped);
+        // skipped frames did not incur the decode cost
+        Assert.assertEquals(dec.decodedCount * cost, dec.clock);
+        Assert.assertEquals(frames * cost, decB.clock);
+        Assert.assertTrue(dec.clock < decB.clock);
+        // hence presentation keeps up w/ the stream
+        final int lateness = dec.clock - ( dec.nextPTS - FRAME_DURATION );
+        final int latenessB = decB.clock - ( decB.nextPTS - FRAME_DURATION );
+        Assert.assertTrue("lateness "+lateness+" < "+latenessB, lateness < latenessB);
+    }
+
+    @Test
+    public void test03NoSkipInTime() {
+        final LateFrameSkip lfs = new LateFrameSkip(MAX_ASYNC);
+        final SyntheticDecoder dec = new SyntheticDecoder(FRAME_DURATION / 2, true); // decoding faster than presentation
+        Assert.assertEquals(0, decode(lfs, dec, 100));
+        Assert.assertEquals(100, dec.decodedCount);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestLateFrameSkip00.class.getName());
+    }
+}
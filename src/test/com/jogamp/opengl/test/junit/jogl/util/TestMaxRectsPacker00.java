@@ -0,0 +1,115 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+import com.jogamp.opengl.util.packrect.MaxRectsPacker;
+import com.jogamp.opengl.util.packrect.Rect;
+
+/**
+ * Validates {@link MaxRectsPacker} placements under random insertion and removal.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMaxRectsPacker00 extends SingletonJunitCase {
+
+    @Test
+    public void test01FillExact() {
+        final MaxRectsPacker p = new MaxRectsPacker(64, 64);
+        final List<Rect> rects = new ArrayList<Rect>();
+        for(int i=0; i<16; i++) {
+            final Rect r = new Rect(0, 0, 16, 16, null);
+            Assert.assertTrue(p.add(r));
+            rects.add(r);
+        }
+        Assert.assertEquals(1f, p.getOccupancy(), 0f);
+        Assert.assertFalse(p.add(new Rect(0, 0, 1, 1, null)));
+        assertDisjoint(rects, 64, 64);
+
+        // free a 2x2 block of tiles, which must allow a 32x32 addition
+        for(final Rect r : new ArrayList<Rect>(rects)) {
+            if( r.x() < 32 && r.y() < 32 ) {
+                p.remove(r);
+                rects.remove(r);
+            }
+        }
+        Assert.assertEquals(0.75f, p.getOccupancy(), 0f);
+        final Rect big = new Rect(0, 0, 32, 32, null);
+        Assert.assertTrue(p.add(big));
+        rects.add(big);
+        assertDisjoint(rects, 64, 64);
+    }
+
+    @Test
+    public void test02RandomAddRemove() {
+        final int w = 256, h = 256;
+        final MaxRectsPacker p = new MaxRectsPacker(w, h);
+        final Random rnd = new Random(42);
+        final List<Rect> live = new ArrayList<Rect>();
+        for(int i=0; i<2000; i++) {
+            if( !live.isEmpty() && 0 == rnd.nextInt(3) ) {
+                p.remove(live.remove(rnd.nextInt(live.size())));
+            } else {
+                final Rect r = new Rect(0, 0, 2 + rnd.nextInt(40), 2 + rnd.nextInt(40), null);
+                if( p.add(r) ) {
+                    live.add(r);
+                }
+            }
+            long area = 0;
+            for(final Rect r : live) {
+                area += r.w() * r.h();
+            }
+            Assert.assertEquals(area, p.getUsedArea());
+        }
+        assertDisjoint(live, w, h);
+        System.err.println(p);
+        Assert.assertTrue(p.getFragmentation() >= 0f && p.getFragmentation() <= 1f);
+    }
+
+    private static void assertDisjoint(final List<Rect> rects, final int w, final int h) {
+        for(int i=0; i<rects.size(); i++) {
+            final Rect a = rects.get(i);
+            Assert.assertTrue(a.x() >= 0 && a.y() >= 0 && a.x() + a.w() <= w && a.y() + a.h() <= h);
+            for(int j=i+1; j<rects.size(); j++) {
+                Assert.assertFalse(a+" vs "+rects.get(j), MaxRectsPacker.intersects(a, rects.get(j)));
+            }
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestMaxRectsPacker00.class.getName());
+    }
+}
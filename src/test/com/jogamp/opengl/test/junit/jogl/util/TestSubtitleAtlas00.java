@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+import com.jogamp.opengl.util.packrect.MaxRectsPacker;
+import com.jogamp.opengl.util.packrect.Rect;
+import com.jogamp.opengl.util.texture.TextureCoords;
+
+import jogamp.opengl.util.av.SubtitleAtlas;
+
+/**
+ * Validates {@link SubtitleAtlas} region allocation, release and texture coordinates w/o GL.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSubtitleAtlas00 extends SingletonJunitCase {
+    static final int W = 1920 + SubtitleAtlas.PADDING;
+    static final int H = 1080 + SubtitleAtlas.PADDING;
+
+    @Test
+    public void test01TexCoords() {
+        final SubtitleAtlas atlas = new SubtitleAtlas(null, W, H);
+        final Rect full = atlas.alloc(1920, 1080);
+        Assert.assertNotNull(full);
+        final TextureCoords tc = atlas.getTexCoords(full);
+        // vertically flipped, top row at y
+        Assert.assertEquals(0f, tc.left(), 0f);
+        Assert.assertEquals(0f, tc.top(), 0f);
+        Assert.assertEquals(1920f / W, tc.right(), 1e-6f);
+        Assert.assertEquals(1080f / H, tc.bottom(), 1e-6f);
+        Assert.assertNull(atlas.alloc(1, 1));
+        Assert.assertEquals(1, atlas.getFailCount());
+
+        atlas.release(full);
+        atlas.release(full); // idempotent
+        Assert.assertEquals(0, atlas.getLiveCount());
+        Assert.assertEquals(0f, atlas.getOccupancy(), 0f);
+
+        final Rect a = atlas.alloc(600, 100);
+        final Rect b = atlas.alloc(800, 120);
+        Assert.assertNotNull(a);
+        Assert.assertNotNull(b);
+        Assert.assertFalse(MaxRectsPacker.intersects(a, b));
+        final TextureCoords tb = atlas.getTexCoords(b);
+        Assert.assertEquals((float)b.x() / W, tb.left(), 1e-6f);
+        Assert.assertEquals((float)( b.x() + 800 ) / W, tb.right(), 1e-6f);
+        Assert.assertEquals((float)b.y() / H, tb.top(), 1e-6f);
+        Assert.assertEquals((float)( b.y() + 120 ) / H, tb.bottom(), 1e-6f);
+    }
+
+    @Test
+    public void test02EventStream() {
+        // Typical subtitle stream: few live events, each released after it's superseded
+        final SubtitleAtlas atlas = new SubtitleAtlas(null, W, H);
+        final Random rnd = new Random(7);
+        final List<Rect> live = new ArrayList<Rect>();
+        for(int i=0; i<10000; i++) {
+            final Rect r = atlas.alloc(200 + rnd.nextInt(1700), 40 + rnd.nextInt(200));
+            Assert.assertNotNull("alloc #"+i+": "+atlas, r);
+            Assert.assertTrue(r.x() + r.w() <= W && r.y() + r.h() <= H);
+            for(final Rect o : live) {
+                Assert.assertFalse(MaxRectsPacker.intersects(r, o));
+            }
+            live.add(r);
+            while( live.size() > 2 ) {
+                atlas.release(live.remove(0));
+            }
+            Assert.assertEquals(live.size(), atlas.getLiveCount());
+        }
+        Assert.assertEquals(0, atlas.getFailCount());
+        Assert.assertEquals(10000, atlas.getAllocCount());
+        System.err.println(atlas);
+        atlas.clear();
+        Assert.assertEquals(0, atlas.getLiveCount());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestSubtitleAtlas00.class.getName());
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.junit.util.SingletonJunitCase;
+import com.jogamp.opengl.util.av.VideoPixelFormat;
+import com.jogamp.opengl.util.av.YUVConverter;
+
+/**
+ * Validates {@link YUVConverter} results against a floating point reference
+ * and benchmarks sequential and parallel conversion of a 1920x1080 frame.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestYUVConverter00 extends SingletonJunitCase {
+    static final VideoPixelFormat[] formats = { VideoPixelFormat.YUV420P, VideoPixelFormat.NV12, VideoPixelFormat.NV21,
+                                                VideoPixelFormat.YUYV422, VideoPixelFormat.UYVY422 };
+
+    /** Synthetic frame w/ random content and padded strides. */
+    static class Frame {
+        final VideoPixelFormat fmt;
+        final int width, height;
+        final ByteBuffer[] planes;
+        final int[] strides;
+
+        Frame(final VideoPixelFormat fmt, final int width, final int height, final Random rnd) {
+            this.fmt = fmt;
+            this.width = width;
+            this.height = height;
+            final int cw = ( width + 1 ) / 2, ch = ( height + 1 ) / 2;
+            switch( fmt ) {
+                case YUV420P:
+                    strides = new int[] { width + 3, cw + 1, cw + 2 };
+                    planes = new ByteBuffer[] { newPlane(strides[0] * height, rnd), newPlane(strides[1] * ch, rnd), newPlane(strides[2] * ch, rnd) };
+                    break;
+                case NV12:
+                case NV21:
+                    strides = new int[] { width + 1, cw * 2 + 2 };
+                    planes = new ByteBuffer[] { newPlane(strides[0] * height, rnd), newPlane(strides[1] * ch, rnd) };
+                    break;
+                default:
+                    strides = new int[] { cw * 4 + 4 };
+                    planes = new ByteBuffer[] { newPlane(strides[0] * height, rnd) };
+                    break;
+            }
+        }
+        static ByteBuffer newPlane(final int size, final Random rnd) {
+            final ByteBuffer b = Buffers.newDirectByteBuffer(size);
+            for(int i=0; i<size; i++) {
+                b.put(i, (byte) rnd.nextInt(256));
+            }
+            return b;
+        }
+        /** Returns { Y, U, V } of pixel (x, y) */
+        int[] getYUV(final int x, final int y) {
+            final int cx = x / 2, cy = y / 2;
+            switch( fmt ) {
+                case YUV420P:
+                    return new int[] { u8(planes[0], y * strides[0] + x), u8(planes[1], cy * strides[1] + cx), u8(planes[2], cy * strides[2] + cx) };
+                case NV12:
+                    return new int[] { u8(planes[0], y * strides[0] + x), u8(planes[1], cy * strides[1] + 2 * cx), u8(planes[1], cy * strides[1] + 2 * cx + 1) };
+                case NV21:
+                    return new int[] { u8(planes[0], y * strides[0] + x), u8(planes[1], cy * strides[1] + 2 * cx + 1), u8(planes[1], cy * strides[1] + 2 * cx) };
+                case YUYV422: {
+                    final int s = y * strides[0] + 4 * cx;
+                    return new int[] { u8(planes[0], s + 2 * ( x & 1 )), u8(planes[0], s + 1), u8(planes[0], s + 3) };
+                }
+                default: {
+                    final int s = y * strides[0] + 4 * cx;
+                    return new int[] { u8(planes[0], s + 1 + 2 * ( x & 1 )), u8(planes[0], s), u8(planes[0], s + 2) };
+                }
+            }
+        }
+        static int u8(final ByteBuffer b, final int i) { return b.get(i) & 0xff; }
+    }
+
+    static int reference(final YUVConverter.Matrix m, final boolean fullRange, final int[] yuv, final int c) {
+        final float kr = m.kr, kb = m.kb, kg = 1f - kr - kb;
+        final float y = fullRange ? yuv[0] : ( yuv[0] - 16 ) * 255f / 219f;
+        final float cs = fullRange ? 1f : 255f / 224f;
+        final float cb = ( yuv[1] - 128 ) * cs, cr = ( yuv[2] - 128 ) * cs;
+        final float v;
+        switch( c ) {
+            case 0:  v = y + 2f * ( 1f - kr ) * cr; break;
+            case 1:  v = y - 2f * ( 1f - kb ) * kb / kg * cb - 2f * ( 1f - kr ) * kr / kg * cr; break;
+            default: v = y + 2f * ( 1f - kb ) * cb; break;
+        }
+        return Math.max(0, Math.min(255, Math.round(v)));
+    }
+
+    @Test
+    public void test01Reference() {
+        final Random rnd = new Random(7);
+        final int w = 13, h = 7;
+        for(final VideoPixelFormat fmt : formats) {
+            final Frame f = new Frame(fmt, w, h, rnd);
+            for(final YUVConverter.Matrix m : YUVConverter.Matrix.values()) {
+                for(final boolean fullRange : new boolean[] { true, false }) {
+                    for(final boolean bgra : new boolean[] { false, true }) {
+                        final YUVConverter c = new YUVConverter(m, fullRange, bgra);
+                        Assert.assertTrue(YUVConverter.isSupported(fmt));
+                        final int dstStride = w * 4 + 8;
+                        final ByteBuffer dst = Buffers.newDirectByteBuffer(dstStride * h);
+                        c.convert(fmt, f.planes, f.strides, w, h, dst, dstStride);
+                        Assert.assertEquals(0, dst.position());
+                        for(int y=0; y<h; y++) {
+                            for(int x=0; x<w; x++) {
+                                final int[] yuv = f.getYUV(x, y);
+                                final int d = y * dstStride + x * 4;
+                                final int r = dst.get(d + ( bgra ? 2 : 0 )) & 0xff;
+                                final int g = dst.get(d + 1) & 0xff;
+                                final int b = dst.get(d + ( bgra ? 0 : 2 )) & 0xff;
+                                final String msg = c+" "+fmt+" @ "+x+"/"+y;
+                                Assert.assertEquals(msg, reference(m, fullRange, yuv, 0), r, 1);
+                                Assert.assertEquals(msg, reference(m, fullRange, yuv, 1), g, 1);
+                                Assert.assertEquals(msg, reference(m, fullRange, yuv, 2), b, 1);
+                                Assert.assertEquals(msg, 0xff, dst.get(d + 3) & 0xff);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        Assert.assertFalse(YUVConverter.isSupported(VideoPixelFormat.RGBA));
+    }
+
+    @Test
+    public void test02Parallel() {
+        final Random rnd = new Random(11);
+        final int w = 65, h = 37;
+        final YUVConverter c = new YUVConverter(YUVConverter.Matrix.BT709, false, false);
+        for(final VideoPixelFormat fmt : formats) {
+            final Frame f = new Frame(fmt, w, h, rnd);
+            final ByteBuffer dst0 = Buffers.newDirectByteBuffer(w * 4 * h);
+            final ByteBuffer dst1 = Buffers.newDirectByteBuffer(w * 4 * h);
+            c.convert(fmt, f.planes, f.strides, w, h, dst0, w * 4);
+            for(final int bands : new int[] { 1, 3, 4, 0 }) {
+                c.convertParallel(fmt, f.planes, f.strides, w, h, dst1, w * 4, bands);
+                Assert.assertEquals(fmt+", bands "+bands, dst0, dst1);
+            }
+        }
+    }
+
+    @Test
+    public void test10Benchmark() {
+        final Random rnd = new Random(1);
+        final int w = 1920, h = 1080, loops = 10;
+        final YUVConverter c = new YUVConverter(YUVConverter.Matrix.BT709, false, false);
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(w * 4 * h);
+        for(final VideoPixelFormat fmt : formats) {
+            final Frame f = new Frame(fmt, w, h, rnd);
+            for(int i=0; i<3*loops; i++) { // warm up
+                c.convert(fmt, f.planes, f.strides, w, h, dst, w * 4);
+                c.convertParallel(fmt, f.planes, f.strides, w, h, dst, w * 4, 0);
+            }
+            long t0 = System.nanoTime();
+            for(int i=0; i<loops; i++) {
+                c.convert(fmt, f.planes, f.strides, w, h, dst, w * 4);
+            }
+            final long tSeq = System.nanoTime() - t0;
+            t0 = System.nanoTime();
+            for(int i=0; i<loops; i++) {
+                c.convertParallel(fmt, f.planes, f.strides, w, h, dst, w * 4, 0);
+            }
+            final long tPar = System.nanoTime() - t0;
+            System.err.printf("%s %dx%d: sequential %.2f ms/frame, parallel %.2f ms/frame%n",
+                              fmt, w, h, tSeq / 1e6 / loops, tPar / 1e6 / loops);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestYUVConverter00.class.getName());
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.glu.GLU;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.MipmapGenerator;
+import com.jogamp.opengl.util.texture.MipmapGenerator.Filter;
+
+/**
+ * Validates {@link MipmapGenerator} results and benchmarks it against {@code gluBuild2DMipmaps}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMipmapGenerator00NEWT extends UITestCase {
+    static int loops = 10;
+
+    @Test
+    public void test01Box2x2() {
+        final ByteBuffer src = ByteBuffer.allocate(4*4);
+        for(int i=0; i<16; i++) {
+            src.put(i, (byte)(i*10));
+        }
+        final Buffer[] levels = MipmapGenerator.generate(4, 4, GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE, 1, 0, src, Filter.BOX, false, false);
+        Assert.assertEquals(2, levels.length);
+        final ByteBuffer l1 = (ByteBuffer)levels[0];
+        Assert.assertEquals(4, l1.remaining());
+        Assert.assertEquals(( 0 + 10 + 40 + 50 + 2 ) / 4, l1.get(0) & 0xff);
+        Assert.assertEquals(( 80 + 90 + 120 + 130 + 2 ) / 4, l1.get(2) & 0xff);
+        Assert.assertEquals(1, levels[1].remaining());
+    }
+
+    @Test
+    public void test02NPOTAndAlignment() {
+        // 5x3 RGB w/ 4 byte row alignment -> 2x1 (stride 8), 1x1 (stride 4)
+        final ByteBuffer src = ByteBuffer.allocate(16*3);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)77);
+        }
+        for(final Filter filter : Filter.values()) {
+            final Buffer[] levels = MipmapGenerator.generate(5, 3, GL.GL_RGB, GL.GL_UNSIGNED_BYTE, 4, 0, src, filter, false, false);
+            Assert.assertEquals(MipmapGenerator.getLevelCount(5, 3) - 1, levels.length);
+            Assert.assertEquals(8, levels[0].remaining());
+            Assert.assertEquals(4, levels[1].remaining());
+            for(int i=0; i<6; i++) {
+                Assert.assertEquals(77, ((ByteBuffer)levels[0]).get(i) & 0xff);
+            }
+        }
+        // odd width, three taps of equal area
+        final ByteBuffer odd = ByteBuffer.wrap(new byte[] { 30, 60, 90, 30, 60, 90 });
+        final Buffer[] levels = MipmapGenerator.generate(3, 2, GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE, 1, 0, odd, Filter.BOX, false, false);
+        Assert.assertEquals(1, levels.length);
+        Assert.assertEquals(60, ((ByteBuffer)levels[0]).get(0) & 0xff);
+    }
+
+    @Test
+    public void test03SRGBConstant() {
+        // a constant sRGB image must stay constant, i.e. linear round-trip is exact
+        final ByteBuffer src = ByteBuffer.allocate(7*5*4);
+        for(final Filter filter : Filter.values()) {
+            for(int v=0; v<256; v++) {
+                for(int i=0; i<src.capacity(); i++) {
+                    src.put(i, (byte)v);
+                }
+                final ByteBuffer l1 = (ByteBuffer) MipmapGenerator.generate(7, 5, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 1, 0, src, filter, true, false)[0];
+                for(int i=0; i<l1.capacity(); i++) {
+                    Assert.assertEquals("filter "+filter+", value "+v, v, l1.get(i) & 0xff);
+                }
+            }
+        }
+        // sRGB average of black and white is brighter than the linear average
+        final ByteBuffer bw = ByteBuffer.wrap(new byte[] { 0, (byte)255 });
+        final int lin = ((ByteBuffer)MipmapGenerator.generate(2, 1, GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE, 1, 0, bw, Filter.BOX, false, false)[0]).get(0) & 0xff;
+        final int srgb = ((ByteBuffer)MipmapGenerator.generate(2, 1, GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE, 1, 0, bw, Filter.BOX, true, false)[0]).get(0) & 0xff;
+        Assert.assertEquals(128, lin);
+        Assert.assertEquals(188, srgb);
+    }
+
+    @Test
+    public void test04Float() {
+        final FloatBuffer src = FloatBuffer.allocate(6*6*2);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, 0 == i % 2 ? 1.5f : -2f);
+        }
+        final Buffer[] levels = MipmapGenerator.generate(6, 6, GL.GL_LUMINANCE_ALPHA, GL.GL_FLOAT, 4, 0, src, Filter.KAISER, false, true);
+        Assert.assertEquals(2, levels.length);
+        Assert.assertTrue(levels[0] instanceof FloatBuffer);
+        Assert.assertEquals(1.5f, ((FloatBuffer)levels[0]).get(0), 1e-5f);
+        Assert.assertEquals(-2f, ((FloatBuffer)levels[1]).get(1), 1e-5f);
+    }
+
+    @Test
+    public void test05ParallelEqualsSerial() {
+        final int w = 1023, h = 769;
+        final ByteBuffer src = newRandomRGBA(w, h);
+        for(final Filter filter : Filter.values()) {
+            for(final boolean sRGB : new boolean[] { false, true }) {
+                final Buffer[] a = MipmapGenerator.generate(w, h, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 1, 0, src, filter, sRGB, false);
+                final Buffer[] b = MipmapGenerator.generate(w, h, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 1, 0, src, filter, sRGB, true);
+                Assert.assertEquals(a.length, b.length);
+                for(int i=0; i<a.length; i++) {
+                    Assert.assertEquals("filter "+filter+", sRGB "+sRGB+", level "+(i+1), a[i], b[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test10BenchmarkVsGLU() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            final GL gl = context.getGL();
+            if( !gl.isGL2ES1() ) {
+                System.err.println("gluBuild2DMipmaps requires GL2ES1, skipped: "+gl);
+                return;
+            }
+            final GLU glu = GLU.createGLU(gl);
+            final int[] tex = new int[1];
+            gl.glGenTextures(1, tex, 0);
+            gl.glBindTexture(GL.GL_TEXTURE_2D, tex[0]);
+            gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
+            for(final int size : new int[] { 512, 1024, 2048 }) {
+                final ByteBuffer src = newRandomRGBA(size, size);
+                long tGLU = 0, tBox = 0, tKaiser = 0;
+                for(int i=0; i<loops; i++) {
+                    long t0 = System.nanoTime();
+                    glu.gluBuild2DMipmaps(GL.GL_TEXTURE_2D, GL.GL_RGBA, size, size, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, src);
+                    gl.glFinish();
+                    tGLU += System.nanoTime() - t0;
+
+                    t0 = System.nanoTime();
+                    upload(gl, size, src, Filter.BOX);
+                    tBox += System.nanoTime() - t0;
+
+                    t0 = System.nanoTime();
+                    upload(gl, size, src, Filter.KAISER);
+                    tKaiser += System.nanoTime() - t0;
+                }
+                System.err.printf("Mipmaps %4dx%4d RGBA8: gluBuild2DMipmaps %8.3f ms, box %8.3f ms, kaiser %8.3f ms%n",
+                                  size, size, tGLU/1e6/loops, tBox/1e6/loops, tKaiser/1e6/loops);
+            }
+            gl.glDeleteTextures(1, tex, 0);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    private static void upload(final GL gl, final int size, final ByteBuffer src, final Filter filter) {
+        gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGBA, size, size, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, src);
+        final Buffer[] levels = MipmapGenerator.generate(size, size, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 1, 0, src, filter, false, true);
+        int s = size;
+        for(int l=0; l<levels.length; l++) {
+            s = Math.max(1, s / 2);
+            gl.glTexImage2D(GL.GL_TEXTURE_2D, l+1, GL.GL_RGBA, s, s, 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, levels[l]);
+        }
+        gl.glFinish();
+    }
+
+    private static ByteBuffer newRandomRGBA(final int w, final int h) {
+        final Random rnd = new Random(w * h);
+        final ByteBuffer b = Buffers.newDirectByteBuffer(w * h * 4);
+        for(int i=0; i<b.capacity(); i++) {
+            b.put(i, (byte) rnd.nextInt(256));
+        }
+        return b;
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                i++;
+                loops = Integer.parseInt(args[i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestMipmapGenerator00NEWT.class.getName());
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Test writing large images via the parallel PNG encoder, validated by reading them back,
+ * as well as reading directly into a caller provided buffer.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRect02NEWT extends UITestCase {
+    @Test
+    public void testPNGWrite01_RGBA8888_Parallel() throws IOException {
+        testImpl(PixelFormat.RGBA8888, 1031, 769, false);
+    }
+
+    @Test
+    public void testPNGWrite02_RGB888_Parallel_Flipped() throws IOException {
+        testImpl(PixelFormat.RGB888, 1280, 720, true);
+    }
+
+    @Test
+    public void testPNGWrite03_RGBA8888_Small() throws IOException {
+        testImpl(PixelFormat.RGBA8888, 160, 90, false);
+    }
+
+    @Test
+    public void testPNGRead04_RGBA8888_UserBuffer_Stride() throws IOException {
+        final int width = 257, height = 129;
+        final PixelFormat fmt = PixelFormat.RGBA8888;
+        final int stride = width * 4;
+        final ByteBuffer pixels = ByteBuffer.allocate(stride * height);
+        for(int i=0; i<stride*height; i++) {
+            pixels.put(i, (byte) ( i * 31 ) );
+        }
+        final PNGPixelRect image1 = new PNGPixelRect(fmt, new Dimension(width, height), stride, false, pixels, 72, 72);
+        final ByteArrayOutputStream outs = new ByteArrayOutputStream();
+        image1.write(outs, true /* close */);
+
+        // read into a caller provided direct buffer w/ padded stride, offset by its position
+        final int destStride = stride + 12;
+        final int destOffset = 16;
+        final ByteBuffer dest = ByteBuffer.allocateDirect(destOffset + destStride * height);
+        dest.position(destOffset);
+        final PNGPixelRect image2 = PNGPixelRect.read(new ByteArrayInputStream(outs.toByteArray()), PixelFormat.BGRA8888,
+                                                      dest, destStride, false /* isGLOriented */);
+        Assert.assertEquals(destOffset, dest.position());
+        Assert.assertEquals(destStride, image2.getStride());
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                final int s = y*stride + x*4;
+                final int d = destOffset + y*destStride + x*4;
+                Assert.assertEquals(pixels.get(s+2), dest.get(d+0)); // B
+                Assert.assertEquals(pixels.get(s+1), dest.get(d+1)); // G
+                Assert.assertEquals(pixels.get(s+0), dest.get(d+2)); // R
+                Assert.assertEquals(pixels.get(s+3), dest.get(d+3)); // A
+            }
+        }
+    }
+
+    private void testImpl(final PixelFormat fmt, final int width, final int height, final boolean isGLOriented) throws IOException {
+        final int bpp = fmt.comp.bytesPerPixel();
+        final int stride = width * bpp;
+        final ByteBuffer pixels = ByteBuffer.allocate(stride * height);
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<stride; x++) {
+                // gradient w/ some noise, to exercise all filter types
+                pixels.put(y*stride+x, (byte) ( ( x * y ) / 7 + ( ( x ^ y ) & 0x0f ) ) );
+            }
+        }
+        final boolean parallel = width * height >= PNGPixelRect.PARALLEL_WRITE_MIN_PIXELS;
+        System.err.println("Test: "+fmt+", "+width+"x"+height+", glOriented "+isGLOriented+", parallel "+parallel);
+        final PNGPixelRect image1 = new PNGPixelRect(fmt, new Dimension(width, height), stride, isGLOriented, pixels, 72, 72);
+
+        final ByteArrayOutputStream outs = new ByteArrayOutputStream();
+        final long t0 = System.nanoTime();
+        image1.write(outs, true /* close */);
+        final long t1 = System.nanoTime();
+        System.err.println("Written "+outs.size()+" bytes in "+(t1-t0)/1000000.0+" ms");
+
+        final PNGPixelRect image2 = PNGPixelRect.read(new ByteArrayInputStream(outs.toByteArray()), fmt,
+                                                      false /* directBuffer */, 0 /* destMinStrideInBytes */, isGLOriented);
+        Assert.assertEquals(width, image2.getSize().getWidth());
+        Assert.assertEquals(height, image2.getSize().getHeight());
+        Assert.assertEquals(image1.getPixels(), image2.getPixels());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPNGPixelRect02NEWT.class.getName());
+    }
+}
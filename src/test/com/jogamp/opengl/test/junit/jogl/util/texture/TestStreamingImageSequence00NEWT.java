@@ -0,0 +1,158 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.StreamingImageSequence;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureIO;
+import com.jogamp.opengl.util.texture.TextureSequence;
+
+/**
+ * Validates {@link StreamingImageSequence}'s bounded texture residency and its asynchronous decoding ahead of playback.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStreamingImageSequence00NEWT extends UITestCase {
+    static final String[] files = { "test-ntscN_3-01-160x90.png", "test-ntscN_4-01-160x90.png",
+                                    "test-ntscP_3-01-160x90.png", "test-ntscP_4-01-160x90.png",
+                                    "test-ntscI_3-01-160x90.png", "test-ntscI_4-01-160x90.png" };
+    static final int RESIDENT = 4;
+    static final int FRAMES = 2 * files.length;
+
+    interface GLAction {
+        void run(GL gl) throws IOException, InterruptedException;
+    }
+
+    static void runOffscreen(final GLAction action) throws IOException, InterruptedException {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            action.run(context.getGL());
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    static StreamingImageSequence create(final GL gl, final int threadCount) throws IOException {
+        final StreamingImageSequence seq = new StreamingImageSequence(0, false, GLProfile.getGL2ES2(), RESIDENT, threadCount);
+        for(int i=0; i<FRAMES; i++) {
+            Assert.assertTrue(seq.addFrame(gl, TestStreamingImageSequence00NEWT.class, files[i % files.length], TextureIO.PNG));
+            Assert.assertTrue(seq.isTextureAvailable());
+        }
+        Assert.assertEquals(FRAMES, seq.getFrameCount());
+        Assert.assertEquals(RESIDENT, seq.getResidentCount());
+        Assert.assertEquals(1, seq.getUploadCount());
+        return seq;
+    }
+
+    @Test
+    public void test01BoundedResidency() throws IOException, InterruptedException {
+        runOffscreen( (final GL gl) -> {
+            final StreamingImageSequence seq = create(gl, 2);
+            final Map<Texture, Integer> textures = new IdentityHashMap<Texture, Integer>();
+            try {
+                for(int i=0; i<3*FRAMES; i++) {
+                    final TextureSequence.TextureFrame frame = seq.getNextTexture(gl);
+                    Assert.assertSame(frame, seq.getLastTexture());
+                    Assert.assertEquals(( i + 1 ) % FRAMES, seq.getCurrentIdx());
+                    final Texture tex = frame.getTexture();
+                    Assert.assertEquals(160, tex.getWidth());
+                    Assert.assertEquals(90, tex.getHeight());
+                    textures.put(tex, i);
+                }
+                System.err.println(seq);
+                // all frames were shown using the recycled resident textures only
+                Assert.assertEquals(RESIDENT, textures.size());
+                Assert.assertTrue(seq.getUploadCount() >= 3*FRAMES);
+                Assert.assertEquals(3*FRAMES, seq.getPrefetchHits() + seq.getPrefetchMisses());
+            } finally {
+                seq.destroy(gl);
+            }
+            Assert.assertFalse(seq.isTextureAvailable());
+        } );
+    }
+
+    @Test
+    public void test02AsyncDecode() throws IOException, InterruptedException {
+        runOffscreen( (final GL gl) -> {
+            final StreamingImageSequence seq = create(gl, 1);
+            try {
+                // frame 1 was never queued: decoded on the calling thread, queues frames 2..RESIDENT
+                seq.getNextTexture(gl);
+                Assert.assertEquals(1, seq.getPrefetchMisses());
+                Thread.sleep(1000); // let the worker decode the window ahead
+
+                seq.resetStats();
+                for(int i=0; i<RESIDENT-1; i++) {
+                    seq.getNextTexture(gl);
+                }
+                System.err.println(seq);
+                Assert.assertEquals(0, seq.getPrefetchMisses());
+                Assert.assertEquals(RESIDENT-1, seq.getPrefetchHits());
+                Assert.assertEquals(0, seq.getMissWaitMillis());
+
+                // seeking outside of the window decodes on the calling thread
+                seq.setManualStepping(true);
+                seq.setCurrentIdx(( seq.getCurrentIdx() + RESIDENT + 1 ) % FRAMES);
+                final int idx = seq.getCurrentIdx();
+                seq.resetStats();
+                Assert.assertNotNull(seq.getNextTexture(gl));
+                Assert.assertEquals(idx, seq.getCurrentIdx());
+                Assert.assertEquals(1, seq.getPrefetchMisses());
+                Assert.assertTrue(seq.getUploadCount() >= 1);
+            } finally {
+                seq.destroy(gl);
+            }
+        } );
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestStreamingImageSequence00NEWT.class.getName());
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureAtlas;
+import com.jogamp.opengl.util.texture.TextureAtlas.Entry;
+
+/**
+ * Validates {@link TextureAtlas} LRU eviction and partial defragmentation incl. the moved entries' texture content.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextureAtlas00NEWT extends UITestCase {
+    static final int ATLAS_SIZE = 64;
+    static final int TILE = 16;
+    static final int TILES = ATLAS_SIZE / TILE;
+
+    static class Counter implements TextureAtlas.Listener {
+        final List<Object> evicted = new ArrayList<Object>();
+        final List<Object> moved = new ArrayList<Object>();
+        @Override
+        public void evicted(final Entry entry) { evicted.add(entry.getKey()); }
+        @Override
+        public void moved(final Entry entry) { moved.add(entry.getKey()); }
+    }
+
+    interface GLAction {
+        void run(GL gl);
+    }
+
+    static void runOffscreen(final GLAction action) {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable drawable = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        drawable.display(); // trigger context creation ..
+        final GLContext context = drawable.getContext();
+        context.makeCurrent();
+        try {
+            action.run(context.getGL());
+        } finally {
+            context.release();
+            drawable.destroy();
+        }
+    }
+
+    static int getColor(final int key) {
+        return ( ( 10 + key * 13 ) & 0xff ) | ( ( 250 - key * 7 ) & 0xff ) << 8 | ( key & 0xff ) << 16 | 0xff << 24;
+    }
+
+    static ByteBuffer newTile(final int key, final int w, final int h) {
+        final int c = getColor(key);
+        final ByteBuffer b = Buffers.newDirectByteBuffer(w*h*4);
+        for(int i=0; i<w*h; i++) {
+            b.put((byte)c).put((byte)(c>>8)).put((byte)(c>>16)).put((byte)(c>>24));
+        }
+        b.rewind();
+        return b;
+    }
+
+    /** Fills the atlas w/ TILES x TILES entries of size TILE, keys 0..TILES*TILES-1 */
+    static void fill(final GL gl, final TextureAtlas atlas) {
+        gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 4);
+        for(int i=0; i<TILES*TILES; i++) {
+            Assert.assertNotNull(atlas.add(gl, Integer.valueOf(i), TILE, TILE, newTile(i, TILE, TILE)));
+        }
+        Assert.assertEquals(1f, atlas.getOccupancy(), 0f);
+    }
+
+    static void assertDisjoint(final TextureAtlas atlas, final int keyCount) {
+        final List<Entry> es = new ArrayList<Entry>();
+        for(int i=0; i<keyCount; i++) {
+            if( atlas.contains(Integer.valueOf(i)) ) {
+                es.add(atlas.get(Integer.valueOf(i)));
+            }
+        }
+        for(int i=0; i<es.size(); i++) {
+            final Entry a = es.get(i);
+            Assert.assertTrue(a.getX() >= 0 && a.getY() >= 0 &&
+                              a.getX() + a.getWidth() <= atlas.getWidth() && a.getY() + a.getHeight() <= atlas.getHeight());
+            for(int j=i+1; j<es.size(); j++) {
+                final Entry b = es.get(j);
+                final boolean overlap = a.getX() < b.getX() + b.getWidth() && b.getX() < a.getX() + a.getWidth() &&
+                                        a.getY() < b.getY() + b.getHeight() && b.getY() < a.getY() + a.getHeight();
+                Assert.assertFalse(a+" vs "+b, overlap);
+            }
+        }
+    }
+
+    static int readPixel(final GL gl, final TextureAtlas atlas, final int x, final int y) {
+        final int prevFB = gl.getBoundFramebuffer(GL.GL_FRAMEBUFFER);
+        final int[] fbo = new int[1];
+        gl.glGenFramebuffers(1, fbo, 0);
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, fbo[0]);
+        gl.glFramebufferTexture2D(GL.GL_FRAMEBUFFER, GL.GL_COLOR_ATTACHMENT0, GL.GL_TEXTURE_2D, atlas.getTextureName(), 0);
+        final ByteBuffer px = Buffers.newDirectByteBuffer(4);
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 4);
+        gl.glReadPixels(x, y, 1, 1, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, px);
+        gl.glFramebufferTexture2D(GL.GL_FRAMEBUFFER, GL.GL_COLOR_ATTACHMENT0, GL.GL_TEXTURE_2D, 0, 0);
+        gl.glBindFramebuffer(GL.GL_FRAMEBUFFER, prevFB);
+        gl.glDeleteFramebuffers(1, fbo, 0);
+        return ( px.get(0) & 0xff ) | ( px.get(1) & 0xff ) << 8 | ( px.get(2) & 0xff ) << 16 | ( px.get(3) & 0xff ) << 24;
+    }
+
+    @Test
+    public void test01EvictLRU() {
+        runOffscreen( (final GL gl) -> {
+            final TextureAtlas atlas = new TextureAtlas(ATLAS_SIZE, ATLAS_SIZE, GL.GL_RGBA, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 0);
+            final Counter counter = new Counter();
+            atlas.addListener(counter);
+            fill(gl, atlas);
+
+            // keys 0..7 used in the next frame, hence 8 is the least recently used one
+            atlas.nextFrame();
+            for(int i=0; i<8; i++) {
+                Assert.assertNotNull(atlas.get(Integer.valueOf(i)));
+            }
+            final int n = TILES*TILES;
+            Assert.assertNotNull(atlas.add(gl, Integer.valueOf(n), TILE, TILE, newTile(n, TILE, TILE)));
+            Assert.assertEquals(1, atlas.getEvictionCount());
+            Assert.assertEquals(1, counter.evicted.size());
+            Assert.assertEquals(Integer.valueOf(8), counter.evicted.get(0));
+            Assert.assertFalse(atlas.contains(Integer.valueOf(8)));
+            Assert.assertEquals(n, atlas.getEntryCount());
+            assertDisjoint(atlas, n+1);
+
+            // all entries used within the current frame are never evicted
+            for(int i=0; i<=n; i++) {
+                atlas.get(Integer.valueOf(i));
+            }
+            Assert.assertNull(atlas.add(gl, Integer.valueOf(n+1), TILE, TILE, newTile(n+1, TILE, TILE)));
+            Assert.assertEquals(1, atlas.getEvictionCount());
+
+            atlas.dispose(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        });
+    }
+
+    @Test
+    public void test02DefragmentPartial() {
+        runOffscreen( (final GL gl) -> {
+            if( !gl.hasBasicFBOSupport() ) {
+                System.err.println("Partial defragmentation requires FBO support, skipped: "+gl);
+                return;
+            }
+            final TextureAtlas atlas = new TextureAtlas(ATLAS_SIZE, ATLAS_SIZE, GL.GL_RGBA, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, 0);
+            final Counter counter = new Counter();
+            atlas.addListener(counter);
+            fill(gl, atlas);
+
+            // checkerboard of free tiles: half of the area free, but no two adjacent free tiles
+            final int n = TILES*TILES;
+            for(int i=0; i<n; i++) {
+                final Entry e = atlas.get(Integer.valueOf(i));
+                if( 0 == ( e.getX() / TILE + e.getY() / TILE ) % 2 ) {
+                    Assert.assertTrue(atlas.remove(Integer.valueOf(i)));
+                }
+            }
+            Assert.assertEquals(0.5f, atlas.getOccupancy(), 0f);
+            final int remaining = atlas.getEntryCount();
+
+            // no eviction candidates, all entries used within the current frame
+            atlas.nextFrame();
+            for(int i=0; i<n; i++) {
+                atlas.get(Integer.valueOf(i));
+            }
+            final Entry wide = atlas.add(gl, Integer.valueOf(n), 2*TILE, TILE, newTile(n, 2*TILE, TILE));
+            Assert.assertNotNull(wide);
+            Assert.assertEquals(0, atlas.getEvictionCount());
+            Assert.assertEquals(1, atlas.getDefragCount());
+            Assert.assertEquals(1, atlas.getMoveCount());
+            Assert.assertEquals(1, counter.moved.size());
+            Assert.assertEquals(remaining + 1, atlas.getEntryCount());
+            assertDisjoint(atlas, n+1);
+
+            // moved entry's content has been copied on the GPU, new entry uploaded
+            for(int i=0; i<=n; i++) {
+                final Entry e = atlas.contains(Integer.valueOf(i)) ? atlas.get(Integer.valueOf(i)) : null;
+                if( null != e ) {
+                    Assert.assertEquals("key "+i+", "+e, getColor(i), readPixel(gl, atlas, e.getX() + 1, e.getY() + 1));
+                    Assert.assertEquals("key "+i+", "+e, getColor(i), readPixel(gl, atlas, e.getX() + e.getWidth() - 1, e.getY() + e.getHeight() - 1));
+                }
+            }
+            atlas.dispose(gl);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+        });
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextureAtlas00NEWT.class.getName());
+    }
+}